@@ -2,6 +2,11 @@
 -- JPA 엔티티 기반 스키마
 -- 생성일: 2026-02-07
 -- DB: hhplus (docker-compose MySQL 8.0)
+--
+-- seat / reservation / payment 의 id는 애플리케이션이 INSERT 전에 부여하는 TSID (AUTO_INCREMENT 없음)
+-- 기존 DB 마이그레이션: ALTER TABLE seat MODIFY id BIGINT NOT NULL;  (reservation, payment 동일)
+--   TSID는 (2024-01-01 이후 경과 ms << 22) 값이므로 기존 AUTO_INCREMENT 값보다 항상 커서 충돌하지 않음
+-- seat / reservation 의 concert_date는 DATE (기존 VARCHAR(50)에서 온라인 마이그레이션: docs/migration/V037_concert_date_type.md)
 
 USE hhplus;
 
@@ -48,8 +53,10 @@ CREATE TABLE concert_schedule (
 -- 3. 좌석 테이블 (seat)
 -- ========================================
 CREATE TABLE seat (
-    id BIGINT NOT NULL AUTO_INCREMENT,
-    concert_date VARCHAR(50) NOT NULL,
+    id BIGINT NOT NULL COMMENT 'TSID (애플리케이션에서 부여)',
+    concert_date DATE NOT NULL,
+    section VARCHAR(20) NOT NULL DEFAULT 'A',
+    seat_row INT NOT NULL DEFAULT 1,
     seat_number INT NOT NULL,
     status VARCHAR(50) NOT NULL DEFAULT 'AVAILABLE' COMMENT 'AVAILABLE, TEMP_HELD, RESERVED',
     reserved_user_id VARCHAR(255) NULL,
@@ -57,30 +64,26 @@ CREATE TABLE seat (
     version BIGINT NULL DEFAULT 0,
     PRIMARY KEY (id),
     UNIQUE KEY uk_seat_date_number (concert_date, seat_number),
-    INDEX idx_seat_concert_date (concert_date),
-    INDEX idx_seat_status (status),
-    INDEX idx_seat_reserved_until (reserved_until)
+    INDEX idx_seat_date_section_number (concert_date, section, seat_number)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- ========================================
 -- 4. 예약 테이블 (reservation)
 -- ========================================
 CREATE TABLE reservation (
-    id BIGINT NOT NULL AUTO_INCREMENT,
+    id BIGINT NOT NULL COMMENT 'TSID (애플리케이션에서 부여)',
     user_id VARCHAR(255) NOT NULL,
     seat_id BIGINT NOT NULL,
-    concert_date VARCHAR(50) NOT NULL,
+    concert_date DATE NOT NULL,
     seat_number INT NOT NULL,
     price BIGINT NOT NULL,
-    status VARCHAR(50) NOT NULL COMMENT 'TEMP_HELD, CONFIRMED, CANCELLED, EXPIRED',
+    status VARCHAR(50) NOT NULL COMMENT 'TEMP_HELD, CONFIRMED, CANCELLED, EXPIRED, HOLD_LOST',
     reserved_at DATETIME(6) NOT NULL,
     reserved_until DATETIME(6) NULL,
     confirmed_at DATETIME(6) NULL,
     PRIMARY KEY (id),
-    INDEX idx_reservation_status (status),
     INDEX idx_reservation_status_until (status, reserved_until),
-    INDEX idx_reservation_user_id (user_id),
-    INDEX idx_reservation_seat_id (seat_id),
+    INDEX idx_reservation_seat_status (seat_id, status),
     INDEX idx_reservation_user_date_seat (user_id, concert_date, seat_number, status)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
@@ -94,20 +97,45 @@ CREATE TABLE point_balance (
     PRIMARY KEY (user_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- ========================================
+-- 5-1. 포인트 거래 원장 테이블 (point_transaction)
+--   point.balance.strategy=ledger: INSERT만 하고, 컴팩터가 applied=false 거래를 point_balance에 합침
+-- ========================================
+CREATE TABLE point_transaction (
+    id BIGINT NOT NULL COMMENT 'TSID (애플리케이션에서 부여)',
+    user_id VARCHAR(255) NOT NULL,
+    type VARCHAR(20) NOT NULL COMMENT 'CHARGE, USE',
+    amount BIGINT NOT NULL COMMENT '잔액 변화량 (충전 +, 사용 -)',
+    applied BOOLEAN NOT NULL DEFAULT FALSE COMMENT '스냅샷 반영 여부',
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_point_tx_user_applied (user_id, applied),
+    INDEX idx_point_tx_applied_user (applied, user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- ========================================
 -- 6. 결제 테이블 (payment)
 -- ========================================
 CREATE TABLE payment (
-    id BIGINT NOT NULL AUTO_INCREMENT,
+    id BIGINT NOT NULL COMMENT 'TSID (애플리케이션에서 부여)',
     reservation_id BIGINT NOT NULL,
     user_id VARCHAR(255) NOT NULL,
     amount BIGINT NOT NULL,
     status VARCHAR(50) NOT NULL COMMENT 'COMPLETED, CANCELLED, FAILED',
     paid_at DATETIME(6) NULL,
     PRIMARY KEY (id),
-    INDEX idx_payment_reservation_id (reservation_id),
-    INDEX idx_payment_user_id (user_id),
-    INDEX idx_payment_status (status)
+    INDEX idx_payment_reservation_status (reservation_id, status),
+    INDEX idx_payment_user_id (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ========================================
+-- 7. 스케줄러 펜싱 토큰 테이블 (scheduler_fence)
+--   리스 작업의 쓰기 트랜잭션이 token을 자기 리스 토큰으로 올림 (더 큰 값이 있으면 롤백)
+-- ========================================
+CREATE TABLE scheduler_fence (
+    job VARCHAR(100) NOT NULL,
+    token BIGINT NOT NULL,
+    PRIMARY KEY (job)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- ========================================
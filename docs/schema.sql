@@ -24,39 +24,37 @@ CREATE TABLE concert_schedule (
 -- 2. 좌석 테이블 (seat)
 -- =====================================================
 CREATE TABLE seat (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '좌석 ID',
-    concert_date VARCHAR(20) NOT NULL COMMENT '공연 날짜 (YYYY-MM-DD)',
-    seat_number INT NOT NULL COMMENT '좌석 번호 (1-50)',
+    id BIGINT PRIMARY KEY COMMENT '좌석 ID (TSID, 애플리케이션에서 부여)',
+    concert_date DATE NOT NULL COMMENT '공연 날짜',
+    section VARCHAR(20) NOT NULL DEFAULT 'A' COMMENT '구역',
+    seat_row INT NOT NULL DEFAULT 1 COMMENT '열 번호',
+    seat_number INT NOT NULL COMMENT '좌석 번호 (날짜 내 유일)',
     status VARCHAR(20) NOT NULL DEFAULT 'AVAILABLE' COMMENT '좌석 상태: AVAILABLE, TEMP_HELD, RESERVED',
     reserved_user_id VARCHAR(100) COMMENT '예약자 사용자 ID',
     reserved_until DATETIME COMMENT '임시 배정 만료 시각',
     version BIGINT DEFAULT 0 COMMENT '낙관적 락 버전',
     
     UNIQUE KEY uk_seat_date_number (concert_date, seat_number),
-    INDEX idx_concert_date (concert_date),
-    INDEX idx_status (status),
-    INDEX idx_reserved_until (reserved_until)
+    INDEX idx_seat_date_section_number (concert_date, section, seat_number)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='좌석';
 
 -- =====================================================
 -- 3. 예약 테이블 (reservation)
 -- =====================================================
 CREATE TABLE reservation (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '예약 ID',
+    id BIGINT PRIMARY KEY COMMENT '예약 ID (TSID, 애플리케이션에서 부여)',
     user_id VARCHAR(100) NOT NULL COMMENT '사용자 ID',
     seat_id BIGINT NOT NULL COMMENT '좌석 ID (FK)',
-    concert_date VARCHAR(20) NOT NULL COMMENT '공연 날짜',
+    concert_date DATE NOT NULL COMMENT '공연 날짜',
     seat_number INT NOT NULL COMMENT '좌석 번호',
     price BIGINT NOT NULL COMMENT '예약 금액',
-    status VARCHAR(20) NOT NULL COMMENT '예약 상태: TEMP_HELD, CONFIRMED, CANCELLED, EXPIRED',
+    status VARCHAR(20) NOT NULL COMMENT '예약 상태: TEMP_HELD, CONFIRMED, CANCELLED, EXPIRED, HOLD_LOST',
     reserved_at DATETIME NOT NULL COMMENT '예약 생성 시각',
     reserved_until DATETIME COMMENT '임시 예약 만료 시각',
     confirmed_at DATETIME COMMENT '예약 확정 시각',
     
-    INDEX idx_user_id (user_id),
-    INDEX idx_status (status),
-    INDEX idx_seat_id (seat_id),
-    INDEX idx_reserved_until (reserved_until),
+    INDEX idx_status_until (status, reserved_until),
+    INDEX idx_seat_status (seat_id, status),
     INDEX idx_user_date_seat_status (user_id, concert_date, seat_number, status)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='예약';
 
@@ -64,17 +62,15 @@ CREATE TABLE reservation (
 -- 4. 결제 테이블 (payment)
 -- =====================================================
 CREATE TABLE payment (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '결제 ID',
+    id BIGINT PRIMARY KEY COMMENT '결제 ID (TSID, 애플리케이션에서 부여)',
     reservation_id BIGINT NOT NULL COMMENT '예약 ID (FK)',
     user_id VARCHAR(100) NOT NULL COMMENT '사용자 ID',
     amount BIGINT NOT NULL COMMENT '결제 금액',
     status VARCHAR(20) NOT NULL COMMENT '결제 상태: COMPLETED, CANCELLED, FAILED',
     paid_at DATETIME COMMENT '결제 완료 시각',
     
-    INDEX idx_reservation_id (reservation_id),
-    INDEX idx_user_id (user_id),
-    INDEX idx_status (status),
-    INDEX idx_paid_at (paid_at)
+    INDEX idx_reservation_status (reservation_id, status),
+    INDEX idx_user_id (user_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='결제';
 
 -- =====================================================
@@ -86,6 +82,20 @@ CREATE TABLE point_balance (
     version BIGINT DEFAULT 0 COMMENT '낙관적 락 버전'
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='포인트 잔액';
 
+-- =====================================================
+-- 5-1. 포인트 거래 원장 테이블 (point_transaction)
+-- =====================================================
+CREATE TABLE point_transaction (
+    id BIGINT PRIMARY KEY COMMENT 'TSID (애플리케이션에서 부여)',
+    user_id VARCHAR(100) NOT NULL COMMENT '사용자 ID',
+    type VARCHAR(20) NOT NULL COMMENT '거래 유형 (CHARGE, USE)',
+    amount BIGINT NOT NULL COMMENT '잔액 변화량 (충전 +, 사용 -)',
+    applied BOOLEAN NOT NULL DEFAULT FALSE COMMENT '스냅샷(point_balance) 반영 여부',
+    created_at DATETIME(6) NOT NULL COMMENT '거래 시각',
+    INDEX idx_point_tx_user_applied (user_id, applied),
+    INDEX idx_point_tx_applied_user (applied, user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='포인트 거래 원장';
+
 -- =====================================================
 -- 6. 대기열 토큰 테이블 (queue_token)
 -- =====================================================
@@ -106,6 +116,14 @@ CREATE TABLE queue_token (
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='대기열 토큰';
 
 
+-- =====================================================
+-- 7. 스케줄러 펜싱 토큰 테이블 (scheduler_fence)
+-- =====================================================
+CREATE TABLE scheduler_fence (
+    job VARCHAR(100) PRIMARY KEY COMMENT '스케줄러 작업 이름 (@ScheduledLease 값)',
+    token BIGINT NOT NULL COMMENT '마지막으로 쓴 리스 펜싱 토큰'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='스케줄러 펜싱 토큰';
+
 -- =====================================================
 -- 초기 데이터 (선택사항)
 -- =====================================================
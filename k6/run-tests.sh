@@ -13,6 +13,8 @@
 #   payment   - 결제 부하 테스트
 #   point     - 포인트 충전 테스트
 #   e2e       - 전체 플로우 테스트
+#   seats     - 대형 공연장 좌석 조회 (100,000석, seed-large-venue.sql 선행)
+#   batch     - 다중 좌석 예약 (순차 단건 N회 vs 배치 1회)
 # =====================================================
 
 set -e
@@ -105,6 +107,12 @@ case $SCENARIO in
     e2e)
         run_test "e2e" "e2e-flow-test.js" "시나리오 5: 전체 플로우 (E2E Test)"
         ;;
+    seats)
+        run_test "seats" "seat-query-test.js" "시나리오 6: 대형 공연장 좌석 조회 (100,000석)"
+        ;;
+    batch)
+        run_test "batch" "batch-reservation-test.js" "시나리오 9: 다중 좌석 예약 (순차 단건 vs 배치)"
+        ;;
     all)
         echo -e "${YELLOW}📋 전체 테스트 순차 실행${NC}"
         echo ""
@@ -124,7 +132,7 @@ case $SCENARIO in
         echo -e "${RED}❌ 알 수 없는 시나리오: ${SCENARIO}${NC}"
         echo ""
         echo "사용법: $0 [scenario]"
-        echo "  all, setup, queue, reserve, payment, point, e2e"
+        echo "  all, setup, queue, reserve, payment, point, e2e, seats, batch"
         exit 1
         ;;
 esac
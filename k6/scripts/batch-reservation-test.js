@@ -0,0 +1,227 @@
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Trend, Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const SEATS_PER_FAMILY = parseInt(__ENV.SEATS_PER_FAMILY || '4');
+const VUS = parseInt(__ENV.VUS || '100');
+const DURATION = __ENV.DURATION || '60s';
+// 실행마다 빈 좌석으로 시작하도록 먼 미래 날짜에 좌석을 새로 생성
+const CONCERT_DATE = __ENV.CONCERT_DATE || (() => {
+    const d = new Date();
+    d.setFullYear(d.getFullYear() + 5);
+    d.setDate(d.getDate() + Math.floor(Math.random() * 300));
+    return d.toISOString().split('T')[0];
+})();
+const SECTIONS = ['A', 'B', 'C', 'D', 'E', 'F', 'G', 'H', 'I', 'J'];
+const SECTION_SIZE = 5000;
+const TOTAL_SEATS = SECTIONS.length * SECTION_SIZE;
+
+// 커스텀 메트릭 (가족 단위 = SEATS_PER_FAMILY석 예약 1건)
+const familyDurationSequential = new Trend('family_duration_sequential', true);
+const familyDurationBatch = new Trend('family_duration_batch', true);
+const familyDurationAuto = new Trend('family_duration_auto', true);
+const familyCompleted = new Counter('family_completed');
+const familyPartialHold = new Counter('family_partial_hold');
+const familyRejected = new Counter('family_rejected');
+
+/**
+ * 시나리오 9: 다중 좌석 예약 (순차 단건 N회 vs 배치 1회)
+ *
+ * 목적: N석을 단건 예약 API로 N번 호출하는 방식과 POST /reservations/batch 1회 호출,
+ *       좌석을 서버가 고르는 POST /reservations/auto-assign 1회 호출을 비교
+ * 핵심: 가족 단위 완료 시간, 일부 좌석만 선점된 채 끝나는 비율(partial hold)
+ *
+ * 세 시나리오는 시간차로 실행되며, 순차/배치는 경쟁을 위해 VU마다 좌석 구간이 일부 겹치도록 배정합니다.
+ *
+ * 실행: k6 run k6/scripts/batch-reservation-test.js
+ *       k6 run -e SEATS_PER_FAMILY=2 -e VUS=300 k6/scripts/batch-reservation-test.js
+ */
+export const options = {
+    setupTimeout: '120s',
+    scenarios: {
+        sequential: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+            exec: 'sequentialFamily',
+            tags: { mode: 'sequential' },
+        },
+        batch: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+            exec: 'batchFamily',
+            startTime: `${parseInt(DURATION) + 10}s`,
+            tags: { mode: 'batch' },
+        },
+        auto_assign: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+            exec: 'autoAssignFamily',
+            startTime: `${(parseInt(DURATION) + 10) * 2}s`,
+            tags: { mode: 'auto' },
+        },
+    },
+    thresholds: {
+        'http_req_duration{mode:batch}': ['p(95)<1000'],
+        'http_req_duration{mode:sequential}': ['p(95)<1000'],
+        'http_req_duration{mode:auto}': ['p(95)<1000'],
+    },
+};
+
+/**
+ * Setup: 좌석 생성 + 사용자 토큰 발급
+ */
+export function setup() {
+    const provisionRes = http.post(
+        `${BASE_URL}/admin/concerts/schedules`,
+        JSON.stringify({
+            date: CONCERT_DATE,
+            sections: SECTIONS.map((section) => ({ section: section, rows: 50, seatsPerRow: SECTION_SIZE / 50 })),
+        }),
+        { headers: { 'Content-Type': 'application/json' }, timeout: '120s' }
+    );
+    if (provisionRes.status !== 200 && provisionRes.status !== 201) {
+        console.error(`좌석 생성 실패: ${provisionRes.status} ${provisionRes.body}`);
+    }
+
+    const tokens = [];
+    for (let i = 0; i < VUS * 2; i++) {
+        const userId = `batch-test-user-${i}`;
+        const tokenRes = http.post(
+            `${BASE_URL}/queue/token`,
+            JSON.stringify({ userId: userId }),
+            { headers: { 'Content-Type': 'application/json' } }
+        );
+
+        if (tokenRes.status === 200) {
+            try {
+                tokens.push({ userId: userId, token: JSON.parse(tokenRes.body).token });
+            } catch (e) {
+                // 파싱 실패 무시
+            }
+        }
+
+        if (i % 50 === 0) {
+            sleep(0.5);
+        }
+    }
+
+    console.log(`✅ Setup 완료: ${CONCERT_DATE} ${TOTAL_SEATS}석, ${tokens.length}개 토큰 발급`);
+    return { tokens: tokens, concertDate: CONCERT_DATE };
+}
+
+/**
+ * 시나리오 절반(순차/배치)마다 다른 좌석 영역을 쓰고,
+ * 인접 VU끼리 좌석 구간이 절반씩 겹치도록 시작 좌석을 고릅니다.
+ */
+function pickSeats(offset) {
+    const half = TOTAL_SEATS / 2;
+    const slot = (__VU * SEATS_PER_FAMILY + __ITER * VUS * SEATS_PER_FAMILY) % (half - SEATS_PER_FAMILY);
+    const start = offset + slot - Math.floor(Math.random() * 2) * Math.floor(SEATS_PER_FAMILY / 2) + 1;
+    const seats = [];
+    for (let i = 0; i < SEATS_PER_FAMILY; i++) {
+        seats.push(Math.max(offset + 1, start) + i);
+    }
+    return seats;
+}
+
+function tokenFor(data, offset) {
+    return data.tokens[(__VU + offset) % data.tokens.length];
+}
+
+function headers(token, name) {
+    return {
+        headers: { 'Content-Type': 'application/json', 'X-QUEUE-TOKEN': token },
+        tags: { name: name },
+    };
+}
+
+export function sequentialFamily(data) {
+    const user = tokenFor(data, 0);
+    const seats = pickSeats(0);
+    const startedAt = Date.now();
+
+    let held = 0;
+    for (const seatNumber of seats) {
+        const res = http.post(
+            `${BASE_URL}/reservations`,
+            JSON.stringify({ userId: user.userId, date: data.concertDate, seatNumber: seatNumber }),
+            headers(user.token, 'POST /reservations')
+        );
+        check(res, { '서버 에러 없음 (5xx)': (r) => r.status < 500 });
+        if (res.status !== 200) {
+            break;
+        }
+        held++;
+    }
+
+    familyDurationSequential.add(Date.now() - startedAt);
+    record(held);
+    sleep(Math.random() * 0.3);
+}
+
+export function batchFamily(data) {
+    const user = tokenFor(data, VUS);
+    const seats = pickSeats(TOTAL_SEATS / 2);
+    const startedAt = Date.now();
+
+    const res = http.post(
+        `${BASE_URL}/reservations/batch`,
+        JSON.stringify({ userId: user.userId, date: data.concertDate, seatNumbers: seats }),
+        headers(user.token, 'POST /reservations/batch')
+    );
+    check(res, {
+        '배치 예약 성공 또는 정상 경쟁 실패': (r) => r.status === 200 || r.status === 400 || r.status === 409,
+        '서버 에러 없음 (5xx)': (r) => r.status < 500,
+    });
+
+    familyDurationBatch.add(Date.now() - startedAt);
+    record(res.status === 200 ? SEATS_PER_FAMILY : 0);
+    sleep(Math.random() * 0.3);
+}
+
+export function autoAssignFamily(data) {
+    const user = tokenFor(data, 0);
+    const startedAt = Date.now();
+
+    const res = http.post(
+        `${BASE_URL}/reservations/auto-assign`,
+        JSON.stringify({ userId: user.userId, date: data.concertDate, count: SEATS_PER_FAMILY }),
+        headers(user.token, 'POST /reservations/auto-assign')
+    );
+    check(res, {
+        '자동 배정 성공 또는 연석 없음': (r) => r.status === 200 || r.status === 409,
+        '서버 에러 없음 (5xx)': (r) => r.status < 500,
+    });
+
+    familyDurationAuto.add(Date.now() - startedAt);
+    record(res.status === 200 ? SEATS_PER_FAMILY : 0);
+    sleep(Math.random() * 0.3);
+}
+
+function record(held) {
+    if (held === SEATS_PER_FAMILY) {
+        familyCompleted.add(1);
+    } else if (held > 0) {
+        // 앞 좌석은 선점됐는데 뒷 좌석에서 실패 → 만료까지 좌석이 묶임
+        familyPartialHold.add(1);
+    } else {
+        familyRejected.add(1);
+    }
+}
+
+export function handleSummary(data) {
+    const customSummary = {
+        metrics: data.metrics,
+        timestamp: new Date().toISOString(),
+        testType: 'batch-reservation-test',
+        seatsPerFamily: SEATS_PER_FAMILY,
+    };
+
+    return {
+        'k6/results/batch-reservation-result.json': JSON.stringify(customSummary, null, 2),
+    };
+}
@@ -0,0 +1,111 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend, Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+// seed-large-venue.sql 로 100,000석을 세팅한 날짜
+const CONCERT_DATE = __ENV.CONCERT_DATE || '2030-01-01';
+const SECTION = __ENV.SECTION || 'A';
+
+// 커스텀 메트릭 (조회 방식별 응답시간 / 응답 크기)
+const fullDuration = new Trend('seat_full_duration');
+const compactDuration = new Trend('seat_compact_duration');
+const sectionDuration = new Trend('seat_section_compact_duration');
+const pageDuration = new Trend('seat_page_duration');
+const exportDuration = new Trend('seat_export_duration');
+const responseBytes = new Trend('seat_response_bytes');
+const exportedPages = new Counter('seat_pages_walked');
+
+/**
+ * 시나리오 6: 대형 공연장 좌석 조회 (100,000석)
+ *
+ * 목적: 좌석 수가 많은 날짜에서 조회 방식별 응답시간/페이로드 크기 비교
+ *   - full    : GET /concerts/seats (전체 목록 한 번에 적재)
+ *   - compact : GET /concerts/seats?format=rle (날짜 전체 압축 맵)
+ *   - section : GET /concerts/seats?format=bitmap&section=A (구역 압축 맵)
+ *   - page    : GET /concerts/seats/page (키셋 페이지 순회)
+ *   - export  : GET /concerts/seats/export (스트리밍 전체 내보내기)
+ *
+ * 사전 준비: mysql ... < k6/scripts/seed-large-venue.sql
+ * 실행: k6 run --env CONCERT_DATE=2030-01-01 k6/scripts/seat-query-test.js
+ */
+export const options = {
+    scenarios: {
+        compact: {
+            executor: 'constant-vus', vus: 50, duration: '30s', exec: 'compactMap',
+        },
+        section: {
+            executor: 'constant-vus', vus: 50, duration: '30s', exec: 'sectionMap', startTime: '35s',
+        },
+        page: {
+            executor: 'constant-vus', vus: 20, duration: '30s', exec: 'pageWalk', startTime: '70s',
+        },
+        export: {
+            executor: 'constant-vus', vus: 5, duration: '30s', exec: 'exportAll', startTime: '105s',
+        },
+        full: {
+            executor: 'constant-vus', vus: 5, duration: '30s', exec: 'fullList', startTime: '140s',
+        },
+    },
+    thresholds: {
+        seat_compact_duration: ['p(95)<200'],
+        seat_section_compact_duration: ['p(95)<100'],
+        seat_page_duration: ['p(95)<300'],
+    },
+};
+
+export function setup() {
+    const tokenRes = http.post(
+        `${BASE_URL}/queue/token`,
+        JSON.stringify({ userId: 'seat-query-test-user' }),
+        { headers: { 'Content-Type': 'application/json' } }
+    );
+    const token = JSON.parse(tokenRes.body).token;
+    console.log(`✅ Setup 완료: date=${CONCERT_DATE}`);
+    return { token: token };
+}
+
+function get(url, token, trend, accept) {
+    const headers = { 'X-QUEUE-TOKEN': token };
+    if (accept) {
+        headers['Accept'] = accept;
+    }
+    const res = http.get(url, { headers: headers, timeout: '120s' });
+    trend.add(res.timings.duration);
+    responseBytes.add(res.body ? res.body.length : 0, { endpoint: trend.name });
+    check(res, { '조회 성공': (r) => r.status === 200 });
+    return res;
+}
+
+export function compactMap(data) {
+    get(`${BASE_URL}/concerts/seats?date=${CONCERT_DATE}&format=rle`, data.token, compactDuration);
+}
+
+export function sectionMap(data) {
+    get(`${BASE_URL}/concerts/seats?date=${CONCERT_DATE}&format=bitmap&section=${SECTION}`,
+        data.token, sectionDuration);
+}
+
+export function pageWalk(data) {
+    // 한 구역(5,000석)을 1,000석 페이지로 끝까지 순회
+    let cursor = '';
+    do {
+        const res = get(
+            `${BASE_URL}/concerts/seats/page?date=${CONCERT_DATE}&section=${SECTION}&size=1000`
+                + (cursor ? `&cursor=${encodeURIComponent(cursor)}` : ''),
+            data.token, pageDuration);
+        if (res.status !== 200) {
+            return;
+        }
+        cursor = JSON.parse(res.body).nextCursor;
+        exportedPages.add(1);
+    } while (cursor);
+}
+
+export function exportAll(data) {
+    get(`${BASE_URL}/concerts/seats/export?date=${CONCERT_DATE}`, data.token, exportDuration);
+}
+
+export function fullList(data) {
+    get(`${BASE_URL}/concerts/seats?date=${CONCERT_DATE}`, data.token, fullDuration);
+}
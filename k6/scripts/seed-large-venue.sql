@@ -0,0 +1,40 @@
+-- =====================================================
+-- 대형 공연장 좌석 데이터 세팅 (MySQL 8.0+)
+-- =====================================================
+-- 좌석 조회 벤치마크(seat-query-test.js)용 100,000석 생성
+--   - 20개 구역(A~T) x 50열 x 100석, 좌석번호는 1~100000 연속
+--   - 10%는 RESERVED, 2%는 TEMP_HELD 로 섞어 현실적인 좌석 맵을 만듦
+--
+-- 실행: mysql -h 127.0.0.1 -u root -p hhplus < k6/scripts/seed-large-venue.sql
+-- 날짜 변경: 아래 @concert_date 값 수정
+-- 좌석 ID: 애플리케이션과 같은 TSID 비트 구성 ((현재 ms - 2024-01-01) << 22 | 순번)
+-- =====================================================
+
+SET @concert_date = '2030-01-01';
+SET SESSION cte_max_recursion_depth = 100000;
+SET @tsid_base = (CAST(UNIX_TIMESTAMP(NOW(3)) * 1000 AS UNSIGNED) - 1704067200000) << 22;
+
+INSERT IGNORE INTO concert_schedule (concert_date, total_seats, available_seats)
+VALUES (@concert_date, 100000, 88000);
+
+INSERT IGNORE INTO seat (id, concert_date, section, seat_row, seat_number, status, reserved_user_id, reserved_until, version)
+WITH RECURSIVE seq (n) AS (
+    SELECT 1
+    UNION ALL
+    SELECT n + 1 FROM seq WHERE n < 100000
+)
+SELECT
+    @tsid_base | n,
+    @concert_date,
+    CHAR(65 + FLOOR((n - 1) / 5000)),
+    FLOOR(((n - 1) % 5000) / 100) + 1,
+    n,
+    CASE
+        WHEN n % 10 = 0 THEN 'RESERVED'
+        WHEN n % 50 = 1 THEN 'TEMP_HELD'
+        ELSE 'AVAILABLE'
+    END,
+    CASE WHEN n % 10 = 0 OR n % 50 = 1 THEN CONCAT('seed-user-', n) END,
+    CASE WHEN n % 50 = 1 THEN DATE_ADD(NOW(6), INTERVAL 1 DAY) END,
+    0
+FROM seq;
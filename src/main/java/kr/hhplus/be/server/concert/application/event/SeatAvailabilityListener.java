@@ -0,0 +1,60 @@
+package kr.hhplus.be.server.concert.application.event;
+
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.ScheduleChangeChannel;
+import kr.hhplus.be.server.concert.domain.repository.SeatAvailabilityCounter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 잔여 좌석 카운터 갱신 리스너
+ *
+ * 트랜잭션 커밋 후 좌석 상태 전이에 따라 날짜별 잔여 좌석 카운터를 증감합니다.
+ * - AVAILABLE → TEMP_HELD : -1
+ * - TEMP_HELD → AVAILABLE : +1 (만료/취소 해제)
+ * - TEMP_HELD → RESERVED  : 변화 없음 (이미 잔여 좌석에서 빠져 있음)
+ *
+ * 매진(1 → 0) 또는 매진 해제(0 → 1) 전이 시 일정 변경 채널로 알려 예약 가능 날짜 캐시를 무효화합니다.
+ * 갱신 실패는 예약 흐름에 영향을 주지 않도록 로그만 남기며, 오차는 주기 보정으로 복구합니다.
+ */
+@Component
+public class SeatAvailabilityListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatAvailabilityListener.class);
+
+    private final SeatAvailabilityCounter seatAvailabilityCounter;
+    private final ScheduleChangeChannel scheduleChangeChannel;
+
+    public SeatAvailabilityListener(SeatAvailabilityCounter seatAvailabilityCounter,
+                                    ScheduleChangeChannel scheduleChangeChannel) {
+        this.seatAvailabilityCounter = seatAvailabilityCounter;
+        this.scheduleChangeChannel = scheduleChangeChannel;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSeatStateChanged(SeatStateChangedEvent event) {
+        long delta = availability(event.getStatus()) - availability(event.getPreviousStatus());
+        if (delta == 0) {
+            return;
+        }
+        try {
+            long remaining = seatAvailabilityCounter.apply(event.getConcertDate(), delta);
+            boolean soldOut = delta < 0 && remaining == 0;
+            boolean reopened = delta > 0 && remaining == delta;
+            if (soldOut || reopened) {
+                scheduleChangeChannel.publish(event.getConcertDate());
+            }
+        } catch (Exception e) {
+            log.error("[SeatAvailabilityListener] 잔여 좌석 카운터 갱신 실패 - event={}, error={}",
+                    event, e.getMessage(), e);
+        }
+    }
+
+    private static long availability(SeatStatus status) {
+        return status == SeatStatus.AVAILABLE ? 1 : 0;
+    }
+}
@@ -0,0 +1,90 @@
+package kr.hhplus.be.server.concert.application.event;
+
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
+import kr.hhplus.be.server.concert.domain.model.SeatStateRecord;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좌석 상태 변경 이벤트 리스너
+ *
+ * 트랜잭션 커밋 후 좌석 변경 로그에 기록하여
+ * GET /concerts/seats?sinceVersion=N 증분 조회에 반영하고,
+ * 부여된 버전을 붙여 seat-state 토픽(읽기 모델)으로 발행합니다.
+ * (읽기 모델은 버전이 더 큰 레코드만 반영하므로 늦게 도착한 이전 상태가 최신 상태를 덮지 않음)
+ *
+ * 기록/발행 실패는 예약/결제 흐름에 영향을 주지 않도록 로그만 남깁니다.
+ * - 기록 실패 시 로그 없이 버전만 증가시켜 빈 버전을 만듦 → 그 버전을 건너는 증분 조회는 전체 스냅샷으로 응답
+ * - 버전 증가도 실패하면(Redis 장애) 날짜를 표시해 두고, 다음 변경을 기록하기 전에 빈 버전을 만듦
+ * - 읽기 모델은 주기적 DB 보정으로 복구
+ */
+@Component
+public class SeatChangeEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatChangeEventListener.class);
+
+    private final SeatChangeLogRepository seatChangeLogRepository;
+    private final SeatProjectionPublisher seatProjectionPublisher;
+    private final Set<String> unrecordedDates = ConcurrentHashMap.newKeySet();
+
+    public SeatChangeEventListener(SeatChangeLogRepository seatChangeLogRepository,
+                                   SeatProjectionPublisher seatProjectionPublisher) {
+        this.seatChangeLogRepository = seatChangeLogRepository;
+        this.seatProjectionPublisher = seatProjectionPublisher;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSeatStateChanged(SeatStateChangedEvent event) {
+        String concertDate = event.getConcertDate();
+        long version;
+        try {
+            if (unrecordedDates.contains(concertDate)) {
+                markGap(concertDate);
+            }
+            version = seatChangeLogRepository.append(event);
+            log.debug("[SeatChangeEventListener] 좌석 변경 기록 - version={}, event={}", version, event);
+        } catch (Exception e) {
+            log.error("[SeatChangeEventListener] 좌석 변경 기록 실패 - event={}, error={}",
+                    event, e.getMessage(), e);
+            unrecordedDates.add(concertDate);
+            tryMarkGap(concertDate);
+            return;
+        }
+
+        if (!seatProjectionPublisher.isEnabled()) {
+            return;
+        }
+        try {
+            seatProjectionPublisher.publish(SeatStateRecord.of(event, version));
+        } catch (Exception e) {
+            log.error("[SeatChangeEventListener] 좌석 상태 발행 실패 - version={}, event={}, error={}",
+                    version, event, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 빈 버전 생성 시도 (실패하면 표시를 남겨 다음 변경 기록 전에 다시 시도)
+     */
+    private void tryMarkGap(String concertDate) {
+        try {
+            markGap(concertDate);
+        } catch (Exception e) {
+            log.warn("[SeatChangeEventListener] 빈 버전 생성 실패, 다음 기록 전에 재시도 - date={}, error={}",
+                    concertDate, e.getMessage());
+        }
+    }
+
+    private void markGap(String concertDate) {
+        long version = seatChangeLogRepository.reserveVersion(concertDate);
+        unrecordedDates.remove(concertDate);
+        log.warn("[SeatChangeEventListener] 기록하지 못한 변경 대신 빈 버전 생성 - date={}, version={}",
+                concertDate, version);
+    }
+}
@@ -0,0 +1,27 @@
+package kr.hhplus.be.server.concert.application.event;
+
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌석 이벤트 퍼블리셔
+ *
+ * ApplicationEventPublisher를 래핑하여 좌석 상태 변경 이벤트를 발행합니다.
+ */
+@Component
+public class SeatEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public SeatEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    /**
+     * 좌석 상태 변경 이벤트 발행
+     */
+    public void publishSeatStateChanged(SeatStateChangedEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
@@ -0,0 +1,56 @@
+package kr.hhplus.be.server.concert.application.event;
+
+import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatStateRecord;
+import kr.hhplus.be.server.config.kafka.KafkaTopicConfig;
+import kr.hhplus.be.server.shared.infrastructure.kafka.KafkaMessageProducer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 좌석 상태 읽기 모델 퍼블리셔
+ *
+ * concert.projection.enabled=true 일 때 좌석 배치/상태 레코드를 seat-state 토픽으로 발행합니다.
+ * 발행은 비동기이며 실패는 로그만 남깁니다 (건별 성공 로그 없음 — 좌석 생성 시 수만 건).
+ * 유실된 레코드는 SeatProjectionReconcileService가 DB 기준으로 다시 발행합니다.
+ */
+@Component
+public class SeatProjectionPublisher {
+
+    private final KafkaMessageProducer kafkaMessageProducer;
+    private final boolean enabled;
+
+    public SeatProjectionPublisher(KafkaMessageProducer kafkaMessageProducer,
+                                   @Value("${concert.projection.enabled:false}") boolean enabled) {
+        this.kafkaMessageProducer = kafkaMessageProducer;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 새로 생성한 좌석의 배치 발행
+     */
+    public void publishLayout(List<Seat> seats) {
+        if (!enabled) {
+            return;
+        }
+        for (Seat seat : seats) {
+            publish(SeatStateRecord.of(seat, 0));
+        }
+    }
+
+    /**
+     * 레코드 발행 (키 = 날짜:좌석번호[:layout])
+     */
+    public void publish(SeatStateRecord record) {
+        if (!enabled) {
+            return;
+        }
+        kafkaMessageProducer.sendWithResult(KafkaTopicConfig.TOPIC_SEAT_STATE, record.topicKey(), record);
+    }
+}
@@ -0,0 +1,131 @@
+package kr.hhplus.be.server.concert.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.concert.domain.repository.ScheduleChangeChannel;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeChannel.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 예약 가능 날짜 응답 캐시 (노드 로컬)
+ *
+ * 예약 가능 날짜는 일정 추가, 날짜 경과, 매진/매진 해제 때만 바뀌므로
+ * 직렬화된 응답 본문(JSON byte[])을 노드에 보관하고 요청 경로에서는 DB 조회 없이 그대로 반환.
+ *
+ * - 무효화: 일정 변경 채널(Redis Pub/Sub) 수신 시 모든 노드가 재생성 스레드에서 비동기로 재생성
+ *   (재생성이 끝날 때까지는 기존 본문을 그대로 반환 - 요청 스레드가 DB 조회를 기다리지 않음,
+ *    재생성 중 무효화가 또 들어오면 한 번만 더 재생성)
+ * - 날짜 경과/최초 요청: 반환할 본문이 없으므로 요청 스레드에서 재생성
+ * - 주기 갱신: 알림 유실에 대비해 REFRESH_INTERVAL마다 재생성 (노드 로컬이므로 리스 없음)
+ * - 세대 번호: 재생성 중 무효화가 들어오면 만든 결과를 버려 오래된 목록이 남지 않도록 함
+ */
+@Service
+public class AvailableDatesCache {
+
+    private static final Logger log = LoggerFactory.getLogger(AvailableDatesCache.class);
+
+    private final ConcertService concertService;
+    private final ObjectMapper objectMapper;
+    private final ScheduleChangeChannel scheduleChangeChannel;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "available-dates-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile CachedBody cached;
+    private Subscription subscription;
+
+    public AvailableDatesCache(ConcertService concertService,
+                               ObjectMapper objectMapper,
+                               ScheduleChangeChannel scheduleChangeChannel) {
+        this.concertService = concertService;
+        this.objectMapper = objectMapper;
+        this.scheduleChangeChannel = scheduleChangeChannel;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        subscription = scheduleChangeChannel.subscribe(concertDate -> invalidate());
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        rebuilder.shutdownNow();
+    }
+
+    /**
+     * 직렬화된 예약 가능 날짜 응답 (AvailableDatesResponse JSON)
+     */
+    public byte[] getBody() {
+        CachedBody current = cached;
+        if (current != null && current.builtOn().equals(LocalDate.now())) {
+            return current.body();
+        }
+        return rebuild(false);
+    }
+
+    /**
+     * 캐시 무효화 (기존 본문은 유지하고 재생성 스레드에서 새로 만듦)
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            rebuilder.execute(() -> {
+                // 실행 직전에 해제 → 재생성 중 들어온 무효화는 다음 재생성을 예약함
+                rebuildScheduled.set(false);
+                refresh();
+            });
+        }
+    }
+
+    /**
+     * 재생성 (1분마다 주기 실행, 무효화 시 재생성 스레드에서 실행)
+     */
+    @Scheduled(fixedRate = 60000)
+    public void refresh() {
+        try {
+            rebuild(true);
+        } catch (Exception e) {
+            log.warn("[AvailableDatesCache] 갱신 실패 - error={}", e.getMessage());
+        }
+    }
+
+    private synchronized byte[] rebuild(boolean force) {
+        CachedBody current = cached;
+        LocalDate today = LocalDate.now();
+        if (!force && current != null && current.builtOn().equals(today)) {
+            return current.body();
+        }
+
+        long startGeneration = generation.get();
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(concertService.getAvailableDates());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("예약 가능 날짜 직렬화 실패", e);
+        }
+        if (generation.get() == startGeneration) {
+            cached = new CachedBody(today, body);
+        }
+        return body;
+    }
+
+    private record CachedBody(LocalDate builtOn, byte[] body) {
+    }
+}
@@ -0,0 +1,106 @@
+package kr.hhplus.be.server.concert.application.service;
+
+import kr.hhplus.be.server.concert.domain.model.SeatStatusView;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import kr.hhplus.be.server.concert.interfaces.api.dto.CompactSeatMapResponse;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 압축 좌석 맵 조회 Use Case
+ *
+ * - 좌석번호/상태만 조회하여 RLE 또는 2비트 비트맵으로 인코딩
+ * - section 지정 시 해당 구역만 인코딩 (대형 공연장은 구역 단위로 나눠 조회)
+ * - 인코딩 결과는 좌석 변경 버전 단위로 노드 로컬 캐시
+ *   → 버전이 바뀌지 않았으면 DB 조회/인코딩 없이 캐시된 문자열을 그대로 반환
+ * - 버전은 좌석 조회보다 먼저 읽으므로, 캐시된 맵은 항상 해당 버전 이후의 상태를 포함
+ * - 좌석 조회 압축 저장소가 켜져 있으면 인코딩할 좌석도 저장소에서 읽음 (DB 조회 없음)
+ */
+@Service
+@Transactional(readOnly = true)
+public class CompactSeatMapService {
+
+    public static final String ENCODING_RLE = "rle";
+    public static final String ENCODING_BITMAP = "bitmap";
+
+    private static final int MAX_CACHED_MAPS = 1024;
+
+    private final SeatRepository seatRepository;
+    private final SeatChangeLogRepository seatChangeLogRepository;
+    private final SeatReadStore seatReadStore;
+    private final Map<String, EncodedSeatMap> cache = new ConcurrentHashMap<>();
+
+    public CompactSeatMapService(SeatRepository seatRepository,
+                                 SeatChangeLogRepository seatChangeLogRepository,
+                                 SeatReadStore seatReadStore) {
+        this.seatRepository = seatRepository;
+        this.seatChangeLogRepository = seatChangeLogRepository;
+        this.seatReadStore = seatReadStore;
+    }
+
+    /**
+     * 압축 좌석 맵 조회 (날짜 전체)
+     */
+    public CompactSeatMapResponse getCompactSeatMap(String date, String encoding) {
+        return getCompactSeatMap(date, null, encoding);
+    }
+
+    /**
+     * 압축 좌석 맵 조회 (section이 null이면 날짜 전체)
+     */
+    public CompactSeatMapResponse getCompactSeatMap(String date, String section, String encoding) {
+        if (!ENCODING_RLE.equals(encoding) && !ENCODING_BITMAP.equals(encoding)) {
+            throw new BusinessException("지원하지 않는 좌석 맵 형식입니다: " + encoding, "invalid-seat-map-format", 400);
+        }
+
+        // 버전은 날짜 단위이므로 구역 맵도 같은 날짜의 변경이 있으면 다시 인코딩
+        long version = seatChangeLogRepository.getCurrentVersion(date);
+        String cacheKey = section == null ? date : date + "|" + section;
+        EncodedSeatMap seatMap = cache.get(cacheKey);
+        if (seatMap == null || seatMap.version() != version) {
+            seatMap = encode(date, section, version);
+            if (cache.size() >= MAX_CACHED_MAPS) {
+                cache.clear();
+            }
+            cache.put(cacheKey, seatMap);
+        }
+
+        String data = ENCODING_RLE.equals(encoding) ? seatMap.rle() : seatMap.bitmap();
+        CompactSeatMapResponse response = new CompactSeatMapResponse(
+                date, version, seatMap.firstSeatNumber(), seatMap.seatCount(), encoding, data);
+        response.setSection(section);
+        return response;
+    }
+
+    private EncodedSeatMap encode(String date, String section, long version) {
+        if (seatReadStore.isEnabled()) {
+            return encode(seatReadStore.findStatuses(date, section), version);
+        }
+        if (section != null) {
+            return encode(seatRepository.findStatusesByConcertDateAndSection(date, section), version);
+        }
+
+        return encode(seatRepository.findStatusesByConcertDate(date), version);
+    }
+
+    private EncodedSeatMap encode(List<SeatStatusView> seats, long version) {
+        byte[] codes = SeatMapEncoder.toCodes(seats);
+        int firstSeatNumber = seats.isEmpty() ? 0 : seats.get(0).seatNumber();
+        return new EncodedSeatMap(
+                version,
+                firstSeatNumber,
+                codes.length,
+                SeatMapEncoder.encodeRle(codes),
+                SeatMapEncoder.encodeBitmap(codes)
+        );
+    }
+
+    private record EncodedSeatMap(long version, int firstSeatNumber, int seatCount, String rle, String bitmap) {
+    }
+}
@@ -32,6 +32,13 @@ public class ConcertRankingService {
         rankingRepository.incrementReservationCount(concertDate);
     }
 
+    /**
+     * 다중 좌석 예약 시 매진 랭킹 업데이트 (ZINCRBY 한 번)
+     */
+    public void onSeatsReserved(String concertDate, int seatCount) {
+        rankingRepository.incrementReservationCount(concertDate, seatCount);
+    }
+
     /**
      * 빠른 매진 랭킹 Top N 조회
      *
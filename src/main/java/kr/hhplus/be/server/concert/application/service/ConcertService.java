@@ -4,36 +4,59 @@ import kr.hhplus.be.server.concert.domain.model.ConcertSchedule;
 import kr.hhplus.be.server.concert.domain.model.Seat;
 import kr.hhplus.be.server.concert.domain.model.SeatStatus;
 import kr.hhplus.be.server.concert.domain.repository.ConcertScheduleRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository.SeatChange;
 import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
 import kr.hhplus.be.server.concert.interfaces.api.dto.AvailableDatesResponse;
 import kr.hhplus.be.server.concert.interfaces.api.dto.SeatListResponse;
+import kr.hhplus.be.server.concert.interfaces.api.dto.SeatPageResponse;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * 공연 조회 Use Case (Application Layer)
  * 도메인 기반 클린 아키텍처
+ *
+ * 좌석 조회(전체/페이지/단건)는 concert.read-store.enabled=true 이면 노드 로컬 압축 저장소(SeatReadStore)에서,
+ * 아니면 DB에서 엔티티로 조회
  */
 @Service
 @Transactional(readOnly = true)
 public class ConcertService {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int DEFAULT_PAGE_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 1000;
     
     private final ConcertScheduleRepository scheduleRepository;
     private final SeatRepository seatRepository;
+    private final SeatChangeLogRepository seatChangeLogRepository;
+    private final SeatAvailabilityService seatAvailabilityService;
+    private final SeatReadStore seatReadStore;
 
-    public ConcertService(ConcertScheduleRepository scheduleRepository, SeatRepository seatRepository) {
+    public ConcertService(ConcertScheduleRepository scheduleRepository,
+                          SeatRepository seatRepository,
+                          SeatChangeLogRepository seatChangeLogRepository,
+                          SeatAvailabilityService seatAvailabilityService,
+                          SeatReadStore seatReadStore) {
         this.scheduleRepository = scheduleRepository;
         this.seatRepository = seatRepository;
+        this.seatChangeLogRepository = seatChangeLogRepository;
+        this.seatAvailabilityService = seatAvailabilityService;
+        this.seatReadStore = seatReadStore;
     }
 
     /**
      * 예약 가능한 날짜 목록 조회
+     * - 잔여 좌석 카운터가 0인 날짜(매진)는 좌석 스캔 없이 제외
      */
     public AvailableDatesResponse getAvailableDates() {
         List<ConcertSchedule> schedules = scheduleRepository.findAvailableSchedules(LocalDate.now());
@@ -41,63 +64,141 @@ public class ConcertService {
         List<String> dates = schedules.stream()
                 .map(schedule -> schedule.getConcertDate().format(DATE_FORMATTER))
                 .toList();
+        Map<String, Long> availableCounts = seatAvailabilityService.getAvailableCounts(dates);
         
-        return new AvailableDatesResponse(dates);
+        return new AvailableDatesResponse(dates.stream()
+                .filter(date -> availableCounts.getOrDefault(date, 1L) > 0)
+                .toList());
     }
 
     /**
-     * 특정 날짜의 좌석 목록 조회
+     * 특정 날짜의 좌석 목록 조회 (전체 스냅샷)
+     * - 버전을 좌석 조회보다 먼저 읽어, 스냅샷에 빠진 변경이 다음 증분 조회에서 반드시 내려가도록 함
+     * - 좌석은 관리 API(POST /admin/concerts/schedules)로만 생성되며, 조회 경로에서는 생성하지 않음
      */
     public SeatListResponse getSeats(String date) {
-        List<Seat> seats = seatRepository.findByConcertDateOrderBySeatNumber(date);
-        
-        // 좌석이 없으면 초기화 (Mock 데이터 생성)
-        if (seats.isEmpty()) {
-            seats = initializeSeatsForDate(date);
+        if (seatReadStore.isEnabled()) {
+            SeatReadStore.VersionedSeats stored = seatReadStore.findAll(date);
+            return new SeatListResponse(date, stored.seats(), stored.version(), true);
         }
+
+        long version = seatChangeLogRepository.getCurrentVersion(date);
+        List<Seat> seats = seatRepository.findByConcertDateOrderBySeatNumber(date);
         
         List<kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus> seatStatusList = seats.stream()
-                .map(this::toSeatStatusDto)
+                .map(ConcertService::toSeatStatusDto)
                 .toList();
         
-        return new SeatListResponse(date, seatStatusList);
+        return new SeatListResponse(date, seatStatusList, version, true);
+    }
+
+    /**
+     * 특정 날짜의 좌석 변경분 조회 (증분 동기화)
+     * - sinceVersion 이후 변경된 좌석만 좌석별 최신 상태로 반환
+     * - 변경 로그가 이미 정리되어 이어받을 수 없으면 전체 스냅샷으로 대체
+     */
+    public SeatListResponse getSeatChanges(String date, long sinceVersion) {
+        Optional<List<SeatChange>> changes = seatChangeLogRepository.findChangesSince(date, sinceVersion);
+        if (changes.isEmpty()) {
+            return getSeats(date);
+        }
+
+        long version = sinceVersion;
+        Map<Integer, SeatChange> latestBySeat = new LinkedHashMap<>();
+        for (SeatChange change : changes.get()) {
+            latestBySeat.remove(change.seatNumber());
+            latestBySeat.put(change.seatNumber(), change);
+            version = Math.max(version, change.version());
+        }
+
+        List<kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus> seatStatusList = latestBySeat.values().stream()
+                .map(change -> new kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus(
+                        change.seatNumber(),
+                        mapStatus(change.status()),
+                        change.reservedUserId(),
+                        change.reservedUntil()
+                ))
+                .toList();
+
+        return new SeatListResponse(date, seatStatusList, version, false);
     }
     
+    /**
+     * 좌석 키셋 페이지 조회 (대형 공연장용)
+     * - section 지정 시 해당 구역만, 미지정 시 날짜 전체를 (section, seatNumber) 순으로 조회
+     * - cursor는 이전 응답의 nextCursor ("{section}:{seatNumber}"), 마지막 페이지면 nextCursor=null
+     */
+    public SeatPageResponse getSeatPage(String date, String section, String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        String afterSection = null;
+        Integer afterSeatNumber = null;
+        if (cursor != null && !cursor.isBlank()) {
+            int separator = cursor.lastIndexOf(':');
+            try {
+                afterSection = cursor.substring(0, separator);
+                afterSeatNumber = Integer.parseInt(cursor.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new BusinessException("잘못된 페이지 커서입니다: " + cursor, "invalid-cursor", 400);
+            }
+        }
+
+        if (seatReadStore.isEnabled()) {
+            List<kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus> stored =
+                    seatReadStore.findPage(date, section, afterSection, afterSeatNumber, pageSize);
+            String nextCursor = null;
+            if (stored.size() == pageSize) {
+                kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus last = stored.get(stored.size() - 1);
+                nextCursor = last.getSection() + ":" + last.getSeatNumber();
+            }
+            return new SeatPageResponse(date, section, stored, nextCursor);
+        }
+
+        List<Seat> seats = section != null
+                ? seatRepository.findSectionPage(date, section, afterSeatNumber, pageSize)
+                : seatRepository.findPage(date, afterSection, afterSeatNumber, pageSize);
+
+        String nextCursor = null;
+        if (seats.size() == pageSize) {
+            Seat last = seats.get(seats.size() - 1);
+            nextCursor = last.getSection() + ":" + last.getSeatNumber();
+        }
+
+        List<kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus> seatStatusList = seats.stream()
+                .map(ConcertService::toSeatStatusDto)
+                .toList();
+        return new SeatPageResponse(date, section, seatStatusList, nextCursor);
+    }
+
+    /**
+     * 좌석 상세 조회 (압축 좌석 맵 사용 시 개별 좌석 정보 조회용)
+     */
+    public kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus getSeat(String date, Integer seatNumber) {
+        if (seatReadStore.isEnabled()) {
+            return seatReadStore.findSeat(date, seatNumber)
+                    .orElseThrow(() -> new BusinessException("좌석을 찾을 수 없습니다.", "seat-not-found", 404));
+        }
+
+        Seat seat = seatRepository.findByConcertDateAndSeatNumber(date, seatNumber)
+                .orElseThrow(() -> new BusinessException("좌석을 찾을 수 없습니다.", "seat-not-found", 404));
+        return toSeatStatusDto(seat);
+    }
+
     /**
      * Seat 엔티티를 DTO로 변환
      */
-    private kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus toSeatStatusDto(Seat seat) {
+    static kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus toSeatStatusDto(Seat seat) {
         return new kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus(
                 seat.getSeatNumber(),
                 mapStatus(seat.getStatus()),
                 seat.getReservedUserId(),
-                seat.getReservedUntil()
+                seat.getReservedUntil(),
+                seat.getSection(),
+                seat.getSeatRow()
         );
     }
 
-    /**
-     * 날짜에 대한 좌석 초기화 (Mock)
-     */
-    @Transactional
-    public List<Seat> initializeSeatsForDate(String date) {
-        List<Seat> seats = new java.util.ArrayList<>();
-        for (int i = 1; i <= 50; i++) {
-            Seat seat = new Seat(date, i);
-            seats.add(seat);
-        }
-        
-        // saveAll로 배치 저장
-        seats = seatRepository.saveAll(seats);
-        
-        // 스케줄도 생성
-        LocalDate localDate = LocalDate.parse(date, DATE_FORMATTER);
-        scheduleRepository.findByConcertDate(localDate)
-                .orElseGet(() -> scheduleRepository.save(new ConcertSchedule(localDate)));
-        
-        return seats;
-    }
-
-    private kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus.SeatStatusEnum mapStatus(SeatStatus status) {
+    private static kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus.SeatStatusEnum mapStatus(SeatStatus status) {
         return switch (status) {
             case AVAILABLE -> kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus.SeatStatusEnum.AVAILABLE;
             case TEMP_HELD -> kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus.SeatStatusEnum.TEMP_HELD;
@@ -0,0 +1,213 @@
+package kr.hhplus.be.server.concert.application.service;
+
+import kr.hhplus.be.server.concert.domain.model.SeatLayoutView;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository.SeatChange;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 연석 배정용 좌석 가용성 인덱스 (노드 로컬)
+ *
+ * 날짜별로 빈 좌석을 비트셋(bit = seatNumber - 첫 좌석번호)으로 보관하고,
+ * 빈 좌석 구간(run)을 nextSetBit/nextClearBit로 건너뛰며 N석이 이어진 구간을 찾습니다.
+ * - 연석은 같은 구역·같은 열 안에서만 인정 (열이 바뀌는 좌석을 rowStarts 비트로 표시)
+ * - 탐색 시작 지점을 임의로 골라 동시 요청이 서로 다른 구간을 받도록 분산
+ * - 후보로 내준 좌석은 선점 시도가 끝날 때까지 pending으로 묶어 같은 노드의 다른 요청에 다시 내주지 않음
+ *
+ * 동기화:
+ * - 좌석 변경 로그 버전이 바뀌었으면 이후 변경분만 반영 (다른 노드의 예약/해제 포함)
+ * - 로그가 이미 정리되어 이어받을 수 없으면 좌석 배치를 다시 조회해 재구성
+ * - 인덱스는 후보를 고르는 힌트일 뿐이며, 실제 선점은 좌석 잠금 + DB 상태 검사로 확정
+ */
+@Service
+public class SeatAvailabilityIndex {
+
+    private static final int MAX_CACHED_DATES = 64;
+
+    private final SeatRepository seatRepository;
+    private final SeatChangeLogRepository seatChangeLogRepository;
+    private final Map<String, DateIndex> indexes = new ConcurrentHashMap<>();
+
+    public SeatAvailabilityIndex(SeatRepository seatRepository,
+                                 SeatChangeLogRepository seatChangeLogRepository) {
+        this.seatRepository = seatRepository;
+        this.seatChangeLogRepository = seatChangeLogRepository;
+    }
+
+    /**
+     * 같은 열에서 이어진 빈 좌석 count석을 찾아 pending으로 묶음
+     *
+     * @return 좌석번호 목록 (오름차순), 연석이 없으면 빈 목록
+     */
+    public List<Integer> acquireContiguous(String concertDate, int count) {
+        DateIndex index = indexes.get(concertDate);
+        if (index == null) {
+            if (indexes.size() >= MAX_CACHED_DATES) {
+                indexes.clear();
+            }
+            index = indexes.computeIfAbsent(concertDate, date -> new DateIndex());
+        }
+
+        synchronized (index) {
+            sync(concertDate, index);
+            return index.take(count);
+        }
+    }
+
+    /**
+     * 선점 시도 종료 후 pending 해제
+     *
+     * @param claimed true면 선점 성공 — 변경 로그를 받기 전까지 빈 좌석에서 제외
+     */
+    public void complete(String concertDate, List<Integer> seatNumbers, boolean claimed) {
+        DateIndex index = indexes.get(concertDate);
+        if (index == null) {
+            return;
+        }
+        synchronized (index) {
+            index.complete(seatNumbers, claimed);
+        }
+    }
+
+    private void sync(String concertDate, DateIndex index) {
+        long currentVersion = seatChangeLogRepository.getCurrentVersion(concertDate);
+        if (index.isBuilt()) {
+            if (index.version == currentVersion) {
+                return;
+            }
+            Optional<List<SeatChange>> changes = seatChangeLogRepository.findChangesSince(concertDate, index.version);
+            if (changes.isPresent()) {
+                long version = currentVersion;
+                for (SeatChange change : changes.get()) {
+                    index.apply(change.seatNumber(), change.status());
+                    version = Math.max(version, change.version());
+                }
+                index.version = version;
+                return;
+            }
+        }
+
+        // 버전을 먼저 읽었으므로 조회 중 생긴 변경은 다음 동기화에서 다시 반영됨 (상태 값이라 중복 반영해도 동일)
+        index.rebuild(seatRepository.findLayoutByConcertDate(concertDate), currentVersion);
+    }
+
+    private static class DateIndex {
+
+        private long version = -1;
+        private int firstSeatNumber;
+        private int seatCount;
+        private BitSet available = new BitSet();
+        private BitSet free = new BitSet();
+        private BitSet pending = new BitSet();
+        private BitSet rowStarts = new BitSet();
+
+        /**
+         * 좌석이 없는 날짜(아직 생성 전)는 매번 다시 조회하도록 미구성으로 취급
+         */
+        boolean isBuilt() {
+            return version >= 0 && seatCount > 0;
+        }
+
+        void rebuild(List<SeatLayoutView> seats, long version) {
+            this.version = version;
+            this.firstSeatNumber = seats.isEmpty() ? 0 : seats.get(0).seatNumber();
+            this.seatCount = seats.isEmpty() ? 0 : seats.get(seats.size() - 1).seatNumber() - firstSeatNumber + 1;
+            this.available = new BitSet(seatCount);
+            this.rowStarts = new BitSet(seatCount);
+
+            SeatLayoutView previous = null;
+            for (SeatLayoutView seat : seats) {
+                int bit = seat.seatNumber() - firstSeatNumber;
+                if (seat.status() == SeatStatus.AVAILABLE) {
+                    available.set(bit);
+                }
+                if (previous == null
+                        || seat.seatNumber() != previous.seatNumber() + 1
+                        || !seat.section().equals(previous.section())
+                        || !seat.seatRow().equals(previous.seatRow())) {
+                    rowStarts.set(bit);
+                }
+                previous = seat;
+            }
+
+            this.free = (BitSet) available.clone();
+            this.free.andNot(pending);
+        }
+
+        void apply(int seatNumber, SeatStatus status) {
+            int bit = seatNumber - firstSeatNumber;
+            if (bit < 0 || bit >= seatCount) {
+                return;
+            }
+            boolean isAvailable = status == SeatStatus.AVAILABLE;
+            available.set(bit, isAvailable);
+            free.set(bit, isAvailable && !pending.get(bit));
+        }
+
+        List<Integer> take(int count) {
+            if (seatCount == 0 || count <= 0) {
+                return List.of();
+            }
+            int start = ThreadLocalRandom.current().nextInt(seatCount);
+            int found = scan(start, seatCount, count);
+            if (found < 0) {
+                found = scan(0, start, count);
+            }
+            if (found < 0) {
+                return List.of();
+            }
+
+            List<Integer> seatNumbers = new ArrayList<>(count);
+            for (int bit = found; bit < found + count; bit++) {
+                pending.set(bit);
+                free.clear(bit);
+                seatNumbers.add(firstSeatNumber + bit);
+            }
+            return seatNumbers;
+        }
+
+        /**
+         * [from, to) 에서 시작하는 빈 좌석 구간 중 같은 열 안에서 count석 이상인 첫 구간
+         */
+        private int scan(int from, int to, int count) {
+            int bit = free.nextSetBit(from);
+            while (bit >= 0 && bit < to) {
+                int runEnd = free.nextClearBit(bit);
+                int rowEnd = rowStarts.nextSetBit(bit + 1);
+                if (rowEnd >= 0 && rowEnd < runEnd) {
+                    runEnd = rowEnd;
+                }
+                if (runEnd - bit >= count) {
+                    return bit;
+                }
+                bit = free.nextSetBit(runEnd);
+            }
+            return -1;
+        }
+
+        void complete(List<Integer> seatNumbers, boolean claimed) {
+            for (Integer seatNumber : seatNumbers) {
+                int bit = seatNumber - firstSeatNumber;
+                if (bit < 0 || bit >= seatCount) {
+                    continue;
+                }
+                pending.clear(bit);
+                if (claimed) {
+                    available.clear(bit);
+                } else if (available.get(bit)) {
+                    free.set(bit);
+                }
+            }
+        }
+    }
+}
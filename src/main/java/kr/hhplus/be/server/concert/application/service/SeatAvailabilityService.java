@@ -0,0 +1,120 @@
+package kr.hhplus.be.server.concert.application.service;
+
+import kr.hhplus.be.server.concert.domain.model.ConcertSchedule;
+import kr.hhplus.be.server.concert.domain.model.SeatCountView;
+import kr.hhplus.be.server.concert.domain.repository.ConcertScheduleRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatAvailabilityCounter;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import kr.hhplus.be.server.concert.interfaces.api.dto.SeatAvailabilityResponse;
+import kr.hhplus.be.server.concert.interfaces.api.dto.SeatAvailabilityResponse.DateAvailability;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 날짜별 잔여 좌석 조회/보정 Use Case (Application Layer)
+ *
+ * - 조회: Redis 카운터(HMGET 1회)로 좌석 스캔 없이 잔여 좌석 수와 매진 여부를 판단
+ * - 적재: 카운터가 없는 날짜만 DB 집계로 초기값 적재 (HSETNX)
+ * - 보정: 주기적으로 DB 집계 결과로 카운터와 concert_schedule.available_seats를 맞춤
+ *   (커밋 후 증감 실패/중복 반영으로 생긴 오차 복구)
+ */
+@Service
+@Transactional(readOnly = true)
+public class SeatAvailabilityService {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatAvailabilityService.class);
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final ConcertScheduleRepository scheduleRepository;
+    private final SeatRepository seatRepository;
+    private final SeatAvailabilityCounter seatAvailabilityCounter;
+
+    public SeatAvailabilityService(ConcertScheduleRepository scheduleRepository,
+                                   SeatRepository seatRepository,
+                                   SeatAvailabilityCounter seatAvailabilityCounter) {
+        this.scheduleRepository = scheduleRepository;
+        this.seatRepository = seatRepository;
+        this.seatAvailabilityCounter = seatAvailabilityCounter;
+    }
+
+    /**
+     * 날짜별 잔여 좌석 수 조회
+     *
+     * @return 날짜 → 잔여 좌석 수 (좌석이 아직 생성되지 않은 날짜는 제외)
+     *         Redis 장애 시 빈 Map (호출 측은 매진 판단 없이 동작)
+     */
+    public Map<String, Long> getAvailableCounts(List<String> concertDates) {
+        try {
+            Map<String, Long> counts = new HashMap<>(seatAvailabilityCounter.getCounts(concertDates));
+            List<String> missing = concertDates.stream()
+                    .filter(date -> !counts.containsKey(date))
+                    .toList();
+            if (!missing.isEmpty()) {
+                for (SeatCountView view : seatRepository.countByConcertDates(missing)) {
+                    seatAvailabilityCounter.initializeIfAbsent(view.concertDate(), view.availableSeats());
+                    counts.put(view.concertDate(), view.availableSeats());
+                }
+            }
+            return counts;
+        } catch (Exception e) {
+            log.warn("[SeatAvailability] 잔여 좌석 카운터 조회 실패 - error={}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * 예정된 전체 날짜의 잔여 좌석 요약 (매진 날짜 포함, soldOut으로 표시)
+     */
+    public SeatAvailabilityResponse getAvailability() {
+        List<ConcertSchedule> schedules = scheduleRepository.findSchedulesFrom(LocalDate.now());
+        List<String> dates = schedules.stream()
+                .map(schedule -> schedule.getConcertDate().format(DATE_FORMATTER))
+                .toList();
+        Map<String, Long> counts = getAvailableCounts(dates);
+
+        List<DateAvailability> availabilities = new java.util.ArrayList<>(schedules.size());
+        for (int i = 0; i < schedules.size(); i++) {
+            ConcertSchedule schedule = schedules.get(i);
+            String date = dates.get(i);
+            availabilities.add(new DateAvailability(
+                    date,
+                    schedule.getTotalSeats(),
+                    counts.getOrDefault(date, schedule.getAvailableSeats().longValue())
+            ));
+        }
+        return new SeatAvailabilityResponse(availabilities);
+    }
+
+    /**
+     * DB 집계로 카운터와 concert_schedule 좌석 수 보정
+     *
+     * @return 보정한 날짜 수
+     */
+    @Transactional
+    public int reconcile() {
+        List<ConcertSchedule> schedules = scheduleRepository.findSchedulesFrom(LocalDate.now());
+        if (schedules.isEmpty()) {
+            return 0;
+        }
+        Map<String, ConcertSchedule> scheduleByDate = new HashMap<>();
+        for (ConcertSchedule schedule : schedules) {
+            scheduleByDate.put(schedule.getConcertDate().format(DATE_FORMATTER), schedule);
+        }
+
+        List<SeatCountView> views = seatRepository.countByConcertDates(List.copyOf(scheduleByDate.keySet()));
+        for (SeatCountView view : views) {
+            scheduleByDate.get(view.concertDate())
+                    .syncSeatCounts(view.totalSeats().intValue(), view.availableSeats().intValue());
+            seatAvailabilityCounter.set(view.concertDate(), view.availableSeats());
+        }
+        return views.size();
+    }
+}
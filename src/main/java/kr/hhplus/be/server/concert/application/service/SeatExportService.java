@@ -0,0 +1,72 @@
+package kr.hhplus.be.server.concert.application.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 좌석 전체 내보내기 (스트리밍)
+ *
+ * - 키셋 페이지 단위로 조회하면서 바로 JSON으로 써 내려가므로 전체 목록을 메모리에 올리지 않음
+ * - 페이지마다 별도의 읽기 트랜잭션(SeatRepository)을 사용하여
+ *   커넥션을 스트리밍 내내 점유하지 않고, 영속성 컨텍스트에 엔티티가 누적되지 않도록 함
+ *   → 의도적으로 클래스 레벨 @Transactional을 두지 않음
+ *
+ * 출력 형식: {"date":"2025-12-25","seats":[{...},{...}]}
+ */
+@Service
+public class SeatExportService {
+
+    static final int EXPORT_PAGE_SIZE = 1000;
+
+    private final SeatRepository seatRepository;
+    private final ObjectMapper objectMapper;
+
+    public SeatExportService(SeatRepository seatRepository, ObjectMapper objectMapper) {
+        this.seatRepository = seatRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 날짜의 전체 좌석을 (section, seatNumber) 순으로 스트리밍
+     *
+     * @return 내보낸 좌석 수
+     */
+    public long exportSeats(String date, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // 응답 스트림의 종료는 호출자(서블릿 컨테이너)가 담당
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            generator.writeStartObject();
+            generator.writeStringField("date", date);
+            generator.writeArrayFieldStart("seats");
+
+            String afterSection = null;
+            Integer afterSeatNumber = null;
+            List<Seat> page;
+            do {
+                page = seatRepository.findPage(date, afterSection, afterSeatNumber, EXPORT_PAGE_SIZE);
+                for (Seat seat : page) {
+                    generator.writeObject(ConcertService.toSeatStatusDto(seat));
+                }
+                count += page.size();
+                if (!page.isEmpty()) {
+                    Seat last = page.get(page.size() - 1);
+                    afterSection = last.getSection();
+                    afterSeatNumber = last.getSeatNumber();
+                }
+                generator.flush();
+            } while (page.size() == EXPORT_PAGE_SIZE);
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,131 @@
+package kr.hhplus.be.server.concert.application.service;
+
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.model.SeatStatusView;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 좌석 맵 압축 인코더
+ *
+ * 좌석별 상태를 2비트 코드로 변환한 뒤 두 가지 형식으로 인코딩:
+ * - RLE    : 같은 상태가 연속되는 구간을 "A12T1R3" 형태로 표현 (구간이 길수록 유리)
+ * - BITMAP : 좌석당 2비트, 1바이트에 4좌석을 담아 Base64로 표현 (좌석 수에 비례한 고정 크기)
+ *
+ * 상태 코드: A=예약 가능(0), T=임시 배정(1), R=예약 완료(2), X=좌석 없음(3, 좌석번호 공백)
+ * 코드 배열의 인덱스 i는 좌석번호 (firstSeatNumber + i)를 의미
+ */
+public final class SeatMapEncoder {
+
+    public static final byte AVAILABLE = 0;
+    public static final byte TEMP_HELD = 1;
+    public static final byte RESERVED = 2;
+    public static final byte MISSING = 3;
+
+    private static final char[] RLE_SYMBOLS = {'A', 'T', 'R', 'X'};
+
+    private SeatMapEncoder() {
+    }
+
+    /**
+     * 좌석번호 순으로 정렬된 상태 목록을 코드 배열로 변환
+     * - 좌석번호가 비어 있는 구간은 MISSING으로 채움
+     */
+    public static byte[] toCodes(List<SeatStatusView> seats) {
+        if (seats.isEmpty()) {
+            return new byte[0];
+        }
+        int first = seats.get(0).seatNumber();
+        int last = seats.get(seats.size() - 1).seatNumber();
+        byte[] codes = new byte[last - first + 1];
+        Arrays.fill(codes, MISSING);
+        for (SeatStatusView seat : seats) {
+            codes[seat.seatNumber() - first] = code(seat.status());
+        }
+        return codes;
+    }
+
+    public static byte code(SeatStatus status) {
+        return switch (status) {
+            case AVAILABLE -> AVAILABLE;
+            case TEMP_HELD -> TEMP_HELD;
+            case RESERVED -> RESERVED;
+        };
+    }
+
+    /**
+     * RLE 인코딩 (예: A,A,A,T,R,R → "A3T1R2")
+     */
+    public static String encodeRle(byte[] codes) {
+        StringBuilder sb = new StringBuilder();
+        int i = 0;
+        while (i < codes.length) {
+            byte current = codes[i];
+            int run = 1;
+            while (i + run < codes.length && codes[i + run] == current) {
+                run++;
+            }
+            sb.append(RLE_SYMBOLS[current]).append(run);
+            i += run;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * RLE 디코딩
+     */
+    public static byte[] decodeRle(String rle, int seatCount) {
+        byte[] codes = new byte[seatCount];
+        int pos = 0;
+        int i = 0;
+        while (i < rle.length()) {
+            byte code = symbolToCode(rle.charAt(i++));
+            int run = 0;
+            while (i < rle.length() && Character.isDigit(rle.charAt(i))) {
+                run = run * 10 + (rle.charAt(i++) - '0');
+            }
+            Arrays.fill(codes, pos, pos + run, code);
+            pos += run;
+        }
+        return codes;
+    }
+
+    private static byte symbolToCode(char symbol) {
+        return switch (symbol) {
+            case 'A' -> AVAILABLE;
+            case 'T' -> TEMP_HELD;
+            case 'R' -> RESERVED;
+            case 'X' -> MISSING;
+            default -> throw new IllegalArgumentException("알 수 없는 좌석 상태 코드: " + symbol);
+        };
+    }
+
+    /**
+     * 2비트 비트맵 인코딩 (좌석 i는 byte[i / 4]의 상위 비트부터 2비트씩)
+     */
+    public static String encodeBitmap(byte[] codes) {
+        byte[] packed = new byte[(codes.length + 3) / 4];
+        for (int i = 0; i < codes.length; i++) {
+            packed[i >> 2] |= (byte) (codes[i] << (6 - ((i & 3) << 1)));
+        }
+        // 마지막 바이트의 남는 슬롯은 MISSING으로 채워 좌석 없음과 구분
+        for (int i = codes.length; i < packed.length * 4; i++) {
+            packed[i >> 2] |= (byte) (MISSING << (6 - ((i & 3) << 1)));
+        }
+        return Base64.getEncoder().encodeToString(packed);
+    }
+
+    /**
+     * 2비트 비트맵 디코딩
+     */
+    public static byte[] decodeBitmap(String bitmap, int seatCount) {
+        byte[] packed = Base64.getDecoder().decode(bitmap);
+        byte[] codes = new byte[seatCount];
+        for (int i = 0; i < seatCount; i++) {
+            codes[i] = (byte) ((packed[i >> 2] >> (6 - ((i & 3) << 1))) & 0b11);
+        }
+        return codes;
+    }
+}
@@ -0,0 +1,302 @@
+package kr.hhplus.be.server.concert.application.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeChannel;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository.SeatChange;
+import kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 좌석 맵 실시간 푸시 서비스 (SSE)
+ *
+ * 노드 단위 팬아웃:
+ * - 날짜별로 Redis 채널 구독은 노드당 1개 (첫 구독자 입장 시 구독, 마지막 구독자 퇴장 시 해제)
+ * - Redis 구독/해제는 fanouts 맵 연산(compute) 밖에서 수행하여, 네트워크 왕복 동안
+ *   같은 버킷의 다른 날짜 입장/퇴장이 맵 잠금을 기다리지 않도록 함
+ * - 수신한 변경을 해당 날짜의 모든 SSE 구독자에게 전달
+ *
+ * 느린 클라이언트 대응 (Backpressure):
+ * - 구독자별 대기 큐는 MAX_PENDING_PER_SUBSCRIBER로 제한
+ * - 큐가 가득 차면 쌓인 변경을 버리고 "resync" 이벤트 1건으로 대체
+ *   → 클라이언트는 GET /concerts/seats?sinceVersion=N 으로 따라잡음
+ * - 전송은 별도 sender 스레드에서 수행하여 Redis 구독 스레드가 블로킹되지 않도록 함
+ * - 전송 1건이 SEND_TIMEOUT_MILLIS를 넘기면(소켓 버퍼가 찬 클라이언트) 감시 스레드가 구독을 끊고
+ *   sender 스레드를 인터럽트하여 몇 안 되는 sender를 한 클라이언트가 붙잡지 않도록 함
+ */
+@Service
+public class SeatMapStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatMapStreamService.class);
+
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L; // 30분
+    private static final int MAX_PENDING_PER_SUBSCRIBER = 256;
+    private static final int SENDER_THREADS = 4;
+    private static final long SEND_TIMEOUT_MILLIS = 5000;
+    private static final long WATCHDOG_INTERVAL_MILLIS = 1000;
+
+    private final SeatChangeChannel seatChangeChannel;
+    private final SeatChangeLogRepository seatChangeLogRepository;
+    private final Map<String, DateFanout> fanouts = new ConcurrentHashMap<>();
+    private final AtomicInteger senderSequence = new AtomicInteger();
+    private final ExecutorService sender = Executors.newFixedThreadPool(SENDER_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "seat-map-sender-" + senderSequence.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ScheduledExecutorService sendWatchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "seat-map-send-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SeatMapStreamService(SeatChangeChannel seatChangeChannel,
+                                SeatChangeLogRepository seatChangeLogRepository) {
+        this.seatChangeChannel = seatChangeChannel;
+        this.seatChangeLogRepository = seatChangeLogRepository;
+        sendWatchdog.scheduleWithFixedDelay(this::evictStalledSenders,
+                WATCHDOG_INTERVAL_MILLIS, WATCHDOG_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 날짜별 좌석 맵 구독
+     * - 구독 시작 시 "init" 이벤트로 현재 버전을 전달
+     * - 이후 "seat" 이벤트(id=버전)로 좌석 변경을 전달
+     * - 버전이 건너뛰면 클라이언트가 증분 조회로 빈 구간을 채움
+     */
+    public SseEmitter subscribe(String concertDate) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        Subscriber subscriber = new Subscriber(concertDate, emitter);
+
+        try {
+            long version = seatChangeLogRepository.getCurrentVersion(concertDate);
+            emitter.send(SseEmitter.event().name("init").id(String.valueOf(version)).data(version));
+        } catch (Exception e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        DateFanout joined = fanouts.compute(concertDate, (date, fanout) -> {
+            DateFanout target = fanout != null ? fanout : new DateFanout(date);
+            target.subscribers.add(subscriber);
+            return target;
+        });
+        try {
+            joined.connect();
+        } catch (RuntimeException e) {
+            unsubscribe(subscriber);
+            throw e;
+        }
+        return emitter;
+    }
+
+    /**
+     * 날짜별 현재 노드의 구독자 수
+     */
+    public int countSubscribers(String concertDate) {
+        DateFanout fanout = fanouts.get(concertDate);
+        return fanout != null ? fanout.subscribers.size() : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanouts.values().forEach(DateFanout::close);
+        fanouts.clear();
+        sendWatchdog.shutdownNow();
+        sender.shutdownNow();
+    }
+
+    /**
+     * 전송이 제한 시간을 넘긴 구독자 제거 (감시 스레드에서 주기 실행)
+     */
+    private void evictStalledSenders() {
+        long now = System.nanoTime();
+        for (DateFanout fanout : fanouts.values()) {
+            for (Subscriber subscriber : fanout.subscribers) {
+                subscriber.evictIfStalled(now);
+            }
+        }
+    }
+
+    private void dispatch(String concertDate, SeatChange change) {
+        DateFanout fanout = fanouts.get(concertDate);
+        if (fanout == null) {
+            return;
+        }
+        for (Subscriber subscriber : fanout.subscribers) {
+            subscriber.offer(change);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscriber.closed = true;
+        DateFanout[] emptied = new DateFanout[1];
+        fanouts.computeIfPresent(subscriber.concertDate, (date, fanout) -> {
+            fanout.subscribers.remove(subscriber);
+            if (fanout.subscribers.isEmpty()) {
+                emptied[0] = fanout;
+                return null;
+            }
+            return fanout;
+        });
+        // 맵에서 제거된 뒤 해제 — 이후 입장한 구독자는 새 팬아웃을 만들어 따로 구독함
+        if (emptied[0] != null) {
+            emptied[0].close();
+        }
+    }
+
+    /**
+     * 날짜별 팬아웃 그룹 (Redis 구독 1개 + 구독자 N명)
+     * - Redis 구독은 맵에 등록된 뒤 첫 connect()에서 만들고, 맵에서 제거된 뒤 close()에서 해제 (this로 보호)
+     * - 닫힌 뒤 늦게 도착한 connect()는 구독하지 않음
+     */
+    private final class DateFanout {
+        private final String concertDate;
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private SeatChangeChannel.Subscription upstream;
+        private boolean closed;
+
+        private DateFanout(String concertDate) {
+            this.concertDate = concertDate;
+        }
+
+        private synchronized void connect() {
+            if (upstream == null && !closed) {
+                upstream = seatChangeChannel.subscribe(concertDate, change -> dispatch(concertDate, change));
+            }
+        }
+
+        private synchronized void close() {
+            closed = true;
+            if (upstream != null) {
+                upstream.cancel();
+                upstream = null;
+            }
+        }
+    }
+
+    /**
+     * SSE 구독자 (제한된 대기 큐 + 단일 drain 작업)
+     */
+    private final class Subscriber {
+        private final String concertDate;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SeatChange> pending = new ArrayBlockingQueue<>(MAX_PENDING_PER_SUBSCRIBER);
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private volatile boolean overflowed;
+        private volatile boolean closed;
+        private Thread sendingThread; // 전송 중인 sender 스레드 (this로 보호)
+        private long sendStartedAt;
+        private boolean stalled;
+
+        private Subscriber(String concertDate, SseEmitter emitter) {
+            this.concertDate = concertDate;
+            this.emitter = emitter;
+        }
+
+        private void offer(SeatChange change) {
+            if (closed) {
+                return;
+            }
+            if (!pending.offer(change)) {
+                // 느린 클라이언트: 쌓인 변경을 버리고 재동기화 신호로 대체 (힙 무한 증가 방지)
+                overflowed = true;
+                pending.clear();
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                if (overflowed) {
+                    overflowed = false;
+                    send(SseEmitter.event().name("resync").data(concertDate));
+                }
+                SeatChange change;
+                while (!closed && (change = pending.poll()) != null) {
+                    send(SseEmitter.event()
+                            .name("seat")
+                            .id(String.valueOf(change.version()))
+                            .data(toDto(change)));
+                }
+            } catch (Exception e) {
+                log.debug("[SeatMapStream] 구독자 전송 실패, 구독 해제 - date={}, error={}", concertDate, e.getMessage());
+                unsubscribe(this);
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+                if (!closed && (overflowed || !pending.isEmpty())) {
+                    scheduleDrain();
+                }
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            synchronized (this) {
+                sendingThread = Thread.currentThread();
+                sendStartedAt = System.nanoTime();
+            }
+            try {
+                emitter.send(event);
+            } finally {
+                synchronized (this) {
+                    sendingThread = null;
+                    if (stalled) {
+                        // 감시 스레드의 인터럽트가 전송 완료 직후 도착했을 수 있음 → 다음 작업에 남기지 않음
+                        Thread.interrupted();
+                    }
+                }
+            }
+        }
+
+        private void evictIfStalled(long now) {
+            synchronized (this) {
+                if (sendingThread == null || stalled
+                        || now - sendStartedAt < TimeUnit.MILLISECONDS.toNanos(SEND_TIMEOUT_MILLIS)) {
+                    return;
+                }
+                stalled = true;
+                sendingThread.interrupt();
+            }
+            log.debug("[SeatMapStream] 구독자 전송 시간 초과, 구독 해제 - date={}", concertDate);
+            unsubscribe(this);
+            emitter.completeWithError(new TimeoutException("SSE 전송 시간 초과"));
+        }
+    }
+
+    private SeatStatus toDto(SeatChange change) {
+        return new SeatStatus(
+                change.seatNumber(),
+                SeatStatus.SeatStatusEnum.valueOf(change.status().name()),
+                change.reservedUserId(),
+                change.reservedUntil()
+        );
+    }
+}
@@ -0,0 +1,96 @@
+package kr.hhplus.be.server.concert.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.concert.application.event.SeatProjectionPublisher;
+import kr.hhplus.be.server.concert.domain.model.ConcertSchedule;
+import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatStateRecord;
+import kr.hhplus.be.server.concert.domain.repository.ConcertScheduleRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatProjectionRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석 상태 읽기 모델 보정 Use Case
+ *
+ * 상태 전이 발행은 실패해도 로그만 남기므로, 오늘 이후 공연 날짜의 DB 좌석과 읽기 모델을 비교해
+ * 배치가 없거나 상태가 다른 좌석을 배치 레코드로 다시 발행합니다 (seat.projection.reconciled).
+ * 다시 발행한 레코드는 토픽에도 남으므로 토픽에서 재구성해도 보정 결과가 유지됩니다.
+ */
+@Service
+public class SeatProjectionReconcileService {
+
+    private final SeatProjectionRepository seatProjectionRepository;
+    private final SeatProjectionPublisher seatProjectionPublisher;
+    private final ConcertScheduleRepository scheduleRepository;
+    private final SeatRepository seatRepository;
+    private final SeatChangeLogRepository seatChangeLogRepository;
+    private final Counter reconciledCounter;
+
+    public SeatProjectionReconcileService(SeatProjectionRepository seatProjectionRepository,
+                                          SeatProjectionPublisher seatProjectionPublisher,
+                                          ConcertScheduleRepository scheduleRepository,
+                                          SeatRepository seatRepository,
+                                          SeatChangeLogRepository seatChangeLogRepository,
+                                          MeterRegistry meterRegistry) {
+        this.seatProjectionRepository = seatProjectionRepository;
+        this.seatProjectionPublisher = seatProjectionPublisher;
+        this.scheduleRepository = scheduleRepository;
+        this.seatRepository = seatRepository;
+        this.seatChangeLogRepository = seatChangeLogRepository;
+        this.reconciledCounter = Counter.builder("seat.projection.reconciled")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 오늘 이후 공연 날짜의 읽기 모델을 DB에 맞춤 (읽기 모델 비활성 시 건너뜀)
+     *
+     * @return 다시 발행한 좌석 수
+     */
+    public int reconcile() {
+        if (!seatProjectionPublisher.isEnabled()) {
+            return 0;
+        }
+        int republished = 0;
+        for (ConcertSchedule schedule : scheduleRepository.findSchedulesFrom(LocalDate.now())) {
+            republished += reconcile(schedule.getConcertDate().toString());
+        }
+        return republished;
+    }
+
+    /**
+     * 날짜 하나의 읽기 모델 보정
+     *
+     * DB 조회 전에 새 버전을 부여받아 보정 레코드에 찍음:
+     * - 읽기 모델은 저장된 버전보다 큰 레코드만 반영하므로, 기존 레코드와 같은 버전이면 보정이 버려짐
+     * - 이 버전 이전의 변경은 조회 결과에 이미 반영되어 있고, 조회 후 커밋된 변경은 더 큰 버전으로 발행되므로
+     *   보정 레코드가 늦게 반영되어도 덮이지 않음
+     */
+    private int reconcile(String concertDate) {
+        long version = seatChangeLogRepository.reserveVersion(concertDate);
+        Map<Integer, SeatStateRecord> projected = new HashMap<>();
+        for (SeatStateRecord record : seatProjectionRepository.findByConcertDate(concertDate)) {
+            projected.put(record.seatNumber(), record);
+        }
+
+        int republished = 0;
+        for (Seat seat : seatRepository.findByConcertDateOrderBySeatNumber(concertDate)) {
+            SeatStateRecord current = projected.get(seat.getSeatNumber());
+            // 조회 후 커밋된 변경이 이미 반영된 좌석은 읽기 모델이 더 최신
+            if (current != null && (current.version() > version || current.sameStateAs(seat))) {
+                continue;
+            }
+            seatProjectionPublisher.publish(SeatStateRecord.of(seat, version));
+            republished++;
+        }
+        reconciledCounter.increment(republished);
+        return republished;
+    }
+}
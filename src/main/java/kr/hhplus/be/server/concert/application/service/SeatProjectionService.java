@@ -0,0 +1,69 @@
+package kr.hhplus.be.server.concert.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.concert.domain.model.SeatStateRecord;
+import kr.hhplus.be.server.concert.domain.repository.SeatProjectionRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 좌석 상태 읽기 모델 반영 Use Case
+ *
+ * seat-state 토픽 컨슈머가 poll 단위로 받은 레코드를 Redis 읽기 모델에 반영하고 반영 지연을 기록합니다.
+ * - seat.projection.lag: 발행 → 반영 지연 분포 (레코드별)
+ * - seat.projection.lag.last: 마지막 배치에서 가장 오래된 레코드의 지연 (ms) — 알람 기준
+ * - seat.projection.applied: 반영한 레코드 수 (type=layout|state)
+ * 처음부터 다시 읽는 재구성 중에는 지연이 토픽 보관 기간만큼 크게 기록됩니다.
+ */
+@Service
+public class SeatProjectionService {
+
+    private final SeatProjectionRepository seatProjectionRepository;
+    private final Timer lagTimer;
+    private final Counter layoutCounter;
+    private final Counter stateCounter;
+    private final AtomicLong lastLagMillis = new AtomicLong();
+
+    public SeatProjectionService(SeatProjectionRepository seatProjectionRepository,
+                                 MeterRegistry meterRegistry) {
+        this.seatProjectionRepository = seatProjectionRepository;
+        this.lagTimer = Timer.builder("seat.projection.lag")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.layoutCounter = Counter.builder("seat.projection.applied")
+                .tag("type", "layout")
+                .register(meterRegistry);
+        this.stateCounter = Counter.builder("seat.projection.applied")
+                .tag("type", "state")
+                .register(meterRegistry);
+        Gauge.builder("seat.projection.lag.last", lastLagMillis, AtomicLong::get)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 레코드 반영 (실패 시 예외 전파 → 컨슈머가 offset을 커밋하지 않고 재처리)
+     */
+    public void apply(List<SeatStateRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        seatProjectionRepository.apply(records);
+
+        long now = System.currentTimeMillis();
+        long maxLag = 0;
+        for (SeatStateRecord record : records) {
+            long lag = Math.max(now - record.occurredAt(), 0);
+            lagTimer.record(lag, TimeUnit.MILLISECONDS);
+            maxLag = Math.max(maxLag, lag);
+            (record.hasLayout() ? layoutCounter : stateCounter).increment();
+        }
+        lastLagMillis.set(maxLag);
+    }
+}
@@ -0,0 +1,155 @@
+package kr.hhplus.be.server.concert.application.service;
+
+import kr.hhplus.be.server.concert.application.event.SeatProjectionPublisher;
+import kr.hhplus.be.server.concert.domain.model.ConcertSchedule;
+import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatCountView;
+import kr.hhplus.be.server.concert.domain.repository.ConcertScheduleRepository;
+import kr.hhplus.be.server.concert.domain.repository.ScheduleChangeChannel;
+import kr.hhplus.be.server.concert.domain.repository.SeatAvailabilityCounter;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import kr.hhplus.be.server.concert.interfaces.api.dto.ScheduleProvisionRequest;
+import kr.hhplus.be.server.concert.interfaces.api.dto.ScheduleProvisionRequest.SectionLayout;
+import kr.hhplus.be.server.concert.interfaces.api.dto.ScheduleProvisionResponse;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공연 일정 + 좌석 일괄 생성 Use Case
+ *
+ * - 좌석은 CHUNK_SIZE건씩 JDBC 배치(INSERT IGNORE)로 삽입하며, 청크마다 커밋
+ *   → 수만 석도 엔티티 단건 save 없이 수 초 내 생성, 중간 실패 시 재요청으로 이어서 생성
+ * - 좌석번호는 배치로부터 결정적으로 계산되므로 같은 요청을 반복해도 중복 좌석이 생기지 않음
+ * - 일정은 좌석 삽입이 끝난 뒤 DB 집계 좌석 수로 생성/갱신하여,
+ *   좌석이 다 만들어지기 전에는 예약 가능 날짜로 노출되지 않음
+ * - 완료 후 잔여 좌석 카운터를 덮어쓰고 좌석 배치 변경 알림으로 모든 노드의 날짜 캐시와 좌석 조회 저장소를 무효화
+ * - 좌석 읽기 모델이 켜져 있으면 청크 삽입 후 좌석 배치를 seat-state 토픽으로 발행
+ *   (이미 있던 좌석도 다시 발행 — 읽기 모델은 상태가 없을 때만 AVAILABLE로 초기화하므로 기존 상태를 덮지 않음)
+ *
+ * 대량 처리이므로 클래스 단위 트랜잭션을 두지 않음 (청크 트랜잭션은 리포지토리에서 관리)
+ */
+@Service
+public class SeatProvisioningService {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatProvisioningService.class);
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    static final int CHUNK_SIZE = 1000;
+    static final int MAX_SEATS = 100_000;
+
+    private final ConcertScheduleRepository scheduleRepository;
+    private final SeatRepository seatRepository;
+    private final SeatAvailabilityCounter seatAvailabilityCounter;
+    private final ScheduleChangeChannel scheduleChangeChannel;
+    private final SeatProjectionPublisher seatProjectionPublisher;
+
+    public SeatProvisioningService(ConcertScheduleRepository scheduleRepository,
+                                   SeatRepository seatRepository,
+                                   SeatAvailabilityCounter seatAvailabilityCounter,
+                                   ScheduleChangeChannel scheduleChangeChannel,
+                                   SeatProjectionPublisher seatProjectionPublisher) {
+        this.scheduleRepository = scheduleRepository;
+        this.seatRepository = seatRepository;
+        this.seatAvailabilityCounter = seatAvailabilityCounter;
+        this.scheduleChangeChannel = scheduleChangeChannel;
+        this.seatProjectionPublisher = seatProjectionPublisher;
+    }
+
+    /**
+     * 공연 일정과 좌석 일괄 생성 (멱등)
+     */
+    public ScheduleProvisionResponse provision(ScheduleProvisionRequest request) {
+        LocalDate concertDate = parseDate(request.getDate());
+        validateLayout(request.getSections());
+        String date = concertDate.format(DATE_FORMATTER);
+        long startedAt = System.nanoTime();
+
+        long before = countSeats(date).totalSeats();
+
+        List<Seat> chunk = new ArrayList<>(CHUNK_SIZE);
+        int seatNumber = 0;
+        for (SectionLayout layout : request.getSections()) {
+            for (int row = 1; row <= layout.getRows(); row++) {
+                for (int i = 0; i < layout.getSeatsPerRow(); i++) {
+                    chunk.add(new Seat(date, layout.getSection(), row, ++seatNumber));
+                    if (chunk.size() == CHUNK_SIZE) {
+                        seatRepository.insertIgnoringDuplicates(chunk);
+                        seatProjectionPublisher.publishLayout(chunk);
+                        chunk = new ArrayList<>(CHUNK_SIZE);
+                    }
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            seatRepository.insertIgnoringDuplicates(chunk);
+            seatProjectionPublisher.publishLayout(chunk);
+        }
+
+        SeatCountView counts = countSeats(date);
+        ConcertSchedule schedule = scheduleRepository.findByConcertDate(concertDate)
+                .orElseGet(() -> new ConcertSchedule(concertDate));
+        schedule.syncSeatCounts(counts.totalSeats().intValue(), counts.availableSeats().intValue());
+        scheduleRepository.save(schedule);
+
+        notifyScheduleChanged(date, counts.availableSeats());
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        long created = counts.totalSeats() - before;
+        log.info("[SeatProvisioning] 좌석 생성 완료 - date={}, total={}, created={}, elapsed={}ms",
+                date, counts.totalSeats(), created, elapsedMillis);
+        return new ScheduleProvisionResponse(date, counts.totalSeats(), created, elapsedMillis);
+    }
+
+    private SeatCountView countSeats(String date) {
+        return seatRepository.countByConcertDates(List.of(date)).stream()
+                .findFirst()
+                .orElseGet(() -> new SeatCountView(date, 0L, 0L));
+    }
+
+    private void notifyScheduleChanged(String date, long availableSeats) {
+        try {
+            seatAvailabilityCounter.set(date, availableSeats);
+            scheduleChangeChannel.publishSeatLayout(date);
+        } catch (Exception e) {
+            // 카운터/날짜 캐시는 주기 보정·갱신으로 복구되므로 생성 결과에는 영향 없음
+            log.warn("[SeatProvisioning] 카운터 갱신/일정 변경 알림 실패 - date={}, error={}", date, e.getMessage());
+        }
+    }
+
+    private static LocalDate parseDate(String date) {
+        if (date == null) {
+            throw new BusinessException("공연 날짜는 필수입니다.", "invalid-date", 400);
+        }
+        try {
+            return LocalDate.parse(date, DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException("잘못된 날짜 형식입니다: " + date, "invalid-date", 400);
+        }
+    }
+
+    private static void validateLayout(List<SectionLayout> sections) {
+        if (sections == null || sections.isEmpty()) {
+            throw new BusinessException("좌석 배치가 비어 있습니다.", "invalid-seat-layout", 400);
+        }
+        long total = 0;
+        for (SectionLayout layout : sections) {
+            if (layout.getSection() == null || layout.getSection().isBlank() || layout.getSection().length() > 20
+                    || layout.getRows() == null || layout.getRows() <= 0
+                    || layout.getSeatsPerRow() == null || layout.getSeatsPerRow() <= 0) {
+                throw new BusinessException("잘못된 구역 배치입니다: " + layout.getSection(), "invalid-seat-layout", 400);
+            }
+            total += (long) layout.getRows() * layout.getSeatsPerRow();
+        }
+        if (total > MAX_SEATS) {
+            throw new BusinessException("한 일정의 좌석은 최대 " + MAX_SEATS + "석입니다.", "invalid-seat-layout", 400);
+        }
+    }
+}
@@ -0,0 +1,528 @@
+package kr.hhplus.be.server.concert.application.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.concert.domain.model.SeatStateRecord;
+import kr.hhplus.be.server.concert.domain.model.SeatStatusView;
+import kr.hhplus.be.server.concert.domain.repository.ScheduleChangeChannel;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeChannel.Subscription;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository.SeatChange;
+import kr.hhplus.be.server.concert.domain.repository.SeatProjectionRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus;
+import kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus.SeatStatusEnum;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 좌석 조회 전용 압축 저장소 (노드 로컬 읽기 모델)
+ *
+ * 날짜별 좌석을 Seat 엔티티 대신 좌석번호 - 첫 좌석번호를 인덱스로 하는 기본형 배열로 보관:
+ * - status(byte), holdUntil(long, epoch millis), holder(String, 점유 좌석만 값 있음), section(int, 구역 사전 인덱스), row(int)
+ * - pageOrder: (구역, 좌석번호) 순 인덱스 — 키셋 페이지 조회를 정렬 없이 처리
+ * 좌석당 약 25바이트로, 같은 좌석을 엔티티(박싱 필드, 문자열 날짜, LocalDateTime)로 매번 만드는 것보다
+ * 메모리와 조회당 할당량이 작다.
+ *
+ * 동기화:
+ * - 조회 시 좌석 변경 로그 버전이 바뀌었으면 이후 변경분만 반영 (다른 노드의 예약/해제 포함)
+ * - 로그가 정리되어 이어받을 수 없거나, 해당 날짜의 좌석 배치 변경 알림(좌석 추가 생성)을 받았거나,
+ *   max-age가 지났으면 DB에서 다시 적재 (변경 로그 기록이 실패한 경우의 복구 경로)
+ * - 배치 변경 알림은 날짜별 세대 번호로 그 날짜만 무효화하고, 날짜가 없는(전체) 알림만 모든 날짜를 무효화
+ *   (매진/매진 해제 같은 가용성 전이는 변경 로그로 반영되므로 다시 적재하지 않음)
+ * - 좌석이 없는 날짜는 저장하지 않고 매번 DB 결과(빈 목록)를 따름
+ * - 다시 적재는 날짜별로 한 스레드만 수행하고, 기다린 스레드는 그 결과에서 이어받음 (동시 요청이 DB를 한꺼번에 읽지 않음)
+ *
+ * concert.projection.enabled=true 면 적재 원본이 DB 대신 Redis 좌석 읽기 모델(seat-state 토픽 컨슈머가 갱신)이 되어
+ * 좌석 조회가 MySQL 커넥션을 쓰지 않음:
+ * - 읽기 모델은 Kafka를 거쳐 비동기로 반영되므로, 적재 직후 최근 replay-versions개의 변경 로그를 다시 적용해
+ *   아직 반영되지 않은 전이를 메움 (상태 값이라 이미 반영된 전이를 다시 적용해도 동일)
+ * - 좌석 생성 중인 날짜는 배치가 조금씩 반영되므로, 1초마다 읽기 모델의 좌석 수와 비교해 늘었으면 다시 적재
+ */
+@Service
+public class SeatReadStore {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatReadStore.class);
+
+    private static final int MAX_CACHED_DATES = 64;
+    private static final long LAYOUT_CHECK_INTERVAL_MILLIS = 1000;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    static final byte ABSENT = 0;
+    static final byte AVAILABLE = 1;
+    static final byte TEMP_HELD = 2;
+    static final byte RESERVED = 3;
+
+    private final SeatRepository seatRepository;
+    private final SeatChangeLogRepository seatChangeLogRepository;
+    private final ScheduleChangeChannel scheduleChangeChannel;
+    private final SeatProjectionRepository seatProjectionRepository;
+    private final boolean enabled;
+    private final long maxAgeMillis;
+    private final boolean projectionEnabled;
+    private final long replayVersions;
+    private final Map<String, DateSeats> dates = new ConcurrentHashMap<>();
+    private final Map<String, Object> loadLocks = new ConcurrentHashMap<>();
+    private final Map<String, Long> dateGenerations = new ConcurrentHashMap<>();
+    private final AtomicLong allGeneration = new AtomicLong();
+    private Subscription subscription;
+
+    public SeatReadStore(SeatRepository seatRepository,
+                         SeatChangeLogRepository seatChangeLogRepository,
+                         ScheduleChangeChannel scheduleChangeChannel,
+                         SeatProjectionRepository seatProjectionRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${concert.read-store.enabled:true}") boolean enabled,
+                         @Value("${concert.read-store.max-age-ms:300000}") long maxAgeMillis,
+                         @Value("${concert.projection.enabled:false}") boolean projectionEnabled,
+                         @Value("${concert.projection.replay-versions:500}") long replayVersions) {
+        this.seatRepository = seatRepository;
+        this.seatChangeLogRepository = seatChangeLogRepository;
+        this.scheduleChangeChannel = scheduleChangeChannel;
+        this.seatProjectionRepository = seatProjectionRepository;
+        this.enabled = enabled;
+        this.maxAgeMillis = maxAgeMillis;
+        this.projectionEnabled = projectionEnabled;
+        this.replayVersions = replayVersions;
+        Gauge.builder("seat.read.store.seats", this, store -> store.totals()[0])
+                .register(meterRegistry);
+        Gauge.builder("seat.read.store.bytes", this, store -> store.totals()[1])
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (enabled) {
+            subscription = scheduleChangeChannel.subscribeSeatLayout(this::invalidate);
+        }
+    }
+
+    /**
+     * 좌석 배치 변경 - 해당 날짜만 다음 조회 때 다시 적재 (null이면 모든 날짜)
+     */
+    private void invalidate(String concertDate) {
+        if (concertDate == null) {
+            allGeneration.incrementAndGet();
+        } else {
+            dateGenerations.merge(concertDate, 1L, Long::sum);
+        }
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 날짜 전체 좌석 (좌석번호 순)
+     *
+     * @return 좌석과 함께 반영된 변경 로그 버전
+     */
+    public VersionedSeats findAll(String concertDate) {
+        long version = seatChangeLogRepository.getCurrentVersion(concertDate);
+        DateSeats seats = synced(concertDate, version);
+        if (seats == null) {
+            return new VersionedSeats(version, List.of());
+        }
+        synchronized (seats) {
+            List<SeatStatus> result = new ArrayList<>(seats.seatCount);
+            for (int i = 0; i < seats.status.length; i++) {
+                if (seats.status[i] != ABSENT) {
+                    result.add(seats.toDto(i));
+                }
+            }
+            return new VersionedSeats(seats.version, result);
+        }
+    }
+
+    /**
+     * (구역, 좌석번호) 순 키셋 페이지 — section이 있으면 해당 구역만
+     */
+    public List<SeatStatus> findPage(
+            String concertDate, String section, String afterSection, Integer afterSeatNumber, int size) {
+        DateSeats seats = synced(concertDate, seatChangeLogRepository.getCurrentVersion(concertDate));
+        if (seats == null) {
+            return List.of();
+        }
+        synchronized (seats) {
+            int from;
+            int to;
+            if (section != null) {
+                int sectionId = Arrays.binarySearch(seats.sectionNames, section);
+                if (sectionId < 0) {
+                    return List.of();
+                }
+                from = seats.seekInSection(sectionId, afterSeatNumber);
+                to = seats.sectionStart[sectionId + 1];
+            } else {
+                from = seats.seek(afterSection, afterSeatNumber);
+                to = seats.seatCount;
+            }
+
+            List<SeatStatus> result =
+                    new ArrayList<>(Math.min(size, Math.max(to - from, 0)));
+            for (int position = from; position < to && result.size() < size; position++) {
+                result.add(seats.toDto(seats.pageOrder[position]));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 좌석번호/상태만 (좌석번호 순) — section이 있으면 해당 구역만
+     */
+    public List<SeatStatusView> findStatuses(String concertDate, String section) {
+        DateSeats seats = synced(concertDate, seatChangeLogRepository.getCurrentVersion(concertDate));
+        if (seats == null) {
+            return List.of();
+        }
+        synchronized (seats) {
+            List<SeatStatusView> result;
+            if (section != null) {
+                int sectionId = Arrays.binarySearch(seats.sectionNames, section);
+                if (sectionId < 0) {
+                    return List.of();
+                }
+                int from = seats.sectionStart[sectionId];
+                int to = seats.sectionStart[sectionId + 1];
+                result = new ArrayList<>(to - from);
+                for (int position = from; position < to; position++) {
+                    result.add(seats.toStatusView(seats.pageOrder[position]));
+                }
+            } else {
+                result = new ArrayList<>(seats.seatCount);
+                for (int i = 0; i < seats.status.length; i++) {
+                    if (seats.status[i] != ABSENT) {
+                        result.add(seats.toStatusView(i));
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 좌석 하나
+     */
+    public Optional<SeatStatus> findSeat(String concertDate, int seatNumber) {
+        DateSeats seats = synced(concertDate, seatChangeLogRepository.getCurrentVersion(concertDate));
+        if (seats == null) {
+            return Optional.empty();
+        }
+        synchronized (seats) {
+            int i = seatNumber - seats.firstSeatNumber;
+            if (i < 0 || i >= seats.status.length || seats.status[i] == ABSENT) {
+                return Optional.empty();
+            }
+            return Optional.of(seats.toDto(i));
+        }
+    }
+
+    /**
+     * 변경 로그 currentVersion까지 맞춘 날짜 좌석 (좌석이 없는 날짜면 null)
+     */
+    private DateSeats synced(String concertDate, long currentVersion) {
+        DateSeats seats = dates.get(concertDate);
+        if (seats != null && catchUp(concertDate, seats, currentVersion)) {
+            return seats;
+        }
+
+        synchronized (loadLocks.computeIfAbsent(concertDate, date -> new Object())) {
+            // 기다리는 사이 다른 스레드가 다시 적재했으면 그 결과에서 이어받음
+            DateSeats latest = dates.get(concertDate);
+            if (latest != null && latest != seats && catchUp(concertDate, latest, currentVersion)) {
+                return latest;
+            }
+            return reload(concertDate, currentVersion);
+        }
+    }
+
+    /**
+     * 저장된 좌석을 변경 로그로 currentVersion까지 맞춤
+     *
+     * @return 이어받을 수 없어 다시 적재해야 하면 false
+     */
+    private boolean catchUp(String concertDate, DateSeats seats, long currentVersion) {
+        synchronized (seats) {
+            if (!seats.isFresh(generationOf(concertDate), maxAgeMillis) || !layoutUnchanged(concertDate, seats)) {
+                return false;
+            }
+            if (seats.version >= currentVersion) {
+                return true;
+            }
+            Optional<List<SeatChange>> changes = seatChangeLogRepository.findChangesSince(concertDate, seats.version);
+            if (changes.isEmpty()) {
+                return false;
+            }
+            long version = currentVersion;
+            for (SeatChange change : changes.get()) {
+                seats.apply(change);
+                version = Math.max(version, change.version());
+            }
+            seats.version = version;
+            return true;
+        }
+    }
+
+    private DateSeats reload(String concertDate, long currentVersion) {
+        // 버전을 먼저 읽었으므로 적재 중 생긴 변경은 다음 조회에서 다시 반영됨 (상태 값이라 중복 반영해도 동일)
+        long loadGeneration = generationOf(concertDate);
+        List<SeatStateRecord> loaded = load(concertDate, currentVersion);
+        if (loaded.isEmpty()) {
+            dates.remove(concertDate);
+            return null;
+        }
+        DateSeats rebuilt = DateSeats.load(loaded, currentVersion, loadGeneration);
+        if (projectionEnabled) {
+            // 빈 버전(기록 실패, 보정)이 섞여 있어도 남아 있는 변경은 다시 적용
+            List<SeatChange> recent = seatChangeLogRepository.findRetainedChangesSince(
+                    concertDate, Math.max(currentVersion - replayVersions, 0));
+            for (SeatChange change : recent) {
+                rebuilt.apply(change);
+                rebuilt.version = Math.max(rebuilt.version, change.version());
+            }
+        }
+        if (dates.size() >= MAX_CACHED_DATES && !dates.containsKey(concertDate)) {
+            dates.clear();
+        }
+        dates.put(concertDate, rebuilt);
+        log.debug("[SeatReadStore] 날짜 좌석 적재 - date={}, seats={}, bytes={}",
+                concertDate, rebuilt.seatCount, rebuilt.footprintBytes());
+        return rebuilt;
+    }
+
+    private List<SeatStateRecord> load(String concertDate, long currentVersion) {
+        if (projectionEnabled) {
+            return seatProjectionRepository.findByConcertDate(concertDate);
+        }
+        return seatRepository.findByConcertDateOrderBySeatNumber(concertDate).stream()
+                .map(seat -> SeatStateRecord.of(seat, currentVersion))
+                .toList();
+    }
+
+    /**
+     * 날짜의 세대 번호 (전체 무효화와 날짜 무효화 모두 증가만 하므로 합도 무효화 때마다 증가)
+     */
+    private long generationOf(String concertDate) {
+        return allGeneration.get() + dateGenerations.getOrDefault(concertDate, 0L);
+    }
+
+    /**
+     * 읽기 모델 원본일 때 배치가 늘지 않았는지 (좌석 생성 중인 날짜, 1초마다 확인)
+     */
+    private boolean layoutUnchanged(String concertDate, DateSeats seats) {
+        if (!projectionEnabled) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        if (now - seats.layoutCheckedAt < LAYOUT_CHECK_INTERVAL_MILLIS) {
+            return true;
+        }
+        seats.layoutCheckedAt = now;
+        return seatProjectionRepository.countSeats(concertDate) == seats.seatCount;
+    }
+
+    /**
+     * [저장된 좌석 수, 추정 메모리(bytes)]
+     */
+    long[] totals() {
+        long seatCount = 0;
+        long bytes = 0;
+        for (DateSeats seats : dates.values()) {
+            seatCount += seats.seatCount;
+            bytes += seats.footprintBytes();
+        }
+        return new long[]{seatCount, bytes};
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time == null ? 0 : time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toDateTime(long millis) {
+        return millis == 0 ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZONE);
+    }
+
+    private static SeatStatusEnum statusOf(byte code) {
+        return switch (code) {
+            case TEMP_HELD -> SeatStatusEnum.TEMP_HELD;
+            case RESERVED -> SeatStatusEnum.RESERVED;
+            default -> SeatStatusEnum.AVAILABLE;
+        };
+    }
+
+    /**
+     * 변경 로그 버전과 함께 반환하는 좌석 목록
+     */
+    public record VersionedSeats(long version,
+                                 List<SeatStatus> seats) {
+    }
+
+    private static class DateSeats {
+
+        private long version;
+        private final long loadedAt = System.currentTimeMillis();
+        private long layoutCheckedAt = loadedAt;
+        private final long generation;
+        private final int firstSeatNumber;
+        private final int seatCount;
+        private final byte[] status;
+        private final long[] holdUntil;
+        private final String[] holder;
+        private final int[] sections;
+        private final int[] rows;
+        private final String[] sectionNames;
+        private final int[] sectionStart;
+        private final int[] pageOrder;
+
+        private DateSeats(long version, long generation, int firstSeatNumber, int length,
+                          int seatCount, String[] sectionNames) {
+            this.version = version;
+            this.generation = generation;
+            this.firstSeatNumber = firstSeatNumber;
+            this.seatCount = seatCount;
+            this.status = new byte[length];
+            this.holdUntil = new long[length];
+            this.holder = new String[length];
+            this.sections = new int[length];
+            this.rows = new int[length];
+            this.sectionNames = sectionNames;
+            this.sectionStart = new int[sectionNames.length + 1];
+            this.pageOrder = new int[seatCount];
+        }
+
+        /**
+         * 좌석번호 순 목록으로 구성 — 구역 사전은 이름순이므로 (구역 ID, 인덱스) 계수 정렬이 곧 (구역, 좌석번호) 순
+         */
+        static DateSeats load(List<SeatStateRecord> loaded, long version, long generation) {
+            TreeSet<String> names = new TreeSet<>();
+            for (SeatStateRecord seat : loaded) {
+                names.add(seat.section());
+            }
+            String[] sectionNames = names.toArray(String[]::new);
+
+            int first = loaded.get(0).seatNumber();
+            int length = loaded.get(loaded.size() - 1).seatNumber() - first + 1;
+            DateSeats seats = new DateSeats(version, generation, first, length, loaded.size(), sectionNames);
+
+            int[] sectionCounts = new int[sectionNames.length];
+            for (SeatStateRecord seat : loaded) {
+                int i = seat.seatNumber() - first;
+                int sectionId = Arrays.binarySearch(sectionNames, seat.section());
+                seats.status[i] = SeatStatusCodes.code(seat.status());
+                seats.holdUntil[i] = toMillis(seat.reservedUntil());
+                seats.holder[i] = seat.reservedUserId();
+                seats.sections[i] = sectionId;
+                seats.rows[i] = seat.seatRow();
+                sectionCounts[sectionId]++;
+            }
+
+            for (int s = 0; s < sectionNames.length; s++) {
+                seats.sectionStart[s + 1] = seats.sectionStart[s] + sectionCounts[s];
+            }
+            int[] next = Arrays.copyOf(seats.sectionStart, sectionNames.length);
+            for (int i = 0; i < length; i++) {
+                if (seats.status[i] != ABSENT) {
+                    seats.pageOrder[next[seats.sections[i]]++] = i;
+                }
+            }
+            return seats;
+        }
+
+        boolean isFresh(long currentGeneration, long maxAgeMillis) {
+            return generation == currentGeneration && System.currentTimeMillis() - loadedAt < maxAgeMillis;
+        }
+
+        void apply(SeatChange change) {
+            int i = change.seatNumber() - firstSeatNumber;
+            if (i < 0 || i >= status.length || status[i] == ABSENT) {
+                return;
+            }
+            status[i] = SeatStatusCodes.code(change.status());
+            holdUntil[i] = toMillis(change.reservedUntil());
+            holder[i] = change.reservedUserId();
+        }
+
+        /**
+         * 전체 페이지에서 (afterSection, afterSeatNumber) 다음 위치
+         */
+        int seek(String afterSection, Integer afterSeatNumber) {
+            if (afterSection == null) {
+                return 0;
+            }
+            int sectionId = Arrays.binarySearch(sectionNames, afterSection);
+            if (sectionId < 0) {
+                // 없는 구역이면 이름순으로 그 다음 구역부터
+                return sectionStart[-sectionId - 1];
+            }
+            return seekInSection(sectionId, afterSeatNumber);
+        }
+
+        /**
+         * 구역 안에서 afterSeatNumber보다 큰 첫 위치 (구역 안은 좌석번호 순)
+         */
+        int seekInSection(int sectionId, Integer afterSeatNumber) {
+            int low = sectionStart[sectionId];
+            int high = sectionStart[sectionId + 1];
+            if (afterSeatNumber == null) {
+                return low;
+            }
+            int threshold = afterSeatNumber - firstSeatNumber;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (pageOrder[mid] <= threshold) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        SeatStatus toDto(int i) {
+            return new SeatStatus(
+                    firstSeatNumber + i,
+                    statusOf(status[i]),
+                    holder[i],
+                    toDateTime(holdUntil[i]),
+                    sectionNames[sections[i]],
+                    rows[i]
+            );
+        }
+
+        SeatStatusView toStatusView(int i) {
+            return SeatStatusCodes.view(firstSeatNumber + i, status[i]);
+        }
+
+        /**
+         * 배열 본체 기준 추정치 (압축 참조 4바이트, 점유 좌석의 사용자 ID 문자열 제외)
+         */
+        long footprintBytes() {
+            long length = status.length;
+            return length * (1 + 8 + 4 + 4 + 4) + 4L * pageOrder.length + 4L * sectionStart.length;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package kr.hhplus.be.server.concert.application.service;
+
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.model.SeatStatusView;
+
+/**
+ * 좌석 조회 압축 저장소(SeatReadStore)의 상태 코드(byte) ↔ 도메인 SeatStatus 변환
+ * (SeatReadStore는 응답 DTO SeatStatus를 import하므로 도메인 쪽 변환을 분리)
+ */
+final class SeatStatusCodes {
+
+    private SeatStatusCodes() {
+    }
+
+    static byte code(SeatStatus status) {
+        return switch (status) {
+            case AVAILABLE -> SeatReadStore.AVAILABLE;
+            case TEMP_HELD -> SeatReadStore.TEMP_HELD;
+            case RESERVED -> SeatReadStore.RESERVED;
+        };
+    }
+
+    static SeatStatusView view(int seatNumber, byte code) {
+        SeatStatus status = switch (code) {
+            case SeatReadStore.TEMP_HELD -> SeatStatus.TEMP_HELD;
+            case SeatReadStore.RESERVED -> SeatStatus.RESERVED;
+            default -> SeatStatus.AVAILABLE;
+        };
+        return new SeatStatusView(seatNumber, status);
+    }
+}
@@ -0,0 +1,94 @@
+package kr.hhplus.be.server.concert.domain.event;
+
+import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좌석 상태 변경 이벤트
+ *
+ * Seat.reserve / confirm / release 로 좌석 상태가 바뀔 때 발행되며,
+ * 좌석 변경 로그(증분 동기화) 등 좌석 맵 부가 로직을 트리거합니다.
+ */
+public class SeatStateChangedEvent {
+
+    private String concertDate;
+    private Integer seatNumber;
+    private SeatStatus previousStatus;
+    private SeatStatus status;
+    private String reservedUserId;
+    private LocalDateTime reservedUntil;
+
+    // JSON 역직렬화를 위한 기본 생성자
+    public SeatStateChangedEvent() {
+    }
+
+    public SeatStateChangedEvent(String concertDate, Integer seatNumber,
+                                 SeatStatus previousStatus, SeatStatus status,
+                                 String reservedUserId, LocalDateTime reservedUntil) {
+        this.concertDate = concertDate;
+        this.seatNumber = seatNumber;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.reservedUserId = reservedUserId;
+        this.reservedUntil = reservedUntil;
+    }
+
+    /**
+     * 상태 전이가 끝난 좌석으로부터 이벤트 생성
+     */
+    public static SeatStateChangedEvent of(Seat seat, SeatStatus previousStatus) {
+        return new SeatStateChangedEvent(
+                seat.getConcertDate(),
+                seat.getSeatNumber(),
+                previousStatus,
+                seat.getStatus(),
+                seat.getReservedUserId(),
+                seat.getReservedUntil()
+        );
+    }
+
+    /**
+     * 엔티티 로딩 없이 일괄 해제된 좌석에 대한 이벤트 생성 (Bulk Update용)
+     */
+    public static SeatStateChangedEvent released(String concertDate, Integer seatNumber, SeatStatus previousStatus) {
+        return new SeatStateChangedEvent(concertDate, seatNumber, previousStatus, SeatStatus.AVAILABLE, null, null);
+    }
+
+    public String getConcertDate() {
+        return concertDate;
+    }
+
+    public Integer getSeatNumber() {
+        return seatNumber;
+    }
+
+    public SeatStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public SeatStatus getStatus() {
+        return status;
+    }
+
+    public String getReservedUserId() {
+        return reservedUserId;
+    }
+
+    public LocalDateTime getReservedUntil() {
+        return reservedUntil;
+    }
+
+    @Override
+    public String toString() {
+        return "SeatStateChangedEvent{" +
+                "concertDate='" + concertDate + '\'' +
+                ", seatNumber=" + seatNumber +
+                ", previousStatus=" + previousStatus +
+                ", status=" + status +
+                ", reservedUserId='" + reservedUserId + '\'' +
+                ", reservedUntil=" + reservedUntil +
+                '}';
+    }
+}
@@ -48,6 +48,14 @@ public class ConcertSchedule {
         return availableSeats;
     }
 
+    /**
+     * 좌석 집계 결과로 좌석 수 동기화 (잔여 좌석 카운터 보정 시)
+     */
+    public void syncSeatCounts(int totalSeats, int availableSeats) {
+        this.totalSeats = totalSeats;
+        this.availableSeats = availableSeats;
+    }
+
     public void decreaseAvailableSeats() {
         if (this.availableSeats <= 0) {
             throw new IllegalStateException("예약 가능한 좌석이 없습니다.");
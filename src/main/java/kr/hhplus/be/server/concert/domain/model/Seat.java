@@ -1,15 +1,26 @@
 package kr.hhplus.be.server.concert.domain.model;
 
 import jakarta.persistence.*;
+import kr.hhplus.be.server.shared.infrastructure.id.TsidId;
+import kr.hhplus.be.server.shared.infrastructure.persistence.ConcertDateConverter;
 import java.time.LocalDateTime;
 
 /**
  * 좌석 엔티티
  * 
  * 인덱스 설계:
- * - uk_seat_date_number: 날짜+좌석번호 유니크 보장
- * - idx_seat_concert_date: 날짜별 좌석 조회 최적화
- * - idx_seat_status: 상태별 조회 최적화
+ * - uk_seat_date_number: 날짜+좌석번호 유니크 보장, 날짜+번호 단건 조회/날짜 범위 스캔 겸용
+ * - idx_seat_date_section_number: 구역별 키셋 페이지 조회 (concert_date, section, seat_number)
+ * - concert_date는 DATE 컬럼 (ConcertDateConverter) — 엔티티 필드는 "yyyy-MM-dd" 문자열 유지
+ * - 단독 concert_date/status/reserved_until 인덱스는 사용하는 쿼리가 없어 제거
+ *   (상태 변경마다 갱신 비용만 발생, 마이그레이션: docs/migration/V037_concert_date_type.md)
+ *
+ * 식별자:
+ * - TSID(@TsidId) — 애플리케이션에서 시간 순 ID를 정하므로 JDBC 배치 삽입 가능
+ *
+ * 좌석 배치:
+ * - seatNumber는 날짜 내에서 유일한 전체 좌석 번호 (기존 예약/결제 흐름의 식별자)
+ * - section/seatRow는 대형 공연장의 구역/열 정보 (구역별 조회, 연석 배정에 사용)
  */
 @Entity
 @Table(name = "seat", 
@@ -18,19 +29,26 @@ import java.time.LocalDateTime;
            columnNames = {"concert_date", "seat_number"}
        ),
        indexes = {
-           @Index(name = "idx_seat_concert_date", columnList = "concert_date"),
-           @Index(name = "idx_seat_status", columnList = "status"),
-           @Index(name = "idx_seat_reserved_until", columnList = "reserved_until")
+           @Index(name = "idx_seat_date_section_number", columnList = "concert_date, section, seat_number")
        })
 public class Seat {
+
+    public static final String DEFAULT_SECTION = "A";
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
     
+    @Convert(converter = ConcertDateConverter.class)
     @Column(name = "concert_date", nullable = false)
     private String concertDate;
     
+    @Column(name = "section", nullable = false, length = 20)
+    private String section = DEFAULT_SECTION;
+
+    @Column(name = "seat_row", nullable = false)
+    private Integer seatRow = 1;
+    
     @Column(name = "seat_number", nullable = false)
     private Integer seatNumber;
     
@@ -51,7 +69,13 @@ public class Seat {
     }
 
     public Seat(String concertDate, Integer seatNumber) {
+        this(concertDate, DEFAULT_SECTION, 1, seatNumber);
+    }
+
+    public Seat(String concertDate, String section, Integer seatRow, Integer seatNumber) {
         this.concertDate = concertDate;
+        this.section = section;
+        this.seatRow = seatRow;
         this.seatNumber = seatNumber;
         this.status = SeatStatus.AVAILABLE;
     }
@@ -64,6 +88,14 @@ public class Seat {
         return concertDate;
     }
 
+    public String getSection() {
+        return section;
+    }
+
+    public Integer getSeatRow() {
+        return seatRow;
+    }
+
     public Integer getSeatNumber() {
         return seatNumber;
     }
@@ -96,12 +128,28 @@ public class Seat {
         this.status = SeatStatus.RESERVED;
     }
 
+    /**
+     * 임시 배정 만료 시각 연장 (배정한 사용자만)
+     */
+    public void extendHold(String userId, LocalDateTime reservedUntil) {
+        if (!isHeldBy(userId)) {
+            throw new IllegalStateException("임시 배정한 사용자가 아닙니다.");
+        }
+        this.reservedUntil = reservedUntil;
+    }
+
     public void release() {
         this.status = SeatStatus.AVAILABLE;
         this.reservedUserId = null;
         this.reservedUntil = null;
     }
 
+    public boolean isHeldBy(String userId) {
+        return this.status == SeatStatus.TEMP_HELD
+            && userId != null
+            && userId.equals(this.reservedUserId);
+    }
+
     public boolean isExpired() {
         return this.status == SeatStatus.TEMP_HELD 
             && this.reservedUntil != null 
@@ -0,0 +1,8 @@
+package kr.hhplus.be.server.concert.domain.model;
+
+/**
+ * 날짜별 좌석 수 집계 Projection
+ * - 잔여 좌석 카운터 보정(reconcile)과 초기 적재에 사용
+ */
+public record SeatCountView(String concertDate, Long totalSeats, Long availableSeats) {
+}
@@ -0,0 +1,8 @@
+package kr.hhplus.be.server.concert.domain.model;
+
+/**
+ * 좌석 배치 조회 전용 Projection
+ * - 연석 배정 인덱스 구성에 필요한 좌석번호/구역/열/상태만 조회 (예약자/만료 시각 제외)
+ */
+public record SeatLayoutView(Integer seatNumber, String section, Integer seatRow, SeatStatus status) {
+}
@@ -0,0 +1,67 @@
+package kr.hhplus.be.server.concert.domain.model;
+
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 좌석 상태 읽기 모델 레코드 (seat-state 토픽 메시지 / Redis 읽기 모델 조회 결과)
+ *
+ * - 배치 레코드: 좌석 생성(version 0) 또는 DB 보정 시 발행, 구역/열을 포함 (section != null)
+ *   → 읽기 모델에 배치를 기록하고, 상태는 아래 version 규칙으로 반영
+ * - 상태 레코드: 좌석 상태 전이(선점/확정/해제/만료) 커밋 후 발행, 구역/열 없음
+ * 상태는 기록된 version보다 큰 레코드만 덮어씁니다.
+ * 두 레코드는 토픽 키가 달라 compact 후에도 좌석별로 각각 최신 값이 남고,
+ * 어떤 순서로 적용해도 같은 결과가 됩니다.
+ *
+ * @param version    날짜별 좌석 변경 로그 버전 (상태 전이는 부여된 버전, 좌석 생성은 0)
+ * @param occurredAt 발행 시각 (epoch millis, 읽기 모델 반영 지연 측정용)
+ */
+public record SeatStateRecord(String concertDate, Integer seatNumber, String section, Integer seatRow,
+                              SeatStatus status, String reservedUserId, LocalDateTime reservedUntil,
+                              long version, long occurredAt) {
+
+    /**
+     * 좌석 엔티티의 배치와 현재 상태
+     *
+     * @param version 상태를 읽기 직전의 변경 로그 버전 (새로 생성한 좌석이면 0)
+     */
+    public static SeatStateRecord of(Seat seat, long version) {
+        return new SeatStateRecord(seat.getConcertDate(), seat.getSeatNumber(), seat.getSection(), seat.getSeatRow(),
+                seat.getStatus(), seat.getReservedUserId(), seat.getReservedUntil(), version,
+                System.currentTimeMillis());
+    }
+
+    /**
+     * 커밋된 상태 전이
+     *
+     * @param version 변경 로그에 기록하며 부여된 버전
+     */
+    public static SeatStateRecord of(SeatStateChangedEvent event, long version) {
+        return new SeatStateRecord(event.getConcertDate(), event.getSeatNumber(), null, null,
+                event.getStatus(), event.getReservedUserId(), event.getReservedUntil(), version,
+                System.currentTimeMillis());
+    }
+
+    /**
+     * 같은 상태인지 (배치/버전/발행 시각 제외)
+     */
+    public boolean sameStateAs(Seat seat) {
+        return status == seat.getStatus()
+                && Objects.equals(reservedUserId, seat.getReservedUserId())
+                && Objects.equals(reservedUntil, seat.getReservedUntil());
+    }
+
+    public boolean hasLayout() {
+        return section != null;
+    }
+
+    /**
+     * 토픽 키 (배치와 상태를 서로 다른 키로 compact)
+     */
+    public String topicKey() {
+        String key = concertDate + ":" + seatNumber;
+        return hasLayout() ? key + ":layout" : key;
+    }
+}
@@ -0,0 +1,8 @@
+package kr.hhplus.be.server.concert.domain.model;
+
+/**
+ * 좌석 상태 조회 전용 Projection
+ * - 좌석 맵 인코딩에 필요한 좌석번호와 상태만 조회 (예약자/만료 시각 제외)
+ */
+public record SeatStatusView(Integer seatNumber, SeatStatus status) {
+}
@@ -16,6 +16,11 @@ public interface ConcertRankingRepository {
      */
     void incrementReservationCount(String concertDate);
 
+    /**
+     * 콘서트 예약 수를 count만큼 증가 (다중 좌석 예약)
+     */
+    void incrementReservationCount(String concertDate, long count);
+
     /**
      * 매진 랭킹 Top N 조회
      * 예약이 빠르게 진행된 콘서트 순으로 조회
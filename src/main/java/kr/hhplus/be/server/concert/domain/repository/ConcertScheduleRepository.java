@@ -31,4 +31,9 @@ public interface ConcertScheduleRepository {
      * 예약 가능한 공연 일정 목록 조회
      */
     List<ConcertSchedule> findAvailableSchedules(LocalDate today);
+    
+    /**
+     * 오늘 이후의 공연 일정 목록 조회 (매진 포함, 날짜 순)
+     */
+    List<ConcertSchedule> findSchedulesFrom(LocalDate today);
 }
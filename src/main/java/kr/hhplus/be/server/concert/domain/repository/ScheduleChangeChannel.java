@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.concert.domain.repository;
+
+import java.util.function.Consumer;
+
+/**
+ * 공연 일정 변경 알림 채널 인터페이스 (Domain Layer)
+ *
+ * 일정 추가/매진/매진 해제처럼 예약 가능한 날짜 목록이 바뀌는 변경을
+ * 모든 노드에 알려 노드 로컬 캐시를 무효화합니다.
+ *
+ * 좌석 배치 변경(좌석 추가 생성)은 별도로 알려, 좌석 조회 저장소가
+ * 매진/매진 해제 같은 가용성 전이에는 다시 적재하지 않도록 합니다.
+ */
+public interface ScheduleChangeChannel {
+
+    /**
+     * 일정 변경 알림 발행 (매진/매진 해제, 잔여 좌석 보정)
+     *
+     * @param concertDate 변경된 콘서트 날짜 (전체 변경이면 null)
+     */
+    void publish(String concertDate);
+
+    /**
+     * 좌석 배치 변경 알림 발행 (좌석 추가 생성) - 일정 변경 구독자에게도 전달
+     *
+     * @param concertDate 좌석이 추가된 콘서트 날짜 (전체 변경이면 null)
+     */
+    void publishSeatLayout(String concertDate);
+
+    /**
+     * 일정 변경 구독 (좌석 배치 변경 포함)
+     *
+     * @param listener 변경된 날짜 수신 콜백 (전체 변경이면 null, 구독 스레드에서 호출되므로 블로킹 금지)
+     * @return 구독 해제 핸들
+     */
+    SeatChangeChannel.Subscription subscribe(Consumer<String> listener);
+
+    /**
+     * 좌석 배치 변경만 구독
+     *
+     * @param listener 좌석이 추가된 날짜 수신 콜백 (전체 변경이면 null, 구독 스레드에서 호출되므로 블로킹 금지)
+     * @return 구독 해제 핸들
+     */
+    SeatChangeChannel.Subscription subscribeSeatLayout(Consumer<String> listener);
+}
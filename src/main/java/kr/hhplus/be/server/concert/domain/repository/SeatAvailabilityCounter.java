@@ -0,0 +1,40 @@
+package kr.hhplus.be.server.concert.domain.repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 날짜별 잔여 좌석 카운터 인터페이스 (Domain Layer)
+ *
+ * 좌석 상태 변경(임시 배정/해제/확정)마다 원자적으로 증감되어
+ * 좌석 스캔 없이 날짜별 잔여 좌석 수와 매진 여부를 판단할 수 있게 합니다.
+ * DB(concert_schedule.available_seats)와의 오차는 주기적인 보정으로 맞춥니다.
+ */
+public interface SeatAvailabilityCounter {
+
+    /**
+     * 잔여 좌석 수 증감 (카운터가 아직 적재되지 않은 날짜는 무시)
+     *
+     * @param concertDate 콘서트 날짜
+     * @param delta       증감량 (임시 배정 -1, 해제 +1)
+     * @return 증감 후 잔여 좌석 수, 적재되지 않은 날짜면 -1
+     */
+    long apply(String concertDate, long delta);
+
+    /**
+     * 여러 날짜의 잔여 좌석 수 일괄 조회
+     *
+     * @return 날짜 → 잔여 좌석 수 (적재되지 않은 날짜는 제외)
+     */
+    Map<String, Long> getCounts(List<String> concertDates);
+
+    /**
+     * 카운터가 없을 때만 초기값 적재
+     */
+    void initializeIfAbsent(String concertDate, long availableSeats);
+
+    /**
+     * 카운터 값 덮어쓰기 (DB 집계 결과로 보정)
+     */
+    void set(String concertDate, long availableSeats);
+}
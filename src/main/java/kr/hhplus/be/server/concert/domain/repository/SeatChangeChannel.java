@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.concert.domain.repository;
+
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository.SeatChange;
+
+import java.util.function.Consumer;
+
+/**
+ * 좌석 변경 구독 채널 인터페이스 (Domain Layer)
+ *
+ * 커밋된 좌석 변경을 날짜 단위로 실시간 구독합니다.
+ * 모든 노드의 변경이 버전 순서대로 전달됩니다.
+ */
+public interface SeatChangeChannel {
+
+    /**
+     * 날짜별 좌석 변경 구독
+     *
+     * @param concertDate 콘서트 날짜
+     * @param listener    변경 수신 콜백 (구독 스레드에서 호출되므로 블로킹 금지)
+     * @return 구독 해제 핸들
+     */
+    Subscription subscribe(String concertDate, Consumer<SeatChange> listener);
+
+    /**
+     * 구독 해제 핸들
+     */
+    interface Subscription {
+        void cancel();
+    }
+}
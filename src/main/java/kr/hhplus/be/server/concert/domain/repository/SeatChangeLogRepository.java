@@ -0,0 +1,74 @@
+package kr.hhplus.be.server.concert.domain.repository;
+
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 좌석 변경 로그 리포지토리 인터페이스 (Domain Layer)
+ *
+ * 날짜별로 단조 증가하는 버전과 최근 N건의 좌석 변경 이력을 보관하여
+ * 클라이언트가 마지막으로 받은 버전 이후의 변경분만 조회할 수 있게 합니다.
+ */
+public interface SeatChangeLogRepository {
+
+    /**
+     * 좌석 변경 기록 (버전 증가 + 로그 추가 + 오래된 로그 정리를 원자적으로 수행)
+     *
+     * @param event 좌석 상태 변경 이벤트
+     * @return 부여된 버전
+     */
+    long append(SeatStateChangedEvent event);
+
+    /**
+     * 날짜별 현재 버전 조회
+     *
+     * @param concertDate 콘서트 날짜
+     * @return 현재 버전, 변경 이력이 없으면 0
+     */
+    long getCurrentVersion(String concertDate);
+
+    /**
+     * 변경 로그 없이 버전만 증가 (변경 로그를 거치지 않는 기록에 새 버전을 부여)
+     *
+     * 이 버전에는 로그가 없으므로 이를 건너는 증분 조회는 중간 이력이 빠진 것으로 보고 전체 스냅샷을 받음.
+     *
+     * @param concertDate 콘서트 날짜
+     * @return 부여된 버전
+     */
+    long reserveVersion(String concertDate);
+
+    /**
+     * 특정 버전 이후의 변경 이력 조회 (버전 오름차순)
+     *
+     * @param concertDate  콘서트 날짜
+     * @param sinceVersion 클라이언트가 마지막으로 받은 버전
+     * @return 변경 이력, 로그가 이미 정리되었거나 중간에 로그 없는 버전이 있어 이어받을 수 없으면 empty (전체 스냅샷 필요)
+     */
+    Optional<List<SeatChange>> findChangesSince(String concertDate, long sinceVersion);
+
+    /**
+     * 특정 버전 이후 보관 중인 변경 이력 (버전 오름차순, 빈 버전이 있어도 있는 것만 반환)
+     *
+     * 상태 값을 다시 적용하는 용도 (이미 반영된 전이를 덮어도 결과가 같을 때)
+     *
+     * @param concertDate  콘서트 날짜
+     * @param sinceVersion 이 버전 이후부터
+     * @return 보관 중인 변경 이력
+     */
+    List<SeatChange> findRetainedChangesSince(String concertDate, long sinceVersion);
+
+    /**
+     * 좌석 변경 이력 엔트리 (Value Object)
+     */
+    record SeatChange(
+            long version,
+            int seatNumber,
+            SeatStatus status,
+            String reservedUserId,
+            LocalDateTime reservedUntil
+    ) {}
+}
@@ -0,0 +1,29 @@
+package kr.hhplus.be.server.concert.domain.repository;
+
+import kr.hhplus.be.server.concert.domain.model.SeatStateRecord;
+
+import java.util.List;
+
+/**
+ * 좌석 상태 읽기 모델 리포지토리 인터페이스 (Domain Layer)
+ *
+ * seat-state 토픽에서 만든 날짜별 좌석 배치/상태를 보관합니다.
+ * 좌석 맵 조회가 MySQL 대신 이 읽기 모델을 원본으로 사용합니다.
+ */
+public interface SeatProjectionRepository {
+
+    /**
+     * 레코드 반영 (상태는 기록된 버전보다 큰 레코드만 덮어씀 — 같은 레코드를 다시 적용하거나 순서가 바뀌어도 동일)
+     */
+    void apply(List<SeatStateRecord> records);
+
+    /**
+     * 날짜 전체 좌석 (좌석번호 순, 배치가 아직 반영되지 않은 좌석은 제외)
+     */
+    List<SeatStateRecord> findByConcertDate(String concertDate);
+
+    /**
+     * 배치가 반영된 좌석 수
+     */
+    long countSeats(String concertDate);
+}
@@ -1,7 +1,11 @@
 package kr.hhplus.be.server.concert.domain.repository;
 
 import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatCountView;
+import kr.hhplus.be.server.concert.domain.model.SeatLayoutView;
+import kr.hhplus.be.server.concert.domain.model.SeatStatusView;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +25,12 @@ public interface SeatRepository {
      */
     List<Seat> saveAll(List<Seat> seats);
     
+    /**
+     * 좌석 일괄 삽입 (JDBC 배치, 같은 날짜+좌석번호가 이미 있으면 건너뜀)
+     * - 호출 단위로 커밋되므로 대량 생성 시 청크 단위로 나눠 호출
+     */
+    void insertIgnoringDuplicates(List<Seat> seats);
+    
     /**
      * ID로 좌석 조회
      */
@@ -31,6 +41,34 @@ public interface SeatRepository {
      */
     List<Seat> findByConcertDateOrderBySeatNumber(String concertDate);
     
+    /**
+     * 콘서트 날짜로 좌석 상태만 조회 (좌석번호 순, 좌석 맵 인코딩용)
+     */
+    List<SeatStatusView> findStatusesByConcertDate(String concertDate);
+    
+    /**
+     * 구역의 좌석 상태만 조회 (좌석번호 순, 구역별 좌석 맵 인코딩용)
+     */
+    List<SeatStatusView> findStatusesByConcertDateAndSection(String concertDate, String section);
+    
+    /**
+     * 콘서트 날짜로 좌석 배치만 조회 (좌석번호 순, 연석 배정 인덱스 구성용)
+     */
+    List<SeatLayoutView> findLayoutByConcertDate(String concertDate);
+    
+    /**
+     * 날짜 전체 좌석 키셋 페이지 조회 ((section, seatNumber) 순)
+     * - (afterSection, afterSeatNumber) 다음 좌석부터 size개
+     * - 첫 페이지는 afterSection/afterSeatNumber를 null로 전달
+     */
+    List<Seat> findPage(String concertDate, String afterSection, Integer afterSeatNumber, int size);
+    
+    /**
+     * 구역 내 좌석 키셋 페이지 조회 (seatNumber 순)
+     * - afterSeatNumber 다음 좌석부터 size개 (첫 페이지는 null)
+     */
+    List<Seat> findSectionPage(String concertDate, String section, Integer afterSeatNumber, int size);
+    
     /**
      * 날짜와 좌석번호로 좌석 조회 (낙관적 락 포함)
      */
@@ -45,9 +83,20 @@ public interface SeatRepository {
      * 날짜와 좌석번호로 좌석 조회
      */
     Optional<Seat> findByConcertDateAndSeatNumber(String date, Integer seatNumber);
+
+    /**
+     * 날짜와 좌석번호 목록으로 좌석 일괄 조회 (좌석번호 순, uk_seat_date_number 범위 스캔)
+     */
+    List<Seat> findByConcertDateAndSeatNumbers(String date, List<Integer> seatNumbers);
+    
+    /**
+     * 주어진 좌석 ID 중 임시 배정이 만료된 좌석을 비관적 락(FOR UPDATE)으로 조회
+     * - status=TEMP_HELD 이고 reservedUntil < now 인 좌석만 (재예약/확정된 좌석 제외)
+     */
+    List<Seat> findExpiredHoldsForUpdate(List<Long> seatIds, LocalDateTime now);
     
     /**
-     * 만료된 좌석들을 한 번에 해제 (Bulk Update)
+     * 날짜별 전체/잔여 좌석 수 집계 (좌석이 없는 날짜는 결과에서 제외)
      */
-    int bulkRelease(List<Long> seatIds);
+    List<SeatCountView> countByConcertDates(List<String> concertDates);
 }
@@ -0,0 +1,98 @@
+package kr.hhplus.be.server.concert.infrastructure.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.concert.application.service.SeatProjectionService;
+import kr.hhplus.be.server.concert.domain.model.SeatStateRecord;
+import kr.hhplus.be.server.config.kafka.KafkaTopicConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.AbstractConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좌석 상태 읽기 모델 Kafka Consumer
+ *
+ * concert.projection.enabled=true 일 때만 시작.
+ * - poll 단위로 seat-state 레코드를 Redis 읽기 모델에 반영한 뒤 offset 커밋
+ * - 반영 실패 시 예외를 전파해 컨테이너 에러 핸들러가 같은 배치를 다시 처리 (반영은 멱등)
+ *
+ * 재구성 모드 (concert.projection.rebuild-on-start=true):
+ * - 파티션을 처음 할당받을 때 커밋된 offset을 무시하고 토픽 처음부터 다시 읽음
+ * - compact 토픽이라 좌석별 최신 배치/상태만 남아 있으므로, 다 읽고 나면 읽기 모델이 토픽과 같아짐
+ * - Redis 초기화/유실 후 재구성용으로, 재구성할 인스턴스 하나만 켜고 lag이 0이 되면 끔
+ */
+@Component
+public class SeatProjectionKafkaConsumer extends AbstractConsumerSeekAware {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatProjectionKafkaConsumer.class);
+
+    private final SeatProjectionService seatProjectionService;
+    private final ObjectMapper objectMapper;
+    private final boolean rebuildOnStart;
+    private final Set<TopicPartition> rebuilt = ConcurrentHashMap.newKeySet();
+
+    public SeatProjectionKafkaConsumer(SeatProjectionService seatProjectionService,
+                                       ObjectMapper objectMapper,
+                                       @Value("${concert.projection.rebuild-on-start:false}") boolean rebuildOnStart) {
+        this.seatProjectionService = seatProjectionService;
+        this.objectMapper = objectMapper;
+        this.rebuildOnStart = rebuildOnStart;
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        super.onPartitionsAssigned(assignments, callback);
+        if (!rebuildOnStart) {
+            return;
+        }
+        List<TopicPartition> partitions = new ArrayList<>();
+        for (TopicPartition partition : assignments.keySet()) {
+            if (rebuilt.add(partition)) {
+                partitions.add(partition);
+            }
+        }
+        if (!partitions.isEmpty()) {
+            log.info("[Kafka Consumer] 좌석 읽기 모델 재구성 - 처음부터 다시 읽음: {}", partitions);
+            callback.seekToBeginning(partitions);
+        }
+    }
+
+    /**
+     * 좌석 상태 레코드 소비
+     *
+     * @param messages       JSON 직렬화된 SeatStateRecord 목록
+     * @param acknowledgment 수동 offset 커밋을 위한 Acknowledgment
+     */
+    @KafkaListener(
+            id = "seat-projection-consumer",
+            idIsGroup = false,
+            topics = KafkaTopicConfig.TOPIC_SEAT_STATE,
+            groupId = "seat-projection-group",
+            containerFactory = "seatProjectionListenerContainerFactory",
+            autoStartup = "${concert.projection.enabled:false}"
+    )
+    public void consume(List<String> messages, Acknowledgment acknowledgment) {
+        List<SeatStateRecord> records = new ArrayList<>(messages.size());
+        for (String message : messages) {
+            try {
+                records.add(objectMapper.readValue(message, SeatStateRecord.class));
+            } catch (Exception e) {
+                log.error("[Kafka Consumer] 좌석 상태 역직렬화 실패, 건너뜀 - message={}, error={}",
+                        message, e.getMessage());
+            }
+        }
+
+        seatProjectionService.apply(records);
+        acknowledgment.acknowledge();
+    }
+}
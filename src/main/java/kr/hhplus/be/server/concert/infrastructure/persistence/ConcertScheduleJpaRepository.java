@@ -18,4 +18,6 @@ interface ConcertScheduleJpaRepository extends JpaRepository<ConcertSchedule, Lo
     
     @Query("SELECT cs FROM ConcertSchedule cs WHERE cs.availableSeats > 0 AND cs.concertDate >= :today ORDER BY cs.concertDate")
     List<ConcertSchedule> findAvailableSchedules(@Param("today") LocalDate today);
+    
+    List<ConcertSchedule> findByConcertDateGreaterThanEqualOrderByConcertDate(LocalDate today);
 }
@@ -42,4 +42,9 @@ public class ConcertScheduleRepositoryImpl implements ConcertScheduleRepository
     public List<ConcertSchedule> findAvailableSchedules(LocalDate today) {
         return concertScheduleJpaRepository.findAvailableSchedules(today);
     }
+
+    @Override
+    public List<ConcertSchedule> findSchedulesFrom(LocalDate today) {
+        return concertScheduleJpaRepository.findByConcertDateGreaterThanEqualOrderByConcertDate(today);
+    }
 }
@@ -2,12 +2,16 @@ package kr.hhplus.be.server.concert.infrastructure.persistence;
 
 import jakarta.persistence.LockModeType;
 import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatCountView;
+import kr.hhplus.be.server.concert.domain.model.SeatLayoutView;
+import kr.hhplus.be.server.concert.domain.model.SeatStatusView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +23,43 @@ interface SeatJpaRepository extends JpaRepository<Seat, Long> {
     
     List<Seat> findByConcertDateOrderBySeatNumber(String concertDate);
     
+    @Query("SELECT new kr.hhplus.be.server.concert.domain.model.SeatStatusView(s.seatNumber, s.status) " +
+           "FROM Seat s WHERE s.concertDate = :date ORDER BY s.seatNumber")
+    List<SeatStatusView> findStatusesByConcertDate(@Param("date") String concertDate);
+    
+    @Query("SELECT new kr.hhplus.be.server.concert.domain.model.SeatStatusView(s.seatNumber, s.status) " +
+           "FROM Seat s WHERE s.concertDate = :date AND s.section = :section ORDER BY s.seatNumber")
+    List<SeatStatusView> findStatusesByConcertDateAndSection(
+        @Param("date") String concertDate,
+        @Param("section") String section
+    );
+    
+    @Query("SELECT new kr.hhplus.be.server.concert.domain.model.SeatLayoutView(s.seatNumber, s.section, s.seatRow, s.status) " +
+           "FROM Seat s WHERE s.concertDate = :date ORDER BY s.seatNumber")
+    List<SeatLayoutView> findLayoutByConcertDate(@Param("date") String concertDate);
+    
+    /**
+     * 키셋 페이지 조회 - idx_seat_date_section_number 인덱스 범위 스캔 (OFFSET 없음)
+     */
+    @Query("SELECT s FROM Seat s WHERE s.concertDate = :date " +
+           "AND (s.section > :section OR (s.section = :section AND s.seatNumber > :seatNumber)) " +
+           "ORDER BY s.section, s.seatNumber")
+    List<Seat> findPageAfter(
+        @Param("date") String concertDate,
+        @Param("section") String afterSection,
+        @Param("seatNumber") Integer afterSeatNumber,
+        Pageable pageable
+    );
+    
+    @Query("SELECT s FROM Seat s WHERE s.concertDate = :date AND s.section = :section " +
+           "AND s.seatNumber > :seatNumber ORDER BY s.seatNumber")
+    List<Seat> findSectionPageAfter(
+        @Param("date") String concertDate,
+        @Param("section") String section,
+        @Param("seatNumber") Integer afterSeatNumber,
+        Pageable pageable
+    );
+    
     @Lock(LockModeType.OPTIMISTIC)
     @Query("SELECT s FROM Seat s WHERE s.concertDate = :date AND s.seatNumber = :seatNumber")
     Optional<Seat> findByConcertDateAndSeatNumberWithLock(
@@ -34,9 +75,19 @@ interface SeatJpaRepository extends JpaRepository<Seat, Long> {
     );
     
     Optional<Seat> findByConcertDateAndSeatNumber(String date, Integer seatNumber);
+
+    List<Seat> findByConcertDateAndSeatNumberInOrderBySeatNumber(String date, List<Integer> seatNumbers);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Seat s WHERE s.id IN :seatIds " +
+           "AND s.status = 'TEMP_HELD' AND s.reservedUntil < :now")
+    List<Seat> findExpiredHoldsForUpdate(
+        @Param("seatIds") List<Long> seatIds,
+        @Param("now") LocalDateTime now
+    );
     
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Seat s SET s.status = 'AVAILABLE', s.reservedUserId = NULL, s.reservedUntil = NULL " +
-           "WHERE s.id IN :seatIds")
-    int bulkRelease(@Param("seatIds") List<Long> seatIds);
+    @Query("SELECT new kr.hhplus.be.server.concert.domain.model.SeatCountView(" +
+           "s.concertDate, COUNT(s), SUM(CASE WHEN s.status = 'AVAILABLE' THEN 1L ELSE 0L END)) " +
+           "FROM Seat s WHERE s.concertDate IN :dates GROUP BY s.concertDate")
+    List<SeatCountView> countByConcertDates(@Param("dates") List<String> concertDates);
 }
@@ -1,25 +1,44 @@
 package kr.hhplus.be.server.concert.infrastructure.persistence;
 
 import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatCountView;
+import kr.hhplus.be.server.concert.domain.model.SeatLayoutView;
+import kr.hhplus.be.server.concert.domain.model.SeatStatusView;
 import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import kr.hhplus.be.server.shared.infrastructure.id.TsidGenerator;
+import kr.hhplus.be.server.shared.infrastructure.persistence.ConcertDateConverter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * 좌석 리포지토리 구현체 (Infrastructure Layer)
  * Domain의 SeatRepository 인터페이스를 구현
+ *
+ * 좌석 일괄 삽입은 엔티티를 거치지 않고 JdbcTemplate 배치로 처리 (ID는 TsidGenerator로 직접 부여)
+ * (MySQL은 rewriteBatchedStatements=true 설정 시 다중 행 INSERT로 재작성됨)
  */
 @Repository
 @Transactional(readOnly = true)
 public class SeatRepositoryImpl implements SeatRepository {
     
+    private static final String INSERT_IGNORE_SQL =
+            "INSERT IGNORE INTO seat (id, concert_date, section, seat_row, seat_number, status, version) " +
+            "VALUES (?, ?, ?, ?, ?, 'AVAILABLE', 0)";
+
+    private static final ConcertDateConverter CONCERT_DATE = new ConcertDateConverter();
+
     private final SeatJpaRepository seatJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public SeatRepositoryImpl(SeatJpaRepository seatJpaRepository) {
+    public SeatRepositoryImpl(SeatJpaRepository seatJpaRepository, JdbcTemplate jdbcTemplate) {
         this.seatJpaRepository = seatJpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -34,6 +53,18 @@ public class SeatRepositoryImpl implements SeatRepository {
         return seatJpaRepository.saveAll(seats);
     }
 
+    @Override
+    @Transactional
+    public void insertIgnoringDuplicates(List<Seat> seats) {
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, seats, seats.size(), (ps, seat) -> {
+            ps.setLong(1, TsidGenerator.next());
+            ps.setObject(2, CONCERT_DATE.convertToDatabaseColumn(seat.getConcertDate()));
+            ps.setString(3, seat.getSection());
+            ps.setInt(4, seat.getSeatRow());
+            ps.setInt(5, seat.getSeatNumber());
+        });
+    }
+
     @Override
     public Optional<Seat> findById(Long id) {
         return seatJpaRepository.findById(id);
@@ -44,6 +75,42 @@ public class SeatRepositoryImpl implements SeatRepository {
         return seatJpaRepository.findByConcertDateOrderBySeatNumber(concertDate);
     }
 
+    @Override
+    public List<SeatStatusView> findStatusesByConcertDate(String concertDate) {
+        return seatJpaRepository.findStatusesByConcertDate(concertDate);
+    }
+
+    @Override
+    public List<SeatStatusView> findStatusesByConcertDateAndSection(String concertDate, String section) {
+        return seatJpaRepository.findStatusesByConcertDateAndSection(concertDate, section);
+    }
+
+    @Override
+    public List<SeatLayoutView> findLayoutByConcertDate(String concertDate) {
+        return seatJpaRepository.findLayoutByConcertDate(concertDate);
+    }
+
+    @Override
+    public List<Seat> findPage(String concertDate, String afterSection, Integer afterSeatNumber, int size) {
+        // 첫 페이지: 빈 구역명 / 좌석번호 0 이후 = 전체
+        return seatJpaRepository.findPageAfter(
+                concertDate,
+                afterSection != null ? afterSection : "",
+                afterSeatNumber != null ? afterSeatNumber : 0,
+                PageRequest.of(0, size)
+        );
+    }
+
+    @Override
+    public List<Seat> findSectionPage(String concertDate, String section, Integer afterSeatNumber, int size) {
+        return seatJpaRepository.findSectionPageAfter(
+                concertDate,
+                section,
+                afterSeatNumber != null ? afterSeatNumber : 0,
+                PageRequest.of(0, size)
+        );
+    }
+
     @Override
     public Optional<Seat> findByConcertDateAndSeatNumberWithLock(String date, Integer seatNumber) {
         return seatJpaRepository.findByConcertDateAndSeatNumberWithLock(date, seatNumber);
@@ -60,8 +127,17 @@ public class SeatRepositoryImpl implements SeatRepository {
     }
 
     @Override
-    @Transactional
-    public int bulkRelease(List<Long> seatIds) {
-        return seatJpaRepository.bulkRelease(seatIds);
+    public List<Seat> findByConcertDateAndSeatNumbers(String date, List<Integer> seatNumbers) {
+        return seatJpaRepository.findByConcertDateAndSeatNumberInOrderBySeatNumber(date, seatNumbers);
+    }
+
+    @Override
+    public List<Seat> findExpiredHoldsForUpdate(List<Long> seatIds, LocalDateTime now) {
+        return seatJpaRepository.findExpiredHoldsForUpdate(seatIds, now);
+    }
+
+    @Override
+    public List<SeatCountView> countByConcertDates(List<String> concertDates) {
+        return seatJpaRepository.countByConcertDates(concertDates);
     }
 }
@@ -35,6 +35,11 @@ public class ConcertRankingRedisRepository implements ConcertRankingRepository {
         redisTemplate.opsForZSet().incrementScore(RANKING_KEY, concertDate, 1);
     }
 
+    @Override
+    public void incrementReservationCount(String concertDate, long count) {
+        redisTemplate.opsForZSet().incrementScore(RANKING_KEY, concertDate, count);
+    }
+
     @Override
     public List<ConcertRankingEntry> getTopRanking(int topN) {
         Set<ZSetOperations.TypedTuple<String>> tuples =
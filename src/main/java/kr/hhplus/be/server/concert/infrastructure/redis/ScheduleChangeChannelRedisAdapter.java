@@ -0,0 +1,86 @@
+package kr.hhplus.be.server.concert.infrastructure.redis;
+
+import kr.hhplus.be.server.concert.domain.repository.ScheduleChangeChannel;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeChannel.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Redis Pub/Sub 기반 공연 일정 변경 알림 채널 구현체
+ *
+ * 채널: concert:schedule:changed (메시지 본문은 변경된 날짜, 전체 변경이면 "*")
+ * 좌석 배치 변경은 본문 앞에 "layout:"을 붙여 같은 채널로 발행합니다.
+ * RedisMessageListenerContainer의 단일 구독 커넥션을 공유합니다.
+ */
+@Component
+public class ScheduleChangeChannelRedisAdapter implements ScheduleChangeChannel {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleChangeChannelRedisAdapter.class);
+
+    private static final ChannelTopic TOPIC = new ChannelTopic("concert:schedule:changed");
+    private static final String ALL_DATES = "*";
+    private static final String LAYOUT_PREFIX = "layout:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public ScheduleChangeChannelRedisAdapter(StringRedisTemplate redisTemplate,
+                                             RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @Override
+    public void publish(String concertDate) {
+        redisTemplate.convertAndSend(TOPIC.getTopic(), encode(concertDate));
+    }
+
+    @Override
+    public void publishSeatLayout(String concertDate) {
+        redisTemplate.convertAndSend(TOPIC.getTopic(), LAYOUT_PREFIX + encode(concertDate));
+    }
+
+    @Override
+    public Subscription subscribe(Consumer<String> listener) {
+        return listen(listener, false);
+    }
+
+    @Override
+    public Subscription subscribeSeatLayout(Consumer<String> listener) {
+        return listen(listener, true);
+    }
+
+    private Subscription listen(Consumer<String> listener, boolean layoutOnly) {
+        MessageListener messageListener = (message, pattern) -> {
+            try {
+                String body = new String(message.getBody(), StandardCharsets.UTF_8);
+                boolean layout = body.startsWith(LAYOUT_PREFIX);
+                if (layoutOnly && !layout) {
+                    return;
+                }
+                listener.accept(decode(layout ? body.substring(LAYOUT_PREFIX.length()) : body));
+            } catch (Exception e) {
+                log.error("[ScheduleChangeChannel] 일정 변경 메시지 처리 실패 - error={}", e.getMessage(), e);
+            }
+        };
+
+        listenerContainer.addMessageListener(messageListener, TOPIC);
+        return () -> listenerContainer.removeMessageListener(messageListener, TOPIC);
+    }
+
+    private static String encode(String concertDate) {
+        return concertDate != null ? concertDate : ALL_DATES;
+    }
+
+    private static String decode(String body) {
+        return ALL_DATES.equals(body) ? null : body;
+    }
+}
@@ -0,0 +1,73 @@
+package kr.hhplus.be.server.concert.infrastructure.redis;
+
+import kr.hhplus.be.server.concert.domain.repository.SeatAvailabilityCounter;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 기반 날짜별 잔여 좌석 카운터 구현체
+ *
+ * 키:
+ * - seat:available (Hash) : field=콘서트 날짜, value=잔여 좌석 수
+ *
+ * 증감은 필드가 있을 때만 HINCRBY 하도록 Lua 스크립트로 처리합니다.
+ * (적재 전 증감이 0부터 시작해 음수가 되는 것을 방지, 초기값은 DB 집계로 적재)
+ * 여러 날짜는 HMGET 한 번으로 조회합니다.
+ */
+@Repository
+public class SeatAvailabilityCounterRedisRepository implements SeatAvailabilityCounter {
+
+    private static final String KEY = "seat:available";
+
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then
+                return redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])
+            end
+            return -1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public SeatAvailabilityCounterRedisRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public long apply(String concertDate, long delta) {
+        Long remaining = redisTemplate.execute(APPLY_SCRIPT, List.of(KEY), concertDate, String.valueOf(delta));
+        return remaining != null ? remaining : -1;
+    }
+
+    @Override
+    public Map<String, Long> getCounts(List<String> concertDates) {
+        Map<String, Long> counts = new HashMap<>();
+        if (concertDates.isEmpty()) {
+            return counts;
+        }
+        List<Object> values = redisTemplate.opsForHash().multiGet(KEY, new ArrayList<>(concertDates));
+        for (int i = 0; i < concertDates.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                counts.put(concertDates.get(i), Long.parseLong(value.toString()));
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public void initializeIfAbsent(String concertDate, long availableSeats) {
+        redisTemplate.opsForHash().putIfAbsent(KEY, concertDate, String.valueOf(availableSeats));
+    }
+
+    @Override
+    public void set(String concertDate, long availableSeats) {
+        redisTemplate.opsForHash().put(KEY, concertDate, String.valueOf(availableSeats));
+    }
+}
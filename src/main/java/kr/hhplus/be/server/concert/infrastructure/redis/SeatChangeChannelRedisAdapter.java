@@ -0,0 +1,48 @@
+package kr.hhplus.be.server.concert.infrastructure.redis;
+
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeChannel;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository.SeatChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Redis Pub/Sub 기반 좌석 변경 구독 채널 구현체
+ *
+ * 채널: seat:channel:{date} (SeatChangeLogRedisRepository의 Lua 스크립트가 발행)
+ * RedisMessageListenerContainer의 단일 구독 커넥션을 공유합니다.
+ */
+@Component
+public class SeatChangeChannelRedisAdapter implements SeatChangeChannel {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatChangeChannelRedisAdapter.class);
+
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public SeatChangeChannelRedisAdapter(RedisMessageListenerContainer listenerContainer) {
+        this.listenerContainer = listenerContainer;
+    }
+
+    @Override
+    public Subscription subscribe(String concertDate, Consumer<SeatChange> listener) {
+        ChannelTopic topic = new ChannelTopic(SeatChangeLogRedisRepository.channel(concertDate));
+        MessageListener messageListener = (message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                listener.accept(SeatChangeLogRedisRepository.parse(body));
+            } catch (Exception e) {
+                log.error("[SeatChangeChannel] 좌석 변경 메시지 처리 실패 - message={}, error={}",
+                        body, e.getMessage(), e);
+            }
+        };
+
+        listenerContainer.addMessageListener(messageListener, topic);
+        return () -> listenerContainer.removeMessageListener(messageListener, topic);
+    }
+}
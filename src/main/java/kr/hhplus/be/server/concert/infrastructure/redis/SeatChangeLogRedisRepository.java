@@ -0,0 +1,146 @@
+package kr.hhplus.be.server.concert.infrastructure.redis;
+
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Redis 기반 좌석 변경 로그 구현체
+ *
+ * 키:
+ * - seat:version:{date} (String)     : 날짜별 버전 카운터 (INCR)
+ * - seat:changes:{date} (Sorted Set) : 변경 로그 — score=버전, member="버전|좌석번호|상태|만료시각|예약자"
+ * - seat:channel:{date} (Pub/Sub)    : 실시간 좌석 맵 구독용 채널 (member와 같은 포맷으로 발행)
+ *
+ * 버전 증가, 로그 추가, 채널 발행을 Lua 스크립트로 묶어 버전 순서와 로그/발행 순서가 항상 일치하도록 합니다.
+ * 로그는 최근 MAX_LOG_SIZE건만 유지하는 링 버퍼로 동작합니다.
+ */
+@Repository
+public class SeatChangeLogRedisRepository implements SeatChangeLogRepository {
+
+    private static final String VERSION_PREFIX = "seat:version:";
+    private static final String CHANGES_PREFIX = "seat:changes:";
+    private static final String CHANNEL_PREFIX = "seat:channel:";
+    private static final int MAX_LOG_SIZE = 1000;
+    private static final String DELIMITER = "|";
+
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('INCR', KEYS[1])
+            local member = version .. '|' .. ARGV[1]
+            redis.call('ZADD', KEYS[2], version, member)
+            redis.call('PUBLISH', ARGV[3], member)
+            local size = redis.call('ZCARD', KEYS[2])
+            local limit = tonumber(ARGV[2])
+            if size > limit then
+                redis.call('ZREMRANGEBYRANK', KEYS[2], 0, size - limit - 1)
+            end
+            return version
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public SeatChangeLogRedisRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public long append(SeatStateChangedEvent event) {
+        String payload = event.getSeatNumber() + DELIMITER
+                + event.getStatus().name() + DELIMITER
+                + (event.getReservedUntil() != null ? event.getReservedUntil().toString() : "") + DELIMITER
+                + (event.getReservedUserId() != null ? event.getReservedUserId() : "");
+
+        Long version = redisTemplate.execute(
+                APPEND_SCRIPT,
+                List.of(VERSION_PREFIX + event.getConcertDate(), CHANGES_PREFIX + event.getConcertDate()),
+                payload,
+                String.valueOf(MAX_LOG_SIZE),
+                channel(event.getConcertDate())
+        );
+        return version != null ? version : 0;
+    }
+
+    @Override
+    public long getCurrentVersion(String concertDate) {
+        String version = redisTemplate.opsForValue().get(VERSION_PREFIX + concertDate);
+        return version != null ? Long.parseLong(version) : 0;
+    }
+
+    @Override
+    public long reserveVersion(String concertDate) {
+        Long version = redisTemplate.opsForValue().increment(VERSION_PREFIX + concertDate);
+        return version != null ? version : 0;
+    }
+
+    @Override
+    public Optional<List<SeatChange>> findChangesSince(String concertDate, long sinceVersion) {
+        // 로그보다 먼저 읽음 — 기록은 버전 증가와 로그 추가가 원자적이므로 이 버전까지의 기록은 모두 조회됨
+        long currentVersion = getCurrentVersion(concertDate);
+        List<SeatChange> changes = findRetainedChangesSince(concertDate, sinceVersion);
+
+        if (changes.isEmpty()) {
+            // 변경 없음 / 클라이언트 버전이 서버보다 앞섬(Redis 초기화 등) / 로그 없이 증가한 버전이 있음
+            return sinceVersion == currentVersion
+                    ? Optional.of(List.of())
+                    : Optional.empty();
+        }
+
+        // 요청 버전부터 버전이 하나라도 비면 이력이 정리되었거나 로그 없이 증가한 버전(기록 실패, 보정)이 있는 것
+        long expected = sinceVersion + 1;
+        for (SeatChange change : changes) {
+            if (change.version() != expected) {
+                return Optional.empty();
+            }
+            expected++;
+        }
+        if (expected <= currentVersion) {
+            return Optional.empty();
+        }
+        return Optional.of(changes);
+    }
+
+    @Override
+    public List<SeatChange> findRetainedChangesSince(String concertDate, long sinceVersion) {
+        Set<String> members = redisTemplate.opsForZSet()
+                .rangeByScore(CHANGES_PREFIX + concertDate, sinceVersion + 1, Double.POSITIVE_INFINITY);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        List<SeatChange> changes = new ArrayList<>(members.size());
+        for (String member : members) {
+            changes.add(parse(member));
+        }
+        return changes;
+    }
+
+    /**
+     * 날짜별 좌석 변경 발행 채널명
+     */
+    static String channel(String concertDate) {
+        return CHANNEL_PREFIX + concertDate;
+    }
+
+    /**
+     * 로그 member / 채널 메시지 파싱
+     */
+    static SeatChange parse(String member) {
+        String[] parts = member.split("\\|", 5);
+        return new SeatChange(
+                Long.parseLong(parts[0]),
+                Integer.parseInt(parts[1]),
+                SeatStatus.valueOf(parts[2]),
+                parts[4].isEmpty() ? null : parts[4],
+                parts[3].isEmpty() ? null : LocalDateTime.parse(parts[3])
+        );
+    }
+}
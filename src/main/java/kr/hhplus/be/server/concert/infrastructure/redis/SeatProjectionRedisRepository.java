@@ -0,0 +1,138 @@
+package kr.hhplus.be.server.concert.infrastructure.redis;
+
+import kr.hhplus.be.server.concert.domain.model.SeatStateRecord;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.SeatProjectionRepository;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 기반 좌석 상태 읽기 모델 구현체
+ *
+ * 키:
+ * - seat:projection:layout:{date} (Hash) : field=좌석번호, value="열|구역"
+ * - seat:projection:state:{date}  (Hash) : field=좌석번호, value="버전|상태|만료시각|예약자"
+ *
+ * 날짜별로 묶어 Lua 스크립트 한 번에 반영합니다.
+ * - 배치 레코드: 배치 HSET + 상태 반영
+ * - 상태 반영: 레코드 버전이 기록된 버전보다 클 때만 HSET
+ *   (발행 순서와 커밋 순서가 다르거나 DB 보정 레코드와 엇갈려 도착해도 최신 상태가 남음,
+ *    버전이 없는 이전 형식 값은 -1로 취급)
+ */
+@Repository
+public class SeatProjectionRedisRepository implements SeatProjectionRepository {
+
+    private static final String LAYOUT_PREFIX = "seat:projection:layout:";
+    private static final String STATE_PREFIX = "seat:projection:state:";
+    private static final String DELIMITER = "|";
+
+    /**
+     * ARGV = 레코드별 (좌석번호, 배치 또는 빈 문자열, 버전, 상태), 반환값 = 상태를 반영한 레코드 수
+     */
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>("""
+            local applied = 0
+            for i = 1, #ARGV, 4 do
+                if ARGV[i + 1] ~= '' then
+                    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+                end
+                local current = redis.call('HGET', KEYS[2], ARGV[i])
+                local currentVersion = -1
+                if current then
+                    currentVersion = tonumber(string.match(current, '^(%d+)|')) or -1
+                end
+                if tonumber(ARGV[i + 2]) > currentVersion then
+                    redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 2] .. '|' .. ARGV[i + 3])
+                    applied = applied + 1
+                end
+            end
+            return applied
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public SeatProjectionRedisRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void apply(List<SeatStateRecord> records) {
+        Map<String, List<SeatStateRecord>> byDate = new LinkedHashMap<>();
+        for (SeatStateRecord record : records) {
+            byDate.computeIfAbsent(record.concertDate(), date -> new ArrayList<>()).add(record);
+        }
+
+        for (Map.Entry<String, List<SeatStateRecord>> entry : byDate.entrySet()) {
+            List<String> args = new ArrayList<>(entry.getValue().size() * 4);
+            for (SeatStateRecord record : entry.getValue()) {
+                args.add(String.valueOf(record.seatNumber()));
+                args.add(record.hasLayout() ? record.seatRow() + DELIMITER + record.section() : "");
+                args.add(String.valueOf(record.version()));
+                args.add(state(record));
+            }
+            redisTemplate.execute(
+                    APPLY_SCRIPT,
+                    List.of(LAYOUT_PREFIX + entry.getKey(), STATE_PREFIX + entry.getKey()),
+                    args.toArray()
+            );
+        }
+    }
+
+    @Override
+    public List<SeatStateRecord> findByConcertDate(String concertDate) {
+        Map<Object, Object> layouts = redisTemplate.opsForHash().entries(LAYOUT_PREFIX + concertDate);
+        if (layouts.isEmpty()) {
+            return List.of();
+        }
+        Map<Object, Object> states = redisTemplate.opsForHash().entries(STATE_PREFIX + concertDate);
+
+        List<SeatStateRecord> records = new ArrayList<>(layouts.size());
+        for (Map.Entry<Object, Object> layout : layouts.entrySet()) {
+            String[] position = ((String) layout.getValue()).split("\\|", 2);
+            String state = (String) states.get(layout.getKey());
+            String[] parts = state == null
+                    ? new String[]{"-1", SeatStatus.AVAILABLE.name(), "", ""}
+                    : versioned(state).split("\\|", 4);
+            records.add(new SeatStateRecord(
+                    concertDate,
+                    Integer.parseInt((String) layout.getKey()),
+                    position[1],
+                    Integer.parseInt(position[0]),
+                    SeatStatus.valueOf(parts[1]),
+                    parts[3].isEmpty() ? null : parts[3],
+                    parts[2].isEmpty() ? null : LocalDateTime.parse(parts[2]),
+                    Long.parseLong(parts[0]),
+                    0
+            ));
+        }
+        records.sort(Comparator.comparing(SeatStateRecord::seatNumber));
+        return records;
+    }
+
+    @Override
+    public long countSeats(String concertDate) {
+        Long size = redisTemplate.opsForHash().size(LAYOUT_PREFIX + concertDate);
+        return size != null ? size : 0;
+    }
+
+    /**
+     * 버전 없이 기록된 이전 형식 값("상태|만료시각|예약자")은 버전 -1로 읽음
+     */
+    private static String versioned(String state) {
+        return Character.isDigit(state.charAt(0)) ? state : "-1" + DELIMITER + state;
+    }
+
+    private static String state(SeatStateRecord record) {
+        return record.status().name() + DELIMITER
+                + (record.reservedUntil() != null ? record.reservedUntil().toString() : "") + DELIMITER
+                + (record.reservedUserId() != null ? record.reservedUserId() : "");
+    }
+}
@@ -0,0 +1,48 @@
+package kr.hhplus.be.server.concert.infrastructure.scheduler;
+
+import kr.hhplus.be.server.concert.application.service.SeatAvailabilityService;
+import kr.hhplus.be.server.concert.domain.repository.ScheduleChangeChannel;
+import kr.hhplus.be.server.shared.infrastructure.scheduler.ScheduledLease;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 잔여 좌석 카운터 보정 스케줄러
+ *
+ * 좌석 상태 변경 이벤트로 증감되는 Redis 카운터와 concert_schedule.available_seats를
+ * 주기적으로 DB 집계 결과에 맞춤. 클러스터에서는 리스를 보유한 한 노드에서만 실행.
+ * 보정 후 일정 변경 채널로 알려 모든 노드의 예약 가능 날짜 캐시를 갱신.
+ */
+@Component
+public class SeatAvailabilityReconcileScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatAvailabilityReconcileScheduler.class);
+
+    private final SeatAvailabilityService seatAvailabilityService;
+    private final ScheduleChangeChannel scheduleChangeChannel;
+
+    public SeatAvailabilityReconcileScheduler(SeatAvailabilityService seatAvailabilityService,
+                                              ScheduleChangeChannel scheduleChangeChannel) {
+        this.seatAvailabilityService = seatAvailabilityService;
+        this.scheduleChangeChannel = scheduleChangeChannel;
+    }
+
+    /**
+     * 잔여 좌석 보정 (5분마다 실행)
+     */
+    @Scheduled(fixedRate = 300000)
+    @ScheduledLease("seat-availability-reconcile")
+    public void reconcile() {
+        try {
+            int reconciled = seatAvailabilityService.reconcile();
+            log.debug("잔여 좌석 카운터 보정 완료 - dates={}", reconciled);
+            if (reconciled > 0) {
+                scheduleChangeChannel.publish(null);
+            }
+        } catch (Exception e) {
+            log.error("잔여 좌석 카운터 보정 실패", e);
+        }
+    }
+}
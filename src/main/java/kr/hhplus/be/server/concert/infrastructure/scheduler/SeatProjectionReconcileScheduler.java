@@ -0,0 +1,42 @@
+package kr.hhplus.be.server.concert.infrastructure.scheduler;
+
+import kr.hhplus.be.server.concert.application.service.SeatProjectionReconcileService;
+import kr.hhplus.be.server.shared.infrastructure.scheduler.ScheduledLease;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌석 상태 읽기 모델 보정 스케줄러
+ *
+ * 상태 전이 발행 실패로 읽기 모델(Redis)이 DB와 어긋난 좌석을 주기적으로 다시 발행.
+ * 클러스터에서는 리스를 보유한 한 노드에서만 실행.
+ */
+@Component
+public class SeatProjectionReconcileScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatProjectionReconcileScheduler.class);
+
+    private final SeatProjectionReconcileService seatProjectionReconcileService;
+
+    public SeatProjectionReconcileScheduler(SeatProjectionReconcileService seatProjectionReconcileService) {
+        this.seatProjectionReconcileService = seatProjectionReconcileService;
+    }
+
+    /**
+     * 읽기 모델 보정 (기본 5분마다 실행, 읽기 모델 비활성 시 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${concert.projection.reconcile-interval-ms:300000}")
+    @ScheduledLease("seat-projection-reconcile")
+    public void reconcile() {
+        try {
+            int republished = seatProjectionReconcileService.reconcile();
+            if (republished > 0) {
+                log.warn("좌석 읽기 모델 보정 - republished={}", republished);
+            }
+        } catch (Exception e) {
+            log.error("좌석 읽기 모델 보정 실패", e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package kr.hhplus.be.server.concert.interfaces.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.hhplus.be.server.concert.application.service.SeatProvisioningService;
+import kr.hhplus.be.server.concert.interfaces.api.dto.ScheduleProvisionRequest;
+import kr.hhplus.be.server.concert.interfaces.api.dto.ScheduleProvisionResponse;
+import kr.hhplus.be.server.shared.common.exception.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 공연 관리 API Controller (Interface Layer)
+ * 운영자용 일정/좌석 생성 API
+ */
+@Tag(name = "Concert Admin", description = "공연 관리 API")
+@RestController
+@RequestMapping("/admin/concerts")
+public class ConcertAdminController {
+
+    private final SeatProvisioningService seatProvisioningService;
+
+    public ConcertAdminController(SeatProvisioningService seatProvisioningService) {
+        this.seatProvisioningService = seatProvisioningService;
+    }
+
+    /**
+     * 공연 일정 및 좌석 일괄 생성
+     * POST /admin/concerts/schedules
+     */
+    @Operation(
+            summary = "공연 일정 및 좌석 일괄 생성",
+            description = "구역 배치대로 공연 일정과 전체 좌석을 JDBC 배치로 생성합니다. "
+                    + "같은 요청을 반복해도 이미 있는 좌석은 건너뛰며, 중간에 실패하면 재요청으로 이어서 생성합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "생성 완료",
+                    content = @Content(schema = @Schema(implementation = ScheduleProvisionResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 날짜 또는 좌석 배치",
+                    content = @Content(
+                            mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
+            )
+    })
+    @PostMapping("/schedules")
+    public ResponseEntity<ScheduleProvisionResponse> provisionSchedule(
+            @RequestBody ScheduleProvisionRequest request
+    ) {
+        return ResponseEntity.ok(seatProvisioningService.provision(request));
+    }
+}
@@ -7,15 +7,28 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.hhplus.be.server.concert.application.service.AvailableDatesCache;
+import kr.hhplus.be.server.concert.application.service.CompactSeatMapService;
 import kr.hhplus.be.server.concert.application.service.ConcertRankingService;
 import kr.hhplus.be.server.concert.application.service.ConcertService;
+import kr.hhplus.be.server.concert.application.service.SeatExportService;
+import kr.hhplus.be.server.concert.application.service.SeatAvailabilityService;
+import kr.hhplus.be.server.concert.application.service.SeatMapStreamService;
 import kr.hhplus.be.server.concert.interfaces.api.dto.AvailableDatesResponse;
+import kr.hhplus.be.server.concert.interfaces.api.dto.CompactSeatMapResponse;
 import kr.hhplus.be.server.concert.interfaces.api.dto.ConcertRankingResponse;
+import kr.hhplus.be.server.concert.interfaces.api.dto.SeatAvailabilityResponse;
 import kr.hhplus.be.server.concert.interfaces.api.dto.SeatListResponse;
+import kr.hhplus.be.server.concert.interfaces.api.dto.SeatPageResponse;
+import kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus;
+import kr.hhplus.be.server.shared.common.ConcertDates;
 import kr.hhplus.be.server.shared.common.exception.ProblemDetail;
 import kr.hhplus.be.server.queue.application.service.QueueService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * 공연 조회 API Controller (Interface Layer)
@@ -26,14 +39,32 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/concerts")
 public class ConcertController {
 
+    /**
+     * 압축 좌석 맵 요청용 벤더 미디어 타입 (Accept 헤더로 협상)
+     */
+    public static final String SEAT_MAP_MEDIA_TYPE = "application/vnd.hhplus.seatmap+json";
+
     private final ConcertService concertService;
     private final ConcertRankingService concertRankingService;
     private final QueueService queueService;
+    private final SeatMapStreamService seatMapStreamService;
+    private final CompactSeatMapService compactSeatMapService;
+    private final SeatExportService seatExportService;
+    private final SeatAvailabilityService seatAvailabilityService;
+    private final AvailableDatesCache availableDatesCache;
 
-    public ConcertController(ConcertService concertService, ConcertRankingService concertRankingService, QueueService queueService) {
+    public ConcertController(ConcertService concertService, ConcertRankingService concertRankingService,
+                             QueueService queueService, SeatMapStreamService seatMapStreamService,
+                             CompactSeatMapService compactSeatMapService, SeatExportService seatExportService,
+                             SeatAvailabilityService seatAvailabilityService, AvailableDatesCache availableDatesCache) {
         this.concertService = concertService;
+        this.availableDatesCache = availableDatesCache;
+        this.seatAvailabilityService = seatAvailabilityService;
+        this.compactSeatMapService = compactSeatMapService;
+        this.seatExportService = seatExportService;
         this.concertRankingService = concertRankingService;
         this.queueService = queueService;
+        this.seatMapStreamService = seatMapStreamService;
     }
 
     /**
@@ -42,7 +73,8 @@ public class ConcertController {
      */
     @Operation(
             summary = "예약 가능한 날짜 조회",
-            description = "예약 가능한 공연 날짜 목록을 조회합니다."
+            description = "예약 가능한 공연 날짜 목록을 조회합니다. "
+                    + "응답은 노드별로 직렬화된 상태로 캐시되며, 일정 추가/매진/매진 해제 시 무효화됩니다."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -67,23 +99,59 @@ public class ConcertController {
                     )
             )
     })
-    @GetMapping("/available-dates")
-    public ResponseEntity<AvailableDatesResponse> getAvailableDates(
+    @GetMapping(value = "/available-dates", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getAvailableDates(
             @Parameter(description = "대기열 토큰", required = true)
             @RequestHeader("X-QUEUE-TOKEN") String token
     ) {
         queueService.validateToken(token);
-        AvailableDatesResponse response = concertService.getAvailableDates();
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(availableDatesCache.getBody());
+    }
+
+    /**
+     * 날짜별 잔여 좌석 요약 조회
+     * GET /concerts/availability
+     */
+    @Operation(
+            summary = "날짜별 잔여 좌석 요약 조회",
+            description = "예정된 전체 공연 날짜의 전체/잔여 좌석 수와 매진 여부(soldOut)를 조회합니다. "
+                    + "좌석 목록을 읽지 않고 날짜별 잔여 좌석 카운터로 응답합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = SeatAvailabilityResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "유효하지 않은 토큰",
+                    content = @Content(
+                            mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
+            )
+    })
+    @GetMapping("/availability")
+    public ResponseEntity<SeatAvailabilityResponse> getAvailability(
+            @Parameter(description = "대기열 토큰", required = true)
+            @RequestHeader("X-QUEUE-TOKEN") String token
+    ) {
+        queueService.validateToken(token);
+        return ResponseEntity.ok(seatAvailabilityService.getAvailability());
     }
 
     /**
      * 좌석 목록 조회
-     * GET /concerts/seats?date={date}
+     * GET /concerts/seats?date={date}&sinceVersion={version}
      */
     @Operation(
             summary = "좌석 목록 조회",
-            description = "특정 날짜의 좌석 목록 및 예약 상태를 조회합니다."
+            description = "특정 날짜의 좌석 목록 및 예약 상태를 조회합니다. "
+                    + "sinceVersion을 전달하면 해당 버전 이후 변경된 좌석만 반환하며(snapshot=false), "
+                    + "변경 이력을 이어받을 수 없으면 전체 스냅샷(snapshot=true)을 반환합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -121,13 +189,217 @@ public class ConcertController {
             @Parameter(description = "대기열 토큰", required = true)
             @RequestHeader("X-QUEUE-TOKEN") String token,
             @Parameter(description = "조회할 날짜 (YYYY-MM-DD)", required = true, example = "2025-12-25")
-            @RequestParam String date
+            @RequestParam String date,
+            @Parameter(description = "마지막으로 받은 좌석 버전 (없으면 전체 조회)", example = "42")
+            @RequestParam(required = false) Long sinceVersion
     ) {
         queueService.validateToken(token);
-        SeatListResponse response = concertService.getSeats(date);
+        ConcertDates.validate(date);
+        SeatListResponse response = sinceVersion != null
+                ? concertService.getSeatChanges(date, sinceVersion)
+                : concertService.getSeats(date);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 압축 좌석 맵 조회 (쿼리 파라미터 협상)
+     * GET /concerts/seats?date={date}&format={rle|bitmap}
+     */
+    @Operation(
+            summary = "압축 좌석 맵 조회",
+            description = "좌석 상태만 RLE(format=rle) 또는 좌석당 2비트 비트맵(format=bitmap)으로 반환합니다. "
+                    + "Accept: " + SEAT_MAP_MEDIA_TYPE + " 헤더로도 요청할 수 있으며(기본 rle), "
+                    + "예약자/만료 시각은 GET /concerts/seats/{seatNumber}로 개별 조회합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CompactSeatMapResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 날짜 형식 또는 지원하지 않는 형식",
+                    content = @Content(
+                            mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "유효하지 않은 토큰",
+                    content = @Content(
+                            mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
+            )
+    })
+    @GetMapping(value = "/seats", params = "format")
+    public ResponseEntity<CompactSeatMapResponse> getCompactSeatMap(
+            @Parameter(description = "대기열 토큰", required = true)
+            @RequestHeader("X-QUEUE-TOKEN") String token,
+            @Parameter(description = "조회할 날짜 (YYYY-MM-DD)", required = true, example = "2025-12-25")
+            @RequestParam String date,
+            @Parameter(description = "좌석 맵 형식 (rle | bitmap)", required = true, example = "rle")
+            @RequestParam String format,
+            @Parameter(description = "구역 (없으면 날짜 전체)", example = "A")
+            @RequestParam(required = false) String section
+    ) {
+        queueService.validateToken(token);
+        ConcertDates.validate(date);
+        return ResponseEntity.ok(compactSeatMapService.getCompactSeatMap(date, section, format));
+    }
+
+    /**
+     * 압축 좌석 맵 조회 (Accept 헤더 협상)
+     * GET /concerts/seats?date={date}  (Accept: application/vnd.hhplus.seatmap+json)
+     */
+    @Operation(summary = "압축 좌석 맵 조회 (Accept 협상)", description = "RLE 형식의 압축 좌석 맵을 반환합니다.")
+    @GetMapping(value = "/seats", produces = SEAT_MAP_MEDIA_TYPE)
+    public ResponseEntity<CompactSeatMapResponse> getCompactSeatMapByAccept(
+            @Parameter(description = "대기열 토큰", required = true)
+            @RequestHeader("X-QUEUE-TOKEN") String token,
+            @Parameter(description = "조회할 날짜 (YYYY-MM-DD)", required = true, example = "2025-12-25")
+            @RequestParam String date,
+            @Parameter(description = "구역 (없으면 날짜 전체)", example = "A")
+            @RequestParam(required = false) String section
+    ) {
+        return getCompactSeatMap(token, date, CompactSeatMapService.ENCODING_RLE, section);
+    }
+
+    /**
+     * 좌석 키셋 페이지 조회
+     * GET /concerts/seats/page?date={date}&section={section}&cursor={cursor}&size={size}
+     */
+    @Operation(
+            summary = "좌석 페이지 조회",
+            description = "대형 공연장의 좌석을 (구역, 좌석번호) 순 키셋 페이지로 조회합니다. "
+                    + "응답의 nextCursor를 다음 요청의 cursor로 전달하며, 마지막 페이지면 nextCursor가 null입니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = SeatPageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 날짜 형식 또는 커서",
+                    content = @Content(
+                            mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
+            )
+    })
+    @GetMapping("/seats/page")
+    public ResponseEntity<SeatPageResponse> getSeatPage(
+            @Parameter(description = "대기열 토큰", required = true)
+            @RequestHeader("X-QUEUE-TOKEN") String token,
+            @Parameter(description = "조회할 날짜 (YYYY-MM-DD)", required = true, example = "2025-12-25")
+            @RequestParam String date,
+            @Parameter(description = "구역 (없으면 날짜 전체)", example = "A")
+            @RequestParam(required = false) String section,
+            @Parameter(description = "이전 응답의 nextCursor", example = "A:500")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 500, 최대 1000)", example = "500")
+            @RequestParam(required = false) Integer size
+    ) {
+        queueService.validateToken(token);
+        ConcertDates.validate(date);
+        return ResponseEntity.ok(concertService.getSeatPage(date, section, cursor, size));
+    }
+
+    /**
+     * 좌석 전체 내보내기 (스트리밍)
+     * GET /concerts/seats/export?date={date}
+     */
+    @Operation(
+            summary = "좌석 전체 내보내기",
+            description = "날짜의 전체 좌석을 키셋 페이지 단위로 읽으며 JSON으로 스트리밍합니다. "
+                    + "서버는 전체 좌석 목록을 메모리에 올리지 않습니다."
+    )
+    @GetMapping(value = "/seats/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportSeats(
+            @Parameter(description = "대기열 토큰", required = true)
+            @RequestHeader("X-QUEUE-TOKEN") String token,
+            @Parameter(description = "조회할 날짜 (YYYY-MM-DD)", required = true, example = "2025-12-25")
+            @RequestParam String date
+    ) {
+        queueService.validateToken(token);
+        ConcertDates.validate(date);
+        StreamingResponseBody body = out -> seatExportService.exportSeats(date, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * 좌석 상세 조회
+     * GET /concerts/seats/{seatNumber}?date={date}
+     */
+    @Operation(summary = "좌석 상세 조회", description = "압축 좌석 맵에서 선택한 좌석의 상태와 임시 배정 정보를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = SeatStatus.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "좌석 없음",
+                    content = @Content(
+                            mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
+            )
+    })
+    @GetMapping("/seats/{seatNumber:\\d+}")
+    public ResponseEntity<SeatStatus> getSeat(
+            @Parameter(description = "대기열 토큰", required = true)
+            @RequestHeader("X-QUEUE-TOKEN") String token,
+            @Parameter(description = "조회할 날짜 (YYYY-MM-DD)", required = true, example = "2025-12-25")
+            @RequestParam String date,
+            @Parameter(description = "좌석 번호", required = true, example = "15")
+            @PathVariable Integer seatNumber
+    ) {
+        queueService.validateToken(token);
+        ConcertDates.validate(date);
+        return ResponseEntity.ok(concertService.getSeat(date, seatNumber));
+    }
+
+    /**
+     * 좌석 맵 실시간 구독 (SSE)
+     * GET /concerts/seats/stream?date={date}
+     */
+    @Operation(
+            summary = "좌석 맵 실시간 구독",
+            description = "특정 날짜의 좌석 상태 변경을 Server-Sent Events로 수신합니다. "
+                    + "init(현재 버전) → seat(변경 좌석, id=버전) 순으로 전달되며, "
+                    + "수신이 밀리면 resync 이벤트 후 sinceVersion 증분 조회로 따라잡아야 합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "구독 성공"),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "유효하지 않은 토큰",
+                    content = @Content(
+                            mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
+            )
+    })
+    @GetMapping(value = "/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSeats(
+            @Parameter(description = "대기열 토큰", required = true)
+            @RequestHeader("X-QUEUE-TOKEN") String token,
+            @Parameter(description = "구독할 날짜 (YYYY-MM-DD)", required = true, example = "2025-12-25")
+            @RequestParam String date
+    ) {
+        queueService.validateToken(token);
+        ConcertDates.validate(date);
+        return seatMapStreamService.subscribe(date);
+    }
+
     /**
      * 빠른 매진 랭킹 조회
      * GET /concerts/ranking
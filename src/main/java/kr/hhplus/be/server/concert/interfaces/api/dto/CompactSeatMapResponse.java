@@ -0,0 +1,93 @@
+package kr.hhplus.be.server.concert.interfaces.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 압축 좌석 맵 응답 DTO
+ *
+ * - encoding=rle    : data는 "A12T1R3" 형태의 상태 구간 문자열
+ * - encoding=bitmap : data는 좌석당 2비트 비트맵의 Base64 문자열
+ * - section이 있으면 해당 구역의 좌석만 포함 (없으면 날짜 전체)
+ * - 좌석 i(0부터)의 좌석번호는 firstSeatNumber + i
+ * - 상태 코드: A/0=예약 가능, T/1=임시 배정, R/2=예약 완료, X/3=좌석 없음
+ * - 예약자/만료 시각 등 상세 정보는 GET /concerts/seats/{seatNumber} 로 개별 조회
+ */
+public class CompactSeatMapResponse {
+    private String date;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String section;
+    private long version;
+    private int firstSeatNumber;
+    private int seatCount;
+    private String encoding;
+    private String data;
+
+    public CompactSeatMapResponse() {
+    }
+
+    public CompactSeatMapResponse(String date, long version, int firstSeatNumber, int seatCount,
+                                  String encoding, String data) {
+        this.date = date;
+        this.version = version;
+        this.firstSeatNumber = firstSeatNumber;
+        this.seatCount = seatCount;
+        this.encoding = encoding;
+        this.data = data;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public String getSection() {
+        return section;
+    }
+
+    public void setSection(String section) {
+        this.section = section;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public int getFirstSeatNumber() {
+        return firstSeatNumber;
+    }
+
+    public void setFirstSeatNumber(int firstSeatNumber) {
+        this.firstSeatNumber = firstSeatNumber;
+    }
+
+    public int getSeatCount() {
+        return seatCount;
+    }
+
+    public void setSeatCount(int seatCount) {
+        this.seatCount = seatCount;
+    }
+
+    public String getEncoding() {
+        return encoding;
+    }
+
+    public void setEncoding(String encoding) {
+        this.encoding = encoding;
+    }
+
+    public String getData() {
+        return data;
+    }
+
+    public void setData(String data) {
+        this.data = data;
+    }
+}
@@ -0,0 +1,94 @@
+package kr.hhplus.be.server.concert.interfaces.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 공연 일정 + 좌석 일괄 생성 요청 DTO
+ *
+ * 좌석번호는 sections 순서대로 구역 → 열 → 열 내 좌석 순으로 1부터 연속 부여됩니다.
+ * 같은 요청을 다시 보내면 이미 있는 좌석은 건너뛰고 빠진 좌석만 생성합니다.
+ */
+@Schema(description = "공연 일정 및 좌석 일괄 생성 요청")
+public class ScheduleProvisionRequest {
+
+    @Schema(description = "공연 날짜", example = "2025-12-25")
+    private String date;
+
+    @Schema(description = "구역별 좌석 배치")
+    private List<SectionLayout> sections;
+
+    public ScheduleProvisionRequest() {
+    }
+
+    public ScheduleProvisionRequest(String date, List<SectionLayout> sections) {
+        this.date = date;
+        this.sections = sections;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public List<SectionLayout> getSections() {
+        return sections;
+    }
+
+    public void setSections(List<SectionLayout> sections) {
+        this.sections = sections;
+    }
+
+    /**
+     * 구역 배치 (열 수 x 열당 좌석 수)
+     */
+    @Schema(description = "구역 배치")
+    public static class SectionLayout {
+
+        @Schema(description = "구역명", example = "A")
+        private String section;
+
+        @Schema(description = "열 수", example = "50")
+        private Integer rows;
+
+        @Schema(description = "열당 좌석 수", example = "40")
+        private Integer seatsPerRow;
+
+        public SectionLayout() {
+        }
+
+        public SectionLayout(String section, Integer rows, Integer seatsPerRow) {
+            this.section = section;
+            this.rows = rows;
+            this.seatsPerRow = seatsPerRow;
+        }
+
+        public String getSection() {
+            return section;
+        }
+
+        public void setSection(String section) {
+            this.section = section;
+        }
+
+        public Integer getRows() {
+            return rows;
+        }
+
+        public void setRows(Integer rows) {
+            this.rows = rows;
+        }
+
+        public Integer getSeatsPerRow() {
+            return seatsPerRow;
+        }
+
+        public void setSeatsPerRow(Integer seatsPerRow) {
+            this.seatsPerRow = seatsPerRow;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package kr.hhplus.be.server.concert.interfaces.api.dto;
+
+/**
+ * 공연 일정 + 좌석 일괄 생성 응답 DTO
+ *
+ * - totalSeats   : 생성 후 날짜의 전체 좌석 수
+ * - createdSeats : 이번 요청으로 새로 생성된 좌석 수 (재요청 시 0)
+ */
+public class ScheduleProvisionResponse {
+    private String date;
+    private long totalSeats;
+    private long createdSeats;
+    private long elapsedMillis;
+
+    public ScheduleProvisionResponse() {
+    }
+
+    public ScheduleProvisionResponse(String date, long totalSeats, long createdSeats, long elapsedMillis) {
+        this.date = date;
+        this.totalSeats = totalSeats;
+        this.createdSeats = createdSeats;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public long getTotalSeats() {
+        return totalSeats;
+    }
+
+    public void setTotalSeats(long totalSeats) {
+        this.totalSeats = totalSeats;
+    }
+
+    public long getCreatedSeats() {
+        return createdSeats;
+    }
+
+    public void setCreatedSeats(long createdSeats) {
+        this.createdSeats = createdSeats;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+}
@@ -0,0 +1,52 @@
+package kr.hhplus.be.server.concert.interfaces.api.dto;
+
+import java.util.List;
+
+/**
+ * 날짜별 잔여 좌석 요약 응답 DTO
+ */
+public class SeatAvailabilityResponse {
+
+    private final List<DateAvailability> dates;
+
+    public SeatAvailabilityResponse(List<DateAvailability> dates) {
+        this.dates = dates;
+    }
+
+    public List<DateAvailability> getDates() {
+        return dates;
+    }
+
+    /**
+     * 날짜별 잔여 좌석 정보
+     */
+    public static class DateAvailability {
+        private final String date;
+        private final long totalSeats;
+        private final long availableSeats;
+        private final boolean soldOut;
+
+        public DateAvailability(String date, long totalSeats, long availableSeats) {
+            this.date = date;
+            this.totalSeats = totalSeats;
+            this.availableSeats = availableSeats;
+            this.soldOut = availableSeats <= 0;
+        }
+
+        public String getDate() {
+            return date;
+        }
+
+        public long getTotalSeats() {
+            return totalSeats;
+        }
+
+        public long getAvailableSeats() {
+            return availableSeats;
+        }
+
+        public boolean isSoldOut() {
+            return soldOut;
+        }
+    }
+}
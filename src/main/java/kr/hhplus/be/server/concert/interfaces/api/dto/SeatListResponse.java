@@ -4,10 +4,16 @@ import java.util.List;
 
 /**
  * 좌석 목록 응답 DTO
+ *
+ * - snapshot=true : seats는 해당 날짜의 전체 좌석
+ * - snapshot=false: seats는 sinceVersion 이후 변경된 좌석만 포함 (증분 응답)
+ * - version       : 다음 증분 조회 시 sinceVersion으로 전달할 값
  */
 public class SeatListResponse {
     private String date;
     private List<SeatStatus> seats;
+    private long version;
+    private boolean snapshot = true;
 
     public SeatListResponse() {
     }
@@ -17,6 +23,13 @@ public class SeatListResponse {
         this.seats = seats;
     }
 
+    public SeatListResponse(String date, List<SeatStatus> seats, long version, boolean snapshot) {
+        this.date = date;
+        this.seats = seats;
+        this.version = version;
+        this.snapshot = snapshot;
+    }
+
     public String getDate() {
         return date;
     }
@@ -32,4 +45,20 @@ public class SeatListResponse {
     public void setSeats(List<SeatStatus> seats) {
         this.seats = seats;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public boolean isSnapshot() {
+        return snapshot;
+    }
+
+    public void setSnapshot(boolean snapshot) {
+        this.snapshot = snapshot;
+    }
 }
@@ -0,0 +1,58 @@
+package kr.hhplus.be.server.concert.interfaces.api.dto;
+
+import java.util.List;
+
+/**
+ * 좌석 키셋 페이지 응답 DTO
+ *
+ * - section   : 구역 조회 시 구역명, 날짜 전체 조회 시 null
+ * - nextCursor: 다음 페이지 요청 시 cursor로 전달할 값 (마지막 페이지면 null)
+ */
+public class SeatPageResponse {
+    private String date;
+    private String section;
+    private List<SeatStatus> seats;
+    private String nextCursor;
+
+    public SeatPageResponse() {
+    }
+
+    public SeatPageResponse(String date, String section, List<SeatStatus> seats, String nextCursor) {
+        this.date = date;
+        this.section = section;
+        this.seats = seats;
+        this.nextCursor = nextCursor;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public String getSection() {
+        return section;
+    }
+
+    public void setSection(String section) {
+        this.section = section;
+    }
+
+    public List<SeatStatus> getSeats() {
+        return seats;
+    }
+
+    public void setSeats(List<SeatStatus> seats) {
+        this.seats = seats;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
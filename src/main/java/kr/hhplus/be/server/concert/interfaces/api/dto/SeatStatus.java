@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.concert.interfaces.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
 
@@ -21,6 +22,14 @@ public class SeatStatus {
     @Schema(description = "임시 홀드 만료 시각 (임시예약인 경우)", example = "2025-12-03T10:35:00", nullable = true)
     private LocalDateTime tempHoldExpires;
 
+    @Schema(description = "구역 (좌석 목록/내보내기 조회 시)", example = "A", nullable = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String section;
+
+    @Schema(description = "열 번호 (좌석 목록/내보내기 조회 시)", example = "3", nullable = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer row;
+
     public SeatStatus() {
     }
 
@@ -31,6 +40,13 @@ public class SeatStatus {
         this.tempHoldExpires = tempHoldExpires;
     }
 
+    public SeatStatus(Integer seatNumber, SeatStatusEnum status, String reservedBy, LocalDateTime tempHoldExpires,
+                      String section, Integer row) {
+        this(seatNumber, status, reservedBy, tempHoldExpires);
+        this.section = section;
+        this.row = row;
+    }
+
     public Integer getSeatNumber() {
         return seatNumber;
     }
@@ -63,6 +79,22 @@ public class SeatStatus {
         this.tempHoldExpires = tempHoldExpires;
     }
 
+    public String getSection() {
+        return section;
+    }
+
+    public void setSection(String section) {
+        this.section = section;
+    }
+
+    public Integer getRow() {
+        return row;
+    }
+
+    public void setRow(Integer row) {
+        this.row = row;
+    }
+
     @Schema(description = "좌석 상태 열거형")
     public enum SeatStatusEnum {
         @Schema(description = "예약 가능")
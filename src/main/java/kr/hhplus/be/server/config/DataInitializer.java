@@ -1,9 +1,9 @@
 package kr.hhplus.be.server.config;
 
-import kr.hhplus.be.server.concert.domain.model.ConcertSchedule;
-import kr.hhplus.be.server.concert.domain.repository.ConcertScheduleRepository;
+import kr.hhplus.be.server.concert.application.service.SeatProvisioningService;
 import kr.hhplus.be.server.concert.domain.model.Seat;
-import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import kr.hhplus.be.server.concert.interfaces.api.dto.ScheduleProvisionRequest;
+import kr.hhplus.be.server.concert.interfaces.api.dto.ScheduleProvisionRequest.SectionLayout;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,6 +11,7 @@ import org.springframework.context.annotation.Profile;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 /**
  * Mock 데이터 초기화
@@ -22,26 +23,16 @@ public class DataInitializer {
     private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
     @Bean
-    CommandLineRunner initData(
-            ConcertScheduleRepository scheduleRepository,
-            SeatRepository seatRepository) {
+    CommandLineRunner initData(SeatProvisioningService seatProvisioningService) {
         return args -> {
-            // Mock 공연 일정 3개 생성
+            // Mock 공연 일정 3개 생성 (각 일정마다 A구역 5열 x 10석, 이미 있는 좌석은 건너뜀)
             LocalDate today = LocalDate.now();
             for (int i = 1; i <= 3; i++) {
-                LocalDate concertDate = today.plusDays(i);
-                
-                if (scheduleRepository.findByConcertDate(concertDate).isEmpty()) {
-                    ConcertSchedule schedule = new ConcertSchedule(concertDate);
-                    scheduleRepository.save(schedule);
-                    
-                    // 각 일정마다 50개 좌석 생성
-                    String dateStr = concertDate.format(formatter);
-                    for (int seatNum = 1; seatNum <= 50; seatNum++) {
-                        Seat seat = new Seat(dateStr, seatNum);
-                        seatRepository.save(seat);
-                    }
-                }
+                String concertDate = today.plusDays(i).format(formatter);
+                seatProvisioningService.provision(new ScheduleProvisionRequest(
+                        concertDate,
+                        List.of(new SectionLayout(Seat.DEFAULT_SECTION, 5, 10))
+                ));
             }
             
             System.out.println("✅ Mock 데이터 초기화 완료");
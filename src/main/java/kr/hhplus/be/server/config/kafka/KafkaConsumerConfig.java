@@ -19,6 +19,11 @@ import java.util.Map;
  * - auto.offset.reset=earliest: 가장 처음 메시지부터 소비
  * - enable.auto.commit=false: 수동 커밋 (At-Least-Once 보장)
  * - AckMode.MANUAL: 메시지 처리 완료 후 수동으로 offset 커밋
+ *
+ * 좌석 명령/응답 컨슈머는 배치 리스너 (poll 한 번에 받은 명령을 한 트랜잭션으로 처리)
+ * - concurrency: 노드당 컨슈머 스레드 수, 파티션 하나는 한 스레드만 소유
+ *
+ * 좌석 상태 읽기 모델 컨슈머도 배치 리스너 (poll 단위로 Redis에 한 번에 반영)
  */
 @Configuration
 public class KafkaConsumerConfig {
@@ -29,6 +34,12 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${reservation.kafka-commands.concurrency:3}")
+    private int seatCommandConcurrency;
+
+    @Value("${concert.projection.concurrency:3}")
+    private int seatProjectionConcurrency;
+
     @Bean
     public ConsumerFactory<String, String> consumerFactory() {
         Map<String, Object> configProps = new HashMap<>();
@@ -49,4 +60,26 @@ public class KafkaConsumerConfig {
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
         return factory;
     }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> seatCommandListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        factory.setConcurrency(seatCommandConcurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> seatProjectionListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        factory.setConcurrency(seatProjectionConcurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
 }
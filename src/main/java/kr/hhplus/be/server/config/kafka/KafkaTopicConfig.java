@@ -11,6 +11,10 @@ import org.springframework.kafka.config.TopicBuilder;
  * 토픽 구성:
  * - payment-success: 결제 성공 이벤트 (파티션 3개, Replication Factor 2)
  * - reservation-completed: 예약 완료 이벤트 (파티션 3개, Replication Factor 2)
+ * - seat-commands: 좌석 선점 명령 (파티션 6개, 키 = 공연 날짜 → 날짜별로 한 컨슈머가 순서대로 처리)
+ * - seat-command-replies: 좌석 선점 명령 응답 (파티션 3개, 키 = 요청 노드 인스턴스 ID)
+ * - seat-state: 좌석 상태 읽기 모델 원본 (파티션 6개, compact, 키 = 공연 날짜:좌석번호[:layout])
+ *   → 좌석별 최신 상태만 남으므로 처음부터 다시 읽으면 읽기 모델 전체를 재구성할 수 있음
  *
  * 파티션 설계:
  * - 3개의 파티션으로 병렬 처리 가능
@@ -24,6 +28,10 @@ public class KafkaTopicConfig {
 
     public static final String TOPIC_PAYMENT_SUCCESS = "payment-success";
     public static final String TOPIC_RESERVATION_COMPLETED = "reservation-completed";
+    public static final String TOPIC_RESERVATION_BATCH_COMPLETED = "reservation-batch-completed";
+    public static final String TOPIC_SEAT_COMMANDS = "seat-commands";
+    public static final String TOPIC_SEAT_COMMAND_REPLIES = "seat-command-replies";
+    public static final String TOPIC_SEAT_STATE = "seat-state";
 
     @Bean
     public NewTopic paymentSuccessTopic() {
@@ -40,4 +48,37 @@ public class KafkaTopicConfig {
                 .replicas(2)
                 .build();
     }
+
+    @Bean
+    public NewTopic reservationBatchCompletedTopic() {
+        return TopicBuilder.name(TOPIC_RESERVATION_BATCH_COMPLETED)
+                .partitions(3)
+                .replicas(2)
+                .build();
+    }
+
+    @Bean
+    public NewTopic seatCommandsTopic() {
+        return TopicBuilder.name(TOPIC_SEAT_COMMANDS)
+                .partitions(6)
+                .replicas(2)
+                .build();
+    }
+
+    @Bean
+    public NewTopic seatCommandRepliesTopic() {
+        return TopicBuilder.name(TOPIC_SEAT_COMMAND_REPLIES)
+                .partitions(3)
+                .replicas(2)
+                .build();
+    }
+
+    @Bean
+    public NewTopic seatStateTopic() {
+        return TopicBuilder.name(TOPIC_SEAT_STATE)
+                .partitions(6)
+                .replicas(2)
+                .compact()
+                .build();
+    }
 }
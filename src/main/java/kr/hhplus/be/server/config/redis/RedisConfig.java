@@ -6,10 +6,13 @@ import org.redisson.config.Config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 /**
  * Redis (Redisson) 설정
- * 분산락을 위한 RedissonClient 빈 등록
+ * - 분산락을 위한 RedissonClient 빈 등록
+ * - Pub/Sub 구독을 위한 RedisMessageListenerContainer 빈 등록 (노드당 하나의 구독 커넥션 공유)
  */
 @Configuration
 public class RedisConfig {
@@ -29,4 +32,11 @@ public class RedisConfig {
                 .setConnectionPoolSize(2);
         return Redisson.create(config);
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
@@ -6,7 +6,10 @@ import kr.hhplus.be.server.point.application.service.PointService;
 import kr.hhplus.be.server.queue.application.service.QueueService;
 import kr.hhplus.be.server.shared.common.exception.BusinessException;
 import kr.hhplus.be.server.shared.infrastructure.lock.DistributedLock;
+import kr.hhplus.be.server.concert.application.event.SeatEventPublisher;
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
 import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
 import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
 import kr.hhplus.be.server.reservation.domain.model.Reservation;
 import kr.hhplus.be.server.reservation.domain.repository.ReservationRepository;
@@ -37,6 +40,7 @@ public class PaymentService {
     private final PointService pointService;
     private final QueueService queueService;
     private final PaymentEventPublisher paymentEventPublisher;
+    private final SeatEventPublisher seatEventPublisher;
 
     public PaymentService(
             ReservationRepository reservationRepository,
@@ -44,13 +48,15 @@ public class PaymentService {
             PaymentRepository paymentRepository,
             PointService pointService,
             QueueService queueService,
-            PaymentEventPublisher paymentEventPublisher) {
+            PaymentEventPublisher paymentEventPublisher,
+            SeatEventPublisher seatEventPublisher) {
         this.reservationRepository = reservationRepository;
         this.seatRepository = seatRepository;
         this.paymentRepository = paymentRepository;
         this.pointService = pointService;
         this.queueService = queueService;
         this.paymentEventPublisher = paymentEventPublisher;
+        this.seatEventPublisher = seatEventPublisher;
     }
 
     /**
@@ -58,7 +64,7 @@ public class PaymentService {
      * 
      * 분산락 키: "payment:{userId}:{date}:{seatNumber}"
      * - 동일 예약에 대한 중복 결제 요청 방지
-     * - 포인트 차감은 별도의 분산락(point:{userId})으로 보호됨
+     * - 포인트 차감은 point.balance.strategy에 따라 분산락(point:{userId}) 또는 조건부 UPDATE로 보호됨
      */
     @DistributedLock(key = "'payment:' + #request.userId + ':' + #request.date + ':' + #request.seatNumber", waitTime = 10, leaseTime = 10)
     @Transactional
@@ -74,25 +80,23 @@ public class PaymentService {
                         request.getSeatNumber(),
                         ReservationStatus.TEMP_HELD
                 )
-                .orElseThrow(() -> new BusinessException(
-                        "임시 예약을 찾을 수 없습니다.", 
-                        "reservation-not-found", 
-                        404
-                ));
+                .orElseThrow(() -> reservationNotFound(request));
 
         // 3. 예약 만료 확인
         if (reservation.isExpired()) {
             throw new BusinessException("예약 시간이 만료되었습니다.", "reservation-expired", 400);
         }
 
-        // 4. 포인트 차감 (내부에서 분산락으로 동시성 제어)
-        pointService.usePoint(request.getUserId(), MOCK_PRICE);
+        // 4. 포인트 차감 (point.balance.strategy에 따른 동시성 제어, 차감 후 잔액은 응답에 사용)
+        long remainingBalance = pointService.usePoint(request.getUserId(), MOCK_PRICE);
 
         // 5. 좌석 상태 변경
         Seat seat = seatRepository.findById(reservation.getSeatId())
                 .orElseThrow(() -> new BusinessException("좌석을 찾을 수 없습니다.", "seat-not-found", 404));
+        SeatStatus previousStatus = seat.getStatus();
         seat.confirm();
         seatRepository.save(seat);
+        seatEventPublisher.publishSeatStateChanged(SeatStateChangedEvent.of(seat, previousStatus));
 
         // 6. 예약 확정
         reservation.confirm();
@@ -119,17 +123,36 @@ public class PaymentService {
         // 9. 토큰 만료
         queueService.expireToken(queueToken);
 
-        // 10. 잔액 조회 (응답용)
-        Long remainingBalance = pointService.getBalance(request.getUserId()).getBalance().longValue();
-
-        // 11. 응답 생성
+        // 10. 응답 생성
         return new PaymentResponse(
                 payment.getId().toString(),
                 request.getUserId(),
                 request.getSeatNumber(),
                 MOCK_PRICE.intValue(),
-                remainingBalance.intValue(),
+                (int) remainingBalance,
                 PaymentResponse.PaymentStatus.SUCCESS
         );
     }
+
+    /**
+     * 임시 예약이 없을 때 - 인메모리 엔진의 선점이 DB 반영 단계에서 충돌로 실패했으면 그 사유로 응답
+     */
+    private BusinessException reservationNotFound(PaymentRequest request) {
+        boolean lost = reservationRepository
+                .findByUserIdAndConcertDateAndSeatNumberAndStatus(
+                        request.getUserId(),
+                        request.getDate(),
+                        request.getSeatNumber(),
+                        ReservationStatus.HOLD_LOST
+                )
+                .isPresent();
+        if (lost) {
+            return new BusinessException(
+                    "좌석 선점이 다른 예약과 충돌하여 확정되지 못했습니다. 다시 예약해주세요.",
+                    "reservation-hold-lost",
+                    409
+            );
+        }
+        return new BusinessException("임시 예약을 찾을 수 없습니다.", "reservation-not-found", 404);
+    }
 }
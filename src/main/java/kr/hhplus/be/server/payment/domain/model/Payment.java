@@ -1,18 +1,28 @@
 package kr.hhplus.be.server.payment.domain.model;
 
 import jakarta.persistence.*;
+import kr.hhplus.be.server.shared.infrastructure.id.TsidId;
 import java.time.LocalDateTime;
 
 /**
  * 결제 엔티티 (Domain Layer)
  * 도메인 기반 클린 아키텍처
+ *
+ * 식별자: TSID(@TsidId) — INSERT 전에 ID가 정해져 JDBC 배치/쓰기 지연이 적용됨
+ *
+ * 인덱스 설계:
+ * - idx_payment_reservation_status: 예약별 결제 조회 (reservation_id, status)
+ * - idx_payment_user_id: 사용자별 결제 내역
  */
 @Entity
-@Table(name = "payment")
+@Table(name = "payment", indexes = {
+    @Index(name = "idx_payment_reservation_status", columnList = "reservation_id, status"),
+    @Index(name = "idx_payment_user_id", columnList = "user_id")
+})
 public class Payment {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
     
     @Column(name = "reservation_id", nullable = false)
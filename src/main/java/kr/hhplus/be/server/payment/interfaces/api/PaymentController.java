@@ -8,6 +8,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.hhplus.be.server.shared.common.ConcertDates;
 import kr.hhplus.be.server.shared.common.exception.ProblemDetail;
 import kr.hhplus.be.server.payment.application.service.PaymentService;
 import kr.hhplus.be.server.payment.interfaces.api.dto.PaymentRequest;
@@ -97,6 +98,14 @@ public class PaymentController {
                             mediaType = "application/problem+json",
                             schema = @Schema(implementation = ProblemDetail.class)
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "좌석 선점 실패 (인메모리 엔진 모드에서 선점이 DB 반영 단계에서 다른 예약과 충돌)",
+                    content = @Content(
+                            mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
             )
     })
     @PostMapping
@@ -105,6 +114,7 @@ public class PaymentController {
             @RequestHeader("X-QUEUE-TOKEN") String token,
             @RequestBody PaymentRequest request
     ) {
+        ConcertDates.validate(request.getDate());
         PaymentResponse response = paymentService.processPayment(request, token);
         return ResponseEntity.ok(response);
     }
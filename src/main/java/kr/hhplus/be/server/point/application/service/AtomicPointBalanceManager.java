@@ -0,0 +1,79 @@
+package kr.hhplus.be.server.point.application.service;
+
+import kr.hhplus.be.server.point.domain.model.PointBalance;
+import kr.hhplus.be.server.point.domain.model.PointBalanceSnapshot;
+import kr.hhplus.be.server.point.domain.repository.PointBalanceRepository;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 조건부 UPDATE 기반 포인트 잔액 변경 (락 없음)
+ *
+ * - 사용: UPDATE point_balance SET balance = balance - ? WHERE user_id = ? AND balance >= ? 한 문장
+ * - 충전: INSERT ... ON DUPLICATE KEY UPDATE balance = balance + ? 한 문장
+ * - 동시 요청은 DB 행 잠금으로 직렬화되고, 대기한 UPDATE는 최신 잔액으로 조건을 다시 평가함
+ * - 호출자 트랜잭션에 참여하므로 결제가 롤백되면 차감도 함께 롤백됨
+ * - 두 문장 모두 version을 올려 @Version 엔티티 경로와 섞여도 갱신 손실이 없음
+ * - 변경 직후 같은 트랜잭션에서 잔액/version을 다시 읽어 반환 (행 잠금을 쥐고 있어 커밋 순서와 version 순서가 같음)
+ */
+@Component
+public class AtomicPointBalanceManager implements PointBalanceManager {
+
+    public static final String STRATEGY = "atomic";
+
+    private final PointBalanceRepository pointBalanceRepository;
+
+    public AtomicPointBalanceManager(PointBalanceRepository pointBalanceRepository) {
+        this.pointBalanceRepository = pointBalanceRepository;
+    }
+
+    @Override
+    public String strategy() {
+        return STRATEGY;
+    }
+
+    @Override
+    public CachePolicy cachePolicy() {
+        return CachePolicy.WRITE_THROUGH;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long balance(String userId) {
+        return pointBalanceRepository.findById(userId)
+                .map(PointBalance::getBalance)
+                .orElse(0L);
+    }
+
+    @Override
+    @Transactional
+    public PointBalanceSnapshot charge(String userId, long amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("충전 금액은 0보다 커야 합니다.");
+        }
+        pointBalanceRepository.chargePoint(userId, amount);
+        // 같은 트랜잭션이 행 잠금을 쥐고 있으므로 방금 반영한 잔액이 읽힘
+        return pointBalanceRepository.findById(userId)
+                .map(balance -> new PointBalanceSnapshot(userId, balance.getBalance(),
+                        balance.getVersion() != null ? balance.getVersion() : 0L))
+                .orElseThrow(() -> new IllegalStateException("충전한 포인트 잔액을 찾을 수 없습니다: " + userId));
+    }
+
+    @Override
+    @Transactional
+    public PointBalanceSnapshot use(String userId, long amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("사용 금액은 0보다 커야 합니다.");
+        }
+        if (pointBalanceRepository.deductPointIfSufficient(userId, amount) == 1) {
+            return pointBalanceRepository.findSnapshot(userId)
+                    .orElseThrow(() -> new IllegalStateException("차감한 포인트 잔액을 찾을 수 없습니다: " + userId));
+        }
+        // 실패한 경우에만 원인 구분용 조회
+        if (pointBalanceRepository.findById(userId).isEmpty()) {
+            throw new BusinessException("사용자를 찾을 수 없습니다.", "user-not-found", 404);
+        }
+        throw new BusinessException("잔액이 부족합니다.", "insufficient-balance", 400);
+    }
+}
@@ -0,0 +1,100 @@
+package kr.hhplus.be.server.point.application.service;
+
+import kr.hhplus.be.server.point.domain.model.PointBalance;
+import kr.hhplus.be.server.point.domain.model.PointBalanceSnapshot;
+import kr.hhplus.be.server.point.domain.model.PointTransaction;
+import kr.hhplus.be.server.point.domain.repository.PointBalanceRepository;
+import kr.hhplus.be.server.point.domain.repository.PointTransactionRepository;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 원장(point_transaction) 기반 포인트 잔액 변경
+ *
+ * - 잔액 = point_balance 스냅샷 + 미반영 거래 합 (컴팩터가 주기적으로 스냅샷에 합침)
+ * - 충전: 원장 INSERT만 (잔액 행을 건드리지 않아 충전끼리는 서로 기다리지 않음)
+ * - 사용: 스냅샷 행 잠금 → 미반영 거래 잠금 읽기 → 잔액 확인 → 원장 INSERT
+ *   (같은 사용자의 사용끼리는 스냅샷 행 잠금으로 직렬화되어 초과 사용 불가)
+ * - 미반영 거래 잠금 읽기는 idx_point_tx_user_applied의 해당 사용자 범위에 next-key/gap 락을 걸므로,
+ *   사용 트랜잭션이 끝날 때까지 같은 사용자의 충전 INSERT는 대기함
+ *   (확인 도중 새 거래가 끼어들지 않게 하는 대가 - 결제 트랜잭션을 짧게 유지해야 함)
+ * - 호출자 트랜잭션에 참여하므로 결제가 롤백되면 사용 거래도 함께 롤백됨
+ * - 충전끼리는 직렬화되지 않아 반환 잔액의 순서가 커밋 순서와 다를 수 있으므로 캐시는 제거만 함
+ */
+@Component
+public class LedgerPointBalanceManager implements PointBalanceManager {
+
+    public static final String STRATEGY = "ledger";
+
+    private final PointBalanceRepository pointBalanceRepository;
+    private final PointTransactionRepository pointTransactionRepository;
+
+    public LedgerPointBalanceManager(PointBalanceRepository pointBalanceRepository,
+                                     PointTransactionRepository pointTransactionRepository) {
+        this.pointBalanceRepository = pointBalanceRepository;
+        this.pointTransactionRepository = pointTransactionRepository;
+    }
+
+    @Override
+    public String strategy() {
+        return STRATEGY;
+    }
+
+    @Override
+    public CachePolicy cachePolicy() {
+        return CachePolicy.INVALIDATE;
+    }
+
+    /**
+     * 스냅샷 1건 + 미반영 거래 합 (미반영 거래 수는 컴팩션 주기 동안의 거래로 제한됨)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long balance(String userId) {
+        long snapshot = pointBalanceRepository.findById(userId)
+                .map(PointBalance::getBalance)
+                .orElse(0L);
+        return snapshot + pointTransactionRepository.sumPendingAmount(userId);
+    }
+
+    @Override
+    @Transactional
+    public PointBalanceSnapshot charge(String userId, long amount) {
+        pointTransactionRepository.save(PointTransaction.charge(userId, amount));
+        return new PointBalanceSnapshot(userId, balance(userId), 0L);
+    }
+
+    @Override
+    @Transactional
+    public PointBalanceSnapshot use(String userId, long amount) {
+        PointTransaction transaction = PointTransaction.use(userId, amount);
+        long snapshot = lockSnapshot(userId);
+        long pending = pointTransactionRepository.findPendingForUpdate(userId).stream()
+                .mapToLong(PointTransaction::getAmount)
+                .sum();
+
+        if (snapshot + pending < amount) {
+            throw new BusinessException("잔액이 부족합니다.", "insufficient-balance", 400);
+        }
+        pointTransactionRepository.save(transaction);
+        return new PointBalanceSnapshot(userId, snapshot + pending - amount, 0L);
+    }
+
+    /**
+     * 스냅샷 행 잠금 (충전만 있고 아직 컴팩션 전이라 행이 없으면 0원 행을 만들어 잠금)
+     */
+    private long lockSnapshot(String userId) {
+        Optional<Long> snapshot = pointBalanceRepository.findBalanceForUpdate(userId);
+        if (snapshot.isPresent()) {
+            return snapshot.get();
+        }
+        if (!pointTransactionRepository.existsByUserId(userId)) {
+            throw new BusinessException("사용자를 찾을 수 없습니다.", "user-not-found", 404);
+        }
+        pointBalanceRepository.chargePoint(userId, 0L);
+        return pointBalanceRepository.findBalanceForUpdate(userId).orElseThrow();
+    }
+}
@@ -0,0 +1,88 @@
+package kr.hhplus.be.server.point.application.service;
+
+import kr.hhplus.be.server.point.domain.model.PointBalance;
+import kr.hhplus.be.server.point.domain.model.PointBalanceSnapshot;
+import kr.hhplus.be.server.point.domain.repository.PointBalanceRepository;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import kr.hhplus.be.server.shared.infrastructure.lock.DistributedLock;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 분산락 기반 포인트 잔액 변경 (기본 전략)
+ *
+ * 분산락 키: "point:{userId}"
+ * - 동일 사용자의 충전/사용 동시 요청 방지
+ * - DB 비관적 락 대신 Redis 분산락으로 DB 부하 최소화
+ * - 락 AOP는 트랜잭션을 열지 않으므로 use()는 결제 트랜잭션에 참여함 (결제가 롤백되면 차감도 롤백)
+ * - 락은 메서드 반환 시 풀리고 커밋은 결제가 끝날 때 일어나므로, 그 사이 같은 사용자의 다른 변경은
+ *   @Version 검사에서 실패함 (락 해제 ~ 커밋 구간은 낙관적 락이 막음)
+ * - 커밋되는 변경은 version 검사로 직렬화되므로 반환하는 version 순서가 커밋 순서와 같음 (캐시 write-through)
+ */
+@Component
+public class LockingPointBalanceManager implements PointBalanceManager {
+
+    public static final String STRATEGY = "lock";
+
+    private final PointBalanceRepository pointBalanceRepository;
+
+    public LockingPointBalanceManager(PointBalanceRepository pointBalanceRepository) {
+        this.pointBalanceRepository = pointBalanceRepository;
+    }
+
+    @Override
+    public String strategy() {
+        return STRATEGY;
+    }
+
+    @Override
+    public CachePolicy cachePolicy() {
+        return CachePolicy.WRITE_THROUGH;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long balance(String userId) {
+        return pointBalanceRepository.findById(userId)
+                .map(PointBalance::getBalance)
+                .orElse(0L);
+    }
+
+    @Override
+    @DistributedLock(key = "'point:' + #userId", waitTime = 5, leaseTime = 3)
+    @Transactional
+    public PointBalanceSnapshot charge(String userId, long amount) {
+        PointBalance balance = pointBalanceRepository.findById(userId)
+                .orElseGet(() -> new PointBalance(userId));
+
+        balance.charge(amount);
+        PointBalanceSnapshot committed = committedSnapshot(balance);
+        pointBalanceRepository.save(balance);
+        return committed;
+    }
+
+    @Override
+    @DistributedLock(key = "'point:' + #userId", waitTime = 5, leaseTime = 3)
+    @Transactional
+    public PointBalanceSnapshot use(String userId, long amount) {
+        PointBalance balance = pointBalanceRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException("사용자를 찾을 수 없습니다.", "user-not-found", 404));
+
+        if (!balance.hasEnoughBalance(amount)) {
+            throw new BusinessException("잔액이 부족합니다.", "insufficient-balance", 400);
+        }
+
+        balance.use(amount);
+        PointBalanceSnapshot committed = committedSnapshot(balance);
+        pointBalanceRepository.save(balance);
+        return committed;
+    }
+
+    /**
+     * 커밋 시점의 잔액과 version (저장 전 엔티티 기준 - 신규 행은 0, 기존 행은 flush 때 +1)
+     */
+    private PointBalanceSnapshot committedSnapshot(PointBalance balance) {
+        long version = balance.getVersion() == null ? 0L : balance.getVersion() + 1;
+        return new PointBalanceSnapshot(balance.getUserId(), balance.getBalance(), version);
+    }
+}
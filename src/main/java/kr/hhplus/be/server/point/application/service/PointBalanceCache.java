@@ -0,0 +1,180 @@
+package kr.hhplus.be.server.point.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.point.domain.model.PointBalanceSnapshot;
+import kr.hhplus.be.server.point.domain.repository.PointBalanceChannel;
+import kr.hhplus.be.server.point.domain.repository.PointBalanceChannel.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.ToLongFunction;
+
+/**
+ * 포인트 잔액 조회 캐시 (노드 로컬, 사용자별)
+ *
+ * 잔액 조회 API와 결제 응답이 매번 DB를 읽지 않도록 사용자별 잔액을 노드에 보관.
+ *
+ * - write-through: 충전/사용이 커밋되면 변경 결과(잔액, version)를 기록, version이 더 큰 값만 덮어씀
+ * - 롤백: 기록하려던 version이 커밋되지 않았으므로 기록하지 않고 제거만 함
+ * - 노드 간 무효화: 커밋/롤백 후 잔액 변경 채널(Redis Pub/Sub)로 알리고, 다른 노드는 해당 사용자를 제거
+ * - 세대 번호: 조회 중 같은 사용자에게 기록/제거가 들어오면 DB에서 읽은 값을 버려 오래된 잔액이 남지 않도록 함
+ *   (사용자 ID 해시로 나눈 구간별 세대라 메모리는 고정이고, 다른 사용자의 변경은 같은 구간일 때만 영향)
+ * - TTL: 알림 유실에 대비한 안전망 (만료된 항목은 다음 조회 때 DB에서 다시 읽음)
+ * - 최대 항목 수: 넘으면 전부 비움 (잔액은 다시 읽으면 되므로 정교한 축출 정책 없음)
+ */
+@Service
+public class PointBalanceCache {
+
+    private static final Logger log = LoggerFactory.getLogger(PointBalanceCache.class);
+
+    /** DB에서 읽어 채운 항목의 version (어떤 write-through 결과보다도 오래된 것으로 취급) */
+    private static final long UNVERSIONED = -1L;
+
+    /** 세대 번호 구간 수 (2의 거듭제곱) */
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final PointBalanceChannel pointBalanceChannel;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Map<String, CachedBalance> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private Subscription subscription;
+
+    public PointBalanceCache(
+            PointBalanceChannel pointBalanceChannel,
+            MeterRegistry meterRegistry,
+            @Value("${point.cache.ttl-ms:30000}") long ttlMillis,
+            @Value("${point.cache.max-entries:100000}") int maxEntries) {
+        this.pointBalanceChannel = pointBalanceChannel;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.hitCounter = Counter.builder("point.balance.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("point.balance.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("point.balance.cache.size", entries, Map::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        subscription = pointBalanceChannel.subscribe(this::evict);
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * 캐시된 잔액, 없거나 만료되었으면 loader로 읽어 채움
+     */
+    public long get(String userId, ToLongFunction<String> loader) {
+        long now = System.currentTimeMillis();
+        CachedBalance cached = entries.get(userId);
+        if (cached != null && !cached.isExpired(now, ttlMillis)) {
+            hitCounter.increment();
+            return cached.balance();
+        }
+
+        missCounter.increment();
+        long startGeneration = generations.get(stripe(userId));
+        long balance = loader.applyAsLong(userId);
+        store(userId, new CachedBalance(balance, UNVERSIONED, now), startGeneration);
+        return balance;
+    }
+
+    /**
+     * 충전/사용 결과 반영 (트랜잭션 안이면 커밋/롤백 후, 밖이면 즉시)
+     *
+     * @param changed      변경 후 잔액과 version
+     * @param writeThrough true면 커밋 후 기록, false면 커밋 후에도 제거만 함
+     */
+    public void onChanged(PointBalanceSnapshot changed, boolean writeThrough) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(changed, writeThrough);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                apply(changed, writeThrough && status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    /**
+     * 사용자 항목 제거 (다른 노드의 변경 알림 수신 시)
+     */
+    public void evict(String userId) {
+        generations.incrementAndGet(stripe(userId));
+        entries.remove(userId);
+    }
+
+    private void apply(PointBalanceSnapshot changed, boolean writeThrough) {
+        if (writeThrough) {
+            generations.incrementAndGet(stripe(changed.userId()));
+            store(changed.userId(),
+                    new CachedBalance(changed.balance(), changed.version(), System.currentTimeMillis()), null);
+        } else {
+            evict(changed.userId());
+        }
+        try {
+            pointBalanceChannel.publish(changed.userId());
+        } catch (Exception e) {
+            // 다른 노드는 TTL이 지나면 DB에서 다시 읽음
+            log.warn("[PointBalanceCache] 잔액 변경 알림 발행 실패 - userId={}, error={}",
+                    changed.userId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 항목 기록 (version이 더 작은 값으로는 덮어쓰지 않음)
+     *
+     * @param expectedGeneration DB에서 읽은 값이면 읽기 시작 시점의 세대 (그 사이 변경이 있었으면 버림), write-through면 null
+     */
+    private void store(String userId, CachedBalance candidate, Long expectedGeneration) {
+        if (entries.size() >= maxEntries && !entries.containsKey(userId)) {
+            entries.clear();
+        }
+        entries.compute(userId, (key, current) -> {
+            if (expectedGeneration != null && generations.get(stripe(key)) != expectedGeneration) {
+                return current;
+            }
+            if (current == null || current.version() <= candidate.version()
+                    || current.isExpired(candidate.cachedAt(), ttlMillis)) {
+                return candidate;
+            }
+            return current;
+        });
+    }
+
+    private static int stripe(String userId) {
+        int hash = userId.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    private record CachedBalance(long balance, long version, long cachedAt) {
+
+        boolean isExpired(long now, long ttlMillis) {
+            return now - cachedAt >= ttlMillis;
+        }
+    }
+}
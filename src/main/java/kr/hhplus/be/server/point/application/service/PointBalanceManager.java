@@ -0,0 +1,57 @@
+package kr.hhplus.be.server.point.application.service;
+
+import kr.hhplus.be.server.point.domain.model.PointBalanceSnapshot;
+
+/**
+ * 포인트 잔액 변경 전략 (Application Layer)
+ *
+ * PointService는 point.balance.strategy 설정과 이름이 같은 구현 하나에 충전/사용을 위임함
+ * - lock: 사용자 단위 분산락 + 엔티티 조회/변경/저장 (@Version)
+ * - atomic: 조건부 UPDATE / UPSERT 한 문장 (락 없음, 행 잠금으로 직렬화)
+ * - ledger: 충전은 원장 INSERT만, 사용은 스냅샷 행 잠금 후 원장 INSERT
+ * - redis: Redis 원본 + MySQL write-behind
+ */
+public interface PointBalanceManager {
+
+    /**
+     * 잔액 조회 캐시(PointBalanceCache) 사용 방식
+     */
+    enum CachePolicy {
+        /** 변경 결과(잔액, version)를 커밋 후 캐시에 기록 - version이 변경 순서와 일치하는 전략 */
+        WRITE_THROUGH,
+        /** 변경 후 캐시에서 제거만 함 - 변경 결과가 커밋 순서와 어긋날 수 있는 전략 */
+        INVALIDATE,
+        /** 캐시를 쓰지 않음 - 원본 조회가 이미 충분히 싼 전략 */
+        BYPASS
+    }
+
+    /**
+     * 전략 이름 (point.balance.strategy 값)
+     */
+    String strategy();
+
+    /**
+     * 잔액 조회 캐시 사용 방식
+     */
+    CachePolicy cachePolicy();
+
+    /**
+     * 현재 잔액 (잔액 행이 없으면 0)
+     */
+    long balance(String userId);
+
+    /**
+     * 포인트 충전 (잔액 행이 없으면 생성)
+     *
+     * @return 충전 후 잔액과 version (version을 알 수 없는 전략은 0)
+     */
+    PointBalanceSnapshot charge(String userId, long amount);
+
+    /**
+     * 포인트 사용
+     *
+     * @return 사용 후 잔액과 version (version을 알 수 없는 전략은 0)
+     * @throws kr.hhplus.be.server.shared.common.exception.BusinessException 사용자 없음(404), 잔액 부족(400)
+     */
+    PointBalanceSnapshot use(String userId, long amount);
+}
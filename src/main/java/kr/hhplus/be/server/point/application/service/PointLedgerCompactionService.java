@@ -0,0 +1,74 @@
+package kr.hhplus.be.server.point.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.point.domain.model.PointTransaction;
+import kr.hhplus.be.server.point.domain.repository.PointBalanceRepository;
+import kr.hhplus.be.server.point.domain.repository.PointTransactionRepository;
+import kr.hhplus.be.server.shared.infrastructure.scheduler.SchedulerFenceGuard;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 포인트 원장 컴팩션 (Application Layer)
+ *
+ * 사용자별로 미반영 거래를 스냅샷(point_balance)에 더하고 applied=true로 표시.
+ * - 사용자 1명당 짧은 트랜잭션 하나 (스냅샷 행 잠금 → 미반영 거래 잠금 읽기 → 반영)
+ * - 잠금 순서가 포인트 사용 경로와 같아 데드락이 없고, 잠금 읽기라 다른 노드의 컴팩터와 겹쳐도 이중 반영되지 않음
+ * - 스케줄러 리스로 실행되면 먼저 펜스를 통과해야 함 (리스를 잃은 노드는 반영하지 않고 롤백)
+ */
+@Service
+public class PointLedgerCompactionService {
+
+    private final PointBalanceRepository pointBalanceRepository;
+    private final PointTransactionRepository pointTransactionRepository;
+    private final SchedulerFenceGuard schedulerFenceGuard;
+    private final Counter compactedCounter;
+
+    public PointLedgerCompactionService(PointBalanceRepository pointBalanceRepository,
+                                        PointTransactionRepository pointTransactionRepository,
+                                        SchedulerFenceGuard schedulerFenceGuard,
+                                        MeterRegistry meterRegistry) {
+        this.pointBalanceRepository = pointBalanceRepository;
+        this.pointTransactionRepository = pointTransactionRepository;
+        this.schedulerFenceGuard = schedulerFenceGuard;
+        this.compactedCounter = Counter.builder("point.ledger.compacted")
+                .description("스냅샷에 반영된 포인트 거래 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 미반영 거래가 있는 사용자 (최대 limit명)
+     */
+    @Transactional(readOnly = true)
+    public List<String> findUsersToCompact(int limit) {
+        return pointTransactionRepository.findUserIdsWithPending(limit);
+    }
+
+    /**
+     * 한 사용자의 미반영 거래를 스냅샷에 반영
+     *
+     * @return 반영한 거래 수
+     */
+    @Transactional
+    public int compact(String userId) {
+        schedulerFenceGuard.check();
+        if (pointBalanceRepository.findBalanceForUpdate(userId).isEmpty()) {
+            pointBalanceRepository.chargePoint(userId, 0L);
+        }
+
+        List<PointTransaction> pending = pointTransactionRepository.findPendingForUpdate(userId);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        long delta = pending.stream().mapToLong(PointTransaction::getAmount).sum();
+        pointBalanceRepository.addBalance(userId, delta);
+        int applied = pointTransactionRepository.markApplied(
+                pending.stream().map(PointTransaction::getId).toList());
+        compactedCounter.increment(applied);
+        return applied;
+    }
+}
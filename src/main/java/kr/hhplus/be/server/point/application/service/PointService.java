@@ -1,84 +1,85 @@
 package kr.hhplus.be.server.point.application.service;
 
+import kr.hhplus.be.server.point.application.service.PointBalanceManager.CachePolicy;
+import kr.hhplus.be.server.point.domain.model.PointBalanceSnapshot;
 import kr.hhplus.be.server.shared.common.exception.BusinessException;
-import kr.hhplus.be.server.shared.infrastructure.lock.DistributedLock;
-import kr.hhplus.be.server.point.domain.model.PointBalance;
-import kr.hhplus.be.server.point.domain.repository.PointBalanceRepository;
 import kr.hhplus.be.server.point.interfaces.api.dto.PointBalanceResponse;
 import kr.hhplus.be.server.point.interfaces.api.dto.PointChargeRequest;
 import kr.hhplus.be.server.point.interfaces.api.dto.PointChargeResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 /**
  * 포인트 관리 서비스 (Application Layer)
  * 도메인 기반 클린 아키텍처
- * 
- * 분산락 적용:
- * - 충전/사용 시 동일 사용자에 대한 동시 요청 제어
- * - 키: "point:{userId}" (사용자 단위)
- * - 충전과 사용이 같은 키를 사용하여 동시 실행 방지
+ *
+ * 충전/사용의 동시성 제어는 point.balance.strategy로 선택한 PointBalanceManager에 위임:
+ * - lock (기본): 분산락 "point:{userId}" + 엔티티 조회/변경/저장
+ * - atomic: 조건부 UPDATE / UPSERT 한 문장 (분산락 없음)
+ * - ledger: 원장 INSERT + 주기적 스냅샷 컴팩션 (충전끼리는 경합 없음, 진행 중인 사용과는 gap 락으로 대기)
+ * - redis: Redis 원본 + MySQL write-behind
+ *
+ * 잔액 조회는 전략의 CachePolicy에 따라 노드 로컬 PointBalanceCache를 거침 (BYPASS면 매번 원본 조회)
  */
 @Service
 public class PointService {
 
-    private final PointBalanceRepository pointBalanceRepository;
+    private final PointBalanceManager pointBalanceManager;
+    private final PointBalanceCache pointBalanceCache;
 
-    public PointService(PointBalanceRepository pointBalanceRepository) {
-        this.pointBalanceRepository = pointBalanceRepository;
+    public PointService(
+            List<PointBalanceManager> pointBalanceManagers,
+            PointBalanceCache pointBalanceCache,
+            @Value("${point.balance.strategy:lock}") String strategy) {
+        this.pointBalanceCache = pointBalanceCache;
+        this.pointBalanceManager = pointBalanceManagers.stream()
+                .filter(manager -> manager.strategy().equals(strategy))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("알 수 없는 포인트 잔액 전략입니다: " + strategy));
     }
 
     /**
-     * 포인트 충전 (분산락 적용)
-     * 
-     * 분산락 키: "point:{userId}"
-     * - 동일 사용자의 충전/사용 동시 요청 방지
+     * 포인트 충전
      */
-    @DistributedLock(key = "'point:' + #request.userId", waitTime = 5, leaseTime = 3)
-    @Transactional
     public PointChargeResponse charge(PointChargeRequest request) {
         if (request.getAmount() <= 0) {
             throw new BusinessException("충전 금액은 0보다 커야 합니다.", "invalid-amount", 400);
         }
 
-        PointBalance balance = pointBalanceRepository.findById(request.getUserId())
-                .orElseGet(() -> new PointBalance(request.getUserId()));
-        
-        balance.charge(Long.valueOf(request.getAmount()));
-        pointBalanceRepository.save(balance);
-        
-        return new PointChargeResponse(balance.getUserId(), balance.getBalance().intValue());
+        PointBalanceSnapshot charged = pointBalanceManager.charge(request.getUserId(), request.getAmount());
+        recordChange(charged);
+
+        return new PointChargeResponse(request.getUserId(), (int) charged.balance());
     }
 
     /**
-     * 포인트 잔액 조회 (락 불필요 - 읽기 전용)
+     * 포인트 잔액 조회 (락 불필요 - 캐시 적중 시 DB 조회 없음)
      */
-    @Transactional(readOnly = true)
     public PointBalanceResponse getBalance(String userId) {
-        PointBalance balance = pointBalanceRepository.findById(userId)
-                .orElseGet(() -> new PointBalance(userId));
-        
-        return new PointBalanceResponse(balance.getUserId(), balance.getBalance().intValue());
+        long balance = pointBalanceManager.cachePolicy() == CachePolicy.BYPASS
+                ? pointBalanceManager.balance(userId)
+                : pointBalanceCache.get(userId, pointBalanceManager::balance);
+
+        return new PointBalanceResponse(userId, (int) balance);
     }
 
     /**
-     * 포인트 사용 (분산락 적용)
-     * 
-     * 분산락 키: "point:{userId}"
-     * - 동일 사용자의 충전/사용 동시 요청 방지
-     * - DB 비관적 락 대신 Redis 분산락으로 DB 부하 최소화
+     * 포인트 사용
+     *
+     * @return 사용 후 잔액 (결제 응답용 - 별도 잔액 조회 불필요)
      */
-    @DistributedLock(key = "'point:' + #userId", waitTime = 5, leaseTime = 3)
-    @Transactional
-    public void usePoint(String userId, Long amount) {
-        PointBalance balance = pointBalanceRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException("사용자를 찾을 수 없습니다.", "user-not-found", 404));
-        
-        if (!balance.hasEnoughBalance(amount)) {
-            throw new BusinessException("잔액이 부족합니다.", "insufficient-balance", 400);
+    public long usePoint(String userId, Long amount) {
+        PointBalanceSnapshot used = pointBalanceManager.use(userId, amount);
+        recordChange(used);
+        return used.balance();
+    }
+
+    private void recordChange(PointBalanceSnapshot changed) {
+        CachePolicy policy = pointBalanceManager.cachePolicy();
+        if (policy != CachePolicy.BYPASS) {
+            pointBalanceCache.onChanged(changed, policy == CachePolicy.WRITE_THROUGH);
         }
-        
-        balance.use(amount);
-        pointBalanceRepository.save(balance);
     }
 }
@@ -0,0 +1,128 @@
+package kr.hhplus.be.server.point.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.point.domain.model.PointBalance;
+import kr.hhplus.be.server.point.domain.model.PointBalanceChange;
+import kr.hhplus.be.server.point.domain.model.PointBalanceSnapshot;
+import kr.hhplus.be.server.point.domain.repository.PointBalanceRepository;
+import kr.hhplus.be.server.point.domain.repository.PointBalanceStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 원본 포인트 잔액의 MySQL write-behind / 대사 (Application Layer)
+ *
+ * flush:
+ * - 변경 기록 스트림을 batchSize만큼 읽어 사용자별 최신 순번만 남기고 point_balance에 배치 UPSERT 후 ACK
+ * - UPSERT는 저장된 version이 순번 이하일 때만 덮어쓰므로, ACK 전 장애로 같은 기록을 다시 읽어도 결과가 같음
+ *
+ * reconcile:
+ * - Redis에 적재된 모든 잔액을 MySQL과 비교
+ * - MySQL이 뒤처짐(db-behind) → UPSERT로 따라잡음 (반영 지연 중이어도 무해)
+ * - 순번이 같은데 잔액이 다름(mismatch) → Redis가 원본이므로 MySQL을 덮어씀
+ * - MySQL이 앞섬(redis-stale, 다른 전략으로 갱신됨) → Redis 잔액 제거, 다음 접근 시 MySQL에서 다시 적재
+ */
+@Service
+public class PointWriteBehindService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWriteBehindService.class);
+
+    private final PointBalanceStore pointBalanceStore;
+    private final PointBalanceRepository pointBalanceRepository;
+    private final Counter flushedCounter;
+    private final MeterRegistry meterRegistry;
+
+    public PointWriteBehindService(PointBalanceStore pointBalanceStore,
+                                   PointBalanceRepository pointBalanceRepository,
+                                   MeterRegistry meterRegistry) {
+        this.pointBalanceStore = pointBalanceStore;
+        this.pointBalanceRepository = pointBalanceRepository;
+        this.meterRegistry = meterRegistry;
+        this.flushedCounter = Counter.builder("point.write-behind.flushed")
+                .description("MySQL에 반영한 Redis 포인트 변경 기록 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 변경 기록 한 배치 반영
+     *
+     * @return 읽은 변경 기록 수 (batchSize 미만이면 밀린 기록 없음)
+     */
+    public int flush(int batchSize) {
+        List<PointBalanceChange> changes = pointBalanceStore.readChanges(batchSize);
+        if (changes.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, PointBalanceSnapshot> latest = new LinkedHashMap<>();
+        for (PointBalanceChange change : changes) {
+            latest.merge(change.userId(), change.toSnapshot(),
+                    (current, next) -> next.version() > current.version() ? next : current);
+        }
+        pointBalanceRepository.upsertIfNewer(new ArrayList<>(latest.values()));
+        pointBalanceStore.acknowledge(changes.stream().map(PointBalanceChange::entryId).toList());
+        flushedCounter.increment(changes.size());
+        return changes.size();
+    }
+
+    /**
+     * Redis ↔ MySQL 대사
+     *
+     * @return 불일치로 처리한 사용자 수
+     */
+    public int reconcile(int batchSize) {
+        int[] corrected = {0};
+        pointBalanceStore.forEachSnapshot(batchSize, snapshots -> corrected[0] += reconcileBatch(snapshots));
+        return corrected[0];
+    }
+
+    private int reconcileBatch(List<PointBalanceSnapshot> snapshots) {
+        Map<String, PointBalance> rows = pointBalanceRepository
+                .findAllByUserIds(snapshots.stream().map(PointBalanceSnapshot::userId).toList())
+                .stream()
+                .collect(Collectors.toMap(PointBalance::getUserId, Function.identity()));
+
+        List<PointBalanceSnapshot> toWrite = new ArrayList<>();
+        for (PointBalanceSnapshot snapshot : snapshots) {
+            PointBalance row = rows.get(snapshot.userId());
+            long rowVersion = row != null && row.getVersion() != null ? row.getVersion() : 0L;
+
+            if (row == null || rowVersion < snapshot.version()) {
+                toWrite.add(snapshot);
+                count("db-behind");
+            } else if (rowVersion == snapshot.version() && row.getBalance() != snapshot.balance()) {
+                log.error("[PointReconcile] 잔액 불일치, MySQL을 Redis 값으로 덮어씀 - userId={}, redis={}, mysql={}",
+                        snapshot.userId(), snapshot.balance(), row.getBalance());
+                toWrite.add(snapshot);
+                count("mismatch");
+            } else if (rowVersion > snapshot.version()) {
+                if (pointBalanceStore.evictIfUnchanged(snapshot.userId(), snapshot.version())) {
+                    log.warn("[PointReconcile] MySQL이 더 최신이라 Redis 잔액 제거 - userId={}, redisVersion={}, mysqlVersion={}",
+                            snapshot.userId(), snapshot.version(), rowVersion);
+                    count("redis-stale");
+                }
+            }
+        }
+
+        if (!toWrite.isEmpty()) {
+            pointBalanceRepository.upsertIfNewer(toWrite);
+        }
+        return toWrite.size();
+    }
+
+    private void count(String result) {
+        Counter.builder("point.write-behind.reconcile")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
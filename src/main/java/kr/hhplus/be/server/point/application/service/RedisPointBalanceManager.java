@@ -0,0 +1,145 @@
+package kr.hhplus.be.server.point.application.service;
+
+import kr.hhplus.be.server.point.domain.model.PointBalance;
+import kr.hhplus.be.server.point.domain.model.PointBalanceSnapshot;
+import kr.hhplus.be.server.point.domain.repository.PointBalanceRepository;
+import kr.hhplus.be.server.point.domain.repository.PointBalanceStore;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+/**
+ * Redis 원본 포인트 잔액 변경 (MySQL은 write-behind 사본)
+ *
+ * - 충전/사용은 Redis Lua 스크립트 한 번 (잔액 부족 거절 + 변경 기록 스트림 추가까지 원자적)
+ * - 잔액이 Redis에 없으면 MySQL 행으로 적재한 뒤 재시도 (적재는 없을 때만이라 동시 적재에도 안전)
+ * - MySQL 반영은 PointWriteBehindService가 스트림을 읽어 배치 UPSERT
+ * - 호출자 트랜잭션이 롤백되면 차감분을 다시 충전하여 보상 (Redis는 DB 트랜잭션에 참여하지 않음)
+ * - 크래시 구간: 차감 후 결제 트랜잭션이 끝나기 전에 프로세스가 죽으면 DB는 롤백되지만 보상 콜백은 실행되지 않아
+ *   차감이 Redis에 남고 write-behind로 MySQL에도 반영됨 (결제 없이 포인트만 빠짐).
+ *   커밋 결과를 알 수 없는 경우(STATUS_UNKNOWN)도 중복 환불을 피하려고 보상하지 않음.
+ *   두 경우 모두 변경 스트림(userId, delta, version)을 결제 내역과 대사해 수동 환불해야 하며 (결과 불명은 error 로그로도 남김),
+ *   이 위험을 받아들일 수 없으면 lock/atomic/ledger 전략을 사용
+ * - 다른 전략에서 redis로 돌아올 때 남아 있는 Redis 잔액은 대사 작업이 MySQL보다 오래된 것을 찾아 제거함
+ * - 잔액 조회가 이미 Redis 한 번이라 노드 로컬 잔액 캐시를 쓰지 않음
+ */
+@Component
+public class RedisPointBalanceManager implements PointBalanceManager {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisPointBalanceManager.class);
+
+    public static final String STRATEGY = "redis";
+
+    private final PointBalanceStore pointBalanceStore;
+    private final PointBalanceRepository pointBalanceRepository;
+
+    public RedisPointBalanceManager(PointBalanceStore pointBalanceStore,
+                                    PointBalanceRepository pointBalanceRepository) {
+        this.pointBalanceStore = pointBalanceStore;
+        this.pointBalanceRepository = pointBalanceRepository;
+    }
+
+    @Override
+    public String strategy() {
+        return STRATEGY;
+    }
+
+    @Override
+    public CachePolicy cachePolicy() {
+        return CachePolicy.BYPASS;
+    }
+
+    @Override
+    public long balance(String userId) {
+        return pointBalanceStore.find(userId)
+                .map(PointBalanceSnapshot::balance)
+                .orElseGet(() -> pointBalanceRepository.findById(userId)
+                        .map(PointBalance::getBalance)
+                        .orElse(0L));
+    }
+
+    @Override
+    public PointBalanceSnapshot charge(String userId, long amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("충전 금액은 0보다 커야 합니다.");
+        }
+        long result = pointBalanceStore.apply(userId, amount);
+        if (result == PointBalanceStore.NOT_LOADED) {
+            load(userId, true);
+            result = pointBalanceStore.apply(userId, amount);
+        }
+        return new PointBalanceSnapshot(userId, requireApplied(userId, result), 0L);
+    }
+
+    @Override
+    public PointBalanceSnapshot use(String userId, long amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("사용 금액은 0보다 커야 합니다.");
+        }
+        long result = pointBalanceStore.apply(userId, -amount);
+        if (result == PointBalanceStore.NOT_LOADED) {
+            load(userId, false);
+            result = pointBalanceStore.apply(userId, -amount);
+        }
+        if (result == PointBalanceStore.INSUFFICIENT) {
+            throw new BusinessException("잔액이 부족합니다.", "insufficient-balance", 400);
+        }
+        long balance = requireApplied(userId, result);
+        refundOnRollback(userId, amount);
+        return new PointBalanceSnapshot(userId, balance, 0L);
+    }
+
+    /**
+     * MySQL 행으로 Redis 잔액 적재 (행이 없으면 충전은 0원으로 시작, 사용은 404)
+     */
+    private void load(String userId, boolean createIfMissing) {
+        Optional<PointBalance> row = pointBalanceRepository.findById(userId);
+        if (row.isEmpty() && !createIfMissing) {
+            throw new BusinessException("사용자를 찾을 수 없습니다.", "user-not-found", 404);
+        }
+        PointBalanceSnapshot snapshot = row
+                .map(balance -> new PointBalanceSnapshot(userId, balance.getBalance(),
+                        balance.getVersion() != null ? balance.getVersion() : 0L))
+                .orElseGet(() -> new PointBalanceSnapshot(userId, 0L, 0L));
+        pointBalanceStore.loadIfAbsent(snapshot);
+    }
+
+    private long requireApplied(String userId, long result) {
+        if (result < 0) {
+            // 적재 직후 대사 작업이 제거한 경우 등 (드묾) - 클라이언트 재시도로 해소
+            log.warn("[RedisPointBalance] 잔액 반영 실패 - userId={}, result={}", userId, result);
+            throw new BusinessException("포인트 처리 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.",
+                    "point-store-unavailable", 503);
+        }
+        return result;
+    }
+
+    private void refundOnRollback(String userId, long amount) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_UNKNOWN) {
+                    log.error("[RedisPointBalance] 결제 트랜잭션 결과 불명, 보상 대상 확인 필요 - userId={}, amount={}",
+                            userId, amount);
+                    return;
+                }
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    pointBalanceStore.apply(userId, amount);
+                } catch (Exception e) {
+                    log.error("[RedisPointBalance] 롤백 보상 충전 실패 - userId={}, amount={}", userId, amount, e);
+                }
+            }
+        });
+    }
+}
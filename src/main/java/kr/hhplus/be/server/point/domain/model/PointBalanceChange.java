@@ -0,0 +1,16 @@
+package kr.hhplus.be.server.point.domain.model;
+
+/**
+ * Redis 포인트 잔액 변경 기록 (write-behind 스트림 항목)
+ *
+ * @param entryId 스트림 항목 ID (ACK용)
+ * @param delta   변화량 (충전 +, 사용 -)
+ * @param balance 변경 후 잔액
+ * @param version 변경 후 순번
+ */
+public record PointBalanceChange(String entryId, String userId, long delta, long balance, long version) {
+
+    public PointBalanceSnapshot toSnapshot() {
+        return new PointBalanceSnapshot(userId, balance, version);
+    }
+}
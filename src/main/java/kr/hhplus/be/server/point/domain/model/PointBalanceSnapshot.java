@@ -0,0 +1,10 @@
+package kr.hhplus.be.server.point.domain.model;
+
+/**
+ * 포인트 잔액 스냅샷 (Redis 원본 ↔ MySQL 사본 비교/반영 단위)
+ *
+ * @param version Redis에서는 변경마다 1씩 증가하는 순번, MySQL에서는 point_balance.version
+ *                (write-behind는 version이 작거나 같은 행에만 덮어써서 재전송/역순 반영이 무해함)
+ */
+public record PointBalanceSnapshot(String userId, long balance, long version) {
+}
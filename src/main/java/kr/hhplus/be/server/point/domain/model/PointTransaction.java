@@ -0,0 +1,103 @@
+package kr.hhplus.be.server.point.domain.model;
+
+import jakarta.persistence.*;
+import kr.hhplus.be.server.shared.infrastructure.id.TsidId;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 거래 원장 엔티티 (Domain Layer)
+ *
+ * INSERT만 하는 원장. 잔액 = point_balance 스냅샷 + 아직 스냅샷에 반영되지 않은(applied=false) 거래 금액 합.
+ * 컴팩터가 미반영 거래를 사용자별로 스냅샷에 더하고 applied=true로 표시함 (거래 행은 이력으로 남음).
+ *
+ * 인덱스 설계:
+ * - idx_point_tx_user_applied: 사용자별 미반영 거래 조회 (user_id, applied)
+ * - idx_point_tx_applied_user: 컴팩터의 미반영 사용자 조회 (applied, user_id)
+ */
+@Entity
+@Table(name = "point_transaction", indexes = {
+    @Index(name = "idx_point_tx_user_applied", columnList = "user_id, applied"),
+    @Index(name = "idx_point_tx_applied_user", columnList = "applied, user_id")
+})
+public class PointTransaction {
+
+    @Id
+    @TsidId
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private PointTransactionType type;
+
+    /**
+     * 잔액 변화량 (충전 +, 사용 -)
+     */
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Column(name = "applied", nullable = false)
+    private boolean applied;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected PointTransaction() {
+    }
+
+    private PointTransaction(String userId, PointTransactionType type, Long amount) {
+        this.userId = userId;
+        this.type = type;
+        this.amount = amount;
+        this.applied = false;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * 충전 거래 생성
+     */
+    public static PointTransaction charge(String userId, long amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("충전 금액은 0보다 커야 합니다.");
+        }
+        return new PointTransaction(userId, PointTransactionType.CHARGE, amount);
+    }
+
+    /**
+     * 사용 거래 생성 (잔액 확인은 호출자가 스냅샷 행 잠금 안에서 수행)
+     */
+    public static PointTransaction use(String userId, long amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("사용 금액은 0보다 커야 합니다.");
+        }
+        return new PointTransaction(userId, PointTransactionType.USE, -amount);
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public PointTransactionType getType() {
+        return type;
+    }
+
+    public Long getAmount() {
+        return amount;
+    }
+
+    public boolean isApplied() {
+        return applied;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,9 @@
+package kr.hhplus.be.server.point.domain.model;
+
+/**
+ * 포인트 거래 유형
+ */
+public enum PointTransactionType {
+    CHARGE,  // 충전 (양수 금액)
+    USE      // 사용 (음수 금액)
+}
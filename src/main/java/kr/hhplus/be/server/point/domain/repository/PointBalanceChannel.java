@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.point.domain.repository;
+
+import java.util.function.Consumer;
+
+/**
+ * 포인트 잔액 변경 알림 채널 인터페이스 (Domain Layer)
+ *
+ * 한 노드에서 충전/사용이 커밋되면 다른 모든 노드에 알려
+ * 노드 로컬 잔액 캐시에서 해당 사용자를 제거하게 합니다.
+ */
+public interface PointBalanceChannel {
+
+    /**
+     * 잔액 변경 알림 발행
+     *
+     * @param userId 잔액이 바뀐 사용자 ID
+     */
+    void publish(String userId);
+
+    /**
+     * 다른 노드의 잔액 변경 구독 (자기 노드가 발행한 알림은 전달하지 않음)
+     *
+     * @param listener 사용자 ID 수신 콜백 (구독 스레드에서 호출되므로 블로킹 금지)
+     * @return 구독 해제 핸들
+     */
+    Subscription subscribe(Consumer<String> listener);
+
+    /**
+     * 구독 해제 핸들
+     */
+    interface Subscription {
+        void cancel();
+    }
+}
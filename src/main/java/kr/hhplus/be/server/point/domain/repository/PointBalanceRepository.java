@@ -1,7 +1,9 @@
 package kr.hhplus.be.server.point.domain.repository;
 
 import kr.hhplus.be.server.point.domain.model.PointBalance;
+import kr.hhplus.be.server.point.domain.model.PointBalanceSnapshot;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -32,4 +34,37 @@ public interface PointBalanceRepository {
      * @return 업데이트된 행 수 (1=성공, 0=실패)
      */
     int deductPointIfSufficient(String userId, Long amount);
+
+    /**
+     * 포인트 충전 (원자적 UPSERT)
+     * - 잔액 행이 없으면 충전 금액으로 생성, 있으면 더함
+     */
+    void chargePoint(String userId, Long amount);
+
+    /**
+     * 잔액 행을 잠그고 잔액 조회 (SELECT ... FOR UPDATE)
+     * - 영속성 컨텍스트를 거치지 않아 항상 최신 커밋 값을 반환
+     */
+    Optional<Long> findBalanceForUpdate(String userId);
+
+    /**
+     * 잔액과 version 스칼라 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+     */
+    Optional<PointBalanceSnapshot> findSnapshot(String userId);
+
+    /**
+     * 잔액에 변화량 반영 (원장 컴팩션용, 음수 가능)
+     */
+    int addBalance(String userId, Long delta);
+
+    /**
+     * 사용자 ID 목록으로 포인트 잔액 조회
+     */
+    List<PointBalance> findAllByUserIds(List<String> userIds);
+
+    /**
+     * 잔액 스냅샷 일괄 UPSERT (write-behind용)
+     * - 저장된 version이 스냅샷 version 이하인 행만 덮어써 재전송·역순 반영이 무해함
+     */
+    void upsertIfNewer(List<PointBalanceSnapshot> snapshots);
 }
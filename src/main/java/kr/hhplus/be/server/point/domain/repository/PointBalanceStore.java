@@ -0,0 +1,66 @@
+package kr.hhplus.be.server.point.domain.repository;
+
+import kr.hhplus.be.server.point.domain.model.PointBalanceChange;
+import kr.hhplus.be.server.point.domain.model.PointBalanceSnapshot;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 원본 포인트 잔액 저장소 인터페이스 (Domain Layer)
+ *
+ * point.balance.strategy=redis에서 잔액의 원본. 잔액 변경과 변경 기록 추가가 한 번에 원자적으로 일어나고,
+ * 변경 기록은 write-behind가 MySQL에 반영한 뒤 ACK함.
+ */
+public interface PointBalanceStore {
+
+    /**
+     * apply 결과: 저장소에 아직 잔액이 적재되지 않음 (MySQL에서 load 후 재시도)
+     */
+    long NOT_LOADED = -1L;
+
+    /**
+     * apply 결과: 잔액 부족으로 거절
+     */
+    long INSUFFICIENT = -2L;
+
+    /**
+     * 적재된 잔액 조회
+     */
+    Optional<PointBalanceSnapshot> find(String userId);
+
+    /**
+     * 잔액에 변화량 반영 + 변경 기록 추가 (원자적, 결과 잔액이 음수가 되면 거절)
+     *
+     * @return 변경 후 잔액, 또는 NOT_LOADED / INSUFFICIENT
+     */
+    long apply(String userId, long delta);
+
+    /**
+     * 잔액이 없을 때만 적재
+     *
+     * @return 적재했으면 true (다른 요청이 먼저 적재했으면 false)
+     */
+    boolean loadIfAbsent(PointBalanceSnapshot snapshot);
+
+    /**
+     * 순번이 그대로일 때만 잔액 제거 (다음 접근 시 MySQL에서 다시 적재)
+     */
+    boolean evictIfUnchanged(String userId, long version);
+
+    /**
+     * 아직 ACK하지 않은 변경 기록 조회 (이전에 읽고 ACK 못 한 기록부터)
+     */
+    List<PointBalanceChange> readChanges(int count);
+
+    /**
+     * 변경 기록 ACK 및 삭제
+     */
+    void acknowledge(List<String> entryIds);
+
+    /**
+     * 적재된 모든 잔액을 batchSize 단위로 순회
+     */
+    void forEachSnapshot(int batchSize, Consumer<List<PointBalanceSnapshot>> action);
+}
@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.point.domain.repository;
+
+import kr.hhplus.be.server.point.domain.model.PointTransaction;
+
+import java.util.List;
+
+/**
+ * 포인트 거래 원장 리포지토리 인터페이스 (Domain Layer)
+ * Infrastructure의 구현에 의존하지 않는 순수 인터페이스
+ */
+public interface PointTransactionRepository {
+
+    /**
+     * 거래 저장 (INSERT만)
+     */
+    PointTransaction save(PointTransaction transaction);
+
+    /**
+     * 사용자의 거래 이력 존재 여부
+     */
+    boolean existsByUserId(String userId);
+
+    /**
+     * 스냅샷에 반영되지 않은 거래 금액 합 (잠금 없음, 조회용)
+     */
+    long sumPendingAmount(String userId);
+
+    /**
+     * 스냅샷에 반영되지 않은 거래를 잠그고 조회 (잠금 읽기라 항상 최신 커밋을 봄)
+     * - 반드시 같은 사용자의 스냅샷 행을 먼저 잠근 뒤 호출 (잠금 순서 고정으로 데드락 방지)
+     * - 사용자 범위에 gap 락이 걸려 트랜잭션이 끝날 때까지 같은 사용자의 원장 INSERT(충전)가 대기함
+     */
+    List<PointTransaction> findPendingForUpdate(String userId);
+
+    /**
+     * 미반영 거래가 있는 사용자 ID (컴팩터용, 최대 limit명)
+     */
+    List<String> findUserIdsWithPending(int limit);
+
+    /**
+     * 거래를 스냅샷 반영 완료로 표시
+     */
+    int markApplied(List<Long> transactionIds);
+}
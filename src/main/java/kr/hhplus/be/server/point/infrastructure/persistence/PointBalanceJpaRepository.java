@@ -25,9 +25,34 @@ interface PointBalanceJpaRepository extends JpaRepository<PointBalance, String>
     /**
      * 조건부 포인트 차감 (잔액이 충분한 경우에만 차감)
      * - 원자적 연산으로 Race Condition 방지
+     * - version을 함께 올려 @Version 엔티티 경로의 갱신 손실 방지
      */
     @Modifying(clearAutomatically = true)
-    @Query("UPDATE PointBalance pb SET pb.balance = pb.balance - :amount " +
+    @Query("UPDATE PointBalance pb SET pb.balance = pb.balance - :amount, pb.version = pb.version + 1 " +
            "WHERE pb.userId = :userId AND pb.balance >= :amount")
     int deductPointIfSufficient(@Param("userId") String userId, @Param("amount") Long amount);
+
+    /**
+     * 포인트 충전 UPSERT (행이 없으면 생성, 있으면 더함)
+     * - MySQL / H2(MODE=MySQL) 공통 문법
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO point_balance (user_id, balance, version) VALUES (:userId, :amount, 0) " +
+                   "ON DUPLICATE KEY UPDATE balance = balance + :amount, version = version + 1",
+           nativeQuery = true)
+    int chargePoint(@Param("userId") String userId, @Param("amount") Long amount);
+
+    /**
+     * 잔액 행 잠금 조회 (스칼라 조회라 이미 로드된 엔티티의 오래된 값을 돌려받지 않음)
+     */
+    @Query(value = "SELECT balance FROM point_balance WHERE user_id = :userId FOR UPDATE", nativeQuery = true)
+    Optional<Long> findBalanceForUpdate(@Param("userId") String userId);
+
+    /**
+     * 잔액 변화량 반영
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PointBalance pb SET pb.balance = pb.balance + :delta, pb.version = pb.version + 1 " +
+           "WHERE pb.userId = :userId")
+    int addBalance(@Param("userId") String userId, @Param("delta") Long delta);
 }
@@ -1,24 +1,40 @@
 package kr.hhplus.be.server.point.infrastructure.persistence;
 
 import kr.hhplus.be.server.point.domain.model.PointBalance;
+import kr.hhplus.be.server.point.domain.model.PointBalanceSnapshot;
 import kr.hhplus.be.server.point.domain.repository.PointBalanceRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
  * 포인트 잔액 리포지토리 구현체 (Infrastructure Layer)
  * Domain의 PointBalanceRepository를 JPA로 구현
+ *
+ * write-behind 스냅샷 반영은 엔티티를 거치지 않고 JdbcTemplate 배치 UPSERT로 처리
+ * (MySQL / H2(MODE=MySQL) 공통 문법, 대입은 balance → version 순서라 두 DB 모두 기존 version으로 비교함)
  */
 @Repository
 @Transactional(readOnly = true)
 public class PointBalanceRepositoryImpl implements PointBalanceRepository {
 
+    private static final String UPSERT_IF_NEWER_SQL =
+            "INSERT INTO point_balance (user_id, balance, version) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE balance = CASE WHEN COALESCE(version, 0) <= ? THEN ? ELSE balance END, " +
+            "version = GREATEST(COALESCE(version, 0), ?)";
+
+    private static final String FIND_SNAPSHOT_SQL =
+            "SELECT user_id, balance, COALESCE(version, 0) AS version FROM point_balance WHERE user_id = ?";
+
     private final PointBalanceJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public PointBalanceRepositoryImpl(PointBalanceJpaRepository jpaRepository) {
+    public PointBalanceRepositoryImpl(PointBalanceJpaRepository jpaRepository, JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -42,4 +58,48 @@ public class PointBalanceRepositoryImpl implements PointBalanceRepository {
     public int deductPointIfSufficient(String userId, Long amount) {
         return jpaRepository.deductPointIfSufficient(userId, amount);
     }
+
+    @Override
+    @Transactional
+    public void chargePoint(String userId, Long amount) {
+        jpaRepository.chargePoint(userId, amount);
+    }
+
+    @Override
+    @Transactional
+    public Optional<Long> findBalanceForUpdate(String userId) {
+        return jpaRepository.findBalanceForUpdate(userId);
+    }
+
+    @Override
+    public Optional<PointBalanceSnapshot> findSnapshot(String userId) {
+        return jdbcTemplate.query(FIND_SNAPSHOT_SQL,
+                (rs, rowNum) -> new PointBalanceSnapshot(rs.getString("user_id"), rs.getLong("balance"),
+                        rs.getLong("version")),
+                userId).stream().findFirst();
+    }
+
+    @Override
+    @Transactional
+    public int addBalance(String userId, Long delta) {
+        return jpaRepository.addBalance(userId, delta);
+    }
+
+    @Override
+    public List<PointBalance> findAllByUserIds(List<String> userIds) {
+        return jpaRepository.findAllById(userIds);
+    }
+
+    @Override
+    @Transactional
+    public void upsertIfNewer(List<PointBalanceSnapshot> snapshots) {
+        jdbcTemplate.batchUpdate(UPSERT_IF_NEWER_SQL, snapshots, snapshots.size(), (ps, snapshot) -> {
+            ps.setString(1, snapshot.userId());
+            ps.setLong(2, snapshot.balance());
+            ps.setLong(3, snapshot.version());
+            ps.setLong(4, snapshot.version());
+            ps.setLong(5, snapshot.balance());
+            ps.setLong(6, snapshot.version());
+        });
+    }
 }
@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.point.infrastructure.persistence;
+
+import jakarta.persistence.LockModeType;
+import kr.hhplus.be.server.point.domain.model.PointTransaction;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 포인트 거래 원장 JPA Repository (Infrastructure Layer)
+ */
+interface PointTransactionJpaRepository extends JpaRepository<PointTransaction, Long> {
+
+    boolean existsByUserId(String userId);
+
+    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM PointTransaction t WHERE t.userId = :userId AND t.applied = false")
+    long sumPendingAmount(@Param("userId") String userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM PointTransaction t WHERE t.userId = :userId AND t.applied = false")
+    List<PointTransaction> findPendingForUpdate(@Param("userId") String userId);
+
+    @Query("SELECT DISTINCT t.userId FROM PointTransaction t WHERE t.applied = false")
+    List<String> findUserIdsWithPending(Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PointTransaction t SET t.applied = true WHERE t.id IN :ids AND t.applied = false")
+    int markApplied(@Param("ids") List<Long> ids);
+}
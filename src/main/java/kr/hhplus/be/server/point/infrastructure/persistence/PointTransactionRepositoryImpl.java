@@ -0,0 +1,60 @@
+package kr.hhplus.be.server.point.infrastructure.persistence;
+
+import kr.hhplus.be.server.point.domain.model.PointTransaction;
+import kr.hhplus.be.server.point.domain.repository.PointTransactionRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 포인트 거래 원장 리포지토리 구현체 (Infrastructure Layer)
+ * Domain의 PointTransactionRepository를 JPA로 구현
+ */
+@Repository
+@Transactional(readOnly = true)
+public class PointTransactionRepositoryImpl implements PointTransactionRepository {
+
+    private final PointTransactionJpaRepository jpaRepository;
+
+    public PointTransactionRepositoryImpl(PointTransactionJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    @Transactional
+    public PointTransaction save(PointTransaction transaction) {
+        return jpaRepository.save(transaction);
+    }
+
+    @Override
+    public boolean existsByUserId(String userId) {
+        return jpaRepository.existsByUserId(userId);
+    }
+
+    @Override
+    public long sumPendingAmount(String userId) {
+        return jpaRepository.sumPendingAmount(userId);
+    }
+
+    @Override
+    @Transactional
+    public List<PointTransaction> findPendingForUpdate(String userId) {
+        return jpaRepository.findPendingForUpdate(userId);
+    }
+
+    @Override
+    public List<String> findUserIdsWithPending(int limit) {
+        return jpaRepository.findUserIdsWithPending(PageRequest.of(0, limit));
+    }
+
+    @Override
+    @Transactional
+    public int markApplied(List<Long> transactionIds) {
+        if (transactionIds.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.markApplied(transactionIds);
+    }
+}
@@ -0,0 +1,65 @@
+package kr.hhplus.be.server.point.infrastructure.redis;
+
+import kr.hhplus.be.server.point.domain.repository.PointBalanceChannel;
+import kr.hhplus.be.server.point.domain.repository.PointBalanceChannel.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Redis Pub/Sub 기반 포인트 잔액 변경 알림 채널 구현체
+ *
+ * 채널: point:balance:changed (메시지 본문은 "{발행 노드 ID}|{userId}")
+ * 발행 노드는 이미 자기 캐시를 갱신했으므로 자기 메시지는 건너뜁니다.
+ * RedisMessageListenerContainer의 단일 구독 커넥션을 공유합니다.
+ */
+@Component
+public class PointBalanceChannelRedisAdapter implements PointBalanceChannel {
+
+    private static final Logger log = LoggerFactory.getLogger(PointBalanceChannelRedisAdapter.class);
+
+    private static final ChannelTopic TOPIC = new ChannelTopic("point:balance:changed");
+    private static final char SEPARATOR = '|';
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public PointBalanceChannelRedisAdapter(StringRedisTemplate redisTemplate,
+                                           RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @Override
+    public void publish(String userId) {
+        redisTemplate.convertAndSend(TOPIC.getTopic(), instanceId + SEPARATOR + userId);
+    }
+
+    @Override
+    public Subscription subscribe(Consumer<String> listener) {
+        String ownPrefix = instanceId + SEPARATOR;
+        MessageListener messageListener = (message, pattern) -> {
+            try {
+                String body = new String(message.getBody(), StandardCharsets.UTF_8);
+                if (body.startsWith(ownPrefix)) {
+                    return;
+                }
+                listener.accept(body.substring(body.indexOf(SEPARATOR) + 1));
+            } catch (Exception e) {
+                log.error("[PointBalanceChannel] 잔액 변경 메시지 처리 실패 - error={}", e.getMessage(), e);
+            }
+        };
+
+        listenerContainer.addMessageListener(messageListener, TOPIC);
+        return () -> listenerContainer.removeMessageListener(messageListener, TOPIC);
+    }
+}
@@ -0,0 +1,194 @@
+package kr.hhplus.be.server.point.infrastructure.redis;
+
+import kr.hhplus.be.server.point.domain.model.PointBalanceChange;
+import kr.hhplus.be.server.point.domain.model.PointBalanceSnapshot;
+import kr.hhplus.be.server.point.domain.repository.PointBalanceStore;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis 기반 원본 포인트 잔액 저장소 구현체
+ *
+ * 키:
+ * - point:redis:balance:{userId} (Hash) : balance, version
+ * - point:redis:changes (Stream)        : userId, delta, balance, version (컨슈머 그룹 point-write-behind)
+ *
+ * 잔액 변경은 Lua 스크립트 한 번에 잔액 확인 → HINCRBY → 순번 증가 → XADD까지 수행하므로
+ * 잔액과 변경 기록이 어긋나지 않음 (AOF 사용 시 스트림도 함께 영속화).
+ * write-behind는 리스를 보유한 한 노드에서만 실행되므로 컨슈머 이름을 고정해 노드가 바뀌어도 미ACK 기록을 이어받음.
+ */
+@Repository
+public class PointBalanceRedisStore implements PointBalanceStore {
+
+    private static final String BALANCE_PREFIX = "point:redis:balance:";
+    private static final String STREAM_KEY = "point:redis:changes";
+    private static final String GROUP = "point-write-behind";
+    private static final String CONSUMER = "writer";
+
+    /**
+     * KEYS[1] = 잔액 Hash, KEYS[2] = 스트림, ARGV[1] = userId, ARGV[2] = 변화량
+     */
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], 'balance')
+            if not current then
+                return -1
+            end
+            local delta = tonumber(ARGV[2])
+            if tonumber(current) + delta < 0 then
+                return -2
+            end
+            local balance = redis.call('HINCRBY', KEYS[1], 'balance', delta)
+            local version = redis.call('HINCRBY', KEYS[1], 'version', 1)
+            redis.call('XADD', KEYS[2], '*', 'userId', ARGV[1], 'delta', ARGV[2], 'balance', balance, 'version', version)
+            return balance
+            """, Long.class);
+
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'balance', ARGV[1], 'version', ARGV[2])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'version') == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> CREATE_GROUP_SCRIPT = new DefaultRedisScript<>("""
+            local ok = pcall(redis.call, 'XGROUP', 'CREATE', KEYS[1], ARGV[1], '0', 'MKSTREAM')
+            return ok and 1 or 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private volatile boolean groupCreated;
+
+    public PointBalanceRedisStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Optional<PointBalanceSnapshot> find(String userId) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(BALANCE_PREFIX + userId, List.of("balance", "version"));
+        if (values.get(0) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new PointBalanceSnapshot(userId,
+                Long.parseLong((String) values.get(0)), Long.parseLong((String) values.get(1))));
+    }
+
+    @Override
+    public long apply(String userId, long delta) {
+        Long result = redisTemplate.execute(APPLY_SCRIPT, List.of(BALANCE_PREFIX + userId, STREAM_KEY),
+                userId, String.valueOf(delta));
+        return result != null ? result : NOT_LOADED;
+    }
+
+    @Override
+    public boolean loadIfAbsent(PointBalanceSnapshot snapshot) {
+        Long loaded = redisTemplate.execute(LOAD_SCRIPT, List.of(BALANCE_PREFIX + snapshot.userId()),
+                String.valueOf(snapshot.balance()), String.valueOf(snapshot.version()));
+        return loaded != null && loaded == 1L;
+    }
+
+    @Override
+    public boolean evictIfUnchanged(String userId, long version) {
+        Long evicted = redisTemplate.execute(EVICT_SCRIPT, List.of(BALANCE_PREFIX + userId), String.valueOf(version));
+        return evicted != null && evicted == 1L;
+    }
+
+    @Override
+    public List<PointBalanceChange> readChanges(int count) {
+        ensureGroup();
+        Consumer consumer = Consumer.from(GROUP, CONSUMER);
+        StreamReadOptions options = StreamReadOptions.empty().count(count);
+
+        List<MapRecord<String, Object, Object>> records;
+        try {
+            // 이전 실행에서 읽고 ACK하지 못한 기록(0)부터, 없으면 새 기록(>)
+            records = read(consumer, options, ReadOffset.from("0"));
+            if (records == null || records.isEmpty()) {
+                records = read(consumer, options, ReadOffset.lastConsumed());
+            }
+        } catch (RuntimeException e) {
+            // Redis 재시작 등으로 그룹이 사라졌을 수 있으므로 다음 호출에서 다시 생성
+            groupCreated = false;
+            throw e;
+        }
+        if (records == null) {
+            return List.of();
+        }
+
+        List<PointBalanceChange> changes = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> fields = record.getValue();
+            changes.add(new PointBalanceChange(
+                    record.getId().getValue(),
+                    (String) fields.get("userId"),
+                    Long.parseLong((String) fields.get("delta")),
+                    Long.parseLong((String) fields.get("balance")),
+                    Long.parseLong((String) fields.get("version"))
+            ));
+        }
+        return changes;
+    }
+
+    // read(...)의 StreamOffset 가변 인자가 제네릭 배열로 만들어져 나는 경고 - 배열을 읽기만 하므로 힙 오염 없음
+    @SuppressWarnings("unchecked")
+    private List<MapRecord<String, Object, Object>> read(Consumer consumer, StreamReadOptions options, ReadOffset offset) {
+        return redisTemplate.opsForStream().read(consumer, options, StreamOffset.create(STREAM_KEY, offset));
+    }
+
+    @Override
+    public void acknowledge(List<String> entryIds) {
+        if (entryIds.isEmpty()) {
+            return;
+        }
+        String[] ids = entryIds.toArray(String[]::new);
+        redisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, ids);
+        redisTemplate.opsForStream().delete(STREAM_KEY, ids);
+    }
+
+    @Override
+    public void forEachSnapshot(int batchSize, java.util.function.Consumer<List<PointBalanceSnapshot>> action) {
+        ScanOptions options = ScanOptions.scanOptions().match(BALANCE_PREFIX + "*").count(batchSize).build();
+        List<PointBalanceSnapshot> batch = new ArrayList<>(batchSize);
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                find(keys.next().substring(BALANCE_PREFIX.length())).ifPresent(batch::add);
+                if (batch.size() >= batchSize) {
+                    action.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            action.accept(batch);
+        }
+    }
+
+    private void ensureGroup() {
+        if (!groupCreated) {
+            // 이미 있으면 BUSYGROUP 오류를 pcall로 무시
+            redisTemplate.execute(CREATE_GROUP_SCRIPT, List.of(STREAM_KEY), GROUP);
+            groupCreated = true;
+        }
+    }
+}
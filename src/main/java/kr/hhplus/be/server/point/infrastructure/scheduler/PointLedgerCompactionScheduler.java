@@ -0,0 +1,61 @@
+package kr.hhplus.be.server.point.infrastructure.scheduler;
+
+import kr.hhplus.be.server.point.application.service.PointLedgerCompactionService;
+import kr.hhplus.be.server.shared.infrastructure.scheduler.ScheduledLease;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 포인트 원장 컴팩션 스케줄러
+ *
+ * 미반영 거래가 있는 사용자를 batch-size명씩 꺼내 사용자별 트랜잭션으로 스냅샷에 합침.
+ * 클러스터에서는 리스를 보유한 한 노드에서만 실행.
+ * point.balance.strategy와 무관하게 실행하여, ledger에서 다른 전략으로 바꿔도 남은 거래가 스냅샷에 반영됨.
+ */
+@Component
+public class PointLedgerCompactionScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PointLedgerCompactionScheduler.class);
+
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final PointLedgerCompactionService compactionService;
+    private final int batchSize;
+
+    public PointLedgerCompactionScheduler(PointLedgerCompactionService compactionService,
+                                          @Value("${point.ledger.compaction-batch-size:200}") int batchSize) {
+        this.compactionService = compactionService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${point.ledger.compaction-interval-ms:1000}")
+    @ScheduledLease("point-ledger-compaction")
+    public void compact() {
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            List<String> userIds = compactionService.findUsersToCompact(batchSize);
+            if (userIds.isEmpty()) {
+                return;
+            }
+
+            int compacted = 0;
+            for (String userId : userIds) {
+                try {
+                    compacted += compactionService.compact(userId);
+                } catch (Exception e) {
+                    log.warn("[PointLedgerCompaction] 사용자 컴팩션 실패, 다음 주기에 재시도 - userId={}, error={}",
+                            userId, e.getMessage());
+                }
+            }
+            log.debug("포인트 원장 컴팩션 - users={}, transactions={}", userIds.size(), compacted);
+
+            if (userIds.size() < batchSize) {
+                return;
+            }
+        }
+    }
+}
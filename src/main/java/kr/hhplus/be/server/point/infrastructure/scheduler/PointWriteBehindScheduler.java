@@ -0,0 +1,60 @@
+package kr.hhplus.be.server.point.infrastructure.scheduler;
+
+import kr.hhplus.be.server.point.application.service.PointWriteBehindService;
+import kr.hhplus.be.server.shared.infrastructure.scheduler.ScheduledLease;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 원본 포인트 잔액 write-behind / 대사 스케줄러
+ *
+ * 클러스터에서는 리스를 보유한 한 노드에서만 실행.
+ * point.balance.strategy와 무관하게 실행하여, redis에서 다른 전략으로 바꿔도 남은 변경 기록이 MySQL에 반영됨.
+ */
+@Component
+public class PointWriteBehindScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWriteBehindScheduler.class);
+
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final PointWriteBehindService writeBehindService;
+    private final int batchSize;
+
+    public PointWriteBehindScheduler(PointWriteBehindService writeBehindService,
+                                     @Value("${point.redis.flush-batch-size:500}") int batchSize) {
+        this.writeBehindService = writeBehindService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${point.redis.flush-interval-ms:200}")
+    @ScheduledLease("point-write-behind")
+    public void flush() {
+        try {
+            for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+                if (writeBehindService.flush(batchSize) < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            // ACK 전 실패한 기록은 다음 주기에 다시 읽음
+            log.error("[PointWriteBehind] MySQL 반영 실패, 다음 주기에 재시도 - error={}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${point.redis.reconcile-interval-ms:300000}")
+    @ScheduledLease("point-redis-reconcile")
+    public void reconcile() {
+        try {
+            int corrected = writeBehindService.reconcile(batchSize);
+            if (corrected > 0) {
+                log.warn("Redis 포인트 잔액 대사 - MySQL 보정 {}건", corrected);
+            }
+        } catch (Exception e) {
+            log.error("[PointReconcile] 대사 실패", e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.queue.infrastructure.scheduler;
 
 import kr.hhplus.be.server.queue.application.service.RedisQueueService;
+import kr.hhplus.be.server.shared.infrastructure.scheduler.ScheduledLease;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -11,6 +12,8 @@ import org.springframework.stereotype.Component;
  *
  * 대기열(Sorted Set)에서 활성 슬롯 여유분만큼 토큰을 활성화.
  * Redis TTL로 자동 만료되므로 별도 만료 스케줄러 불필요.
+ * 클러스터에서는 리스(@ScheduledLease)를 보유한 한 노드에서만 실행하여
+ * 여러 노드가 같은 대기열을 동시에 승격시키지 않도록 함.
  */
 @Component
 public class RedisQueueScheduler {
@@ -27,6 +30,7 @@ public class RedisQueueScheduler {
      * 대기 → 활성 전환 (30초마다 실행)
      */
     @Scheduled(fixedRate = 30000)
+    @ScheduledLease("queue-activation")
     public void activateWaitingTokens() {
         try {
             redisQueueService.activateWaitingTokens();
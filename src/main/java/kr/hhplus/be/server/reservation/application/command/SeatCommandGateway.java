@@ -0,0 +1,117 @@
+package kr.hhplus.be.server.reservation.application.command;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.config.kafka.KafkaTopicConfig;
+import kr.hhplus.be.server.reservation.domain.model.HoldClaim;
+import kr.hhplus.be.server.reservation.domain.model.SeatCommand;
+import kr.hhplus.be.server.reservation.domain.model.SeatCommandReply;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import kr.hhplus.be.server.shared.infrastructure.id.TsidNodeAllocator;
+import kr.hhplus.be.server.shared.infrastructure.kafka.KafkaMessageProducer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 노드의 좌석 명령 발행/응답 대기 (Application Layer)
+ *
+ * - 명령을 seat-commands 토픽에 공연 날짜 키로 발행하고, 예약 ID를 상관관계 ID로 Future를 보관
+ * - 응답 토픽은 모든 노드가 각자의 컨슈머 그룹으로 읽으며, replyTo가 자기 인스턴스인 응답만 Future에 전달
+ * - 응답 컨슈머 그룹은 TSID 노드 ID로 정함 (살아 있는 인스턴스끼리 겹치지 않고, 재시작해도 그룹이 늘어나지 않음)
+ * - 대기 한도가 지나면 Future를 타임아웃으로 완료하고 보관 목록에서 제거 (늦게 온 응답은 버림)
+ */
+@Service
+public class SeatCommandGateway {
+
+    private final KafkaMessageProducer kafkaMessageProducer;
+    private final boolean enabled;
+    private final long awaitTimeoutMillis;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final String replyGroupId;
+    private final Map<Long, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+    private final Timer roundTripTimer;
+
+    public SeatCommandGateway(
+            KafkaMessageProducer kafkaMessageProducer,
+            MeterRegistry meterRegistry,
+            TsidNodeAllocator tsidNodeAllocator,
+            @Value("${reservation.kafka-commands.enabled:false}") boolean enabled,
+            @Value("${reservation.kafka-commands.await-timeout-ms:3000}") long awaitTimeoutMillis) {
+        this.kafkaMessageProducer = kafkaMessageProducer;
+        this.enabled = enabled;
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+        int nodeId = tsidNodeAllocator.getAllocatedNodeId();
+        // 노드 ID를 할당받지 못했으면(Redis 장애) 다른 노드와 겹치지 않도록 인스턴스 전용 그룹 사용
+        this.replyGroupId = "seat-command-reply-" + (nodeId >= 0 ? "node-" + nodeId : instanceId);
+        this.roundTripTimer = Timer.builder("seat.command.round.trip")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("seat.command.pending", pending, Map::size)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 응답 토픽 컨슈머 그룹 (노드마다 달라야 모든 노드가 응답 토픽 전체를 읽음)
+     */
+    public String getReplyGroupId() {
+        return replyGroupId;
+    }
+
+    /**
+     * 선점 명령 발행
+     *
+     * @return 파티션 소유 노드의 응답으로 완료되는 Future (거절 시 BusinessException, 대기 한도 초과 시 TimeoutException)
+     */
+    public CompletableFuture<Void> submit(HoldClaim claim) {
+        long startedAt = System.nanoTime();
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        pending.put(claim.reservationId(), future);
+
+        CompletableFuture<Void> result = future
+                .orTimeout(awaitTimeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((ignored, error) -> {
+                    pending.remove(claim.reservationId());
+                    roundTripTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                });
+
+        SeatCommand command = new SeatCommand(instanceId, System.currentTimeMillis() + awaitTimeoutMillis, claim);
+        kafkaMessageProducer.sendWithResult(KafkaTopicConfig.TOPIC_SEAT_COMMANDS, claim.concertDate(), command)
+                .whenComplete((sent, error) -> {
+                    if (error != null) {
+                        future.completeExceptionally(new BusinessException(
+                                "예약 요청을 전달하지 못했습니다. 잠시 후 다시 시도해주세요.",
+                                "reservation-command-unavailable", 503));
+                    }
+                });
+        return result;
+    }
+
+    /**
+     * 응답 토픽에서 받은 응답 전달 (다른 노드의 응답, 이미 타임아웃된 요청의 응답은 무시)
+     */
+    public void complete(SeatCommandReply reply) {
+        if (!instanceId.equals(reply.replyTo())) {
+            return;
+        }
+        CompletableFuture<Void> future = pending.get(reply.reservationId());
+        if (future == null) {
+            return;
+        }
+        if (reply.succeeded()) {
+            future.complete(null);
+        } else {
+            future.completeExceptionally(new BusinessException(reply.message(), reply.errorCode(), reply.status()));
+        }
+    }
+}
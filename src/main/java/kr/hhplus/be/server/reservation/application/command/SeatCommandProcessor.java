@@ -0,0 +1,303 @@
+package kr.hhplus.be.server.reservation.application.command;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.concert.application.event.SeatEventPublisher;
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository.SeatChange;
+import kr.hhplus.be.server.reservation.application.event.ReservationEventPublisher;
+import kr.hhplus.be.server.reservation.domain.event.ReservationCompletedEvent;
+import kr.hhplus.be.server.reservation.domain.model.HoldClaim;
+import kr.hhplus.be.server.reservation.domain.model.SeatCommand;
+import kr.hhplus.be.server.reservation.domain.model.SeatCommandReply;
+import kr.hhplus.be.server.reservation.domain.repository.HoldBatchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파티션 소유 노드의 좌석 명령 처리 (Application Layer)
+ *
+ * seat-commands 토픽은 공연 날짜를 키로 하므로 한 날짜의 명령은 한 파티션, 즉 그 파티션을 소유한
+ * 컨슈머 스레드 하나가 순서대로 처리한다. 분산락 없이 poll 한 번에 받은 명령을 모아 처리:
+ * 1. 대기 한도가 지난 명령은 건너뜀 (요청 노드가 이미 503으로 응답)
+ * 2. 같은 배치의 같은 좌석 중복, 로컬 상태상 점유 중인 좌석은 DB 없이 거절
+ * 3. 나머지는 한 트랜잭션에서 조건부 UPDATE/INSERT 배치 (그룹 커밋 경로와 같은 쿼리와 이벤트)
+ *
+ * 로컬 상태는 날짜별 점유 좌석과 만료 시각이며, 좌석 변경 로그로 다른 경로(결제 확정, 만료 해제)의
+ * 변경을 이어받는다. 로그가 정리되어 이어받을 수 없으면 비우고 DB 조건부 UPDATE에 맡긴다.
+ * 재전송된 명령(커밋 후 offset 커밋 전 장애)은 이미 INSERT된 예약 ID로 성공 처리한다.
+ */
+@Service
+public class SeatCommandProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatCommandProcessor.class);
+
+    private static final int MAX_CACHED_DATES = 64;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final HoldBatchRepository holdBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SeatEventPublisher seatEventPublisher;
+    private final ReservationEventPublisher reservationEventPublisher;
+    private final SeatChangeLogRepository seatChangeLogRepository;
+    private final Map<String, OwnedDate> dates = new ConcurrentHashMap<>();
+    private final DistributionSummary batchSizeSummary;
+    private final Timer batchTimer;
+    private final Counter heldCounter;
+    private final Counter rejectedCounter;
+    private final Counter expiredCounter;
+
+    public SeatCommandProcessor(HoldBatchRepository holdBatchRepository,
+                                PlatformTransactionManager transactionManager,
+                                SeatEventPublisher seatEventPublisher,
+                                ReservationEventPublisher reservationEventPublisher,
+                                SeatChangeLogRepository seatChangeLogRepository,
+                                MeterRegistry meterRegistry) {
+        this.holdBatchRepository = holdBatchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.seatEventPublisher = seatEventPublisher;
+        this.reservationEventPublisher = reservationEventPublisher;
+        this.seatChangeLogRepository = seatChangeLogRepository;
+        this.batchSizeSummary = DistributionSummary.builder("seat.command.batch.size")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("seat.command.batch.duration")
+                .register(meterRegistry);
+        this.heldCounter = Counter.builder("seat.command.results")
+                .tag("result", "held")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("seat.command.results")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("seat.command.results")
+                .tag("result", "expired")
+                .register(meterRegistry);
+    }
+
+    /**
+     * poll 한 번에 받은 명령 처리
+     *
+     * @return 요청 노드로 보낼 응답 (대기 한도가 지난 명령은 응답하지 않음)
+     */
+    public List<SeatCommandReply> process(List<SeatCommand> commands) {
+        long startedAt = System.nanoTime();
+        long now = System.currentTimeMillis();
+        List<SeatCommandReply> replies = new ArrayList<>(commands.size());
+        List<SeatCommand> candidates = new ArrayList<>(commands.size());
+        Map<String, OwnedDate> synced = new HashMap<>();
+        Set<String> seenSeats = new HashSet<>();
+
+        for (SeatCommand command : commands) {
+            HoldClaim claim = command.claim();
+            if (command.deadlineMillis() < now) {
+                expiredCounter.increment();
+                continue;
+            }
+            OwnedDate owned = synced.computeIfAbsent(claim.concertDate(), this::syncedDate);
+            if (!seenSeats.add(claim.concertDate() + ":" + claim.seatNumber())
+                    || owned.isTaken(claim.seatNumber(), now)) {
+                replies.add(alreadyReserved(command));
+                continue;
+            }
+            candidates.add(command);
+        }
+
+        if (!candidates.isEmpty()) {
+            commit(candidates, synced, replies);
+        }
+
+        batchSizeSummary.record(commands.size());
+        batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return replies;
+    }
+
+    private void commit(List<SeatCommand> candidates, Map<String, OwnedDate> synced, List<SeatCommandReply> replies) {
+        List<HoldClaim> claims = candidates.stream().map(SeatCommand::claim).toList();
+        boolean[] held = new boolean[claims.size()];
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Set<Long> existing = holdBatchRepository.findExistingReservationIds(
+                        claims.stream().map(HoldClaim::reservationId).toList());
+                List<Integer> newIndexes = new ArrayList<>(claims.size());
+                for (int i = 0; i < claims.size(); i++) {
+                    if (existing.contains(claims.get(i).reservationId())) {
+                        held[i] = true;
+                    } else {
+                        newIndexes.add(i);
+                    }
+                }
+                if (newIndexes.isEmpty()) {
+                    return;
+                }
+
+                List<HoldClaim> newClaims = newIndexes.stream().map(claims::get).toList();
+                SeatStatus[] previousStatuses = claimSeats(newClaims);
+                List<HoldClaim> claimed = new ArrayList<>(newClaims.size());
+                for (int i = 0; i < newClaims.size(); i++) {
+                    if (previousStatuses[i] != null) {
+                        claimed.add(newClaims.get(i));
+                        held[newIndexes.get(i)] = true;
+                    }
+                }
+                holdBatchRepository.insertReservations(claimed);
+                for (int i = 0; i < newClaims.size(); i++) {
+                    if (previousStatuses[i] != null) {
+                        publishHeld(newClaims.get(i), previousStatuses[i]);
+                    }
+                }
+            });
+        } catch (Exception e) {
+            log.error("[SeatCommand] 배치 커밋 실패 - size={}, error={}", candidates.size(), e.getMessage());
+            for (SeatCommand command : candidates) {
+                rejectedCounter.increment();
+                replies.add(SeatCommandReply.rejected(command, "reservation-commit-failed",
+                        "예약 처리 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.", 503));
+            }
+            return;
+        }
+
+        for (int i = 0; i < candidates.size(); i++) {
+            SeatCommand command = candidates.get(i);
+            HoldClaim claim = command.claim();
+            if (held[i]) {
+                // 다른 사용자의 선점은 만료 시각을 모르므로 변경 로그로만 반영
+                synced.get(claim.concertDate()).markTaken(claim.seatNumber(), toMillis(claim.reservedUntil()));
+                heldCounter.increment();
+                replies.add(SeatCommandReply.held(command));
+            } else {
+                replies.add(alreadyReserved(command));
+            }
+        }
+    }
+
+    private SeatCommandReply alreadyReserved(SeatCommand command) {
+        rejectedCounter.increment();
+        return SeatCommandReply.rejected(command, "seat-already-reserved",
+                "이미 예약되었거나 존재하지 않는 좌석입니다.", 400);
+    }
+
+    /**
+     * 날짜별 로컬 상태를 좌석 변경 로그 현재 버전까지 맞춤 (배치마다 날짜당 한 번)
+     */
+    private OwnedDate syncedDate(String concertDate) {
+        OwnedDate owned = dates.get(concertDate);
+        if (owned == null) {
+            if (dates.size() >= MAX_CACHED_DATES) {
+                dates.clear();
+            }
+            owned = dates.computeIfAbsent(concertDate, date -> new OwnedDate());
+        }
+
+        long currentVersion = seatChangeLogRepository.getCurrentVersion(concertDate);
+        if (owned.version == currentVersion) {
+            return owned;
+        }
+        Optional<List<SeatChange>> changes = owned.version < 0
+                ? Optional.empty()
+                : seatChangeLogRepository.findChangesSince(concertDate, owned.version);
+        if (changes.isEmpty()) {
+            owned.takenUntil.clear();
+        } else {
+            for (SeatChange change : changes.get()) {
+                owned.apply(change);
+            }
+        }
+        owned.version = currentVersion;
+        return owned;
+    }
+
+    private SeatStatus[] claimSeats(List<HoldClaim> claims) {
+        SeatStatus[] previousStatuses = new SeatStatus[claims.size()];
+        boolean[] fromAvailable = holdBatchRepository.claimAvailableSeats(claims);
+
+        List<Integer> retryIndexes = new ArrayList<>();
+        for (int i = 0; i < claims.size(); i++) {
+            if (fromAvailable[i]) {
+                previousStatuses[i] = SeatStatus.AVAILABLE;
+            } else {
+                retryIndexes.add(i);
+            }
+        }
+        if (retryIndexes.isEmpty()) {
+            return previousStatuses;
+        }
+
+        List<HoldClaim> retries = retryIndexes.stream().map(claims::get).toList();
+        boolean[] fromExpired = holdBatchRepository.claimExpiredSeats(retries, LocalDateTime.now());
+        for (int i = 0; i < retries.size(); i++) {
+            if (fromExpired[i]) {
+                previousStatuses[retryIndexes.get(i)] = SeatStatus.TEMP_HELD;
+            }
+        }
+        return previousStatuses;
+    }
+
+    private void publishHeld(HoldClaim claim, SeatStatus previousStatus) {
+        seatEventPublisher.publishSeatStateChanged(new SeatStateChangedEvent(
+                claim.concertDate(),
+                claim.seatNumber(),
+                previousStatus,
+                SeatStatus.TEMP_HELD,
+                claim.userId(),
+                claim.reservedUntil()
+        ));
+        reservationEventPublisher.publishReservationCompleted(new ReservationCompletedEvent(
+                claim.reservationId(),
+                claim.userId(),
+                claim.concertDate(),
+                claim.seatNumber(),
+                claim.reservedUntil()
+        ));
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 날짜 하나의 점유 좌석 (좌석번호 → 점유 만료 시각, 확정 좌석은 Long.MAX_VALUE)
+     * 한 날짜는 한 파티션 컨슈머 스레드만 다루므로 동기화하지 않음 (리밸런스 후에는 변경 로그로 다시 맞춤)
+     */
+    private static class OwnedDate {
+
+        private long version = -1;
+        private final Map<Integer, Long> takenUntil = new HashMap<>();
+
+        boolean isTaken(int seatNumber, long nowMillis) {
+            Long until = takenUntil.get(seatNumber);
+            return until != null && until > nowMillis;
+        }
+
+        void markTaken(int seatNumber, long untilMillis) {
+            takenUntil.merge(seatNumber, untilMillis, Math::max);
+        }
+
+        void apply(SeatChange change) {
+            switch (change.status()) {
+                case AVAILABLE -> takenUntil.remove(change.seatNumber());
+                case TEMP_HELD -> takenUntil.put(change.seatNumber(),
+                        change.reservedUntil() == null ? 0 : toMillis(change.reservedUntil()));
+                case RESERVED -> takenUntil.put(change.seatNumber(), Long.MAX_VALUE);
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package kr.hhplus.be.server.reservation.application.engine;
+
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
+import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 날짜 하나의 좌석 상태 (엔진 샤드 스레드 전용, 동기화 없음)
+ *
+ * 좌석번호 - 첫 좌석번호를 인덱스로 하는 배열에 상태/만료 시각/선점자를 보관.
+ * 만료 시각이 지난 임시 배정은 별도 해제 없이 빈 좌석으로 취급한다.
+ */
+class SeatInventory {
+
+    static final byte ABSENT = 0;
+    static final byte AVAILABLE = 1;
+    static final byte HELD = 2;
+    static final byte RESERVED = 3;
+
+    enum HoldResult { HELD, TAKEN, NOT_FOUND }
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final int firstSeatNumber;
+    private final byte[] status;
+    private final long[] heldUntil;
+    private final String[] holder;
+
+    private SeatInventory(int firstSeatNumber, int size) {
+        this.firstSeatNumber = firstSeatNumber;
+        this.status = new byte[size];
+        this.heldUntil = new long[size];
+        this.holder = new String[size];
+    }
+
+    /**
+     * DB 좌석 목록(좌석번호 순)으로 구성
+     */
+    static SeatInventory load(List<Seat> seats) {
+        if (seats.isEmpty()) {
+            return new SeatInventory(0, 0);
+        }
+        int first = seats.get(0).getSeatNumber();
+        SeatInventory inventory = new SeatInventory(first, seats.get(seats.size() - 1).getSeatNumber() - first + 1);
+        for (Seat seat : seats) {
+            inventory.set(seat.getSeatNumber(), seat.getStatus(), seat.getReservedUserId(), seat.getReservedUntil());
+        }
+        return inventory;
+    }
+
+    boolean isEmpty() {
+        return status.length == 0;
+    }
+
+    boolean contains(int seatNumber) {
+        int i = seatNumber - firstSeatNumber;
+        return i >= 0 && i < status.length && status[i] != ABSENT;
+    }
+
+    /**
+     * 빈 좌석(또는 만료된 임시 배정)이면 선점
+     */
+    HoldResult hold(int seatNumber, String userId, long untilMillis, long nowMillis) {
+        if (!contains(seatNumber)) {
+            return HoldResult.NOT_FOUND;
+        }
+        int i = seatNumber - firstSeatNumber;
+        if (!isFree(i, nowMillis)) {
+            return HoldResult.TAKEN;
+        }
+        status[i] = HELD;
+        heldUntil[i] = untilMillis;
+        holder[i] = userId;
+        return HoldResult.HELD;
+    }
+
+    /**
+     * 다른 경로(결제 확정, 만료 해제, DB 선점)에서 커밋된 좌석 상태 반영
+     * - 확정된 좌석은 해제 이벤트로만 되돌림 (늦게 도착한 선점 이벤트로 덮어쓰지 않음)
+     * - 아직 유효한 엔진 선점은 해제 이벤트로 지우지 않음 (만료 후 재선점된 좌석에 대한 늦은 해제)
+     */
+    void apply(SeatStateChangedEvent event, long nowMillis) {
+        if (!contains(event.getSeatNumber())) {
+            return;
+        }
+        int i = event.getSeatNumber() - firstSeatNumber;
+        switch (event.getStatus()) {
+            case RESERVED -> set(event.getSeatNumber(), SeatStatus.RESERVED, event.getReservedUserId(), null);
+            case TEMP_HELD -> {
+                if (status[i] != RESERVED) {
+                    set(event.getSeatNumber(), SeatStatus.TEMP_HELD, event.getReservedUserId(), event.getReservedUntil());
+                }
+            }
+            case AVAILABLE -> {
+                if (status[i] != HELD || heldUntil[i] <= nowMillis) {
+                    set(event.getSeatNumber(), SeatStatus.AVAILABLE, null, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * 사용자가 직접 해제한 임시 배정 (선점자가 같을 때만)
+     */
+    void releaseHeldBy(int seatNumber, String userId) {
+        if (!contains(seatNumber)) {
+            return;
+        }
+        int i = seatNumber - firstSeatNumber;
+        if (status[i] == HELD && userId.equals(holder[i])) {
+            set(seatNumber, SeatStatus.AVAILABLE, null, null);
+        }
+    }
+
+    /**
+     * DB 반영 단계에서 다른 선점이 확인된 좌석 — 다음 상태 이벤트가 올 때까지 점유로 둠
+     */
+    void markTaken(int seatNumber, String lostUserId, long untilMillis) {
+        if (!contains(seatNumber)) {
+            return;
+        }
+        int i = seatNumber - firstSeatNumber;
+        if (status[i] != HELD || !lostUserId.equals(holder[i])) {
+            return;
+        }
+        heldUntil[i] = untilMillis;
+        holder[i] = null;
+    }
+
+    /**
+     * 선점 되돌리기 (저널 기록 실패 시)
+     */
+    void undo(int seatNumber, byte previousStatus, long previousUntil, String previousHolder) {
+        int i = seatNumber - firstSeatNumber;
+        status[i] = previousStatus;
+        heldUntil[i] = previousUntil;
+        holder[i] = previousHolder;
+    }
+
+    byte statusOf(int seatNumber) {
+        return status[seatNumber - firstSeatNumber];
+    }
+
+    long heldUntilOf(int seatNumber) {
+        return heldUntil[seatNumber - firstSeatNumber];
+    }
+
+    String holderOf(int seatNumber) {
+        return holder[seatNumber - firstSeatNumber];
+    }
+
+    private boolean isFree(int i, long nowMillis) {
+        return status[i] == AVAILABLE || (status[i] == HELD && heldUntil[i] <= nowMillis);
+    }
+
+    void set(int seatNumber, SeatStatus seatStatus, String userId, LocalDateTime until) {
+        int i = seatNumber - firstSeatNumber;
+        status[i] = switch (seatStatus) {
+            case AVAILABLE -> AVAILABLE;
+            case TEMP_HELD -> HELD;
+            case RESERVED -> RESERVED;
+        };
+        heldUntil[i] = until == null ? 0 : toMillis(until);
+        holder[i] = seatStatus == SeatStatus.AVAILABLE ? null : userId;
+    }
+
+    static long toMillis(LocalDateTime time) {
+        return time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+}
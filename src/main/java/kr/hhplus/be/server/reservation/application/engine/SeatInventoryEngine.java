@@ -0,0 +1,378 @@
+package kr.hhplus.be.server.reservation.application.engine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import kr.hhplus.be.server.reservation.domain.model.HoldClaim;
+import kr.hhplus.be.server.reservation.domain.model.JournaledHold;
+import kr.hhplus.be.server.reservation.domain.repository.SeatHoldJournal;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단일 라이터 인메모리 좌석 엔진 (Application Layer)
+ *
+ * reservation.engine.enabled=true 일 때 단건 좌석 예약을 분산락/DB 트랜잭션 없이 메모리에서 결정한다.
+ * - 날짜마다 하나의 샤드 스레드가 소유 (date.hashCode() 기준), 좌석 상태는 그 스레드만 읽고 씀 → 락 없음
+ * - 요청은 샤드의 명령 큐에 넣고, 샤드는 큐에서 꺼낸 명령들을 순서대로 적용한 뒤
+ *   그 묶음의 선점을 저널에 한 번에 기록(fsync)하고 나서 응답 (그룹 fsync)
+ * - DB 반영은 SeatInventoryWriteBehind가 비동기 배치로 처리, 결제 확정/만료 해제 등 DB 경로의 변경은
+ *   SeatStateChangedEvent(AFTER_COMMIT)로 받아 반영
+ * - 날짜 상태는 첫 명령 때 DB에서 읽고, 아직 DB에 반영되지 않은 선점(재시작 시 저널 재생분 포함)을 덧씌움
+ *
+ * 한 노드가 모든 날짜를 소유한다고 가정한다. 여러 노드에서 켜면 노드마다 따로 결정하므로,
+ * 날짜 단위 라우팅 없이 쓰면 경합은 DB 반영 단계의 조건부 UPDATE에서만 걸러진다 (seat.engine.flush.conflicts).
+ */
+@Service
+public class SeatInventoryEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatInventoryEngine.class);
+
+    private static final int MAX_DATES_PER_SHARD = 64;
+
+    private final SeatRepository seatRepository;
+    private final SeatHoldJournal journal;
+    private final SeatInventoryWriteBehind writeBehind;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final Shard[] shards;
+    private final Set<String> staleDates = ConcurrentHashMap.newKeySet();
+    private final Counter heldCounter;
+    private final Counter rejectedCounter;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+
+    public SeatInventoryEngine(
+            SeatRepository seatRepository,
+            SeatHoldJournal journal,
+            SeatInventoryWriteBehind writeBehind,
+            MeterRegistry meterRegistry,
+            @Value("${reservation.engine.enabled:false}") boolean enabled,
+            @Value("${reservation.engine.shards:4}") int shardCount,
+            @Value("${reservation.engine.max-batch-size:1024}") int maxBatchSize,
+            @Value("${reservation.engine.queue-capacity:65536}") int queueCapacity) {
+        this.seatRepository = seatRepository;
+        this.journal = journal;
+        this.writeBehind = writeBehind;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i, queueCapacity);
+        }
+        this.heldCounter = Counter.builder("seat.engine.holds").tag("result", "held").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("seat.engine.holds").tag("result", "rejected").register(meterRegistry);
+        this.batchTimer = Timer.builder("seat.engine.batch.duration").register(meterRegistry);
+        Gauge.builder("seat.engine.queue.depth", shards,
+                        all -> Arrays.stream(all).mapToInt(shard -> shard.commands.size()).sum())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저널 재생 → DB 반영 스레드 → 샤드 스레드 순으로 시작
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        List<JournaledHold> replayed = journal.replay();
+        writeBehind.enqueue(replayed);
+        writeBehind.start(this::markLost);
+
+        running = true;
+        for (Shard shard : shards) {
+            shard.start();
+        }
+        log.info("[SeatEngine] 시작 - shards={}, replayedHolds={}", shards.length, replayed.size());
+    }
+
+    /**
+     * 새 명령을 받지 않고 큐에 남은 명령을 처리한 뒤, DB 반영 스레드를 멈춘다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Shard shard : shards) {
+            shard.join();
+        }
+        writeBehind.stop();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 좌석 선점 요청
+     *
+     * @return 저널 기록 후 완료되는 Future (이미 선점된 좌석은 seat-already-reserved, 없는 좌석은 seat-not-found)
+     */
+    public CompletableFuture<HoldClaim> hold(HoldClaim claim) {
+        if (!running) {
+            throw new BusinessException("좌석 엔진이 비활성 상태입니다.", "reservation-engine-unavailable", 503);
+        }
+        CompletableFuture<HoldClaim> future = new CompletableFuture<>();
+        if (!shardOf(claim.concertDate()).commands.offer(new Hold(claim, future))) {
+            throw new BusinessException("예약 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                    "reservation-engine-busy", 503);
+        }
+        return future;
+    }
+
+    /**
+     * DB 경로에서 커밋된 좌석 상태 변경 반영
+     * - 큐가 가득 차 명령을 넣지 못하면 해당 날짜를 DB에서 다시 읽도록 표시
+     */
+    public void apply(SeatStateChangedEvent event) {
+        if (!running) {
+            return;
+        }
+        if (!shardOf(event.getConcertDate()).commands.offer(new Apply(event))) {
+            staleDates.add(event.getConcertDate());
+        }
+    }
+
+    /**
+     * 사용자가 직접 해제한 임시 예약 반영 (선점자가 같을 때만 — 이미 다른 사용자가 재선점했으면 무시)
+     */
+    public void release(String concertDate, int seatNumber, String userId) {
+        if (!running) {
+            return;
+        }
+        if (!shardOf(concertDate).commands.offer(new Release(concertDate, seatNumber, userId))) {
+            staleDates.add(concertDate);
+        }
+    }
+
+    private void markLost(HoldClaim claim) {
+        if (!shardOf(claim.concertDate()).commands.offer(new Lost(claim))) {
+            staleDates.add(claim.concertDate());
+        }
+    }
+
+    private Shard shardOf(String concertDate) {
+        return shards[Math.floorMod(concertDate.hashCode(), shards.length)];
+    }
+
+    private sealed interface Command permits Hold, Apply, Lost, Release {
+    }
+
+    private record Hold(HoldClaim claim, CompletableFuture<HoldClaim> future) implements Command {
+    }
+
+    private record Apply(SeatStateChangedEvent event) implements Command {
+    }
+
+    private record Lost(HoldClaim claim) implements Command {
+    }
+
+    private record Release(String concertDate, int seatNumber, String userId) implements Command {
+    }
+
+    /**
+     * 선점 결정 직후 상태 (저널 기록 실패 시 되돌리기용)
+     */
+    private record Decided(Hold hold, SeatInventory inventory, byte previousStatus, long previousUntil,
+                           String previousHolder) {
+    }
+
+    private final class Shard {
+
+        private final BlockingQueue<Command> commands;
+        private final Map<String, SeatInventory> inventories =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, SeatInventory> eldest) {
+                        return size() > MAX_DATES_PER_SHARD;
+                    }
+                };
+        private final Thread thread;
+
+        Shard(int index, int queueCapacity) {
+            this.commands = new ArrayBlockingQueue<>(queueCapacity);
+            this.thread = new Thread(this::runLoop, "seat-engine-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        void start() {
+            thread.start();
+        }
+
+        void join() throws InterruptedException {
+            if (thread.isAlive()) {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            }
+        }
+
+        private void runLoop() {
+            List<Command> batch = new ArrayList<>(maxBatchSize);
+            while (running || !commands.isEmpty()) {
+                try {
+                    Command first = commands.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    commands.drainTo(batch, maxBatchSize - 1);
+                    long startedAt = System.nanoTime();
+                    process(batch);
+                    batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    log.error("[SeatEngine] 명령 처리 실패 - size={}, error={}", batch.size(), e.getMessage(), e);
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        private void process(List<Command> batch) {
+            long now = System.currentTimeMillis();
+            List<Decided> decided = new ArrayList<>();
+
+            for (Command command : batch) {
+                try {
+                    switch (command) {
+                        case Hold hold -> decide(hold, now, decided);
+                        case Apply apply -> applyIfLoaded(apply.event(), now);
+                        case Lost lost -> markTakenIfLoaded(lost.claim());
+                        case Release release -> releaseIfLoaded(release);
+                    }
+                } catch (Exception e) {
+                    if (command instanceof Hold hold) {
+                        hold.future().completeExceptionally(e);
+                    }
+                    log.error("[SeatEngine] 명령 적용 실패 - command={}, error={}", command, e.getMessage());
+                }
+            }
+            if (decided.isEmpty()) {
+                return;
+            }
+
+            // 묶음 전체를 한 번에 기록한 뒤 응답 (기록 실패 시 선점을 되돌리고 503)
+            List<JournaledHold> journaled;
+            try {
+                journaled = journal.append(decided.stream().map(d -> d.hold().claim()).toList());
+            } catch (Exception e) {
+                log.error("[SeatEngine] 저널 기록 실패 - size={}, error={}", decided.size(), e.getMessage());
+                for (int i = decided.size() - 1; i >= 0; i--) {
+                    Decided d = decided.get(i);
+                    d.inventory().undo(d.hold().claim().seatNumber(), d.previousStatus(), d.previousUntil(),
+                            d.previousHolder());
+                    d.hold().future().completeExceptionally(new BusinessException(
+                            "예약을 기록하지 못했습니다. 잠시 후 다시 시도해주세요.", "reservation-engine-unavailable", 503));
+                }
+                return;
+            }
+
+            writeBehind.enqueue(journaled);
+            for (Decided d : decided) {
+                d.hold().future().complete(d.hold().claim());
+            }
+        }
+
+        private void decide(Hold hold, long now, List<Decided> decided) {
+            HoldClaim claim = hold.claim();
+            SeatInventory inventory = inventory(claim.concertDate());
+            int seatNumber = claim.seatNumber();
+            if (!inventory.contains(seatNumber)) {
+                rejectedCounter.increment();
+                hold.future().completeExceptionally(new BusinessException(
+                        "좌석을 찾을 수 없습니다.", "seat-not-found", 404));
+                return;
+            }
+
+            byte previousStatus = inventory.statusOf(seatNumber);
+            long previousUntil = inventory.heldUntilOf(seatNumber);
+            String previousHolder = inventory.holderOf(seatNumber);
+            SeatInventory.HoldResult result = inventory.hold(
+                    seatNumber, claim.userId(), SeatInventory.toMillis(claim.reservedUntil()), now);
+
+            switch (result) {
+                case HELD -> {
+                    heldCounter.increment();
+                    decided.add(new Decided(hold, inventory, previousStatus, previousUntil, previousHolder));
+                }
+                case TAKEN -> {
+                    rejectedCounter.increment();
+                    hold.future().completeExceptionally(new BusinessException(
+                            "이미 예약되었거나 임시 배정된 좌석입니다.", "seat-already-reserved", 400));
+                }
+                case NOT_FOUND -> {
+                    rejectedCounter.increment();
+                    hold.future().completeExceptionally(new BusinessException(
+                            "좌석을 찾을 수 없습니다.", "seat-not-found", 404));
+                }
+            }
+        }
+
+        /**
+         * 아직 읽지 않은 날짜는 나중에 DB에서 읽을 때 반영되어 있으므로 건너뜀
+         */
+        private void applyIfLoaded(SeatStateChangedEvent event, long now) {
+            SeatInventory inventory = inventories.get(event.getConcertDate());
+            if (inventory != null) {
+                inventory.apply(event, now);
+            }
+        }
+
+        private void releaseIfLoaded(Release release) {
+            SeatInventory inventory = inventories.get(release.concertDate());
+            if (inventory != null) {
+                inventory.releaseHeldBy(release.seatNumber(), release.userId());
+            }
+        }
+
+        private void markTakenIfLoaded(HoldClaim claim) {
+            SeatInventory inventory = inventories.get(claim.concertDate());
+            if (inventory != null) {
+                inventory.markTaken(claim.seatNumber(), claim.userId(), SeatInventory.toMillis(claim.reservedUntil()));
+            }
+        }
+
+        private SeatInventory inventory(String concertDate) {
+            SeatInventory inventory = staleDates.remove(concertDate) ? null : inventories.get(concertDate);
+            if (inventory != null) {
+                return inventory;
+            }
+
+            // 반영 대기 선점을 DB보다 먼저 읽음 — 그 사이 반영이 끝난 선점은 DB 결과에 포함되므로 어느 쪽에서도 빠지지 않음
+            List<HoldClaim> pendingClaims = writeBehind.pending(concertDate);
+            inventory = SeatInventory.load(seatRepository.findByConcertDateOrderBySeatNumber(concertDate));
+            long now = System.currentTimeMillis();
+            for (HoldClaim pending : pendingClaims) {
+                inventory.hold(pending.seatNumber(), pending.userId(),
+                        SeatInventory.toMillis(pending.reservedUntil()), now);
+            }
+            // 좌석이 없는 날짜(생성 전)는 캐시하지 않아 생성 직후부터 예약 가능
+            if (!inventory.isEmpty()) {
+                inventories.put(concertDate, inventory);
+            }
+            return inventory;
+        }
+    }
+}
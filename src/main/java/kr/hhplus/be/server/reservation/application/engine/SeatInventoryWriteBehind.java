@@ -0,0 +1,249 @@
+package kr.hhplus.be.server.reservation.application.engine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.concert.application.event.SeatEventPublisher;
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.reservation.application.event.ReservationEventPublisher;
+import kr.hhplus.be.server.reservation.domain.event.ReservationCompletedEvent;
+import kr.hhplus.be.server.reservation.domain.model.HoldClaim;
+import kr.hhplus.be.server.reservation.domain.model.JournaledHold;
+import kr.hhplus.be.server.reservation.domain.repository.HoldBatchRepository;
+import kr.hhplus.be.server.reservation.domain.repository.SeatHoldJournal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 좌석 엔진 선점의 비동기 DB 반영 (Application Layer)
+ *
+ * 엔진이 저널에 기록하고 응답한 선점을 스레드 하나가 모아 한 트랜잭션/JDBC 배치로 반영:
+ * 1. 이미 INSERT된 예약(저널 재생분)은 건너뜀
+ * 2. 조건부 UPDATE로 좌석 선점 (AVAILABLE → 만료된 TEMP_HELD 순, 그룹 커밋 경로와 같은 쿼리)
+ * 3. 예약 INSERT 배치 + 기존 경로와 같은 이벤트 발행 (지연 큐, 잔여석 카운터, 변경 로그, Kafka)
+ * 4. 커밋 후 저널에 반영 완료 표시
+ *
+ * DB 오류 시 같은 배치를 backoff 후 재시도하며, 종료 때까지 반영하지 못한 선점은 저널에 남아 재시작 시 재생된다.
+ * DB에서 다른 선점이 확인된 좌석은 lost 콜백으로 엔진에 알리고, 예약을 HOLD_LOST 상태로 남겨
+ * 결제 단계에서 사용자에게 선점 실패(reservation-hold-lost)를 알린다. 엔진 모드에서는 좌석을 바꾸는 다른 API를
+ * 거절하므로 이 경우는 여러 노드에서 엔진을 켠 잘못된 배포에서만 생긴다.
+ */
+@Component
+public class SeatInventoryWriteBehind {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatInventoryWriteBehind.class);
+
+    private final HoldBatchRepository holdBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SeatEventPublisher seatEventPublisher;
+    private final ReservationEventPublisher reservationEventPublisher;
+    private final SeatHoldJournal journal;
+    private final int batchSize;
+    private final long retryBackoffMillis;
+    private final BlockingQueue<JournaledHold> queue = new LinkedBlockingQueue<>();
+    private final Map<Long, JournaledHold> inFlight = new ConcurrentHashMap<>();
+    private final DistributionSummary batchSizeSummary;
+    private final Counter conflictCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+    private Consumer<HoldClaim> onLost = claim -> { };
+
+    public SeatInventoryWriteBehind(
+            HoldBatchRepository holdBatchRepository,
+            PlatformTransactionManager transactionManager,
+            SeatEventPublisher seatEventPublisher,
+            ReservationEventPublisher reservationEventPublisher,
+            SeatHoldJournal journal,
+            MeterRegistry meterRegistry,
+            @Value("${reservation.engine.flush-batch-size:256}") int batchSize,
+            @Value("${reservation.engine.flush-retry-backoff-ms:1000}") long retryBackoffMillis) {
+        this.holdBatchRepository = holdBatchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.seatEventPublisher = seatEventPublisher;
+        this.reservationEventPublisher = reservationEventPublisher;
+        this.journal = journal;
+        this.batchSize = batchSize;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.batchSizeSummary = DistributionSummary.builder("seat.engine.flush.batch.size")
+                .register(meterRegistry);
+        this.conflictCounter = Counter.builder("seat.engine.flush.conflicts")
+                .register(meterRegistry);
+        Gauge.builder("seat.engine.flush.backlog", inFlight, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 엔진 시작 시 호출 (엔진이 꺼져 있으면 스레드를 만들지 않음)
+     */
+    void start(Consumer<HoldClaim> onLost) {
+        this.onLost = onLost;
+        running = true;
+        writerThread = new Thread(this::runLoop, "seat-engine-write-behind");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 엔진 샤드가 멈춘 뒤 호출 — 남은 선점을 마저 반영 (DB 장애 시 저널에 남김)
+     */
+    void stop() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    void enqueue(List<JournaledHold> holds) {
+        for (JournaledHold hold : holds) {
+            inFlight.put(hold.sequence(), hold);
+            queue.add(hold);
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않았을 수 있는 날짜별 선점 (엔진이 날짜를 DB에서 다시 읽을 때 덧씌움)
+     */
+    List<HoldClaim> pending(String concertDate) {
+        return inFlight.values().stream()
+                .map(JournaledHold::claim)
+                .filter(claim -> claim.concertDate().equals(concertDate))
+                .toList();
+    }
+
+    private void runLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                JournaledHold first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<JournaledHold> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flushWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void flushWithRetry(List<JournaledHold> batch) throws InterruptedException {
+        while (true) {
+            try {
+                flush(batch);
+                return;
+            } catch (Exception e) {
+                if (!running) {
+                    log.error("[SeatEngine] 종료 중 DB 반영 실패, 저널에 남김 - size={}, error={}",
+                            batch.size(), e.getMessage());
+                    return;
+                }
+                log.error("[SeatEngine] DB 반영 실패, 재시도 - size={}, error={}", batch.size(), e.getMessage());
+                Thread.sleep(retryBackoffMillis);
+            }
+        }
+    }
+
+    void flush(List<JournaledHold> batch) {
+        List<HoldClaim> lost = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Long> existing = holdBatchRepository.findExistingReservationIds(
+                    batch.stream().map(hold -> hold.claim().reservationId()).toList());
+            List<HoldClaim> claims = batch.stream()
+                    .map(JournaledHold::claim)
+                    .filter(claim -> !existing.contains(claim.reservationId()))
+                    .toList();
+            SeatStatus[] previousStatuses = claimSeats(claims);
+
+            List<HoldClaim> claimed = new ArrayList<>(claims.size());
+            for (int i = 0; i < claims.size(); i++) {
+                if (previousStatuses[i] != null) {
+                    claimed.add(claims.get(i));
+                } else {
+                    lost.add(claims.get(i));
+                }
+            }
+            holdBatchRepository.insertReservations(claimed);
+            holdBatchRepository.insertLostReservations(lost);
+            for (int i = 0; i < claims.size(); i++) {
+                if (previousStatuses[i] != null) {
+                    publishHeld(claims.get(i), previousStatuses[i]);
+                }
+            }
+        });
+
+        journal.markFlushed(batch);
+        batch.forEach(hold -> inFlight.remove(hold.sequence()));
+        batchSizeSummary.record(batch.size());
+
+        for (HoldClaim claim : lost) {
+            conflictCounter.increment();
+            log.error("[SeatEngine] DB에 다른 선점이 있어 엔진 선점을 반영하지 못함 - reservationId={}, date={}, seat={}",
+                    claim.reservationId(), claim.concertDate(), claim.seatNumber());
+            onLost.accept(claim);
+        }
+    }
+
+    private SeatStatus[] claimSeats(List<HoldClaim> claims) {
+        SeatStatus[] previousStatuses = new SeatStatus[claims.size()];
+        boolean[] fromAvailable = holdBatchRepository.claimAvailableSeats(claims);
+
+        List<Integer> retryIndexes = new ArrayList<>();
+        for (int i = 0; i < claims.size(); i++) {
+            if (fromAvailable[i]) {
+                previousStatuses[i] = SeatStatus.AVAILABLE;
+            } else {
+                retryIndexes.add(i);
+            }
+        }
+        if (retryIndexes.isEmpty()) {
+            return previousStatuses;
+        }
+
+        List<HoldClaim> retries = retryIndexes.stream().map(claims::get).toList();
+        boolean[] fromExpired = holdBatchRepository.claimExpiredSeats(retries, LocalDateTime.now());
+        for (int i = 0; i < retries.size(); i++) {
+            if (fromExpired[i]) {
+                previousStatuses[retryIndexes.get(i)] = SeatStatus.TEMP_HELD;
+            }
+        }
+        return previousStatuses;
+    }
+
+    private void publishHeld(HoldClaim claim, SeatStatus previousStatus) {
+        seatEventPublisher.publishSeatStateChanged(new SeatStateChangedEvent(
+                claim.concertDate(),
+                claim.seatNumber(),
+                previousStatus,
+                SeatStatus.TEMP_HELD,
+                claim.userId(),
+                claim.reservedUntil()
+        ));
+        reservationEventPublisher.publishReservationCompleted(new ReservationCompletedEvent(
+                claim.reservationId(),
+                claim.userId(),
+                claim.concertDate(),
+                claim.seatNumber(),
+                claim.reservedUntil()
+        ));
+    }
+}
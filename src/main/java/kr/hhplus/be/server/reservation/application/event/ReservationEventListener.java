@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.reservation.application.event;
 
 import kr.hhplus.be.server.config.kafka.KafkaTopicConfig;
+import kr.hhplus.be.server.reservation.domain.event.ReservationBatchCompletedEvent;
 import kr.hhplus.be.server.reservation.domain.event.ReservationCompletedEvent;
 import kr.hhplus.be.server.shared.infrastructure.kafka.KafkaMessageProducer;
 import org.slf4j.Logger;
@@ -45,4 +46,19 @@ public class ReservationEventListener {
                 event
         );
     }
+
+    /**
+     * 다중 좌석 예약 완료 이벤트 핸들러
+     * - 좌석 수와 관계없이 Kafka 메시지 1건 (메시지 키: concertDate)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReservationBatchCompleted(ReservationBatchCompletedEvent event) {
+        log.info("[ReservationEventListener] 다중 좌석 예약 완료 이벤트 수신 → Kafka 발행: {}", event);
+
+        kafkaMessageProducer.send(
+                KafkaTopicConfig.TOPIC_RESERVATION_BATCH_COMPLETED,
+                event.getConcertDate(),
+                event
+        );
+    }
 }
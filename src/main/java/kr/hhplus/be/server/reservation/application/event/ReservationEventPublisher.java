@@ -1,6 +1,8 @@
 package kr.hhplus.be.server.reservation.application.event;
 
+import kr.hhplus.be.server.reservation.domain.event.ReservationBatchCompletedEvent;
 import kr.hhplus.be.server.reservation.domain.event.ReservationCompletedEvent;
+import kr.hhplus.be.server.reservation.domain.event.ReservationHoldChangedEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
@@ -24,4 +26,18 @@ public class ReservationEventPublisher {
     public void publishReservationCompleted(ReservationCompletedEvent event) {
         applicationEventPublisher.publishEvent(event);
     }
+
+    /**
+     * 다중 좌석 예약 완료 이벤트 발행
+     */
+    public void publishReservationBatchCompleted(ReservationBatchCompletedEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+
+    /**
+     * 임시 예약 연장/해제 이벤트 발행
+     */
+    public void publishReservationHoldChanged(ReservationHoldChangedEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
 }
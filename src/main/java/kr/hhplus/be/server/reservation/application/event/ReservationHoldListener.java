@@ -0,0 +1,73 @@
+package kr.hhplus.be.server.reservation.application.event;
+
+import kr.hhplus.be.server.reservation.domain.event.ReservationBatchCompletedEvent;
+import kr.hhplus.be.server.reservation.domain.event.ReservationCompletedEvent;
+import kr.hhplus.be.server.reservation.domain.event.ReservationHoldChangedEvent;
+import kr.hhplus.be.server.reservation.domain.repository.ReservationHoldQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 임시 예약 지연 큐 등록 리스너
+ *
+ * 예약 트랜잭션 커밋 후 만료 시각으로 지연 큐에 등록.
+ * 등록에 실패해도 예약 자체는 유지되며, 주기 스케줄러(ExpirationScheduler)가 안전망으로 만료 처리함.
+ * 연장 시 새 만료 시각으로 다시 등록하고, 직접 해제 시 큐에서 제거함.
+ */
+@Component
+public class ReservationHoldListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationHoldListener.class);
+
+    private final ReservationHoldQueue reservationHoldQueue;
+
+    public ReservationHoldListener(ReservationHoldQueue reservationHoldQueue) {
+        this.reservationHoldQueue = reservationHoldQueue;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReservationCompleted(ReservationCompletedEvent event) {
+        if (event.getReservedUntil() == null) {
+            return;
+        }
+        try {
+            reservationHoldQueue.register(event.getReservationId(), event.getReservedUntil());
+        } catch (Exception e) {
+            log.error("[ReservationHoldListener] 지연 큐 등록 실패 - reservationId={}, error={}",
+                    event.getReservationId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReservationBatchCompleted(ReservationBatchCompletedEvent event) {
+        if (event.getReservedUntil() == null) {
+            return;
+        }
+        for (ReservationBatchCompletedEvent.ReservedSeat seat : event.getSeats()) {
+            try {
+                reservationHoldQueue.register(seat.getReservationId(), event.getReservedUntil());
+            } catch (Exception e) {
+                log.error("[ReservationHoldListener] 지연 큐 등록 실패 - reservationId={}, error={}",
+                        seat.getReservationId(), e.getMessage());
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReservationHoldChanged(ReservationHoldChangedEvent event) {
+        try {
+            if (event.isReleased()) {
+                reservationHoldQueue.remove(event.getReservationId());
+            } else {
+                reservationHoldQueue.register(event.getReservationId(), event.getReservedUntil());
+            }
+        } catch (Exception e) {
+            // 연장 후 등록 실패: 이전 시각에 꺼내져도 만료 처리가 reservedUntil < now 조건으로 건너뜀
+            log.error("[ReservationHoldListener] 지연 큐 갱신 실패 - event={}, error={}",
+                    event, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.reservation.application.event;
+
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
+import kr.hhplus.be.server.reservation.application.engine.SeatInventoryEngine;
+import kr.hhplus.be.server.reservation.domain.event.ReservationHoldChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 인메모리 좌석 엔진 동기화 리스너
+ *
+ * 트랜잭션 커밋 후 좌석 상태 변경(결제 확정, 만료 해제, DB 경로 선점)을 엔진 샤드에 전달합니다.
+ * 사용자가 직접 해제한 임시 예약은 아직 유효한 엔진 선점이라도 같은 사용자의 것이면 해제합니다.
+ * 엔진이 꺼져 있으면 아무것도 하지 않습니다.
+ */
+@Component
+public class SeatInventoryEngineListener {
+
+    private final SeatInventoryEngine engine;
+
+    public SeatInventoryEngineListener(SeatInventoryEngine engine) {
+        this.engine = engine;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSeatStateChanged(SeatStateChangedEvent event) {
+        if (engine.isEnabled()) {
+            engine.apply(event);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReservationHoldChanged(ReservationHoldChangedEvent event) {
+        if (engine.isEnabled() && event.isReleased()) {
+            engine.release(event.getConcertDate(), event.getSeatNumber(), event.getUserId());
+        }
+    }
+}
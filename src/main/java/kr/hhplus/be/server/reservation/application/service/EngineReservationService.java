@@ -0,0 +1,83 @@
+package kr.hhplus.be.server.reservation.application.service;
+
+import kr.hhplus.be.server.queue.application.service.QueueService;
+import kr.hhplus.be.server.reservation.application.engine.SeatInventoryEngine;
+import kr.hhplus.be.server.reservation.domain.model.HoldClaim;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatReserveRequest;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatReserveResponse;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import kr.hhplus.be.server.shared.infrastructure.id.TsidGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 좌석 예약 - 인메모리 엔진 경로 (Application Layer)
+ *
+ * reservation.engine.enabled=true 일 때 ReservationController가 이 경로를 사용.
+ * - 분산락/SingleFlight/요청별 트랜잭션 없음: 같은 날짜의 요청은 엔진 샤드 스레드 하나가 순서대로 결정
+ * - 응답은 선점이 저널에 기록된 뒤 반환, 예약 행은 수 ms 뒤 DB에 반영됨 (write-behind)
+ */
+@Service
+public class EngineReservationService {
+
+    private final QueueService queueService;
+    private final SeatInventoryEngine engine;
+    private final long awaitTimeoutMillis;
+
+    public EngineReservationService(
+            QueueService queueService,
+            SeatInventoryEngine engine,
+            @Value("${reservation.engine.await-timeout-ms:1000}") long awaitTimeoutMillis) {
+        this.queueService = queueService;
+        this.engine = engine;
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+    }
+
+    public boolean isEnabled() {
+        return engine.isEnabled();
+    }
+
+    public SeatReserveResponse reserveSeat(SeatReserveRequest request, String queueToken) {
+        // 1. 토큰/입력 검증
+        queueService.validateToken(queueToken);
+        GroupCommitReservationService.validate(request);
+
+        // 2. 엔진에 선점 요청 후 저널 기록 대기
+        LocalDateTime now = LocalDateTime.now();
+        HoldClaim claim = new HoldClaim(
+                TsidGenerator.next(),
+                request.getUserId(),
+                request.getDate(),
+                request.getSeatNumber(),
+                ReservationService.MOCK_PRICE,
+                now,
+                now.plusMinutes(5)
+        );
+        try {
+            engine.hold(claim).get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new BusinessException("예약 처리 결과를 확인하지 못했습니다. 예약 내역을 확인해주세요.",
+                    "reservation-commit-timeout", 503);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("예약 처리가 중단되었습니다.", "reservation-commit-timeout", 503);
+        }
+
+        // 3. 응답 생성
+        return new SeatReserveResponse(
+                request.getSeatNumber(),
+                claim.reservedUntil(),
+                SeatReserveResponse.ReservationStatus.TEMP_HELD
+        );
+    }
+}
@@ -0,0 +1,106 @@
+package kr.hhplus.be.server.reservation.application.service;
+
+import kr.hhplus.be.server.queue.application.service.QueueService;
+import kr.hhplus.be.server.reservation.domain.model.HoldClaim;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatReserveRequest;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatReserveResponse;
+import kr.hhplus.be.server.shared.common.ConcertDates;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import kr.hhplus.be.server.shared.infrastructure.id.TsidGenerator;
+import kr.hhplus.be.server.shared.infrastructure.lock.SingleFlight;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 좌석 예약 - 그룹 커밋 경로 (Application Layer)
+ *
+ * reservation.group-commit.enabled=true 일 때 ReservationController가 이 경로를 사용.
+ * - 분산락/요청별 트랜잭션 없음: 좌석 선점은 라이터의 조건부 UPDATE가 원자적으로 보장
+ * - 같은 좌석의 노드 내 동시 요청은 @SingleFlight로 한 건만 배치에 들어감 (나머지는 결과에 따라 400 seat-already-reserved)
+ * - 요청 스레드는 DB 커넥션을 잡지 않고 자기 배치의 커밋만 기다림
+ * - 응답은 커밋 이후에만 반환되므로 성공 응답을 받은 예약은 항상 DB에 존재
+ */
+@Service
+public class GroupCommitReservationService {
+
+    private final QueueService queueService;
+    private final ReservationGroupCommitWriter writer;
+    private final long awaitTimeoutMillis;
+
+    public GroupCommitReservationService(
+            QueueService queueService,
+            ReservationGroupCommitWriter writer,
+            @Value("${reservation.group-commit.await-timeout-ms:3000}") long awaitTimeoutMillis) {
+        this.queueService = queueService;
+        this.writer = writer;
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+    }
+
+    public boolean isEnabled() {
+        return writer.isEnabled();
+    }
+
+    @SingleFlight(key = "'seat:' + #request.date + ':' + #request.seatNumber",
+            failFastErrorCodes = "seat-already-reserved",
+            conflictErrorCode = "seat-already-reserved",
+            conflictStatus = 400,
+            conflictMessage = "이미 다른 사용자가 선점한 좌석입니다.")
+    public SeatReserveResponse reserveSeat(SeatReserveRequest request, String queueToken) {
+        // 1. 토큰 검증
+        queueService.validateToken(queueToken);
+
+        // 2. 배치 전체가 롤백되지 않도록 큐에 넣기 전에 입력 검증
+        validate(request);
+
+        // 3. 선점 요청 등록 후 배치 커밋 대기
+        LocalDateTime now = LocalDateTime.now();
+        HoldClaim claim = new HoldClaim(
+                TsidGenerator.next(),
+                request.getUserId(),
+                request.getDate(),
+                request.getSeatNumber(),
+                ReservationService.MOCK_PRICE,
+                now,
+                now.plusMinutes(5)
+        );
+        await(writer.submit(claim));
+
+        // 4. 응답 생성
+        return new SeatReserveResponse(
+                request.getSeatNumber(),
+                claim.reservedUntil(),
+                SeatReserveResponse.ReservationStatus.TEMP_HELD
+        );
+    }
+
+    static void validate(SeatReserveRequest request) {
+        if (request.getUserId() == null || request.getSeatNumber() == null || request.getDate() == null) {
+            throw new BusinessException("userId, date, seatNumber는 필수입니다.", "invalid-request", 400);
+        }
+        ConcertDates.validate(request.getDate());
+    }
+
+    private void await(CompletableFuture<HoldClaim> future) {
+        try {
+            future.get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            // 배치는 이후에 커밋될 수 있으므로 실패로 단정하지 않음
+            throw new BusinessException("예약 처리 결과를 확인하지 못했습니다. 예약 내역을 확인해주세요.",
+                    "reservation-commit-timeout", 503);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("예약 처리가 중단되었습니다.", "reservation-commit-timeout", 503);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package kr.hhplus.be.server.reservation.application.service;
+
+import kr.hhplus.be.server.queue.application.service.QueueService;
+import kr.hhplus.be.server.reservation.application.command.SeatCommandGateway;
+import kr.hhplus.be.server.reservation.domain.model.HoldClaim;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatReserveRequest;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatReserveResponse;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import kr.hhplus.be.server.shared.infrastructure.id.TsidGenerator;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 좌석 예약 - Kafka 파티션 소유 경로 (Application Layer)
+ *
+ * reservation.kafka-commands.enabled=true 일 때 ReservationController가 이 경로를 사용.
+ * - 분산락 없음: 같은 날짜의 명령은 seat-commands 파티션을 소유한 컨슈머 하나가 순서대로 처리
+ * - 요청 스레드는 명령을 발행하고 응답 토픽으로 돌아오는 결과(커밋 이후)를 기다림
+ * - 노드를 늘리면 파티션이 나뉘어 날짜 단위로 수평 확장
+ */
+@Service
+public class KafkaCommandReservationService {
+
+    private final QueueService queueService;
+    private final SeatCommandGateway seatCommandGateway;
+
+    public KafkaCommandReservationService(QueueService queueService,
+                                          SeatCommandGateway seatCommandGateway) {
+        this.queueService = queueService;
+        this.seatCommandGateway = seatCommandGateway;
+    }
+
+    public boolean isEnabled() {
+        return seatCommandGateway.isEnabled();
+    }
+
+    public SeatReserveResponse reserveSeat(SeatReserveRequest request, String queueToken) {
+        // 1. 토큰/입력 검증 (파티션 소유 노드의 배치가 잘못된 입력으로 실패하지 않도록)
+        queueService.validateToken(queueToken);
+        GroupCommitReservationService.validate(request);
+
+        // 2. 명령 발행 후 응답 대기
+        LocalDateTime now = LocalDateTime.now();
+        HoldClaim claim = new HoldClaim(
+                TsidGenerator.next(),
+                request.getUserId(),
+                request.getDate(),
+                request.getSeatNumber(),
+                ReservationService.MOCK_PRICE,
+                now,
+                now.plusMinutes(5)
+        );
+        try {
+            seatCommandGateway.submit(claim).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                // 명령은 이후에 처리될 수 있으므로 실패로 단정하지 않음
+                throw new BusinessException("예약 처리 결과를 확인하지 못했습니다. 예약 내역을 확인해주세요.",
+                        "reservation-commit-timeout", 503);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("예약 처리가 중단되었습니다.", "reservation-commit-timeout", 503);
+        }
+
+        // 3. 응답 생성
+        return new SeatReserveResponse(
+                request.getSeatNumber(),
+                claim.reservedUntil(),
+                SeatReserveResponse.ReservationStatus.TEMP_HELD
+        );
+    }
+}
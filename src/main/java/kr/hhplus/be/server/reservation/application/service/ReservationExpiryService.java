@@ -0,0 +1,78 @@
+package kr.hhplus.be.server.reservation.application.service;
+
+import kr.hhplus.be.server.concert.application.event.SeatEventPublisher;
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
+import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.reservation.domain.repository.ReservationRepository;
+import kr.hhplus.be.server.shared.infrastructure.scheduler.SchedulerFenceGuard;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 임시 예약 만료 처리 (Application Layer)
+ *
+ * 지연 큐 워커가 꺼낸 예약 ID 배치를 하나의 짧은 트랜잭션으로 만료 처리.
+ * 상태 조건으로 보호하여 이미 결제/만료된 예약이나 다른 사용자가 재예약한 좌석은 건드리지 않음:
+ * - 예약: status=TEMP_HELD 이고 reservedUntil < now 인 것만 EXPIRED
+ * - 좌석: status=TEMP_HELD 이고 reservedUntil < now 인 것만 FOR UPDATE 후 AVAILABLE
+ *
+ * 만료 스윕(스케줄러 리스)에서 호출되면 먼저 펜스를 통과해야 함 (리스를 잃은 노드는 해제하지 않고 롤백)
+ */
+@Service
+public class ReservationExpiryService {
+
+    private final ReservationRepository reservationRepository;
+    private final SeatRepository seatRepository;
+    private final SeatEventPublisher seatEventPublisher;
+    private final SchedulerFenceGuard schedulerFenceGuard;
+
+    public ReservationExpiryService(
+            ReservationRepository reservationRepository,
+            SeatRepository seatRepository,
+            SeatEventPublisher seatEventPublisher,
+            SchedulerFenceGuard schedulerFenceGuard) {
+        this.reservationRepository = reservationRepository;
+        this.seatRepository = seatRepository;
+        this.seatEventPublisher = seatEventPublisher;
+        this.schedulerFenceGuard = schedulerFenceGuard;
+    }
+
+    /**
+     * 예약 ID 배치 만료 처리
+     *
+     * @return 만료 처리된 예약 수
+     */
+    @Transactional
+    public int expire(List<Long> reservationIds, LocalDateTime now) {
+        if (reservationIds.isEmpty()) {
+            return 0;
+        }
+        schedulerFenceGuard.check();
+
+        // 1. 아직 만료 처리되지 않은 만료 임시 예약만 선별
+        List<Reservation> reservations = reservationRepository.findExpiredHoldsByIds(reservationIds, now);
+        if (reservations.isEmpty()) {
+            return 0;
+        }
+
+        // 2. 좌석 해제 (만료된 임시 배정 좌석만 행 잠금 후 해제)
+        List<Long> seatIds = reservations.stream()
+                .map(Reservation::getSeatId)
+                .toList();
+        for (Seat seat : seatRepository.findExpiredHoldsForUpdate(seatIds, now)) {
+            seat.release();
+            seatEventPublisher.publishSeatStateChanged(SeatStateChangedEvent.released(
+                    seat.getConcertDate(), seat.getSeatNumber(), SeatStatus.TEMP_HELD));
+        }
+
+        // 3. 예약 만료
+        reservations.forEach(Reservation::expire);
+        return reservations.size();
+    }
+}
@@ -0,0 +1,334 @@
+package kr.hhplus.be.server.reservation.application.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.concert.application.event.SeatEventPublisher;
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.reservation.application.event.ReservationEventPublisher;
+import kr.hhplus.be.server.reservation.domain.event.ReservationCompletedEvent;
+import kr.hhplus.be.server.reservation.domain.model.HoldClaim;
+import kr.hhplus.be.server.reservation.domain.repository.HoldBatchRepository;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌석 선점 그룹 커밋 라이터 (Application Layer)
+ *
+ * 요청 스레드는 선점 요청을 메모리 큐에 넣고 자기 배치의 커밋을 기다린다.
+ * 라이터 스레드 하나가 최대 maxBatchSize건 또는 첫 요청 후 maxDelayMillis 중 먼저 도달한 시점에
+ * 한 트랜잭션으로 묶어 처리:
+ * 1. 조건부 UPDATE 배치로 AVAILABLE 좌석 선점 (좌석 단위 원자적)
+ * 2. 실패분은 만료된 임시 배정 좌석 재선점 배치로 한 번 더 시도
+ * 3. 선점 성공분만 예약 INSERT 배치
+ * 4. 기존 경로와 같은 이벤트 발행 (AFTER_COMMIT 리스너: 지연 큐, 잔여석 카운터, 변경 로그, Kafka)
+ *
+ * 요청당 트랜잭션/커넥션 대신 배치당 커넥션 1개와 커밋 1회만 사용하므로
+ * 같은 Hikari 풀에서 처리량이 커밋 지연이 아닌 배치 크기에 비례해 늘어난다.
+ * 대기 중인 요청은 커밋 직후(리스너 실행 전) 깨운다.
+ *
+ * 배치는 (공연 날짜, 좌석 번호) 순으로 정렬해 실행하고, 교착 상태/잠금 대기 초과 같은 일시적 오류는
+ * 배치를 한 번 더 실행한다. 그래도 실패하면 요청별 트랜잭션으로 나눠 실패한 요청만 503으로 완료한다.
+ */
+@Service
+public class ReservationGroupCommitWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationGroupCommitWriter.class);
+
+    /** 행 잠금 순서: (공연 날짜, 좌석 번호) */
+    private static final Comparator<PendingHold> CLAIM_ORDER = Comparator
+            .comparing((PendingHold pending) -> pending.claim().concertDate())
+            .thenComparingInt(pending -> pending.claim().seatNumber());
+
+    private final HoldBatchRepository holdBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SeatEventPublisher seatEventPublisher;
+    private final ReservationEventPublisher reservationEventPublisher;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final BlockingQueue<PendingHold> queue;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer commitTimer;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public ReservationGroupCommitWriter(
+            HoldBatchRepository holdBatchRepository,
+            PlatformTransactionManager transactionManager,
+            SeatEventPublisher seatEventPublisher,
+            ReservationEventPublisher reservationEventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${reservation.group-commit.enabled:false}") boolean enabled,
+            @Value("${reservation.group-commit.max-batch-size:64}") int maxBatchSize,
+            @Value("${reservation.group-commit.max-delay-ms:5}") long maxDelayMillis,
+            @Value("${reservation.group-commit.queue-capacity:4096}") int queueCapacity) {
+        this.holdBatchRepository = holdBatchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.seatEventPublisher = seatEventPublisher;
+        this.reservationEventPublisher = reservationEventPublisher;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSizeSummary = DistributionSummary.builder("reservation.group.commit.batch.size")
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("reservation.group.commit.duration")
+                .register(meterRegistry);
+        Gauge.builder("reservation.group.commit.queue.depth", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runLoop, "reservation-group-commit");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("[GroupCommit] 라이터 시작 - maxBatchSize={}, maxDelayMs={}",
+                maxBatchSize, TimeUnit.NANOSECONDS.toMillis(maxDelayNanos));
+    }
+
+    /**
+     * 종료 시 새 요청은 받지 않고, 큐에 남은 요청은 마저 커밋한 뒤 스레드를 멈춘다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 선점 요청 등록
+     *
+     * @return 배치 커밋 후 완료되는 Future (선점 실패 시 seat-already-reserved 예외로 완료)
+     */
+    public CompletableFuture<HoldClaim> submit(HoldClaim claim) {
+        if (!running) {
+            throw new BusinessException("그룹 커밋 예약 경로가 비활성 상태입니다.", "reservation-writer-unavailable", 503);
+        }
+        PendingHold pending = new PendingHold(claim, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            throw new BusinessException("예약 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                    "reservation-writer-busy", 503);
+        }
+        return pending.future();
+    }
+
+    private void runLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<PendingHold> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 첫 요청을 기다린 뒤 maxBatchSize건이 찰 때까지, 최대 maxDelay 동안 추가 요청을 모은다.
+     */
+    private List<PendingHold> nextBatch() throws InterruptedException {
+        List<PendingHold> batch = new ArrayList<>(maxBatchSize);
+        PendingHold first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                break;
+            }
+            PendingHold next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void flush(List<PendingHold> batch) {
+        // 배치끼리, 그리고 좌석 단건 경로와 행 잠금 순서를 맞춰 교착 상태를 줄임
+        List<PendingHold> ordered = new ArrayList<>(batch);
+        ordered.sort(CLAIM_ORDER);
+        long startedAt = System.nanoTime();
+
+        try {
+            try {
+                commit(ordered);
+            } catch (TransientDataAccessException e) {
+                log.warn("[GroupCommit] 배치 커밋 재시도 - size={}, error={}", ordered.size(), e.getMessage());
+                commit(ordered);
+            }
+        } catch (Exception e) {
+            log.error("[GroupCommit] 배치 커밋 실패 - size={}, error={}", ordered.size(), e.getMessage());
+            if (ordered.size() == 1) {
+                fail(ordered.get(0), e);
+            } else {
+                // 한 요청 때문에 배치 전체가 실패하지 않도록 요청별 트랜잭션으로 나눠 다시 처리
+                ordered.forEach(this::commitAlone);
+            }
+        } finally {
+            batchSizeSummary.record(batch.size());
+            commitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void commitAlone(PendingHold pending) {
+        try {
+            commit(List.of(pending));
+        } catch (Exception e) {
+            log.error("[GroupCommit] 개별 커밋 실패 - concertDate={}, seatNumber={}, error={}",
+                    pending.claim().concertDate(), pending.claim().seatNumber(), e.getMessage());
+            fail(pending, e);
+        }
+    }
+
+    /**
+     * 한 트랜잭션으로 선점/INSERT/이벤트 발행 후, 커밋되면 요청별 결과로 완료 (실패하면 롤백 후 예외 전파)
+     */
+    private void commit(List<PendingHold> batch) {
+        List<HoldClaim> claims = batch.stream().map(PendingHold::claim).toList();
+        SeatStatus[] previousStatuses = new SeatStatus[claims.size()];
+
+        transactionTemplate.executeWithoutResult(status -> {
+            claimSeats(claims, previousStatuses);
+
+            List<HoldClaim> claimed = new ArrayList<>(claims.size());
+            for (int i = 0; i < claims.size(); i++) {
+                if (previousStatuses[i] != null) {
+                    claimed.add(claims.get(i));
+                }
+            }
+            holdBatchRepository.insertReservations(claimed);
+
+            for (int i = 0; i < claims.size(); i++) {
+                if (previousStatuses[i] != null) {
+                    publishHeld(claims.get(i), previousStatuses[i]);
+                }
+            }
+
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public int getOrder() {
+                        return Ordered.HIGHEST_PRECEDENCE;
+                    }
+
+                    @Override
+                    public void afterCommit() {
+                        complete(batch, previousStatuses);
+                    }
+                });
+            }
+        });
+        complete(batch, previousStatuses);
+    }
+
+    private void claimSeats(List<HoldClaim> claims, SeatStatus[] previousStatuses) {
+        boolean[] fromAvailable = holdBatchRepository.claimAvailableSeats(claims);
+
+        List<Integer> retryIndexes = new ArrayList<>();
+        for (int i = 0; i < claims.size(); i++) {
+            if (fromAvailable[i]) {
+                previousStatuses[i] = SeatStatus.AVAILABLE;
+            } else {
+                retryIndexes.add(i);
+            }
+        }
+        if (retryIndexes.isEmpty()) {
+            return;
+        }
+
+        List<HoldClaim> retries = retryIndexes.stream().map(claims::get).toList();
+        boolean[] fromExpired = holdBatchRepository.claimExpiredSeats(retries, LocalDateTime.now());
+        for (int i = 0; i < retries.size(); i++) {
+            if (fromExpired[i]) {
+                previousStatuses[retryIndexes.get(i)] = SeatStatus.TEMP_HELD;
+            }
+        }
+    }
+
+    private void publishHeld(HoldClaim claim, SeatStatus previousStatus) {
+        seatEventPublisher.publishSeatStateChanged(new SeatStateChangedEvent(
+                claim.concertDate(),
+                claim.seatNumber(),
+                previousStatus,
+                SeatStatus.TEMP_HELD,
+                claim.userId(),
+                claim.reservedUntil()
+        ));
+        reservationEventPublisher.publishReservationCompleted(new ReservationCompletedEvent(
+                claim.reservationId(),
+                claim.userId(),
+                claim.concertDate(),
+                claim.seatNumber(),
+                claim.reservedUntil()
+        ));
+    }
+
+    private void complete(List<PendingHold> batch, SeatStatus[] previousStatuses) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingHold pending = batch.get(i);
+            if (previousStatuses[i] != null) {
+                pending.future().complete(pending.claim());
+            } else {
+                pending.future().completeExceptionally(new BusinessException(
+                        "이미 예약되었거나 존재하지 않는 좌석입니다.", "seat-already-reserved", 400));
+            }
+        }
+    }
+
+    private static void fail(PendingHold pending, Exception e) {
+        if (e instanceof BusinessException) {
+            pending.future().completeExceptionally(e);
+            return;
+        }
+        pending.future().completeExceptionally(new BusinessException(
+                "예약 처리 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.", "reservation-commit-failed", 503));
+    }
+
+    private record PendingHold(HoldClaim claim, CompletableFuture<HoldClaim> future) {
+    }
+}
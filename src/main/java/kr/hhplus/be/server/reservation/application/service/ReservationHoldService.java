@@ -0,0 +1,158 @@
+package kr.hhplus.be.server.reservation.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.concert.application.event.SeatEventPublisher;
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
+import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import kr.hhplus.be.server.queue.application.service.QueueService;
+import kr.hhplus.be.server.reservation.application.event.ReservationEventPublisher;
+import kr.hhplus.be.server.reservation.domain.event.ReservationHoldChangedEvent;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.reservation.domain.model.ReservationStatus;
+import kr.hhplus.be.server.reservation.domain.repository.ReservationRepository;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatReserveRequest;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatReserveResponse;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import kr.hhplus.be.server.shared.infrastructure.lock.DistributedLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 임시 예약 연장/직접 해제 (Application Layer)
+ *
+ * 분산락 키: "seat:{date}:{seatNumber}" + "payment:{userId}:{date}:{seatNumber}"
+ * - 같은 좌석의 예약, 같은 예약의 결제와 직렬화 (결제 중인 예약을 해제하거나 해제 중인 예약을 결제하지 않음)
+ *
+ * 한 트랜잭션에서 좌석과 예약을 함께 바꾸고 좌석 상태 변경 이벤트를 발행하므로, 커밋 직후
+ * 좌석 변경 로그(실시간 좌석 맵 구독자 알림 포함), 잔여 좌석 카운터, 연석 배정 인덱스, 좌석 조회 저장소에 반영됨.
+ * - 해제: 좌석 AVAILABLE + 예약 CANCELLED, 만료 지연 큐에서 제거 → 만료 스윕을 기다리지 않고 바로 재판매
+ * - 연장: 한 번에 extend-minutes씩, 예약 시각으로부터 max-minutes까지만 (무한 점유 방지)
+ */
+@Service
+public class ReservationHoldService {
+
+    private final SeatRepository seatRepository;
+    private final ReservationRepository reservationRepository;
+    private final QueueService queueService;
+    private final ReservationEventPublisher reservationEventPublisher;
+    private final SeatEventPublisher seatEventPublisher;
+    private final long extendMinutes;
+    private final long maxHoldMinutes;
+    private final Counter releasedCounter;
+    private final Counter extendedCounter;
+
+    public ReservationHoldService(
+            SeatRepository seatRepository,
+            ReservationRepository reservationRepository,
+            QueueService queueService,
+            ReservationEventPublisher reservationEventPublisher,
+            SeatEventPublisher seatEventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${reservation.hold.extend-minutes:2}") long extendMinutes,
+            @Value("${reservation.hold.max-minutes:10}") long maxHoldMinutes) {
+        this.seatRepository = seatRepository;
+        this.reservationRepository = reservationRepository;
+        this.queueService = queueService;
+        this.reservationEventPublisher = reservationEventPublisher;
+        this.seatEventPublisher = seatEventPublisher;
+        this.extendMinutes = extendMinutes;
+        this.maxHoldMinutes = maxHoldMinutes;
+        this.releasedCounter = Counter.builder("reservation.hold.changes")
+                .tag("action", "release")
+                .register(meterRegistry);
+        this.extendedCounter = Counter.builder("reservation.hold.changes")
+                .tag("action", "extend")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 임시 예약 직접 해제
+     *
+     * 만료 시각이 지났지만 아직 스윕되지 않은 예약도 해제할 수 있음
+     * (좌석이 이미 다른 사용자에게 재배정됐으면 좌석은 건드리지 않고 예약만 취소)
+     */
+    @DistributedLock(key = "{'seat:' + #request.date + ':' + #request.seatNumber, "
+            + "'payment:' + #request.userId + ':' + #request.date + ':' + #request.seatNumber}",
+            waitTime = 5, leaseTime = 5)
+    @Transactional
+    public SeatReserveResponse release(SeatReserveRequest request, String queueToken) {
+        queueService.validateToken(queueToken);
+        Reservation reservation = findHold(request);
+        Seat seat = findSeat(reservation);
+
+        if (seat.isHeldBy(request.getUserId())) {
+            seat.release();
+            seatRepository.save(seat);
+            seatEventPublisher.publishSeatStateChanged(SeatStateChangedEvent.released(
+                    seat.getConcertDate(), seat.getSeatNumber(), SeatStatus.TEMP_HELD));
+        }
+
+        reservation.cancel();
+        reservationRepository.save(reservation);
+        reservationEventPublisher.publishReservationHoldChanged(ReservationHoldChangedEvent.released(reservation));
+        releasedCounter.increment();
+
+        return new SeatReserveResponse(request.getSeatNumber(), null, SeatReserveResponse.ReservationStatus.RELEASED);
+    }
+
+    /**
+     * 임시 예약 연장
+     */
+    @DistributedLock(key = "{'seat:' + #request.date + ':' + #request.seatNumber, "
+            + "'payment:' + #request.userId + ':' + #request.date + ':' + #request.seatNumber}",
+            waitTime = 5, leaseTime = 5)
+    @Transactional
+    public SeatReserveResponse extend(SeatReserveRequest request, String queueToken) {
+        queueService.validateToken(queueToken);
+        Reservation reservation = findHold(request);
+        if (reservation.isExpired()) {
+            throw new BusinessException("예약 시간이 만료되었습니다.", "reservation-expired", 400);
+        }
+        Seat seat = findSeat(reservation);
+        if (!seat.isHeldBy(request.getUserId())) {
+            throw new BusinessException("임시 배정 상태가 아닌 좌석입니다.", "seat-not-held", 409);
+        }
+
+        LocalDateTime limit = reservation.getReservedAt().plusMinutes(maxHoldMinutes);
+        LocalDateTime extended = reservation.getReservedUntil().plusMinutes(extendMinutes);
+        LocalDateTime reservedUntil = extended.isAfter(limit) ? limit : extended;
+        if (!reservedUntil.isAfter(reservation.getReservedUntil())) {
+            throw new BusinessException("임시 예약은 최대 " + maxHoldMinutes + "분까지 연장할 수 있습니다.",
+                    "hold-extension-limit", 400);
+        }
+
+        seat.extendHold(request.getUserId(), reservedUntil);
+        seatRepository.save(seat);
+        seatEventPublisher.publishSeatStateChanged(SeatStateChangedEvent.of(seat, SeatStatus.TEMP_HELD));
+
+        reservation.extend(reservedUntil);
+        reservationRepository.save(reservation);
+        reservationEventPublisher.publishReservationHoldChanged(ReservationHoldChangedEvent.extended(reservation));
+        extendedCounter.increment();
+
+        return new SeatReserveResponse(request.getSeatNumber(), reservedUntil,
+                SeatReserveResponse.ReservationStatus.TEMP_HELD);
+    }
+
+    private Reservation findHold(SeatReserveRequest request) {
+        return reservationRepository
+                .findByUserIdAndConcertDateAndSeatNumberAndStatus(
+                        request.getUserId(),
+                        request.getDate(),
+                        request.getSeatNumber(),
+                        ReservationStatus.TEMP_HELD
+                )
+                .orElseThrow(() -> new BusinessException("임시 예약을 찾을 수 없습니다.", "reservation-not-found", 404));
+    }
+
+    private Seat findSeat(Reservation reservation) {
+        return seatRepository.findById(reservation.getSeatId())
+                .orElseThrow(() -> new BusinessException("좌석을 찾을 수 없습니다.", "seat-not-found", 404));
+    }
+}
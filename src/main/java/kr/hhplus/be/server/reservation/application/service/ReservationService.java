@@ -2,19 +2,30 @@ package kr.hhplus.be.server.reservation.application.service;
 
 import kr.hhplus.be.server.shared.common.exception.BusinessException;
 import kr.hhplus.be.server.shared.infrastructure.lock.DistributedLock;
+import kr.hhplus.be.server.shared.infrastructure.lock.SingleFlight;
+import kr.hhplus.be.server.concert.application.event.SeatEventPublisher;
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
 import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
 import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
 import kr.hhplus.be.server.queue.application.service.QueueService;
 import kr.hhplus.be.server.reservation.application.event.ReservationEventPublisher;
+import kr.hhplus.be.server.reservation.domain.event.ReservationBatchCompletedEvent;
 import kr.hhplus.be.server.reservation.domain.event.ReservationCompletedEvent;
 import kr.hhplus.be.server.reservation.domain.model.Reservation;
 import kr.hhplus.be.server.reservation.domain.repository.ReservationRepository;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatBatchReserveRequest;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatBatchReserveResponse;
 import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatReserveRequest;
 import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatReserveResponse;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * 예약 서비스 (Application Layer)
@@ -22,27 +33,32 @@ import java.time.LocalDateTime;
  * 
  * 분산락 적용:
  * - 키: "seat:{date}:{seatNumber}" (좌석 단위)
- * - 범위: 락 획득 → 트랜잭션 → 좌석 예약 → 커밋 → 락 해제
+ * - 범위: 코얼레싱 → 락 획득 → 트랜잭션 → 좌석 예약 → 커밋 → 락 해제
+ * - 같은 노드의 같은 좌석 요청은 @SingleFlight로 한 건만 Redis 락까지 진행
  */
 @Service
 public class ReservationService {
 
-    private static final Long MOCK_PRICE = 150000L;
+    static final Long MOCK_PRICE = 150000L;
+    static final int MAX_SEATS_PER_REQUEST = 4;
 
     private final SeatRepository seatRepository;
     private final ReservationRepository reservationRepository;
     private final QueueService queueService;
     private final ReservationEventPublisher reservationEventPublisher;
+    private final SeatEventPublisher seatEventPublisher;
 
     public ReservationService(
             SeatRepository seatRepository,
             ReservationRepository reservationRepository,
             QueueService queueService,
-            ReservationEventPublisher reservationEventPublisher) {
+            ReservationEventPublisher reservationEventPublisher,
+            SeatEventPublisher seatEventPublisher) {
         this.seatRepository = seatRepository;
         this.reservationRepository = reservationRepository;
         this.queueService = queueService;
         this.reservationEventPublisher = reservationEventPublisher;
+        this.seatEventPublisher = seatEventPublisher;
     }
 
     /**
@@ -53,7 +69,15 @@ public class ReservationService {
      * - 다른 좌석에 대한 예약은 병렬 처리 가능
      * 
      * 순서: 락 획득 → @Transactional 시작 → 비즈니스 로직 → 커밋 → 락 해제
+     *
+     * 코얼레싱: 같은 좌석을 노리는 노드 내 동시 요청은 리더 한 건의 결과를 기다렸다가
+     * 리더가 선점에 성공했거나 좌석이 이미 선점 상태(seat-already-reserved)면 리더와 같은 400으로 즉시 실패
      */
+    @SingleFlight(key = "'seat:' + #request.date + ':' + #request.seatNumber",
+            failFastErrorCodes = "seat-already-reserved",
+            conflictErrorCode = "seat-already-reserved",
+            conflictStatus = 400,
+            conflictMessage = "이미 다른 사용자가 선점한 좌석입니다.")
     @DistributedLock(key = "'seat:' + #request.date + ':' + #request.seatNumber", waitTime = 5, leaseTime = 5)
     @Transactional
     public SeatReserveResponse reserveSeat(SeatReserveRequest request, String queueToken) {
@@ -67,13 +91,19 @@ public class ReservationService {
                 .orElseThrow(() -> new BusinessException("좌석을 찾을 수 없습니다.", "seat-not-found", 404));
 
         // 3. 좌석 예약 가능 여부 확인
+        SeatStatus previousStatus = seat.getStatus();
         if (seat.isExpired()) {
             seat.release();
         }
 
+        if (seat.getStatus() != SeatStatus.AVAILABLE) {
+            throw new BusinessException("이미 예약되었거나 임시 배정된 좌석입니다.", "seat-already-reserved", 400);
+        }
+
         // 4. 좌석 예약 (도메인 로직)
         seat.reserve(request.getUserId(), LocalDateTime.now().plusMinutes(5));
         seatRepository.save(seat);
+        seatEventPublisher.publishSeatStateChanged(SeatStateChangedEvent.of(seat, previousStatus));
 
         // 5. 예약 엔티티 생성
         Reservation reservation = Reservation.create(
@@ -90,7 +120,8 @@ public class ReservationService {
                 reservation.getId(),
                 request.getUserId(),
                 request.getDate(),
-                request.getSeatNumber()
+                request.getSeatNumber(),
+                reservation.getReservedUntil()
         ));
 
         // 7. 응답 생성
@@ -100,4 +131,93 @@ public class ReservationService {
                 SeatReserveResponse.ReservationStatus.TEMP_HELD
         );
     }
+
+    /**
+     * 다중 좌석 임시 예약 (최대 MAX_SEATS_PER_REQUEST석, 전부 성공 또는 전부 실패)
+     *
+     * 분산락 키: 좌석별 "seat:{date}:{seatNumber}" 전부 (단일 좌석 예약과 같은 키)
+     * - 정렬된 순서로 모두 획득하므로 겹치는 좌석을 노리는 요청끼리 교착되지 않음
+     *
+     * 한 트랜잭션: 좌석 일괄 조회 → 전부 가용한지 확인 → 전부 배정 → 예약 일괄 저장
+     * 예약 이벤트는 좌석 수와 관계없이 1건 (지연 큐 등록, Kafka 발행 1회)
+     */
+    @DistributedLock(key = "#request.seatNumbers?.!['seat:' + #request.date + ':' + #this]", waitTime = 5, leaseTime = 5)
+    @Transactional
+    public SeatBatchReserveResponse reserveSeats(SeatBatchReserveRequest request, String queueToken) {
+        // 1. 토큰/입력 검증
+        queueService.validateToken(queueToken);
+        List<Integer> seatNumbers = validateSeatNumbers(request.getSeatNumbers());
+
+        // 2. 좌석 일괄 조회 (좌석번호 순)
+        List<Seat> seats = seatRepository.findByConcertDateAndSeatNumbers(request.getDate(), seatNumbers);
+        if (seats.size() != seatNumbers.size()) {
+            List<Integer> found = seats.stream().map(Seat::getSeatNumber).toList();
+            List<Integer> missing = seatNumbers.stream().filter(n -> !found.contains(n)).toList();
+            throw new BusinessException("좌석을 찾을 수 없습니다: " + missing, "seat-not-found", 404);
+        }
+
+        // 3. 하나라도 선점 중이면 아무것도 바꾸지 않고 실패
+        List<Integer> unavailable = seats.stream()
+                .filter(seat -> seat.getStatus() != SeatStatus.AVAILABLE && !seat.isExpired())
+                .map(Seat::getSeatNumber)
+                .toList();
+        if (!unavailable.isEmpty()) {
+            throw new BusinessException("이미 예약된 좌석이 포함되어 있습니다: " + unavailable,
+                    "seat-already-reserved", 400);
+        }
+
+        // 4. 전부 배정
+        LocalDateTime seatHoldUntil = LocalDateTime.now().plusMinutes(5);
+        List<Reservation> reservations = new ArrayList<>(seats.size());
+        for (Seat seat : seats) {
+            SeatStatus previousStatus = seat.getStatus();
+            if (seat.isExpired()) {
+                seat.release();
+            }
+            seat.reserve(request.getUserId(), seatHoldUntil);
+            seatEventPublisher.publishSeatStateChanged(SeatStateChangedEvent.of(seat, previousStatus));
+            reservations.add(Reservation.create(
+                    request.getUserId(), seat.getId(), request.getDate(), seat.getSeatNumber(), MOCK_PRICE));
+        }
+        seatRepository.saveAll(seats);
+        reservationRepository.saveAll(reservations);
+
+        // 5. 예약 완료 이벤트 1건
+        LocalDateTime reservedUntil = reservations.get(0).getReservedUntil();
+        reservationEventPublisher.publishReservationBatchCompleted(new ReservationBatchCompletedEvent(
+                request.getUserId(),
+                request.getDate(),
+                reservedUntil,
+                reservations.stream()
+                        .map(r -> new ReservationBatchCompletedEvent.ReservedSeat(r.getId(), r.getSeatNumber()))
+                        .toList()
+        ));
+
+        return new SeatBatchReserveResponse(
+                request.getDate(),
+                seatNumbers,
+                reservedUntil,
+                SeatReserveResponse.ReservationStatus.TEMP_HELD
+        );
+    }
+
+    /**
+     * 다중 예약 좌석 번호 검증 (null/빈 목록, 최대 좌석 수, 중복)
+     * - 분산락 AOP는 메서드 진입 전에 좌석마다 락을 잡으므로 컨트롤러에서 먼저 호출해 락 수를 제한함
+     *
+     * @return 좌석번호 오름차순 목록
+     */
+    public List<Integer> validateSeatNumbers(List<Integer> seatNumbers) {
+        if (seatNumbers == null || seatNumbers.isEmpty() || seatNumbers.stream().anyMatch(Objects::isNull)) {
+            throw new BusinessException("좌석 번호 목록은 필수입니다.", "invalid-seat-numbers", 400);
+        }
+        if (seatNumbers.size() > MAX_SEATS_PER_REQUEST) {
+            throw new BusinessException("한 번에 최대 " + MAX_SEATS_PER_REQUEST + "석까지 예약할 수 있습니다.",
+                    "invalid-seat-numbers", 400);
+        }
+        if (new HashSet<>(seatNumbers).size() != seatNumbers.size()) {
+            throw new BusinessException("중복된 좌석 번호가 있습니다.", "invalid-seat-numbers", 400);
+        }
+        return seatNumbers.stream().sorted().toList();
+    }
 }
@@ -0,0 +1,80 @@
+package kr.hhplus.be.server.reservation.application.service;
+
+import kr.hhplus.be.server.concert.application.service.SeatAvailabilityIndex;
+import kr.hhplus.be.server.queue.application.service.QueueService;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatAutoAssignRequest;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatBatchReserveRequest;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatBatchReserveResponse;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 연석 자동 배정 Use Case (Application Layer)
+ *
+ * 사용자가 좌석번호를 고르지 않고 인원 수만 보내면 가용성 인덱스에서 같은 열의 연석을 골라
+ * 다중 좌석 예약(ReservationService.reserveSeats)으로 선점합니다.
+ * - 후보는 인덱스의 임의 지점부터 찾으므로 요청이 인기 좌석 몇 개에 몰리지 않음
+ * - 인덱스가 늦어 후보가 이미 선점됐거나 다른 요청이 잠금을 잡고 있으면 다른 후보로 재시도
+ * - 선점 자체는 좌석 잠금 + 한 트랜잭션으로 처리되는 다중 좌석 예약과 동일 (전부 성공 또는 전부 실패)
+ */
+@Service
+public class SeatAutoAssignService {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatAutoAssignService.class);
+
+    static final int MAX_ATTEMPTS = 3;
+    private static final Set<String> RETRYABLE_ERROR_CODES = Set.of("seat-already-reserved", "lock-acquisition-failed");
+
+    private final QueueService queueService;
+    private final ReservationService reservationService;
+    private final SeatAvailabilityIndex seatAvailabilityIndex;
+
+    public SeatAutoAssignService(QueueService queueService,
+                                 ReservationService reservationService,
+                                 SeatAvailabilityIndex seatAvailabilityIndex) {
+        this.queueService = queueService;
+        this.reservationService = reservationService;
+        this.seatAvailabilityIndex = seatAvailabilityIndex;
+    }
+
+    public SeatBatchReserveResponse autoAssign(SeatAutoAssignRequest request, String queueToken) {
+        // 1. 토큰/입력 검증 (인덱스를 건드리기 전에 실패)
+        queueService.validateToken(queueToken);
+        Integer count = request.getCount();
+        if (count == null || count < 1 || count > ReservationService.MAX_SEATS_PER_REQUEST) {
+            throw new BusinessException("좌석 수는 1~" + ReservationService.MAX_SEATS_PER_REQUEST + "석이어야 합니다.",
+                    "invalid-seat-count", 400);
+        }
+
+        // 2. 후보 연석 선택 → 다중 좌석 예약으로 선점, 경합 시 다른 후보로 재시도
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            List<Integer> seatNumbers = seatAvailabilityIndex.acquireContiguous(request.getDate(), count);
+            if (seatNumbers.isEmpty()) {
+                break;
+            }
+
+            boolean claimed = false;
+            try {
+                SeatBatchReserveResponse response = reservationService.reserveSeats(
+                        new SeatBatchReserveRequest(request.getUserId(), request.getDate(), seatNumbers), queueToken);
+                claimed = true;
+                return response;
+            } catch (BusinessException e) {
+                if (!RETRYABLE_ERROR_CODES.contains(e.getErrorCode())) {
+                    throw e;
+                }
+                log.debug("[SeatAutoAssignService] 후보 선점 실패, 재시도 - date={}, seats={}, attempt={}, reason={}",
+                        request.getDate(), seatNumbers, attempt, e.getErrorCode());
+            } finally {
+                seatAvailabilityIndex.complete(request.getDate(), seatNumbers, claimed);
+            }
+        }
+
+        throw new BusinessException("배정 가능한 연석이 없습니다. count=" + count, "no-contiguous-seats", 409);
+    }
+}
@@ -0,0 +1,87 @@
+package kr.hhplus.be.server.reservation.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 다중 좌석 예약 완료 이벤트
+ *
+ * 한 요청으로 여러 좌석을 임시 배정한 뒤 한 번만 발행되며,
+ * 지연 큐 등록과 Kafka 발행(매진 랭킹, 데이터 플랫폼)을 좌석 수만큼이 아니라 한 번에 처리합니다.
+ */
+public class ReservationBatchCompletedEvent {
+
+    private String userId;
+    private String concertDate;
+    private LocalDateTime reservedUntil;
+    private List<ReservedSeat> seats = new ArrayList<>();
+
+    // JSON 역직렬화를 위한 기본 생성자
+    public ReservationBatchCompletedEvent() {
+    }
+
+    public ReservationBatchCompletedEvent(String userId, String concertDate,
+                                          LocalDateTime reservedUntil, List<ReservedSeat> seats) {
+        this.userId = userId;
+        this.concertDate = concertDate;
+        this.reservedUntil = reservedUntil;
+        this.seats = seats;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getConcertDate() {
+        return concertDate;
+    }
+
+    public LocalDateTime getReservedUntil() {
+        return reservedUntil;
+    }
+
+    public List<ReservedSeat> getSeats() {
+        return seats;
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationBatchCompletedEvent{" +
+                "userId='" + userId + '\'' +
+                ", concertDate='" + concertDate + '\'' +
+                ", reservedUntil=" + reservedUntil +
+                ", seats=" + seats +
+                '}';
+    }
+
+    /**
+     * 예약된 좌석 한 건
+     */
+    public static class ReservedSeat {
+
+        private Long reservationId;
+        private Integer seatNumber;
+
+        public ReservedSeat() {
+        }
+
+        public ReservedSeat(Long reservationId, Integer seatNumber) {
+            this.reservationId = reservationId;
+            this.seatNumber = seatNumber;
+        }
+
+        public Long getReservationId() {
+            return reservationId;
+        }
+
+        public Integer getSeatNumber() {
+            return seatNumber;
+        }
+
+        @Override
+        public String toString() {
+            return reservationId + ":" + seatNumber;
+        }
+    }
+}
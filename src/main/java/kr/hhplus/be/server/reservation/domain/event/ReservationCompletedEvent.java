@@ -1,5 +1,7 @@
 package kr.hhplus.be.server.reservation.domain.event;
 
+import java.time.LocalDateTime;
+
 /**
  * 예약 완료 이벤트
  *
@@ -12,6 +14,7 @@ public class ReservationCompletedEvent {
     private String userId;
     private String concertDate;
     private Integer seatNumber;
+    private LocalDateTime reservedUntil;
 
     // JSON 역직렬화를 위한 기본 생성자
     public ReservationCompletedEvent() {
@@ -25,6 +28,12 @@ public class ReservationCompletedEvent {
         this.seatNumber = seatNumber;
     }
 
+    public ReservationCompletedEvent(Long reservationId, String userId,
+                                      String concertDate, Integer seatNumber, LocalDateTime reservedUntil) {
+        this(reservationId, userId, concertDate, seatNumber);
+        this.reservedUntil = reservedUntil;
+    }
+
     public Long getReservationId() {
         return reservationId;
     }
@@ -41,6 +50,10 @@ public class ReservationCompletedEvent {
         return seatNumber;
     }
 
+    public LocalDateTime getReservedUntil() {
+        return reservedUntil;
+    }
+
     @Override
     public String toString() {
         return "ReservationCompletedEvent{" +
@@ -48,6 +61,7 @@ public class ReservationCompletedEvent {
                 ", userId='" + userId + '\'' +
                 ", concertDate='" + concertDate + '\'' +
                 ", seatNumber=" + seatNumber +
+                ", reservedUntil=" + reservedUntil +
                 '}';
     }
 }
@@ -0,0 +1,85 @@
+package kr.hhplus.be.server.reservation.domain.event;
+
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+
+import java.time.LocalDateTime;
+
+/**
+ * 임시 예약 연장/해제 이벤트
+ *
+ * 사용자가 임시 예약을 연장하거나 직접 해제한 후 발행되며,
+ * 만료 지연 큐 재등록/제거와 인메모리 좌석 엔진 해제를 트리거합니다.
+ * reservedUntil이 null이면 해제입니다.
+ */
+public class ReservationHoldChangedEvent {
+
+    private Long reservationId;
+    private String userId;
+    private String concertDate;
+    private Integer seatNumber;
+    private LocalDateTime reservedUntil;
+
+    // JSON 역직렬화를 위한 기본 생성자
+    public ReservationHoldChangedEvent() {
+    }
+
+    public ReservationHoldChangedEvent(Long reservationId, String userId, String concertDate,
+                                       Integer seatNumber, LocalDateTime reservedUntil) {
+        this.reservationId = reservationId;
+        this.userId = userId;
+        this.concertDate = concertDate;
+        this.seatNumber = seatNumber;
+        this.reservedUntil = reservedUntil;
+    }
+
+    /**
+     * 연장된 예약으로부터 이벤트 생성
+     */
+    public static ReservationHoldChangedEvent extended(Reservation reservation) {
+        return new ReservationHoldChangedEvent(reservation.getId(), reservation.getUserId(),
+                reservation.getConcertDate(), reservation.getSeatNumber(), reservation.getReservedUntil());
+    }
+
+    /**
+     * 해제된 예약으로부터 이벤트 생성
+     */
+    public static ReservationHoldChangedEvent released(Reservation reservation) {
+        return new ReservationHoldChangedEvent(reservation.getId(), reservation.getUserId(),
+                reservation.getConcertDate(), reservation.getSeatNumber(), null);
+    }
+
+    public boolean isReleased() {
+        return reservedUntil == null;
+    }
+
+    public Long getReservationId() {
+        return reservationId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getConcertDate() {
+        return concertDate;
+    }
+
+    public Integer getSeatNumber() {
+        return seatNumber;
+    }
+
+    public LocalDateTime getReservedUntil() {
+        return reservedUntil;
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationHoldChangedEvent{" +
+                "reservationId=" + reservationId +
+                ", userId='" + userId + '\'' +
+                ", concertDate='" + concertDate + '\'' +
+                ", seatNumber=" + seatNumber +
+                ", reservedUntil=" + reservedUntil +
+                '}';
+    }
+}
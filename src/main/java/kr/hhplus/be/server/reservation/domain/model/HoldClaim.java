@@ -0,0 +1,19 @@
+package kr.hhplus.be.server.reservation.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 그룹 커밋 경로의 좌석 선점 요청
+ * - reservationId는 큐에 넣기 전에 TSID로 미리 부여 (배치 INSERT와 이벤트가 같은 ID를 사용)
+ * - 좌석과 예약의 reservedUntil을 같은 값으로 기록
+ */
+public record HoldClaim(
+        Long reservationId,
+        String userId,
+        String concertDate,
+        Integer seatNumber,
+        Long price,
+        LocalDateTime reservedAt,
+        LocalDateTime reservedUntil
+) {
+}
@@ -0,0 +1,8 @@
+package kr.hhplus.be.server.reservation.domain.model;
+
+/**
+ * 저널에 기록된 좌석 선점
+ * - sequence는 저널 내에서 단조 증가 (DB 반영 완료 지점을 체크포인트로 남기는 기준)
+ */
+public record JournaledHold(long sequence, HoldClaim claim) {
+}
@@ -1,6 +1,8 @@
 package kr.hhplus.be.server.reservation.domain.model;
 
 import jakarta.persistence.*;
+import kr.hhplus.be.server.shared.infrastructure.id.TsidId;
+import kr.hhplus.be.server.shared.infrastructure.persistence.ConcertDateConverter;
 import java.time.LocalDateTime;
 
 /**
@@ -8,21 +10,24 @@ import java.time.LocalDateTime;
  * 도메인 기반 클린 아키텍처
  * 
  * 인덱스 설계:
- * - idx_reservation_status_until: 만료 예약 조회 최적화
- * - idx_reservation_user_date_seat: 사용자별 예약 조회 최적화
+ * - idx_reservation_status_until: 만료 예약 키셋 스캔 (InnoDB가 PK id를 덧붙여 ORDER BY reserved_until, id까지 커버)
+ * - idx_reservation_user_date_seat: 결제 시 예약 조회 (user_id, concert_date, seat_number, status 동등 조건)
+ * - idx_reservation_seat_status: 좌석 ID 기반 예약 조회 (seat_id, status)
+ * - concert_date는 DATE 컬럼 (ConcertDateConverter)
+ * - status/user_id 단독 인덱스는 위 복합 인덱스의 선두 컬럼과 중복되어 제거
+ *
+ * 식별자: TSID(@TsidId) — INSERT 전에 ID가 정해져 JDBC 배치/쓰기 지연이 적용됨
  */
 @Entity
 @Table(name = "reservation", indexes = {
-    @Index(name = "idx_reservation_status", columnList = "status"),
     @Index(name = "idx_reservation_status_until", columnList = "status, reserved_until"),
-    @Index(name = "idx_reservation_user_id", columnList = "user_id"),
-    @Index(name = "idx_reservation_seat_id", columnList = "seat_id"),
+    @Index(name = "idx_reservation_seat_status", columnList = "seat_id, status"),
     @Index(name = "idx_reservation_user_date_seat", columnList = "user_id, concert_date, seat_number, status")
 })
 public class Reservation {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
     
     @Column(name = "user_id", nullable = false)
@@ -31,6 +36,7 @@ public class Reservation {
     @Column(name = "seat_id", nullable = false)
     private Long seatId;
     
+    @Convert(converter = ConcertDateConverter.class)
     @Column(name = "concert_date", nullable = false)
     private String concertDate;
     
@@ -129,6 +135,16 @@ public class Reservation {
         this.confirmedAt = LocalDateTime.now();
     }
 
+    /**
+     * 임시 예약 연장 (도메인 비즈니스 로직)
+     */
+    public void extend(LocalDateTime reservedUntil) {
+        if (this.status != ReservationStatus.TEMP_HELD) {
+            throw new IllegalStateException("임시 예약 상태가 아닙니다.");
+        }
+        this.reservedUntil = reservedUntil;
+    }
+
     /**
      * 예약 취소 (도메인 비즈니스 로직)
      */
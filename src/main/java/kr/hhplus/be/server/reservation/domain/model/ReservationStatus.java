@@ -8,7 +8,8 @@ public enum ReservationStatus {
     TEMP_HELD("임시 배정"),
     CONFIRMED("예약 확정"),
     CANCELLED("예약 취소"),
-    EXPIRED("예약 만료");
+    EXPIRED("예약 만료"),
+    HOLD_LOST("선점 반영 실패");
 
     private final String description;
 
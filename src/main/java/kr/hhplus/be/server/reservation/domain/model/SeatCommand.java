@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.reservation.domain.model;
+
+/**
+ * Kafka 좌석 명령 (seat-commands 토픽, 키 = 공연 날짜)
+ * - replyTo: 응답을 기다리는 노드의 인스턴스 ID (응답 토픽에서 자기 응답만 골라냄)
+ * - deadlineMillis: 요청 스레드의 대기 한도, 지난 명령은 처리하지 않음 (리밸런스 등으로 밀린 명령)
+ * - 상관관계 ID는 claim.reservationId를 그대로 사용
+ */
+public record SeatCommand(
+        String replyTo,
+        long deadlineMillis,
+        HoldClaim claim
+) {
+}
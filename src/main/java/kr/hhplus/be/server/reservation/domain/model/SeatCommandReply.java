@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.reservation.domain.model;
+
+/**
+ * Kafka 좌석 명령 처리 결과 (seat-command-replies 토픽, 키 = replyTo)
+ * - errorCode가 없으면 선점 성공, 있으면 요청 노드에서 같은 코드의 BusinessException으로 변환
+ */
+public record SeatCommandReply(
+        Long reservationId,
+        String replyTo,
+        String errorCode,
+        String message,
+        int status
+) {
+
+    public static SeatCommandReply held(SeatCommand command) {
+        return new SeatCommandReply(command.claim().reservationId(), command.replyTo(), null, null, 200);
+    }
+
+    public static SeatCommandReply rejected(SeatCommand command, String errorCode, String message, int status) {
+        return new SeatCommandReply(command.claim().reservationId(), command.replyTo(), errorCode, message, status);
+    }
+
+    public boolean succeeded() {
+        return errorCode == null;
+    }
+}
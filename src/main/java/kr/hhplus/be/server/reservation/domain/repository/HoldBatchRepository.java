@@ -0,0 +1,47 @@
+package kr.hhplus.be.server.reservation.domain.repository;
+
+import kr.hhplus.be.server.reservation.domain.model.HoldClaim;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 좌석 선점 그룹 커밋용 배치 리포지토리 (Domain Layer)
+ *
+ * 호출자의 트랜잭션 안에서만 실행되며, 각 메서드는 요청 목록을 하나의 JDBC 배치로 보낸다.
+ * 선점은 상태 조건부 UPDATE라 좌석 단위로 원자적이고, 결과 배열은 요청 순서와 같다.
+ * 요청 순서대로 행을 잠그므로 호출자는 (공연 날짜, 좌석 번호) 순으로 정렬해 넘긴다.
+ */
+public interface HoldBatchRepository {
+
+    /**
+     * AVAILABLE 좌석 선점
+     *
+     * @return 요청별 선점 성공 여부
+     */
+    boolean[] claimAvailableSeats(List<HoldClaim> claims);
+
+    /**
+     * 만료된 임시 배정(TEMP_HELD, reservedUntil < now) 좌석 재선점
+     *
+     * @return 요청별 선점 성공 여부
+     */
+    boolean[] claimExpiredSeats(List<HoldClaim> claims, LocalDateTime now);
+
+    /**
+     * 선점에 성공한 요청의 임시 예약 일괄 INSERT (seat_id는 좌석 행에서 채움)
+     */
+    void insertReservations(List<HoldClaim> claims);
+
+    /**
+     * DB 반영 단계에서 좌석을 선점하지 못한 엔진 선점을 HOLD_LOST 예약으로 일괄 INSERT
+     * (결제 단계에서 사용자에게 선점 실패를 알리고, 저널 재생 시 다시 반영하지 않도록)
+     */
+    void insertLostReservations(List<HoldClaim> claims);
+
+    /**
+     * 이미 INSERT된 예약 ID 조회 (저널 재생 시 중복 반영 방지)
+     */
+    Set<Long> findExistingReservationIds(List<Long> reservationIds);
+}
@@ -0,0 +1,29 @@
+package kr.hhplus.be.server.reservation.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 임시 예약 만료 지연 큐 (Domain Layer)
+ *
+ * 임시 예약을 만료 시각 순으로 보관하고,
+ * 만료 시각이 도래한 예약을 작은 배치 단위로 꺼내 즉시 해제할 수 있게 함
+ */
+public interface ReservationHoldQueue {
+
+    /**
+     * 임시 예약 등록 (이미 등록된 예약이면 만료 시각 갱신)
+     */
+    void register(Long reservationId, LocalDateTime reservedUntil);
+
+    /**
+     * 임시 예약 제거 (결제/취소 등으로 만료 처리가 필요 없어진 경우)
+     */
+    void remove(Long reservationId);
+
+    /**
+     * 만료 시각이 now 이전인 예약을 최대 limit건 꺼냄 (꺼낸 항목은 큐에서 제거)
+     * - 여러 노드가 동시에 호출해도 같은 예약을 중복으로 꺼내지 않음
+     */
+    List<Long> pollDue(LocalDateTime now, int limit);
+}
@@ -18,6 +18,11 @@ public interface ReservationRepository {
      * 예약 저장
      */
     Reservation save(Reservation reservation);
+
+    /**
+     * 예약 일괄 저장 (TSID라 INSERT가 JDBC 배치로 묶임)
+     */
+    List<Reservation> saveAll(List<Reservation> reservations);
     
     /**
      * ID로 예약 조회
@@ -37,17 +42,16 @@ public interface ReservationRepository {
     );
     
     /**
-     * 상태와 만료 시간으로 예약 조회
-     */
-    List<Reservation> findByStatusAndReservedUntilBefore(ReservationStatus status, LocalDateTime time);
-    
-    /**
-     * 만료된 예약들의 좌석 ID 목록 조회 (Bulk Update용)
+     * 만료된 임시 예약 키셋 페이지 조회 ((reservedUntil, id) 순)
+     * - status=TEMP_HELD 이고 reservedUntil < now 인 예약 중 (afterUntil, afterId) 다음부터 size건
+     * - 첫 페이지는 afterUntil/afterId를 null로 전달
+     * - idx_reservation_status_until (status, reserved_until) + PK(id) 인덱스 범위 스캔
      */
-    List<Long> findSeatIdsByStatusAndReservedUntilBefore(ReservationStatus status, LocalDateTime time);
+    List<Reservation> findExpiredHoldPage(LocalDateTime now, LocalDateTime afterUntil, Long afterId, int size);
     
     /**
-     * 만료된 예약들을 한 번에 만료 처리 (Bulk Update)
+     * 주어진 ID 중 아직 만료 처리되지 않은 만료 임시 예약 조회
+     * - status=TEMP_HELD 이고 reservedUntil < now 인 예약만 (결제/이미 만료된 예약 제외)
      */
-    int bulkExpire(LocalDateTime now);
+    List<Reservation> findExpiredHoldsByIds(List<Long> reservationIds, LocalDateTime now);
 }
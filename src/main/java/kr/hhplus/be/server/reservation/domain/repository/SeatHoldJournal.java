@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.reservation.domain.repository;
+
+import kr.hhplus.be.server.reservation.domain.model.HoldClaim;
+import kr.hhplus.be.server.reservation.domain.model.JournaledHold;
+
+import java.util.List;
+
+/**
+ * 좌석 선점 저널 (Domain Layer)
+ *
+ * 인메모리 좌석 엔진이 결정한 선점을 DB 반영 전에 내구성 있게 남기는 추가 전용 로그.
+ * - append가 반환되면 선점은 디스크에 기록된 상태 (엔진은 그 뒤에 응답)
+ * - DB 반영이 끝난 선점은 markFlushed로 알리고, 연속으로 반영된 지점까지 체크포인트를 전진
+ * - 재시작 시 replay는 체크포인트 이후(아직 DB에 없을 수 있는) 선점만 돌려줌
+ */
+public interface SeatHoldJournal {
+
+    /**
+     * 선점 목록 기록 (한 번의 쓰기 + fsync)
+     *
+     * @return 요청 순서대로 sequence가 부여된 기록
+     */
+    List<JournaledHold> append(List<HoldClaim> claims);
+
+    /**
+     * DB 반영 완료 표시
+     */
+    void markFlushed(List<JournaledHold> holds);
+
+    /**
+     * 체크포인트 이후 기록 조회 (sequence 오름차순)
+     */
+    List<JournaledHold> replay();
+}
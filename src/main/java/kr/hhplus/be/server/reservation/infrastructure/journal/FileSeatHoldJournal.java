@@ -0,0 +1,259 @@
+package kr.hhplus.be.server.reservation.infrastructure.journal;
+
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.reservation.domain.model.HoldClaim;
+import kr.hhplus.be.server.reservation.domain.model.JournaledHold;
+import kr.hhplus.be.server.reservation.domain.repository.SeatHoldJournal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 파일 기반 좌석 선점 저널 (Infrastructure Layer)
+ *
+ * - seat-holds.journal: 한 줄에 선점 1건 (탭 구분, userId는 마지막 필드), append 후 force로 디스크 반영
+ * - seat-holds.checkpoint: 연속으로 DB 반영이 끝난 마지막 sequence (임시 파일 후 원자적 교체)
+ * - 반영이 끝난 앞부분이 커지면 남은 기록만 새 파일로 옮겨 교체 (부하가 이어져 미반영 기록이 늘 있어도 크기가 제한됨)
+ * - 비정상 종료로 마지막 줄이 잘렸으면 열 때 잘라냄 (응답 전에 fsync하므로 잘린 기록은 응답되지 않은 선점)
+ *
+ * 엔진이 켜진 경우에만 사용되므로 파일은 첫 사용 시점에 연다.
+ * 체크포인트를 잃어도 재생 범위만 늘어나며, 이미 반영된 선점은 DB 반영 단계에서 예약 ID로 걸러진다.
+ */
+@Repository
+public class FileSeatHoldJournal implements SeatHoldJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(FileSeatHoldJournal.class);
+
+    private static final String JOURNAL_FILE = "seat-holds.journal";
+    private static final String CHECKPOINT_FILE = "seat-holds.checkpoint";
+    private static final String COMPACT_FILE = "seat-holds.journal.compact";
+
+    private final Path directory;
+    private final Path journalPath;
+    private final Path checkpointPath;
+    private final long compactThresholdBytes;
+    private final TreeSet<Long> outstanding = new TreeSet<>();
+    /** append 묶음의 마지막 sequence → 그 묶음까지 쓴 파일 위치 (압축 지점 계산용) */
+    private final TreeMap<Long, Long> batchEndOffsets = new TreeMap<>();
+
+    private FileChannel channel;
+    private long lastSequence;
+    private long checkpoint;
+
+    public FileSeatHoldJournal(
+            @Value("${reservation.engine.journal-dir:./data/seat-engine}") String directory,
+            @Value("${reservation.engine.journal-compact-bytes:67108864}") long compactThresholdBytes) {
+        this.directory = Path.of(directory);
+        this.compactThresholdBytes = compactThresholdBytes;
+        this.journalPath = this.directory.resolve(JOURNAL_FILE);
+        this.checkpointPath = this.directory.resolve(CHECKPOINT_FILE);
+    }
+
+    @Override
+    public synchronized List<JournaledHold> append(List<HoldClaim> claims) {
+        ensureOpen();
+        List<JournaledHold> holds = new ArrayList<>(claims.size());
+        StringBuilder lines = new StringBuilder(claims.size() * 96);
+        for (HoldClaim claim : claims) {
+            JournaledHold hold = new JournaledHold(++lastSequence, claim);
+            holds.add(hold);
+            lines.append(format(hold)).append('\n');
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            batchEndOffsets.put(lastSequence, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("좌석 선점 저널 기록 실패", e);
+        }
+
+        holds.forEach(hold -> outstanding.add(hold.sequence()));
+        return holds;
+    }
+
+    @Override
+    public synchronized void markFlushed(List<JournaledHold> holds) {
+        holds.forEach(hold -> outstanding.remove(hold.sequence()));
+        long watermark = outstanding.isEmpty() ? lastSequence : outstanding.first() - 1;
+        if (watermark <= checkpoint) {
+            return;
+        }
+
+        try {
+            Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+            Files.writeString(temp, Long.toString(watermark));
+            Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            checkpoint = watermark;
+            compactIfNeeded();
+        } catch (IOException e) {
+            // 체크포인트가 늦어지면 재시작 시 재생 범위만 늘어남
+            log.warn("[SeatHoldJournal] 체크포인트 기록 실패 - watermark={}, error={}", watermark, e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized List<JournaledHold> replay() {
+        ensureOpen();
+        List<JournaledHold> holds = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                JournaledHold hold = parse(line);
+                if (hold != null && hold.sequence() > checkpoint) {
+                    holds.add(hold);
+                    outstanding.add(hold.sequence());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("좌석 선점 저널 읽기 실패", e);
+        }
+        return holds;
+    }
+
+    /**
+     * 체크포인트까지 반영된 앞부분 제거
+     * - 체크포인트 이하로 끝나는 마지막 append 묶음의 파일 위치 이후만 임시 파일에 복사 → fsync → 원자적 교체
+     * - 교체 전에 죽으면 기존 저널, 교체 후에 죽으면 압축된 저널이 남고 둘 다 체크포인트로 재생 범위가 결정됨
+     */
+    private void compactIfNeeded() throws IOException {
+        Map.Entry<Long, Long> flushed = batchEndOffsets.floorEntry(checkpoint);
+        if (flushed == null || flushed.getValue() < compactThresholdBytes) {
+            return;
+        }
+
+        long flushedOffset = flushed.getValue();
+        Path temp = directory.resolve(COMPACT_FILE);
+        try (FileChannel compacted = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long remaining = channel.size() - flushedOffset;
+            long copied = 0;
+            try (FileChannel source = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+                while (copied < remaining) {
+                    copied += source.transferTo(flushedOffset + copied, remaining - copied, compacted);
+                }
+            }
+            compacted.force(true);
+        }
+        channel.close();
+        Files.move(temp, journalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(journalPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+
+        TreeMap<Long, Long> shifted = new TreeMap<>();
+        batchEndOffsets.tailMap(flushed.getKey(), false)
+                .forEach((sequence, offset) -> shifted.put(sequence, offset - flushedOffset));
+        batchEndOffsets.clear();
+        batchEndOffsets.putAll(shifted);
+        log.info("[SeatHoldJournal] 저널 압축 - removedBytes={}, checkpoint={}", flushedOffset, checkpoint);
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private void ensureOpen() {
+        if (channel != null) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            checkpoint = Files.exists(checkpointPath) ? Long.parseLong(Files.readString(checkpointPath).trim()) : 0;
+            lastSequence = checkpoint;
+            if (Files.exists(journalPath)) {
+                trimTornTail();
+                try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        JournaledHold hold = parse(line);
+                        if (hold != null) {
+                            lastSequence = Math.max(lastSequence, hold.sequence());
+                        }
+                    }
+                }
+            }
+            channel = FileChannel.open(journalPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            batchEndOffsets.put(lastSequence, channel.size());
+            log.info("[SeatHoldJournal] 저널 열기 - path={}, checkpoint={}, lastSequence={}",
+                    journalPath, checkpoint, lastSequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("좌석 선점 저널 열기 실패: " + journalPath, e);
+        }
+    }
+
+    /**
+     * 마지막 줄이 개행 없이 끝났으면 잘라냄 (이어서 쓰는 기록이 잘린 줄에 붙지 않도록)
+     */
+    private void trimTornTail() throws IOException {
+        try (FileChannel file = FileChannel.open(journalPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = file.size();
+            long end = size;
+            ByteBuffer last = ByteBuffer.allocate(1);
+            while (end > 0) {
+                last.clear();
+                file.read(last, end - 1);
+                if (last.get(0) == '\n') {
+                    break;
+                }
+                end--;
+            }
+            if (end < size) {
+                file.truncate(end);
+                file.force(true);
+                log.warn("[SeatHoldJournal] 잘린 마지막 기록 제거 - bytes={}", size - end);
+            }
+        }
+    }
+
+    private static String format(JournaledHold hold) {
+        HoldClaim claim = hold.claim();
+        return hold.sequence() + "\t" + claim.reservationId() + "\t" + claim.concertDate() + "\t"
+                + claim.seatNumber() + "\t" + claim.price() + "\t" + claim.reservedAt() + "\t"
+                + claim.reservedUntil() + "\t" + claim.userId();
+    }
+
+    private static JournaledHold parse(String line) {
+        String[] fields = line.split("\t", 8);
+        if (fields.length < 8) {
+            return null;
+        }
+        try {
+            return new JournaledHold(Long.parseLong(fields[0]), new HoldClaim(
+                    Long.parseLong(fields[1]),
+                    fields[7],
+                    fields[2],
+                    Integer.parseInt(fields[3]),
+                    Long.parseLong(fields[4]),
+                    LocalDateTime.parse(fields[5]),
+                    LocalDateTime.parse(fields[6])
+            ));
+        } catch (RuntimeException e) {
+            log.warn("[SeatHoldJournal] 손상된 저널 항목 건너뜀 - line={}", line);
+            return null;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.hhplus.be.server.concert.application.service.ConcertRankingService;
 import kr.hhplus.be.server.config.kafka.KafkaTopicConfig;
 import kr.hhplus.be.server.payment.infrastructure.external.DataPlatformSendService;
+import kr.hhplus.be.server.reservation.domain.event.ReservationBatchCompletedEvent;
 import kr.hhplus.be.server.reservation.domain.event.ReservationCompletedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -76,4 +77,43 @@ public class ReservationKafkaConsumer {
             // offset을 커밋하지 않아 재소비됨
         }
     }
+
+    /**
+     * 다중 좌석 예약 완료 메시지 소비
+     * - 매진 랭킹은 좌석 수만큼 한 번에 증가, 데이터 플랫폼에는 예약 건별 전송
+     *
+     * @param message        JSON 직렬화된 ReservationBatchCompletedEvent
+     * @param acknowledgment 수동 offset 커밋을 위한 Acknowledgment
+     */
+    @KafkaListener(
+            topics = KafkaTopicConfig.TOPIC_RESERVATION_BATCH_COMPLETED,
+            groupId = "concert-reservation-group",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void consumeReservationBatchCompleted(String message, Acknowledgment acknowledgment) {
+        log.info("[Kafka Consumer] 다중 좌석 예약 완료 메시지 수신: {}", message);
+
+        try {
+            ReservationBatchCompletedEvent event = objectMapper.readValue(message, ReservationBatchCompletedEvent.class);
+
+            concertRankingService.onSeatsReserved(event.getConcertDate(), event.getSeats().size());
+
+            for (ReservationBatchCompletedEvent.ReservedSeat seat : event.getSeats()) {
+                dataPlatformSendService.sendReservationData(
+                        seat.getReservationId(),
+                        event.getUserId(),
+                        event.getConcertDate(),
+                        seat.getSeatNumber()
+                );
+            }
+            log.info("[Kafka Consumer] 다중 좌석 예약 처리 완료 - date={}, seats={}",
+                    event.getConcertDate(), event.getSeats().size());
+
+            acknowledgment.acknowledge();
+
+        } catch (Exception e) {
+            log.error("[Kafka Consumer] 다중 좌석 예약 메시지 처리 실패 - message={}, error={}",
+                    message, e.getMessage(), e);
+        }
+    }
 }
@@ -0,0 +1,106 @@
+package kr.hhplus.be.server.reservation.infrastructure.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.config.kafka.KafkaTopicConfig;
+import kr.hhplus.be.server.reservation.application.command.SeatCommandGateway;
+import kr.hhplus.be.server.reservation.application.command.SeatCommandProcessor;
+import kr.hhplus.be.server.reservation.domain.model.SeatCommand;
+import kr.hhplus.be.server.reservation.domain.model.SeatCommandReply;
+import kr.hhplus.be.server.shared.infrastructure.kafka.KafkaMessageProducer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 좌석 명령 Kafka Consumer
+ *
+ * reservation.kafka-commands.enabled=true 일 때만 시작.
+ * - seat-commands: 파티션을 소유한 스레드가 poll 단위로 명령을 처리하고 응답 발행 후 offset 커밋
+ * - seat-command-replies: 모든 파티션을 직접 할당(그룹 리밸런스 없음)받아 모든 응답을 읽고 자기 요청의 Future만 완료
+ *   (응답은 대기 중인 요청에만 의미가 있으므로 커밋된 offset이 없으면 latest부터 읽음,
+ *    그룹 ID는 offset 보관용일 뿐이라 노드 ID 재할당으로 두 노드가 같은 그룹을 써도 서로의 파티션을 빼앗지 않음)
+ */
+@Component
+public class SeatCommandKafkaConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatCommandKafkaConsumer.class);
+
+    private final SeatCommandProcessor seatCommandProcessor;
+    private final SeatCommandGateway seatCommandGateway;
+    private final KafkaMessageProducer kafkaMessageProducer;
+    private final ObjectMapper objectMapper;
+
+    public SeatCommandKafkaConsumer(SeatCommandProcessor seatCommandProcessor,
+                                    SeatCommandGateway seatCommandGateway,
+                                    KafkaMessageProducer kafkaMessageProducer,
+                                    ObjectMapper objectMapper) {
+        this.seatCommandProcessor = seatCommandProcessor;
+        this.seatCommandGateway = seatCommandGateway;
+        this.kafkaMessageProducer = kafkaMessageProducer;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 좌석 명령 소비 (poll 한 번에 받은 명령을 한 배치로 처리)
+     *
+     * @param messages       JSON 직렬화된 SeatCommand 목록
+     * @param acknowledgment 수동 offset 커밋을 위한 Acknowledgment
+     */
+    @KafkaListener(
+            id = "seat-command-consumer",
+            idIsGroup = false,
+            topics = KafkaTopicConfig.TOPIC_SEAT_COMMANDS,
+            groupId = "seat-command-group",
+            containerFactory = "seatCommandListenerContainerFactory",
+            autoStartup = "${reservation.kafka-commands.enabled:false}"
+    )
+    public void consumeCommands(List<String> messages, Acknowledgment acknowledgment) {
+        List<SeatCommand> commands = new ArrayList<>(messages.size());
+        for (String message : messages) {
+            try {
+                commands.add(objectMapper.readValue(message, SeatCommand.class));
+            } catch (Exception e) {
+                log.error("[Kafka Consumer] 좌석 명령 역직렬화 실패, 건너뜀 - message={}, error={}",
+                        message, e.getMessage());
+            }
+        }
+
+        for (SeatCommandReply reply : seatCommandProcessor.process(commands)) {
+            kafkaMessageProducer.sendWithResult(KafkaTopicConfig.TOPIC_SEAT_COMMAND_REPLIES, reply.replyTo(), reply);
+        }
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * 좌석 명령 응답 소비
+     *
+     * @param messages       JSON 직렬화된 SeatCommandReply 목록
+     * @param acknowledgment 수동 offset 커밋을 위한 Acknowledgment
+     */
+    @KafkaListener(
+            id = "seat-command-reply-consumer",
+            idIsGroup = false,
+            topicPartitions = @TopicPartition(topic = KafkaTopicConfig.TOPIC_SEAT_COMMAND_REPLIES, partitions = "*"),
+            groupId = "#{@seatCommandGateway.replyGroupId}",
+            containerFactory = "seatCommandListenerContainerFactory",
+            autoStartup = "${reservation.kafka-commands.enabled:false}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void consumeReplies(List<String> messages, Acknowledgment acknowledgment) {
+        for (String message : messages) {
+            try {
+                seatCommandGateway.complete(objectMapper.readValue(message, SeatCommandReply.class));
+            } catch (Exception e) {
+                log.error("[Kafka Consumer] 좌석 명령 응답 처리 실패 - message={}, error={}",
+                        message, e.getMessage());
+            }
+        }
+        acknowledgment.acknowledge();
+    }
+}
@@ -0,0 +1,152 @@
+package kr.hhplus.be.server.reservation.infrastructure.persistence;
+
+import kr.hhplus.be.server.reservation.domain.model.HoldClaim;
+import kr.hhplus.be.server.reservation.domain.model.ReservationStatus;
+import kr.hhplus.be.server.reservation.domain.repository.HoldBatchRepository;
+import kr.hhplus.be.server.shared.infrastructure.persistence.ConcertDateConverter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TimeZone;
+
+/**
+ * 좌석 선점 그룹 커밋 배치 리포지토리 (Infrastructure Layer)
+ *
+ * 엔티티를 거치지 않고 JdbcTemplate 배치로 실행 (JpaTransactionManager 트랜잭션에 참여).
+ * 시각 값은 Hibernate 설정(hibernate.jdbc.time_zone=UTC)과 같은 방식으로 UTC 캘린더로 바인딩한다.
+ */
+@Repository
+@Transactional(propagation = Propagation.MANDATORY)
+public class HoldBatchJdbcRepository implements HoldBatchRepository {
+
+    private static final String CLAIM_SET =
+            "UPDATE seat SET status = 'TEMP_HELD', reserved_user_id = ?, reserved_until = ?, " +
+            "version = COALESCE(version, 0) + 1 " +
+            "WHERE concert_date = ? AND seat_number = ? ";
+
+    private static final String CLAIM_AVAILABLE_SQL = CLAIM_SET + "AND status = 'AVAILABLE'";
+
+    private static final String CLAIM_EXPIRED_SQL = CLAIM_SET + "AND status = 'TEMP_HELD' AND reserved_until < ?";
+
+    private static final String INSERT_RESERVATION_SQL =
+            "INSERT INTO reservation (id, user_id, seat_id, concert_date, seat_number, price, status, reserved_at, reserved_until) " +
+            "SELECT ?, ?, s.id, s.concert_date, s.seat_number, ?, ?, ?, ? " +
+            "FROM seat s WHERE s.concert_date = ? AND s.seat_number = ?";
+
+    private static final ConcertDateConverter CONCERT_DATE = new ConcertDateConverter();
+    private static final TimeZone JDBC_TIME_ZONE = TimeZone.getTimeZone("UTC");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public HoldBatchJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean[] claimAvailableSeats(List<HoldClaim> claims) {
+        return claim(CLAIM_AVAILABLE_SQL, claims, null);
+    }
+
+    @Override
+    public boolean[] claimExpiredSeats(List<HoldClaim> claims, LocalDateTime now) {
+        return claim(CLAIM_EXPIRED_SQL, claims, now);
+    }
+
+    @Override
+    public void insertReservations(List<HoldClaim> claims) {
+        insert(claims, ReservationStatus.TEMP_HELD);
+    }
+
+    @Override
+    public void insertLostReservations(List<HoldClaim> claims) {
+        insert(claims, ReservationStatus.HOLD_LOST);
+    }
+
+    private void insert(List<HoldClaim> claims, ReservationStatus status) {
+        if (claims.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_RESERVATION_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                HoldClaim claim = claims.get(i);
+                ps.setLong(1, claim.reservationId());
+                ps.setString(2, claim.userId());
+                ps.setLong(3, claim.price());
+                ps.setString(4, status.name());
+                setTimestamp(ps, 5, claim.reservedAt());
+                setTimestamp(ps, 6, claim.reservedUntil());
+                ps.setObject(7, CONCERT_DATE.convertToDatabaseColumn(claim.concertDate()));
+                ps.setInt(8, claim.seatNumber());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return claims.size();
+            }
+        });
+    }
+
+    @Override
+    public Set<Long> findExistingReservationIds(List<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return Set.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(reservationIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM reservation WHERE id IN (" + placeholders + ")",
+                Long.class,
+                reservationIds.toArray()));
+    }
+
+    private boolean[] claim(String sql, List<HoldClaim> claims, LocalDateTime now) {
+        if (claims.isEmpty()) {
+            return new boolean[0];
+        }
+        int[] counts = jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                HoldClaim claim = claims.get(i);
+                ps.setString(1, claim.userId());
+                setTimestamp(ps, 2, claim.reservedUntil());
+                ps.setObject(3, CONCERT_DATE.convertToDatabaseColumn(claim.concertDate()));
+                ps.setInt(4, claim.seatNumber());
+                if (now != null) {
+                    setTimestamp(ps, 5, now);
+                }
+            }
+
+            @Override
+            public int getBatchSize() {
+                return claims.size();
+            }
+        });
+
+        boolean[] claimed = new boolean[claims.size()];
+        for (int i = 0; i < counts.length; i++) {
+            // 행 단위 결과를 모르면 선점 여부를 판단할 수 없으므로 배치 전체를 롤백시킨다
+            if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                throw new IllegalStateException("배치 UPDATE 결과 건수를 확인할 수 없습니다.");
+            }
+            claimed[i] = counts[i] > 0;
+        }
+        return claimed;
+    }
+
+    private static void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        ps.setTimestamp(index, Timestamp.valueOf(value), Calendar.getInstance(JDBC_TIME_ZONE));
+    }
+}
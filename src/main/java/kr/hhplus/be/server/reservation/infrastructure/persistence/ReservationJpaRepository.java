@@ -2,8 +2,8 @@ package kr.hhplus.be.server.reservation.infrastructure.persistence;
 
 import kr.hhplus.be.server.reservation.domain.model.Reservation;
 import kr.hhplus.be.server.reservation.domain.model.ReservationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -23,16 +23,24 @@ interface ReservationJpaRepository extends JpaRepository<Reservation, Long> {
         String userId, String concertDate, Integer seatNumber, ReservationStatus status
     );
     
-    List<Reservation> findByStatusAndReservedUntilBefore(ReservationStatus status, LocalDateTime time);
+    @Query("SELECT r FROM Reservation r WHERE r.status = 'TEMP_HELD' AND r.reservedUntil < :now " +
+           "ORDER BY r.reservedUntil, r.id")
+    List<Reservation> findExpiredHoldFirstPage(@Param("now") LocalDateTime now, Pageable pageable);
     
-    @Query("SELECT r.seatId FROM Reservation r WHERE r.status = :status AND r.reservedUntil < :time")
-    List<Long> findSeatIdsByStatusAndReservedUntilBefore(
-        @Param("status") ReservationStatus status, 
-        @Param("time") LocalDateTime time
+    @Query("SELECT r FROM Reservation r WHERE r.status = 'TEMP_HELD' AND r.reservedUntil < :now " +
+           "AND (r.reservedUntil > :afterUntil OR (r.reservedUntil = :afterUntil AND r.id > :afterId)) " +
+           "ORDER BY r.reservedUntil, r.id")
+    List<Reservation> findExpiredHoldPageAfter(
+        @Param("now") LocalDateTime now,
+        @Param("afterUntil") LocalDateTime afterUntil,
+        @Param("afterId") Long afterId,
+        Pageable pageable
     );
     
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Reservation r SET r.status = 'EXPIRED' " +
-           "WHERE r.status = 'TEMP_HELD' AND r.reservedUntil < :now")
-    int bulkExpire(@Param("now") LocalDateTime now);
+    @Query("SELECT r FROM Reservation r WHERE r.id IN :ids " +
+           "AND r.status = 'TEMP_HELD' AND r.reservedUntil < :now")
+    List<Reservation> findExpiredHoldsByIds(
+        @Param("ids") List<Long> reservationIds,
+        @Param("now") LocalDateTime now
+    );
 }
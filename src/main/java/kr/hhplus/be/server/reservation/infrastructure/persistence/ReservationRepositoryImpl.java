@@ -3,6 +3,7 @@ package kr.hhplus.be.server.reservation.infrastructure.persistence;
 import kr.hhplus.be.server.reservation.domain.model.Reservation;
 import kr.hhplus.be.server.reservation.domain.model.ReservationStatus;
 import kr.hhplus.be.server.reservation.domain.repository.ReservationRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +31,12 @@ public class ReservationRepositoryImpl implements ReservationRepository {
         return reservationJpaRepository.save(reservation);
     }
 
+    @Override
+    @Transactional
+    public List<Reservation> saveAll(List<Reservation> reservations) {
+        return reservationJpaRepository.saveAll(reservations);
+    }
+
     @Override
     public Optional<Reservation> findById(Long id) {
         return reservationJpaRepository.findById(id);
@@ -49,18 +56,15 @@ public class ReservationRepositoryImpl implements ReservationRepository {
     }
 
     @Override
-    public List<Reservation> findByStatusAndReservedUntilBefore(ReservationStatus status, LocalDateTime time) {
-        return reservationJpaRepository.findByStatusAndReservedUntilBefore(status, time);
+    public List<Reservation> findExpiredHoldPage(LocalDateTime now, LocalDateTime afterUntil, Long afterId, int size) {
+        if (afterUntil == null || afterId == null) {
+            return reservationJpaRepository.findExpiredHoldFirstPage(now, PageRequest.of(0, size));
+        }
+        return reservationJpaRepository.findExpiredHoldPageAfter(now, afterUntil, afterId, PageRequest.of(0, size));
     }
 
     @Override
-    public List<Long> findSeatIdsByStatusAndReservedUntilBefore(ReservationStatus status, LocalDateTime time) {
-        return reservationJpaRepository.findSeatIdsByStatusAndReservedUntilBefore(status, time);
-    }
-
-    @Override
-    @Transactional
-    public int bulkExpire(LocalDateTime now) {
-        return reservationJpaRepository.bulkExpire(now);
+    public List<Reservation> findExpiredHoldsByIds(List<Long> reservationIds, LocalDateTime now) {
+        return reservationJpaRepository.findExpiredHoldsByIds(reservationIds, now);
     }
 }
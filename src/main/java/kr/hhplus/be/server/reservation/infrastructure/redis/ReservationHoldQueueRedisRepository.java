@@ -0,0 +1,70 @@
+package kr.hhplus.be.server.reservation.infrastructure.redis;
+
+import kr.hhplus.be.server.reservation.domain.repository.ReservationHoldQueue;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Redis 기반 임시 예약 만료 지연 큐 구현체
+ *
+ * 구조:
+ * - reservation:holds (Sorted Set) : member=reservationId, score=reservedUntil(epoch millis)
+ *
+ * 꺼내기(pollDue)는 ZRANGEBYSCORE + ZREM을 Lua 스크립트로 원자적으로 수행하여
+ * 여러 노드의 워커가 같은 예약을 중복 처리하지 않도록 함
+ */
+@Repository
+public class ReservationHoldQueueRedisRepository implements ReservationHoldQueue {
+
+    private static final String HOLDS_KEY = "reservation:holds";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POLL_DUE_SCRIPT = new DefaultRedisScript<>("""
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            if #ids > 0 then
+                redis.call('ZREM', KEYS[1], unpack(ids))
+            end
+            return ids
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public ReservationHoldQueueRedisRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void register(Long reservationId, LocalDateTime reservedUntil) {
+        redisTemplate.opsForZSet().add(HOLDS_KEY, String.valueOf(reservationId), toEpochMillis(reservedUntil));
+    }
+
+    @Override
+    public void remove(Long reservationId) {
+        redisTemplate.opsForZSet().remove(HOLDS_KEY, String.valueOf(reservationId));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> pollDue(LocalDateTime now, int limit) {
+        List<String> ids = redisTemplate.execute(
+                POLL_DUE_SCRIPT,
+                List.of(HOLDS_KEY),
+                String.valueOf(toEpochMillis(now)),
+                String.valueOf(limit)
+        );
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream().map(Long::valueOf).toList();
+    }
+
+    private long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
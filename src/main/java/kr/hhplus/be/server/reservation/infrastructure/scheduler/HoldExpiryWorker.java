@@ -0,0 +1,63 @@
+package kr.hhplus.be.server.reservation.infrastructure.scheduler;
+
+import kr.hhplus.be.server.reservation.application.service.ReservationExpiryService;
+import kr.hhplus.be.server.reservation.domain.repository.ReservationHoldQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 임시 예약 만료 워커 (지연 큐 기반)
+ *
+ * 1초마다 지연 큐에서 만료 시각이 지난 예약을 BATCH_SIZE 단위로 꺼내 즉시 해제.
+ * - 만료 후 약 1초 이내에 좌석이 다시 예약 가능 상태로 돌아감
+ * - 한 번에 한 배치씩 짧은 트랜잭션으로 처리하여 대량 만료가 한 트랜잭션에 몰리지 않음
+ * - 처리 실패한 배치는 지연 큐에 다시 등록하여 다음 주기에 재시도
+ */
+@Component
+public class HoldExpiryWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(HoldExpiryWorker.class);
+
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_BATCHES_PER_RUN = 50;
+
+    private final ReservationHoldQueue reservationHoldQueue;
+    private final ReservationExpiryService reservationExpiryService;
+
+    public HoldExpiryWorker(ReservationHoldQueue reservationHoldQueue,
+                            ReservationExpiryService reservationExpiryService) {
+        this.reservationHoldQueue = reservationHoldQueue;
+        this.reservationExpiryService = reservationExpiryService;
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void expireDueHolds() {
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> dueIds = reservationHoldQueue.pollDue(now, BATCH_SIZE);
+            if (dueIds.isEmpty()) {
+                return;
+            }
+
+            try {
+                int expired = reservationExpiryService.expire(dueIds, now);
+                if (expired > 0) {
+                    log.info("⏰ 지연 큐 만료 처리 - 대상 {}건, 만료 {}건", dueIds.size(), expired);
+                }
+            } catch (Exception e) {
+                log.error("[HoldExpiryWorker] 만료 처리 실패, 재등록 - count={}, error={}", dueIds.size(), e.getMessage());
+                dueIds.forEach(id -> reservationHoldQueue.register(id, now));
+                return;
+            }
+
+            if (dueIds.size() < BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+}
@@ -8,8 +8,18 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.hhplus.be.server.shared.common.ConcertDates;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
 import kr.hhplus.be.server.shared.common.exception.ProblemDetail;
+import kr.hhplus.be.server.reservation.application.service.EngineReservationService;
+import kr.hhplus.be.server.reservation.application.service.GroupCommitReservationService;
+import kr.hhplus.be.server.reservation.application.service.KafkaCommandReservationService;
+import kr.hhplus.be.server.reservation.application.service.ReservationHoldService;
 import kr.hhplus.be.server.reservation.application.service.ReservationService;
+import kr.hhplus.be.server.reservation.application.service.SeatAutoAssignService;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatAutoAssignRequest;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatBatchReserveRequest;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatBatchReserveResponse;
 import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatReserveRequest;
 import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatReserveResponse;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +28,10 @@ import org.springframework.web.bind.annotation.*;
 /**
  * 예약 관리 API Controller (Interface Layer)
  * 도메인 기반 클린 아키텍처
+ *
+ * 인메모리 엔진 경로가 켜져 있으면 좌석 상태의 결정권이 엔진에 있으므로,
+ * 엔진을 거치지 않고 DB에서 좌석을 바꾸는 다중 예약/자동 배정/해제/연장은 409로 거절
+ * (DB 경로가 먼저 좌석을 가져가면 이미 응답한 엔진 선점이 DB 반영 단계에서 유실됨)
  */
 @Tag(name = "Reservation", description = "예약 관리 API")
 @RestController
@@ -25,14 +39,33 @@ import org.springframework.web.bind.annotation.*;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final GroupCommitReservationService groupCommitReservationService;
+    private final EngineReservationService engineReservationService;
+    private final KafkaCommandReservationService kafkaCommandReservationService;
+    private final SeatAutoAssignService seatAutoAssignService;
+    private final ReservationHoldService reservationHoldService;
 
-    public ReservationController(ReservationService reservationService) {
+    public ReservationController(ReservationService reservationService,
+                                 GroupCommitReservationService groupCommitReservationService,
+                                 EngineReservationService engineReservationService,
+                                 KafkaCommandReservationService kafkaCommandReservationService,
+                                 SeatAutoAssignService seatAutoAssignService,
+                                 ReservationHoldService reservationHoldService) {
         this.reservationService = reservationService;
+        this.groupCommitReservationService = groupCommitReservationService;
+        this.engineReservationService = engineReservationService;
+        this.kafkaCommandReservationService = kafkaCommandReservationService;
+        this.seatAutoAssignService = seatAutoAssignService;
+        this.reservationHoldService = reservationHoldService;
     }
 
     /**
      * 좌석 임시 예약
      * POST /reservations
+     *
+     * reservation.engine.enabled=true 이면 인메모리 엔진 경로(저널 기록 후 응답, DB는 비동기 반영)로,
+     * reservation.kafka-commands.enabled=true 이면 Kafka 파티션 소유 경로(날짜별 한 컨슈머가 처리)로,
+     * reservation.group-commit.enabled=true 이면 그룹 커밋 경로(배치 커밋 후 응답)로 처리
      */
     @Operation(
             summary = "좌석 임시 예약",
@@ -46,7 +79,7 @@ public class ReservationController {
             ),
             @ApiResponse(
                     responseCode = "400",
-                    description = "이미 예약된 좌석",
+                    description = "이미 예약된 좌석 (같은 좌석 동시 요청 중 먼저 처리된 요청이 선점한 경우 포함, 모든 처리 경로 공통)",
                     content = @Content(
                             mediaType = "application/problem+json",
                             schema = @Schema(implementation = ProblemDetail.class),
@@ -85,6 +118,14 @@ public class ReservationController {
                             mediaType = "application/problem+json",
                             schema = @Schema(implementation = ProblemDetail.class)
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "같은 좌석 요청이 처리 중이라 대기 시간 안에 결과를 받지 못함 (락 획득 실패)",
+                    content = @Content(
+                            mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
             )
     })
     @PostMapping
@@ -93,7 +134,210 @@ public class ReservationController {
             @RequestHeader("X-QUEUE-TOKEN") String token,
             @RequestBody SeatReserveRequest request
     ) {
-        SeatReserveResponse response = reservationService.reserveSeat(request, token);
+        ConcertDates.validate(request.getDate());
+        SeatReserveResponse response;
+        if (engineReservationService.isEnabled()) {
+            response = engineReservationService.reserveSeat(request, token);
+        } else if (kafkaCommandReservationService.isEnabled()) {
+            response = kafkaCommandReservationService.reserveSeat(request, token);
+        } else if (groupCommitReservationService.isEnabled()) {
+            response = groupCommitReservationService.reserveSeat(request, token);
+        } else {
+            response = reservationService.reserveSeat(request, token);
+        }
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 다중 좌석 임시 예약
+     * POST /reservations/batch
+     */
+    @Operation(
+            summary = "다중 좌석 임시 예약",
+            description = "최대 4석을 한 번에 5분간 임시 예약합니다. 한 좌석이라도 예약할 수 없으면 아무 좌석도 예약되지 않습니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "임시 예약 성공",
+                    content = @Content(schema = @Schema(implementation = SeatBatchReserveResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "이미 예약된 좌석 포함 또는 잘못된 좌석 목록 (4석 초과, 중복)",
+                    content = @Content(
+                            mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "존재하지 않는 좌석 포함",
+                    content = @Content(
+                            mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "다른 요청이 같은 좌석을 처리 중 (락 획득 실패)",
+                    content = @Content(
+                            mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
+            )
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<SeatBatchReserveResponse> reserveSeats(
+            @Parameter(description = "대기열 토큰", required = true)
+            @RequestHeader("X-QUEUE-TOKEN") String token,
+            @RequestBody SeatBatchReserveRequest request
+    ) {
+        rejectInEngineMode();
+        ConcertDates.validate(request.getDate());
+        // 좌석별 락을 잡기 전에 좌석 수/중복을 검증 (검증 없이 들어오면 요청 좌석 수만큼 락을 잡음)
+        reservationService.validateSeatNumbers(request.getSeatNumbers());
+        return ResponseEntity.ok(reservationService.reserveSeats(request, token));
+    }
+
+    /**
+     * 연석 자동 배정
+     * POST /reservations/auto-assign
+     */
+    @Operation(
+            summary = "연석 자동 배정",
+            description = "같은 구역·열에서 이어진 빈 좌석을 서버가 골라 최대 4석을 5분간 임시 예약합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "임시 예약 성공 (배정된 좌석번호 포함)",
+                    content = @Content(schema = @Schema(implementation = SeatBatchReserveResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 좌석 수 (1~4석)",
+                    content = @Content(
+                            mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "배정 가능한 연석 없음",
+                    content = @Content(
+                            mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
+            )
+    })
+    @PostMapping("/auto-assign")
+    public ResponseEntity<SeatBatchReserveResponse> autoAssign(
+            @Parameter(description = "대기열 토큰", required = true)
+            @RequestHeader("X-QUEUE-TOKEN") String token,
+            @RequestBody SeatAutoAssignRequest request
+    ) {
+        rejectInEngineMode();
+        ConcertDates.validate(request.getDate());
+        return ResponseEntity.ok(seatAutoAssignService.autoAssign(request, token));
+    }
+
+    /**
+     * 임시 예약 직접 해제
+     * POST /reservations/release
+     */
+    @Operation(
+            summary = "임시 예약 해제",
+            description = "결제하지 않을 임시 예약을 직접 해제합니다. 좌석은 만료를 기다리지 않고 바로 다른 사용자가 예약할 수 있게 됩니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "해제 성공 (status=RELEASED)",
+                    content = @Content(schema = @Schema(implementation = SeatReserveResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "임시 예약을 찾을 수 없음",
+                    content = @Content(
+                            mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "같은 좌석의 예약/결제가 처리 중 (락 획득 실패)",
+                    content = @Content(
+                            mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
+            )
+    })
+    @PostMapping("/release")
+    public ResponseEntity<SeatReserveResponse> releaseSeat(
+            @Parameter(description = "대기열 토큰", required = true)
+            @RequestHeader("X-QUEUE-TOKEN") String token,
+            @RequestBody SeatReserveRequest request
+    ) {
+        rejectInEngineMode();
+        ConcertDates.validate(request.getDate());
+        return ResponseEntity.ok(reservationHoldService.release(request, token));
+    }
+
+    /**
+     * 임시 예약 연장
+     * POST /reservations/extend
+     */
+    @Operation(
+            summary = "임시 예약 연장",
+            description = "임시 예약 만료 시각을 연장합니다. 예약 시각으로부터 최대 10분까지만 연장할 수 있습니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "연장 성공 (연장된 만료 시각 포함)",
+                    content = @Content(schema = @Schema(implementation = SeatReserveResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "이미 만료된 예약 또는 연장 한도 초과",
+                    content = @Content(
+                            mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "임시 예약을 찾을 수 없음",
+                    content = @Content(
+                            mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "같은 좌석의 예약/결제가 처리 중 또는 좌석이 임시 배정 상태가 아님",
+                    content = @Content(
+                            mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
+            )
+    })
+    @PostMapping("/extend")
+    public ResponseEntity<SeatReserveResponse> extendSeat(
+            @Parameter(description = "대기열 토큰", required = true)
+            @RequestHeader("X-QUEUE-TOKEN") String token,
+            @RequestBody SeatReserveRequest request
+    ) {
+        rejectInEngineMode();
+        ConcertDates.validate(request.getDate());
+        return ResponseEntity.ok(reservationHoldService.extend(request, token));
+    }
+
+    private void rejectInEngineMode() {
+        if (engineReservationService.isEnabled()) {
+            throw new BusinessException("인메모리 엔진 경로에서는 지원하지 않는 요청입니다. 단건 예약(POST /reservations)을 이용해주세요.",
+                    "reservation-engine-unsupported", 409);
+        }
+    }
 }
@@ -0,0 +1,53 @@
+package kr.hhplus.be.server.reservation.interfaces.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 연석 자동 배정 요청 DTO (Interface Layer)
+ * 도메인 기반 클린 아키텍처
+ */
+@Schema(description = "연석 자동 배정 요청 (같은 열에서 이어진 빈 좌석을 서버가 골라 임시 예약)")
+public class SeatAutoAssignRequest {
+
+    @Schema(description = "사용자 ID", example = "user-123")
+    private String userId;
+
+    @Schema(description = "공연 날짜", example = "2025-12-25")
+    private String date;
+
+    @Schema(description = "좌석 수 (1~4)", example = "4")
+    private Integer count;
+
+    public SeatAutoAssignRequest() {
+    }
+
+    public SeatAutoAssignRequest(String userId, String date, Integer count) {
+        this.userId = userId;
+        this.date = date;
+        this.count = count;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public Integer getCount() {
+        return count;
+    }
+
+    public void setCount(Integer count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,55 @@
+package kr.hhplus.be.server.reservation.interfaces.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 다중 좌석 예약 요청 DTO (Interface Layer)
+ * 도메인 기반 클린 아키텍처
+ */
+@Schema(description = "다중 좌석 예약 요청 (전부 성공 또는 전부 실패)")
+public class SeatBatchReserveRequest {
+
+    @Schema(description = "사용자 ID", example = "user-123")
+    private String userId;
+
+    @Schema(description = "공연 날짜", example = "2025-12-25")
+    private String date;
+
+    @Schema(description = "좌석 번호 목록 (최대 4석, 중복 불가)", example = "[41, 42, 43, 44]")
+    private List<Integer> seatNumbers;
+
+    public SeatBatchReserveRequest() {
+    }
+
+    public SeatBatchReserveRequest(String userId, String date, List<Integer> seatNumbers) {
+        this.userId = userId;
+        this.date = date;
+        this.seatNumbers = seatNumbers;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public List<Integer> getSeatNumbers() {
+        return seatNumbers;
+    }
+
+    public void setSeatNumbers(List<Integer> seatNumbers) {
+        this.seatNumbers = seatNumbers;
+    }
+}
@@ -0,0 +1,69 @@
+package kr.hhplus.be.server.reservation.interfaces.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 다중 좌석 예약 응답 DTO (Interface Layer)
+ * 도메인 기반 클린 아키텍처
+ */
+@Schema(description = "다중 좌석 예약 응답")
+public class SeatBatchReserveResponse {
+
+    @Schema(description = "공연 날짜", example = "2025-12-25")
+    private String date;
+
+    @Schema(description = "임시 배정된 좌석 번호 (오름차순)", example = "[41, 42, 43, 44]")
+    private List<Integer> seatNumbers;
+
+    @Schema(description = "임시 예약 만료 시간", example = "2025-12-25T14:35:00")
+    private LocalDateTime tempHoldExpires;
+
+    @Schema(description = "예약 상태")
+    private SeatReserveResponse.ReservationStatus status;
+
+    public SeatBatchReserveResponse() {
+    }
+
+    public SeatBatchReserveResponse(String date, List<Integer> seatNumbers, LocalDateTime tempHoldExpires,
+                                    SeatReserveResponse.ReservationStatus status) {
+        this.date = date;
+        this.seatNumbers = seatNumbers;
+        this.tempHoldExpires = tempHoldExpires;
+        this.status = status;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public List<Integer> getSeatNumbers() {
+        return seatNumbers;
+    }
+
+    public void setSeatNumbers(List<Integer> seatNumbers) {
+        this.seatNumbers = seatNumbers;
+    }
+
+    public LocalDateTime getTempHoldExpires() {
+        return tempHoldExpires;
+    }
+
+    public void setTempHoldExpires(LocalDateTime tempHoldExpires) {
+        this.tempHoldExpires = tempHoldExpires;
+    }
+
+    public SeatReserveResponse.ReservationStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(SeatReserveResponse.ReservationStatus status) {
+        this.status = status;
+    }
+}
@@ -58,6 +58,7 @@ public class SeatReserveResponse {
     @Schema(description = "예약 상태")
     public enum ReservationStatus {
         TEMP_HELD,
-        RESERVED
+        RESERVED,
+        RELEASED
     }
 }
@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.shared.common;
+
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 공연 날짜("yyyy-MM-dd") 형식 검증
+ *
+ * 컨트롤러 진입 시점에 호출해 잘못된 날짜를 400(invalid-date)으로 거부.
+ * (DB 컬럼 변환기에서 던진 예외는 Hibernate가 감싸므로 그 단계까지 가면 400으로 응답되지 않음)
+ */
+public final class ConcertDates {
+
+    private ConcertDates() {
+    }
+
+    /**
+     * 형식이 맞지 않으면 예외 (null은 필수값 검증에 맡기고 통과)
+     */
+    public static void validate(String concertDate) {
+        parse(concertDate);
+    }
+
+    /**
+     * 날짜 변환 (null이면 null)
+     */
+    public static LocalDate parse(String concertDate) {
+        if (concertDate == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(concertDate);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException("잘못된 날짜 형식입니다: " + concertDate, "invalid-date", 400);
+        }
+    }
+}
@@ -42,6 +42,12 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ProblemDetail> handleException(Exception ex) {
+        // 컬럼 변환기 등에서 던진 비즈니스 예외를 프레임워크가 감싼 경우 원래 상태 코드로 응답
+        for (Throwable cause = ex.getCause(); cause != null && cause != cause.getCause(); cause = cause.getCause()) {
+            if (cause instanceof BusinessException businessException) {
+                return handleBusinessException(businessException);
+            }
+        }
         ProblemDetail problemDetail = new ProblemDetail(
                 "https://api.concert.com/problems/internal-error",
                 "Internal Server Error",
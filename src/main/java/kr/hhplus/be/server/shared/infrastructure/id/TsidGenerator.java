@@ -0,0 +1,87 @@
+package kr.hhplus.be.server.shared.infrastructure.id;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시간 순 정렬 가능한 64비트 ID 생성기 (TSID / Snowflake 방식)
+ *
+ * 비트 구성 (부호 비트 제외 63비트):
+ * - 41비트 : EPOCH(2024-01-01 UTC) 이후 밀리초 (약 69년)
+ * - 10비트 : 노드 ID (0~1023, TsidNodeAllocator가 Redis에서 할당)
+ * - 12비트 : 같은 밀리초 내 순번 (노드당 밀리초마다 4096개)
+ *
+ * - DB 왕복 없이 애플리케이션에서 ID를 정하므로 Hibernate JDBC 배치 삽입이 가능
+ * - 시간 순으로 증가하여 B-Tree PK 삽입 위치가 항상 끝쪽 (페이지 분할 최소화)
+ * - 시계가 뒤로 가면 마지막 시각을 계속 사용하여 단조 증가를 유지
+ *
+ * 값이 2^53을 넘으므로 API 응답에 노출할 때는 문자열로 내려야 함 (JavaScript Number 정밀도 손실).
+ *
+ * Hibernate가 생성하는 식별자 생성기(TsidIdentifierGenerator)에서도 쓰이므로 정적 인스턴스로 제공.
+ * 노드 ID 할당 전에는 임의의 노드 ID를 사용.
+ */
+public final class TsidGenerator {
+
+    static final long EPOCH_MILLIS = 1704067200000L; // 2024-01-01T00:00:00Z
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+
+    private static volatile int nodeId = ThreadLocalRandom.current().nextInt(MAX_NODE_ID + 1);
+    private static long lastMillis = -1L;
+    private static int sequence = 0;
+
+    private TsidGenerator() {
+    }
+
+    /**
+     * 노드 ID 설정 (시작 시 할당, 노드 ID를 잃으면 재할당 시)
+     */
+    public static void configure(int assignedNodeId) {
+        if (assignedNodeId < 0 || assignedNodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0~" + MAX_NODE_ID + " 범위여야 합니다: " + assignedNodeId);
+        }
+        nodeId = assignedNodeId;
+    }
+
+    public static int nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 다음 ID 생성
+     */
+    public static synchronized long next() {
+        long now = Math.max(System.currentTimeMillis(), lastMillis);
+        if (now == lastMillis) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                // 같은 밀리초의 순번 소진 → 다음 밀리초까지 대기
+                while ((now = System.currentTimeMillis()) <= lastMillis) {
+                    Thread.onSpinWait();
+                }
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = now;
+
+        return ((now - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS))
+                | ((long) nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    /**
+     * ID에 포함된 생성 시각 (epoch millis)
+     */
+    public static long extractMillis(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    /**
+     * ID에 포함된 노드 ID
+     */
+    public static int extractNodeId(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+}
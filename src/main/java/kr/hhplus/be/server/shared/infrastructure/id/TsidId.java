@@ -0,0 +1,25 @@
+package kr.hhplus.be.server.shared.infrastructure.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * TSID 식별자 어노테이션
+ *
+ * @Id 필드에 선언하면 INSERT 전에 TsidGenerator로 ID를 채움.
+ * IDENTITY와 달리 INSERT마다 생성 키를 돌려받을 필요가 없어 JDBC 배치(hibernate.jdbc.batch_size)가 적용됨.
+ *
+ * 사용 예:
+ *   @Id
+ *   @TsidId
+ *   private Long id;
+ */
+@IdGeneratorType(TsidIdentifierGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TsidId {
+}
@@ -0,0 +1,161 @@
+package kr.hhplus.be.server.shared.infrastructure.id;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TSID 노드 ID 할당기 (Redis)
+ *
+ * 키: id:tsid:node:{0~1023} (String, 값=인스턴스 토큰, TTL=LEASE_TTL)
+ *
+ * - 시작 시 임의 위치부터 순서대로 SET NX를 시도하여 비어 있는 노드 ID를 선점
+ * - 하트비트로 TTL을 갱신하며, 인스턴스가 죽으면 TTL 만료 후 다른 인스턴스가 재사용
+ * - 갱신 시 다른 인스턴스가 선점한 것을 발견하면 즉시 그 노드 ID를 버리고 새 노드 ID를 할당
+ *   (하트비트가 TTL 이상 끊겼던 경우 - 계속 쓰면 새 소유자와 같은 ID를 만들 수 있음)
+ * - 종료 시 보유한 노드 ID를 반납
+ * - Redis 장애로 할당하지 못하면 TsidGenerator의 임의 노드 ID로 동작하고 다음 하트비트에서 다시 할당 시도
+ *   (임의 노드 ID는 충돌 확률이 낮지만 0은 아님)
+ */
+@Component
+public class TsidNodeAllocator {
+
+    private static final Logger log = LoggerFactory.getLogger(TsidNodeAllocator.class);
+
+    private static final String KEY_PREFIX = "id:tsid:node:";
+    private static final Duration LEASE_TTL = Duration.ofSeconds(60);
+    private static final long HEARTBEAT_INTERVAL_SECONDS = 20;
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2], 'NX') and 1 or 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String instanceToken = UUID.randomUUID().toString();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tsid-node-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile int allocatedNodeId = -1;
+
+    public TsidNodeAllocator(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @PostConstruct
+    public void allocate() {
+        try {
+            if (!acquire()) {
+                log.warn("[TsidNodeAllocator] 비어 있는 노드 ID 없음, 임의 노드 ID 사용 - nodeId={}", TsidGenerator.nodeId());
+            }
+        } catch (Exception e) {
+            log.warn("[TsidNodeAllocator] 노드 ID 할당 실패, 임의 노드 ID 사용 - nodeId={}, error={}",
+                    TsidGenerator.nodeId(), e.getMessage());
+        }
+        heartbeat.scheduleAtFixedRate(this::renew,
+                HEARTBEAT_INTERVAL_SECONDS, HEARTBEAT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void release() {
+        heartbeat.shutdownNow();
+        if (allocatedNodeId < 0) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + allocatedNodeId), instanceToken);
+        } catch (Exception e) {
+            log.warn("[TsidNodeAllocator] 노드 ID 반납 실패 (TTL 만료로 해제됨) - nodeId={}, error={}",
+                    allocatedNodeId, e.getMessage());
+        }
+    }
+
+    public int getAllocatedNodeId() {
+        return allocatedNodeId;
+    }
+
+    /**
+     * 하트비트: 보유한 노드 ID의 TTL 갱신, 보유한 노드 ID가 없으면 할당 재시도
+     */
+    public void renew() {
+        try {
+            if (allocatedNodeId < 0) {
+                acquire();
+                return;
+            }
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(KEY_PREFIX + allocatedNodeId),
+                    instanceToken, String.valueOf(LEASE_TTL.toMillis()));
+            if (renewed == null || renewed == 0) {
+                reallocate();
+            }
+        } catch (Exception e) {
+            log.warn("[TsidNodeAllocator] 노드 ID 갱신 실패 - nodeId={}, error={}", allocatedNodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 선점한 노드 ID를 버리고 새로 할당 (비어 있는 ID가 없으면 임의 노드 ID로 전환)
+     */
+    private void reallocate() {
+        int lostNodeId = allocatedNodeId;
+        allocatedNodeId = -1;
+        TsidGenerator.configure(randomNodeIdExcept(lostNodeId));
+        if (acquire()) {
+            log.error("[TsidNodeAllocator] 노드 ID를 다른 인스턴스가 선점함, 새 노드 ID로 전환 - lostNodeId={}, nodeId={}",
+                    lostNodeId, allocatedNodeId);
+        } else {
+            log.error("[TsidNodeAllocator] 노드 ID를 다른 인스턴스가 선점함, 비어 있는 노드 ID 없어 임의 노드 ID 사용 - lostNodeId={}, nodeId={}",
+                    lostNodeId, TsidGenerator.nodeId());
+        }
+    }
+
+    /**
+     * 임의 위치부터 순서대로 SET NX로 비어 있는 노드 ID 선점
+     *
+     * @return 선점 성공 여부
+     */
+    private boolean acquire() {
+        int start = ThreadLocalRandom.current().nextInt(TsidGenerator.MAX_NODE_ID + 1);
+        for (int i = 0; i <= TsidGenerator.MAX_NODE_ID; i++) {
+            int candidate = (start + i) % (TsidGenerator.MAX_NODE_ID + 1);
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(KEY_PREFIX + candidate, instanceToken, LEASE_TTL);
+            if (Boolean.TRUE.equals(acquired)) {
+                allocatedNodeId = candidate;
+                TsidGenerator.configure(candidate);
+                log.info("[TsidNodeAllocator] 노드 ID 할당 - nodeId={}", candidate);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int randomNodeIdExcept(int excluded) {
+        int nodeId = ThreadLocalRandom.current().nextInt(TsidGenerator.MAX_NODE_ID);
+        return nodeId >= excluded ? nodeId + 1 : nodeId;
+    }
+}
@@ -62,4 +62,32 @@ public class KafkaMessageProducer {
                     topic, key, e.getMessage(), e);
         }
     }
+
+    /**
+     * 발행 결과가 필요한 메시지 발행 (요청-응답 흐름용, 건별 성공 로그 없음)
+     *
+     * @param topic   발행할 토픽 이름
+     * @param key     메시지 키 (파티션 결정에 사용)
+     * @param payload 발행할 객체 (JSON 직렬화)
+     * @return 브로커 기록 후 완료되는 Future (직렬화/전송 실패 시 예외로 완료)
+     */
+    public CompletableFuture<SendResult<String, String>> sendWithResult(String topic, String key, Object payload) {
+        String message;
+        try {
+            message = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("[Kafka Producer] 메시지 직렬화 실패 - topic={}, key={}, error={}",
+                    topic, key, e.getMessage(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<SendResult<String, String>> future = kafkaTemplate.send(topic, key, message);
+        future.whenComplete((result, ex) -> {
+            if (ex != null) {
+                log.error("[Kafka Producer] 메시지 발행 실패 - topic={}, key={}, error={}",
+                        topic, key, ex.getMessage());
+            }
+        });
+        return future;
+    }
 }
@@ -15,13 +15,16 @@ import java.util.concurrent.TimeUnit;
  * 
  * key에 SpEL(Spring Expression Language) 사용 가능:
  *   @DistributedLock(key = "'seat:' + #date + ':' + #seatNumber")
+ *
+ * key가 컬렉션으로 평가되면 다중 키 락 (정렬된 순서로 모두 획득해야 진입, 하나라도 실패 시 전부 해제):
+ *   @DistributedLock(key = "#seatNumbers.!['seat:' + #date + ':' + #this]")
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface DistributedLock {
 
     /**
-     * 분산락 키 (SpEL 지원)
+     * 분산락 키 (SpEL 지원, 문자열 또는 문자열 컬렉션)
      * 예: "'reservation:' + #date + ':' + #seatNumber"
      */
     String key();
@@ -11,12 +11,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
+import java.util.List;
 
 /**
  * 분산락 AOP
@@ -24,16 +22,16 @@ import java.lang.reflect.Method;
  * 핵심: @Transactional보다 먼저(바깥에서) 실행되어야 함
  * → 락 획득 → 트랜잭션 시작 → 로직 실행 → 트랜잭션 커밋 → 락 해제
  * 
- * @Order(Ordered.HIGHEST_PRECEDENCE)로 트랜잭션 AOP보다 우선 실행되도록 설정
+ * @Order(Ordered.HIGHEST_PRECEDENCE + 1)로 트랜잭션 AOP보다 우선 실행되도록 설정
+ * (가장 바깥은 노드 내 코얼레싱 SingleFlightAop — 같은 키의 대기 요청은 Redis까지 오지 않음)
  */
 @Aspect
 @Component
-@Order(Ordered.HIGHEST_PRECEDENCE)
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
 public class DistributedLockAop {
 
     private static final Logger log = LoggerFactory.getLogger(DistributedLockAop.class);
     private static final String LOCK_PREFIX = "LOCK:";
-    private static final ExpressionParser PARSER = new SpelExpressionParser();
 
     private final RedissonClient redissonClient;
 
@@ -47,13 +45,22 @@ public class DistributedLockAop {
         Method method = signature.getMethod();
         DistributedLock distributedLock = method.getAnnotation(DistributedLock.class);
 
-        // SpEL로 키 평가
-        String key = LOCK_PREFIX + parseKey(
+        // SpEL로 키 평가 (컬렉션이면 정렬된 다중 키)
+        List<String> keys = LockKeyExpressions.evaluateKeys(
                 distributedLock.key(),
                 signature.getParameterNames(),
                 joinPoint.getArgs()
-        );
+        ).stream().map(k -> LOCK_PREFIX + k).toList();
 
+        if (keys.isEmpty()) {
+            // 키가 없으면 잠글 대상도 없음 (입력 검증은 메서드에 위임)
+            return joinPoint.proceed();
+        }
+        if (keys.size() > 1) {
+            return multiLock(joinPoint, distributedLock, keys);
+        }
+
+        String key = keys.get(0);
         RLock rLock = redissonClient.getLock(key);
         boolean acquired = false;
 
@@ -95,13 +102,50 @@ public class DistributedLockAop {
     }
 
     /**
-     * SpEL 표현식 파싱
+     * 다중 키 락 (RedissonMultiLock)
+     * - 키는 정렬된 순서로 전달되고, 모든 키를 얻어야 진입하며 일부만 얻은 경우 전부 해제 후 재시도
+     * - 해제는 개별 락 단위로 현재 스레드 소유 여부를 확인 (leaseTime 만료로 풀린 락 제외)
      */
-    private String parseKey(String keyExpression, String[] paramNames, Object[] args) {
-        StandardEvaluationContext context = new StandardEvaluationContext();
-        for (int i = 0; i < paramNames.length; i++) {
-            context.setVariable(paramNames[i], args[i]);
+    private Object multiLock(ProceedingJoinPoint joinPoint, DistributedLock distributedLock,
+                             List<String> keys) throws Throwable {
+        RLock[] locks = keys.stream().map(redissonClient::getLock).toArray(RLock[]::new);
+        RLock multiLock = redissonClient.getMultiLock(locks);
+        boolean acquired = false;
+
+        try {
+            acquired = multiLock.tryLock(
+                    distributedLock.waitTime(),
+                    distributedLock.leaseTime(),
+                    distributedLock.timeUnit()
+            );
+
+            if (!acquired) {
+                throw new BusinessException(
+                        "락 획득에 실패했습니다. keys=" + keys,
+                        "lock-acquisition-failed",
+                        409
+                );
+            }
+
+            log.debug("🔒 다중 분산락 획득 성공: {}", keys);
+            return joinPoint.proceed();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(
+                    "락 획득 중 인터럽트 발생. keys=" + keys,
+                    "lock-interrupted",
+                    500
+            );
+        } finally {
+            if (acquired) {
+                for (RLock lock : locks) {
+                    if (lock.isHeldByCurrentThread()) {
+                        lock.unlock();
+                    }
+                }
+                log.debug("🔓 다중 분산락 해제 완료: {}", keys);
+            }
         }
-        return PARSER.parseExpression(keyExpression).getValue(context, String.class);
     }
 }
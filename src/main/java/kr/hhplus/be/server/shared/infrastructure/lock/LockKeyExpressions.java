@@ -0,0 +1,47 @@
+package kr.hhplus.be.server.shared.infrastructure.lock;
+
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 락/코얼레싱 키 SpEL 평가 (DistributedLockAop, SingleFlightAop 공용)
+ */
+final class LockKeyExpressions {
+
+    private static final ExpressionParser PARSER = new SpelExpressionParser();
+
+    private LockKeyExpressions() {
+    }
+
+    static String evaluate(String keyExpression, String[] paramNames, Object[] args) {
+        return PARSER.parseExpression(keyExpression).getValue(context(paramNames, args), String.class);
+    }
+
+    /**
+     * 단일 키 또는 키 컬렉션으로 평가 (다중 키 락용)
+     * - 중복 제거 후 정렬하여 반환 → 모든 호출자가 같은 순서로 획득해 교착 방지
+     * - 결과가 null이면 빈 목록
+     */
+    static List<String> evaluateKeys(String keyExpression, String[] paramNames, Object[] args) {
+        Object value = PARSER.parseExpression(keyExpression).getValue(context(paramNames, args));
+        if (value == null) {
+            return List.of();
+        }
+        if (value instanceof Collection<?> keys) {
+            return keys.stream().map(String::valueOf).distinct().sorted().toList();
+        }
+        return List.of(String.valueOf(value));
+    }
+
+    private static StandardEvaluationContext context(String[] paramNames, Object[] args) {
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        for (int i = 0; i < paramNames.length; i++) {
+            context.setVariable(paramNames[i], args[i]);
+        }
+        return context;
+    }
+}
@@ -0,0 +1,66 @@
+package kr.hhplus.be.server.shared.infrastructure.lock;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노드 내 같은 키 요청 코얼레싱 어노테이션
+ *
+ * 같은 키로 동시에 들어온 요청 중 하나(리더)만 메서드(분산락 포함)를 실행하고,
+ * 나머지(팔로워)는 리더의 결과를 기다린다.
+ * - 리더 성공 → 팔로워는 즉시 conflictStatus (기본 409, 한 명만 성공할 수 있는 작업이므로 이미 선점됨)
+ * - 리더가 failFastOn / failFastErrorCodes 에 해당하는 예외로 실패 → 팔로워도 즉시 conflictStatus
+ *   (리더가 받은 응답과 같은 상태 코드가 되도록 failFastErrorCodes의 예외와 맞춰 지정)
+ * - 리더가 그 외 이유로 실패 (토큰 오류 등 리더 개인 사유) → 팔로워 중 하나가 다음 리더로 재시도
+ *
+ * 결과가 배타적인 작업(좌석 선점 등)에만 사용. 멱등 조회 캐싱 용도가 아님.
+ *
+ *   @SingleFlight(key = "'seat:' + #request.date + ':' + #request.seatNumber")
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+
+    /**
+     * 코얼레싱 키 (SpEL 지원)
+     */
+    String key();
+
+    /**
+     * 팔로워가 리더 결과를 기다리는 최대 시간 (기본 5초, 초과 시 409)
+     */
+    long waitTime() default 5L;
+
+    /**
+     * 시간 단위 (기본 SECONDS)
+     */
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+    /**
+     * 리더가 이 예외로 실패하면 팔로워도 재시도 없이 conflictStatus
+     */
+    Class<? extends Throwable>[] failFastOn() default {};
+
+    /**
+     * 리더가 이 errorCode의 BusinessException으로 실패하면 팔로워도 재시도 없이 conflictStatus
+     */
+    String[] failFastErrorCodes() default {};
+
+    /**
+     * 팔로워에게 반환할 errorCode
+     */
+    String conflictErrorCode() default "single-flight-conflict";
+
+    /**
+     * 팔로워에게 반환할 HTTP 상태 (기본 409)
+     */
+    int conflictStatus() default 409;
+
+    /**
+     * 팔로워에게 반환할 메시지
+     */
+    String conflictMessage() default "같은 요청이 먼저 처리되었습니다.";
+}
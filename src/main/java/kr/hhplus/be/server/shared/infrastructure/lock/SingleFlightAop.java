@@ -0,0 +1,126 @@
+package kr.hhplus.be.server.shared.infrastructure.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 노드 내 요청 코얼레싱 AOP
+ *
+ * 분산락(DistributedLockAop)보다 바깥에서 실행:
+ * → 코얼레싱(리더만 통과) → 분산락 획득 → 트랜잭션 → 커밋 → 락 해제 → 팔로워에게 결과 전달
+ *
+ * 인기 좌석이 풀리는 순간 같은 좌석 요청 수백 건이 Redis 락을 waitTime 동안 기다리며
+ * Tomcat 스레드를 점유하던 것을, 노드당 한 건의 락 시도 + 나머지 즉시 충돌 응답(conflictStatus)으로 바꾼다.
+ *
+ * 진행 중인 키는 ConcurrentHashMap에 리더의 Future로 등록되고, 리더 종료 시 제거된다.
+ * Future는 성공 시 null, 실패 시 리더의 예외로 정상 완료된다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SingleFlightAop {
+
+    private static final Logger log = LoggerFactory.getLogger(SingleFlightAop.class);
+
+    private final ConcurrentHashMap<String, CompletableFuture<Throwable>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderCounter;
+    private final Counter conflictCounter;
+    private final Counter retryCounter;
+    private final Counter timeoutCounter;
+
+    public SingleFlightAop(MeterRegistry meterRegistry) {
+        this.leaderCounter = Counter.builder("single.flight.requests").tag("result", "leader").register(meterRegistry);
+        this.conflictCounter = Counter.builder("single.flight.requests").tag("result", "conflict").register(meterRegistry);
+        this.retryCounter = Counter.builder("single.flight.requests").tag("result", "retry").register(meterRegistry);
+        this.timeoutCounter = Counter.builder("single.flight.requests").tag("result", "timeout").register(meterRegistry);
+    }
+
+    @Around("@annotation(kr.hhplus.be.server.shared.infrastructure.lock.SingleFlight)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        SingleFlight singleFlight = signature.getMethod().getAnnotation(SingleFlight.class);
+        String key = LockKeyExpressions.evaluate(
+                singleFlight.key(),
+                signature.getParameterNames(),
+                joinPoint.getArgs()
+        );
+        long deadline = System.nanoTime() + singleFlight.timeUnit().toNanos(singleFlight.waitTime());
+
+        while (true) {
+            CompletableFuture<Throwable> mine = new CompletableFuture<>();
+            CompletableFuture<Throwable> leader = inFlight.putIfAbsent(key, mine);
+            if (leader == null) {
+                return lead(joinPoint, key, mine);
+            }
+
+            Throwable leaderFailure = awaitLeader(leader, deadline, key);
+            if (leaderFailure == null || isFailFast(leaderFailure, singleFlight)) {
+                conflictCounter.increment();
+                throw new BusinessException(singleFlight.conflictMessage(), singleFlight.conflictErrorCode(),
+                        singleFlight.conflictStatus());
+            }
+            // 리더 개인 사유로 실패 → 다음 리더 자리를 두고 재시도
+            retryCounter.increment();
+        }
+    }
+
+    private Object lead(ProceedingJoinPoint joinPoint, String key, CompletableFuture<Throwable> mine) throws Throwable {
+        leaderCounter.increment();
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            failure = t;
+            throw t;
+        } finally {
+            // 제거 후 완료해야 재시도하는 팔로워가 끝난 Future를 다시 집지 않음
+            inFlight.remove(key, mine);
+            mine.complete(failure);
+        }
+    }
+
+    private Throwable awaitLeader(CompletableFuture<Throwable> leader, long deadline, String key) {
+        try {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException();
+            }
+            return leader.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timeoutCounter.increment();
+            log.debug("single-flight 대기 시간 초과: {}", key);
+            throw new BusinessException("락 획득에 실패했습니다. key=" + key, "lock-acquisition-failed", 409);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("락 획득 중 인터럽트 발생. key=" + key, "lock-interrupted", 500);
+        } catch (ExecutionException e) {
+            // 리더 Future는 예외로 완료되지 않음
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private boolean isFailFast(Throwable failure, SingleFlight singleFlight) {
+        if (failure instanceof BusinessException be
+                && Arrays.asList(singleFlight.failFastErrorCodes()).contains(be.getErrorCode())) {
+            return true;
+        }
+        return Arrays.stream(singleFlight.failFastOn()).anyMatch(type -> type.isInstance(failure));
+    }
+}
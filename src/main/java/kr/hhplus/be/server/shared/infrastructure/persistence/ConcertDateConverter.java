@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.shared.infrastructure.persistence;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import kr.hhplus.be.server.shared.common.ConcertDates;
+
+import java.time.LocalDate;
+
+/**
+ * 공연 날짜 컬럼 변환기
+ *
+ * 도메인/이벤트/Redis 키/API는 "yyyy-MM-dd" 문자열을 그대로 쓰고,
+ * DB 컬럼만 DATE(3바이트)로 저장한다. (VARCHAR(50) utf8mb4 대비 인덱스 키 크기 축소)
+ *
+ * JPQL/파생 쿼리의 파라미터에도 적용되므로 잘못된 날짜 문자열은 DB에 도달하기 전에 거부된다.
+ * 단, 여기서 던진 예외는 Hibernate가 감싸므로 API는 진입 시점에 ConcertDates로 먼저 검증한다.
+ */
+@Converter
+public class ConcertDateConverter implements AttributeConverter<String, LocalDate> {
+
+    @Override
+    public LocalDate convertToDatabaseColumn(String concertDate) {
+        return ConcertDates.parse(concertDate);
+    }
+
+    @Override
+    public String convertToEntityAttribute(LocalDate concertDate) {
+        return concertDate == null ? null : concertDate.toString();
+    }
+}
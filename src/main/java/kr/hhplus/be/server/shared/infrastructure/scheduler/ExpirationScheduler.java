@@ -1,13 +1,15 @@
 package kr.hhplus.be.server.shared.infrastructure.scheduler;
 
-import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.reservation.application.service.ReservationExpiryService;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
 import kr.hhplus.be.server.reservation.domain.repository.ReservationRepository;
-import kr.hhplus.be.server.reservation.domain.model.ReservationStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,46 +19,106 @@ import java.util.List;
  * 
  * 대기열 관련 스케줄러는 RedisQueueScheduler로 이전됨.
  * 이 스케줄러는 임시 예약 만료 처리만 담당.
+ *
+ * 만료 처리는 지연 큐 워커(HoldExpiryWorker)가 만료 후 약 1초 이내에 수행하며,
+ * 이 스케줄러는 지연 큐 등록 누락/Redis 장애에 대비한 안전망 역할.
+ * 클러스터에서는 리스(@ScheduledLease)를 보유한 한 노드에서만 실행.
+ *
+ * 청크 단위 처리:
+ * - (status, reserved_until, id) 키셋 페이지로 CHUNK_SIZE건씩 조회
+ * - 청크마다 별도의 짧은 트랜잭션(ReservationExpiryService)에서 조회한 예약/좌석만 상태 조건부로 갱신
+ *   → 대량 만료 시에도 하나의 거대한 IN 절/장기 락 트랜잭션이 생기지 않음
+ * - 실패한 청크는 건너뛰고 다음 청크를 계속 처리 (다음 주기 또는 지연 큐에서 재처리)
+ *
+ * 메트릭:
+ * - reservation.expiry.sweep.expired : 만료 처리된 예약 수
+ * - reservation.expiry.sweep.chunks  : 처리한 청크 수 (result=success|failure)
+ * - reservation.expiry.sweep.duration: 1회 스윕 소요 시간
  */
 @Component
 public class ExpirationScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(ExpirationScheduler.class);
 
+    private static final int CHUNK_SIZE = 500;
+
     private final ReservationRepository reservationRepository;
-    private final SeatRepository seatRepository;
+    private final ReservationExpiryService reservationExpiryService;
+    private final Counter expiredCounter;
+    private final Counter chunkSuccessCounter;
+    private final Counter chunkFailureCounter;
+    private final Timer sweepTimer;
 
     public ExpirationScheduler(
             ReservationRepository reservationRepository,
-            SeatRepository seatRepository) {
+            ReservationExpiryService reservationExpiryService,
+            MeterRegistry meterRegistry) {
         this.reservationRepository = reservationRepository;
-        this.seatRepository = seatRepository;
+        this.reservationExpiryService = reservationExpiryService;
+        this.expiredCounter = Counter.builder("reservation.expiry.sweep.expired")
+                .description("만료 스윕으로 만료 처리된 예약 수")
+                .register(meterRegistry);
+        this.chunkSuccessCounter = Counter.builder("reservation.expiry.sweep.chunks")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.chunkFailureCounter = Counter.builder("reservation.expiry.sweep.chunks")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("reservation.expiry.sweep.duration")
+                .description("만료 스윕 1회 소요 시간")
+                .register(meterRegistry);
     }
 
     /**
      * 만료된 임시 예약 해제 (1분마다 실행)
-     * - Bulk Update로 성능 최적화
-     * - 예약 만료 + 좌석 해제를 각각 한 번의 쿼리로 처리
+     * - 키셋 페이지로 청크 단위 조회 → 청크별 트랜잭션에서 만료 처리
+     * - 해제된 좌석마다 좌석 상태 변경 이벤트 발행 (커밋 후 변경 로그 반영)
      */
     @Scheduled(fixedRate = 60000)
-    @Transactional
+    @ScheduledLease("expiration-sweep")
     public void releaseExpiredReservations() {
+        sweepTimer.record(this::sweep);
+    }
+
+    private void sweep() {
         LocalDateTime now = LocalDateTime.now();
-        
-        // 1. 만료된 예약의 좌석 ID 목록 조회
-        List<Long> expiredSeatIds = reservationRepository
-                .findSeatIdsByStatusAndReservedUntilBefore(ReservationStatus.TEMP_HELD, now);
-        
-        if (expiredSeatIds.isEmpty()) {
-            return;
+        LocalDateTime afterUntil = null;
+        Long afterId = null;
+        int totalExpired = 0;
+        int chunks = 0;
+
+        while (true) {
+            // 1. 만료된 예약 청크 조회 (키셋 페이지)
+            List<Reservation> chunk = reservationRepository.findExpiredHoldPage(now, afterUntil, afterId, CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            chunks++;
+
+            // 2. 청크 단위 만료 처리 (조회한 예약/좌석만, 별도 트랜잭션)
+            List<Long> reservationIds = chunk.stream()
+                    .map(Reservation::getId)
+                    .toList();
+            try {
+                int expired = reservationExpiryService.expire(reservationIds, now);
+                totalExpired += expired;
+                expiredCounter.increment(expired);
+                chunkSuccessCounter.increment();
+            } catch (Exception e) {
+                chunkFailureCounter.increment();
+                log.error("[ExpirationScheduler] 만료 청크 처리 실패 - size={}, error={}", chunk.size(), e.getMessage());
+            }
+
+            if (chunk.size() < CHUNK_SIZE) {
+                break;
+            }
+            Reservation last = chunk.get(chunk.size() - 1);
+            afterUntil = last.getReservedUntil();
+            afterId = last.getId();
+        }
+
+        if (totalExpired > 0) {
+            log.info("⏰ 만료된 예약 {}건 해제 완료 ({}개 청크)", totalExpired, chunks);
         }
-        
-        // 2. Bulk Update: 좌석 상태 일괄 해제
-        int releasedSeats = seatRepository.bulkRelease(expiredSeatIds);
-        
-        // 3. Bulk Update: 예약 상태 일괄 만료 처리
-        int expiredReservations = reservationRepository.bulkExpire(now);
-        
-        log.info("⏰ 만료된 예약 {}건, 좌석 {}건 해제 완료", expiredReservations, releasedSeats);
     }
 }
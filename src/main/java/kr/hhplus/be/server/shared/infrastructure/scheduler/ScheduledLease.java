@@ -0,0 +1,32 @@
+package kr.hhplus.be.server.shared.infrastructure.scheduler;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 클러스터 단일 실행 스케줄러 어노테이션 (Redis 리스 기반)
+ *
+ * @Scheduled 메서드에 함께 선언하면 리스를 보유한 노드에서만 실행됨.
+ * - 리스는 하트비트로 갱신되며, 보유 노드가 죽으면 leaseMillis 이내에 다른 노드가 인계
+ * - 리스를 얻을 때마다 증가하는 펜싱 토큰으로 소유권 세대를 구분
+ *
+ * 사용 예:
+ *   @Scheduled(fixedRate = 60000)
+ *   @ScheduledLease("expiration-sweep")
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ScheduledLease {
+
+    /**
+     * 작업 이름 (리스 키: scheduler:lease:{value})
+     */
+    String value();
+
+    /**
+     * 리스 유지 시간 (기본 10초, 보유 노드 장애 시 최대 인계 지연)
+     */
+    long leaseMillis() default 10_000L;
+}
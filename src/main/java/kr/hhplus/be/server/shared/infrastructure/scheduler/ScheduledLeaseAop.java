@@ -0,0 +1,59 @@
+package kr.hhplus.be.server.shared.infrastructure.scheduler;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalLong;
+
+/**
+ * 클러스터 단일 실행 스케줄러 AOP
+ *
+ * @ScheduledLease 메서드 실행 직전에 리스를 획득/갱신하고,
+ * 리스를 보유하지 못한 노드에서는 실행을 건너뜀.
+ * 실행 중에는 펜싱 토큰을 스레드에 걸어 두어 작업의 쓰기 트랜잭션이 SchedulerFenceGuard로 검사할 수 있게 함.
+ *
+ * scheduler.lease.enabled=false 로 비활성화하면 모든 노드에서 실행 (단일 인스턴스 개발 환경용)
+ */
+@Aspect
+@Component
+public class ScheduledLeaseAop {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduledLeaseAop.class);
+
+    private final SchedulerLeaseManager schedulerLeaseManager;
+    private final boolean enabled;
+
+    public ScheduledLeaseAop(SchedulerLeaseManager schedulerLeaseManager,
+                             @Value("${scheduler.lease.enabled:true}") boolean enabled) {
+        this.schedulerLeaseManager = schedulerLeaseManager;
+        this.enabled = enabled;
+    }
+
+    @Around("@annotation(scheduledLease)")
+    public Object runIfLeaseHolder(ProceedingJoinPoint joinPoint, ScheduledLease scheduledLease) throws Throwable {
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+        String job = scheduledLease.value();
+        if (!schedulerLeaseManager.tryAcquire(job, scheduledLease.leaseMillis())) {
+            log.debug("[SchedulerLease] 리스 미보유로 실행 생략 - job={}", job);
+            return null;
+        }
+        OptionalLong token = schedulerLeaseManager.currentToken(job);
+        if (token.isEmpty()) {
+            // 획득 직후 하트비트가 리스 상실을 기록한 경우
+            return null;
+        }
+        SchedulerFenceGuard.enter(job, token.getAsLong());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            SchedulerFenceGuard.exit();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package kr.hhplus.be.server.shared.infrastructure.scheduler;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * 스케줄러 작업별 마지막으로 쓴 펜싱 토큰 (테이블 매핑용, 읽기/쓰기는 SchedulerFenceGuard가 SQL로 수행)
+ */
+@Entity
+@Table(name = "scheduler_fence")
+public class SchedulerFence {
+
+    @Id
+    @Column(name = "job", length = 100)
+    private String job;
+
+    @Column(name = "token", nullable = false)
+    private long token;
+
+    protected SchedulerFence() {
+    }
+}
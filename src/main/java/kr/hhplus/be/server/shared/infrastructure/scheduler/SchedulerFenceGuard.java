@@ -0,0 +1,73 @@
+package kr.hhplus.be.server.shared.infrastructure.scheduler;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 스케줄러 리스 펜싱 검사 (DB)
+ *
+ * 리스를 잃은 줄 모르는 노드(GC 정지, Redis 단절)가 새 보유 노드와 겹쳐 쓰지 않도록,
+ * 리스 작업의 쓰기 트랜잭션 안에서 scheduler_fence 행을 자기 토큰으로 올린다.
+ * - UPDATE ... WHERE token <= ? : 더 큰 토큰이 이미 기록되어 있으면 0건 → 예외로 트랜잭션 롤백
+ * - 행 잠금은 커밋까지 유지되므로 새 보유 노드의 쓰기와 직렬화됨
+ * - 현재 스레드가 리스 작업 실행 중이 아니면(지연 큐 워커, 리스 비활성화) 검사하지 않음
+ */
+@Component
+public class SchedulerFenceGuard {
+
+    private static final String ADVANCE_SQL = "UPDATE scheduler_fence SET token = ? WHERE job = ? AND token <= ?";
+    private static final String FIND_SQL = "SELECT token FROM scheduler_fence WHERE job = ?";
+    private static final String INSERT_SQL = "INSERT INTO scheduler_fence (job, token) VALUES (?, ?)";
+
+    private static final ThreadLocal<Lease> CURRENT = new ThreadLocal<>();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SchedulerFenceGuard(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 현재 리스 작업의 토큰으로 펜스 통과 (호출자 트랜잭션 안에서만)
+     *
+     * @throws IllegalStateException 더 새로운 리스 보유 노드가 이미 쓴 경우
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void check() {
+        Lease lease = CURRENT.get();
+        if (lease == null) {
+            return;
+        }
+        if (jdbcTemplate.update(ADVANCE_SQL, lease.token(), lease.job(), lease.token()) > 0) {
+            return;
+        }
+        List<Long> fenced = jdbcTemplate.queryForList(FIND_SQL, Long.class, lease.job());
+        if (fenced.isEmpty()) {
+            // 작업 첫 실행 (동시에 삽입되면 중복 키 예외로 롤백, 다음 주기에 재시도)
+            jdbcTemplate.update(INSERT_SQL, lease.job(), lease.token());
+            return;
+        }
+        if (fenced.get(0) > lease.token()) {
+            throw new IllegalStateException("스케줄러 리스가 다른 노드로 넘어가 쓰기를 중단합니다 - job="
+                    + lease.job() + ", token=" + lease.token() + ", fenced=" + fenced.get(0));
+        }
+    }
+
+    /**
+     * 리스 작업 실행 시작 (ScheduledLeaseAop)
+     */
+    public static void enter(String job, long token) {
+        CURRENT.set(new Lease(job, token));
+    }
+
+    public static void exit() {
+        CURRENT.remove();
+    }
+
+    private record Lease(String job, long token) {
+    }
+}
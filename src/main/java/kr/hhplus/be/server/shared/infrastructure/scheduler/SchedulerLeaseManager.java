@@ -0,0 +1,187 @@
+package kr.hhplus.be.server.shared.infrastructure.scheduler;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스케줄러 리스 관리자 (Redis)
+ *
+ * 구조:
+ * - scheduler:lease:{job}       (String) : "{nodeId}|{fencingToken}", PX = leaseMillis
+ * - scheduler:lease:{job}:fence (String) : 펜싱 토큰 카운터 (INCR, 리스를 새로 얻을 때마다 증가)
+ *
+ * 동작:
+ * - 획득/갱신은 Lua 스크립트로 원자적으로 수행 (비어 있으면 획득, 내 리스면 만료 연장)
+ * - 하트비트 스레드가 HEARTBEAT_INTERVAL_MILLIS마다 모든 작업의 리스를 갱신/획득 시도
+ *   → 보유 노드가 죽으면 리스 만료 후 다음 하트비트에서 다른 노드가 인계
+ * - Redis 장애 시 소유권을 가정하지 않음 (중복 실행보다 일시 중단이 안전)
+ * - 종료 시 보유 중인 리스를 즉시 반납하여 인계 지연을 없앰
+ * - 펜싱 토큰은 ScheduledLeaseAop가 작업 실행 중 스레드에 걸고, 쓰기 트랜잭션이 SchedulerFenceGuard로
+ *   DB의 scheduler_fence와 비교 → 리스를 잃은 줄 모르는 이전 보유 노드의 늦은 쓰기를 거절
+ *
+ * 메트릭:
+ * - scheduler.lease.owner{job, node} : 이 노드가 리스를 보유하면 1, 아니면 0
+ * - scheduler.lease.token{job, node} : 보유 중인 펜싱 토큰 (미보유 시 0)
+ */
+@Component
+public class SchedulerLeaseManager {
+
+    private static final Logger log = LoggerFactory.getLogger(SchedulerLeaseManager.class);
+
+    private static final String KEY_PREFIX = "scheduler:lease:";
+    private static final String FENCE_SUFFIX = ":fence";
+    private static final long HEARTBEAT_INTERVAL_MILLIS = 1000L;
+
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current then
+                local owner, token = string.match(current, '^(.*)|(%d+)$')
+                if owner == ARGV[1] then
+                    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                    return tonumber(token)
+                end
+                return -1
+            end
+            local token = redis.call('INCR', KEYS[2])
+            redis.call('SET', KEYS[1], ARGV[1] .. '|' .. token, 'PX', ARGV[2])
+            return token
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId;
+    private final Map<String, Long> leaseMillisByJob = new ConcurrentHashMap<>();
+    private final Map<String, Long> ownedTokens = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService heartbeat;
+
+    public SchedulerLeaseManager(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.nodeId = resolveNodeId();
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scheduler-lease-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeat.scheduleAtFixedRate(this::renewAll,
+                HEARTBEAT_INTERVAL_MILLIS, HEARTBEAT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 리스 획득 또는 갱신 시도
+     *
+     * @return 이 노드가 리스를 보유하면 true
+     */
+    public boolean tryAcquire(String job, long leaseMillis) {
+        register(job, leaseMillis);
+        return renew(job);
+    }
+
+    /**
+     * 보유 중인 펜싱 토큰 (미보유 시 empty)
+     */
+    public OptionalLong currentToken(String job) {
+        Long token = ownedTokens.get(job);
+        return token != null ? OptionalLong.of(token) : OptionalLong.empty();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        ownedTokens.forEach((job, token) -> {
+            try {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + job), nodeId + "|" + token);
+                log.info("[SchedulerLease] 리스 반납 - job={}, node={}, token={}", job, nodeId, token);
+            } catch (Exception e) {
+                log.warn("[SchedulerLease] 리스 반납 실패 (만료로 인계됨) - job={}, error={}", job, e.getMessage());
+            }
+        });
+        ownedTokens.clear();
+    }
+
+    private void register(String job, long leaseMillis) {
+        if (leaseMillisByJob.putIfAbsent(job, leaseMillis) != null) {
+            return;
+        }
+        Gauge.builder("scheduler.lease.owner", ownedTokens, tokens -> tokens.containsKey(job) ? 1 : 0)
+                .description("이 노드의 스케줄러 리스 보유 여부")
+                .tag("job", job)
+                .tag("node", nodeId)
+                .register(meterRegistry);
+        Gauge.builder("scheduler.lease.token", ownedTokens, tokens -> tokens.getOrDefault(job, 0L))
+                .description("보유 중인 스케줄러 리스 펜싱 토큰")
+                .tag("job", job)
+                .tag("node", nodeId)
+                .register(meterRegistry);
+    }
+
+    private void renewAll() {
+        leaseMillisByJob.keySet().forEach(this::renew);
+    }
+
+    private boolean renew(String job) {
+        long leaseMillis = leaseMillisByJob.get(job);
+        try {
+            Long token = redisTemplate.execute(
+                    ACQUIRE_SCRIPT,
+                    List.of(KEY_PREFIX + job, KEY_PREFIX + job + FENCE_SUFFIX),
+                    nodeId,
+                    String.valueOf(leaseMillis)
+            );
+            if (token != null && token > 0) {
+                Long previous = ownedTokens.put(job, token);
+                if (!token.equals(previous)) {
+                    log.info("[SchedulerLease] 리스 획득 - job={}, node={}, token={}", job, nodeId, token);
+                }
+                return true;
+            }
+            if (ownedTokens.remove(job) != null) {
+                log.warn("[SchedulerLease] 리스 상실 - job={}, node={}", job, nodeId);
+            }
+            return false;
+        } catch (Exception e) {
+            if (ownedTokens.remove(job) != null) {
+                log.warn("[SchedulerLease] 리스 갱신 실패, 소유권 포기 - job={}, error={}", job, e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private static String resolveNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + ":" + ProcessHandle.current().pid() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
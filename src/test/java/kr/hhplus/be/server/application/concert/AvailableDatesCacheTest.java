@@ -0,0 +1,111 @@
+package kr.hhplus.be.server.application.concert;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.concert.application.service.AvailableDatesCache;
+import kr.hhplus.be.server.concert.application.service.ConcertService;
+import kr.hhplus.be.server.concert.domain.repository.ScheduleChangeChannel;
+import kr.hhplus.be.server.concert.interfaces.api.dto.AvailableDatesResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("예약 가능 날짜 캐시 단위 테스트")
+class AvailableDatesCacheTest {
+
+    @Mock
+    private ConcertService concertService;
+
+    @Mock
+    private ScheduleChangeChannel scheduleChangeChannel;
+
+    private AvailableDatesCache availableDatesCache;
+
+    @BeforeEach
+    void setUp() {
+        availableDatesCache = new AvailableDatesCache(concertService, new ObjectMapper(), scheduleChangeChannel);
+    }
+
+    @Test
+    @DisplayName("캐시된 응답 본문은 DB 조회 없이 재사용된다")
+    void getBody_ReusesSerializedBody() {
+        // given
+        when(concertService.getAvailableDates())
+                .thenReturn(new AvailableDatesResponse(List.of("2026-02-01", "2026-02-02")));
+
+        // when
+        byte[] first = availableDatesCache.getBody();
+        byte[] second = availableDatesCache.getBody();
+
+        // then
+        assertThat(new String(first, StandardCharsets.UTF_8))
+                .isEqualTo("{\"dates\":[\"2026-02-01\",\"2026-02-02\"]}");
+        assertThat(second).isSameAs(first);
+        verify(concertService, times(1)).getAvailableDates();
+    }
+
+    @Test
+    @DisplayName("일정 변경 알림을 받으면 기존 응답을 반환하면서 비동기로 다시 만든다")
+    void invalidate_OnScheduleChange() {
+        // given
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+        when(scheduleChangeChannel.subscribe(listener.capture())).thenReturn(() -> { });
+        CountDownLatch rebuildStarted = new CountDownLatch(1);
+        CountDownLatch releaseRebuild = new CountDownLatch(1);
+        when(concertService.getAvailableDates())
+                .thenReturn(new AvailableDatesResponse(List.of("2026-02-01", "2026-02-02")))
+                .thenAnswer(invocation -> {
+                    rebuildStarted.countDown();
+                    releaseRebuild.await(5, TimeUnit.SECONDS);
+                    return new AvailableDatesResponse(List.of("2026-02-02"));
+                });
+        availableDatesCache.subscribe();
+        byte[] before = availableDatesCache.getBody();
+
+        // when
+        listener.getValue().accept("2026-02-01");
+
+        // then - 재생성 중에는 기존 본문
+        await().atMost(5, TimeUnit.SECONDS).until(() -> rebuildStarted.getCount() == 0);
+        assertThat(availableDatesCache.getBody()).isSameAs(before);
+
+        releaseRebuild.countDown();
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(new String(availableDatesCache.getBody(), StandardCharsets.UTF_8))
+                        .isEqualTo("{\"dates\":[\"2026-02-02\"]}"));
+        verify(concertService, times(2)).getAvailableDates();
+        availableDatesCache.unsubscribe();
+    }
+
+    @Test
+    @DisplayName("주기 갱신은 캐시를 새 응답으로 교체한다")
+    void refresh_ReplacesBody() {
+        // given
+        when(concertService.getAvailableDates())
+                .thenReturn(new AvailableDatesResponse(List.of("2026-02-01")))
+                .thenReturn(new AvailableDatesResponse(List.of()));
+        availableDatesCache.getBody();
+
+        // when
+        availableDatesCache.refresh();
+
+        // then
+        assertThat(new String(availableDatesCache.getBody(), StandardCharsets.UTF_8)).isEqualTo("{\"dates\":[]}");
+        verify(concertService, times(2)).getAvailableDates();
+    }
+}
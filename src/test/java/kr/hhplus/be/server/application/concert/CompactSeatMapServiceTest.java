@@ -0,0 +1,112 @@
+package kr.hhplus.be.server.application.concert;
+
+import kr.hhplus.be.server.concert.application.service.CompactSeatMapService;
+import kr.hhplus.be.server.concert.application.service.SeatReadStore;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.model.SeatStatusView;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import kr.hhplus.be.server.concert.interfaces.api.dto.CompactSeatMapResponse;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("압축 좌석 맵 서비스 단위 테스트")
+class CompactSeatMapServiceTest {
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private SeatChangeLogRepository seatChangeLogRepository;
+
+    @Mock
+    private SeatReadStore seatReadStore;
+
+    @InjectMocks
+    private CompactSeatMapService compactSeatMapService;
+
+    @Test
+    @DisplayName("좌석 버전이 같으면 DB 조회 없이 캐시된 좌석 맵 반환")
+    void getCompactSeatMap_CachedBySameVersion() {
+        // given
+        String date = "2026-02-01";
+        when(seatChangeLogRepository.getCurrentVersion(date)).thenReturn(5L);
+        when(seatRepository.findStatusesByConcertDate(date)).thenReturn(List.of(
+                new SeatStatusView(1, SeatStatus.AVAILABLE),
+                new SeatStatusView(2, SeatStatus.TEMP_HELD)
+        ));
+
+        // when
+        CompactSeatMapResponse first = compactSeatMapService.getCompactSeatMap(date, "rle");
+        CompactSeatMapResponse second = compactSeatMapService.getCompactSeatMap(date, "bitmap");
+
+        // then
+        assertThat(first.getData()).isEqualTo("A1T1");
+        assertThat(first.getVersion()).isEqualTo(5L);
+        assertThat(first.getFirstSeatNumber()).isEqualTo(1);
+        assertThat(first.getSeatCount()).isEqualTo(2);
+        assertThat(second.getEncoding()).isEqualTo("bitmap");
+        verify(seatRepository, times(1)).findStatusesByConcertDate(date);
+    }
+
+    @Test
+    @DisplayName("좌석 버전이 바뀌면 좌석 맵을 다시 인코딩")
+    void getCompactSeatMap_ReencodeOnVersionChange() {
+        // given
+        String date = "2026-02-01";
+        when(seatChangeLogRepository.getCurrentVersion(date)).thenReturn(5L, 6L);
+        when(seatRepository.findStatusesByConcertDate(date))
+                .thenReturn(List.of(new SeatStatusView(1, SeatStatus.AVAILABLE)))
+                .thenReturn(List.of(new SeatStatusView(1, SeatStatus.RESERVED)));
+
+        // when
+        CompactSeatMapResponse first = compactSeatMapService.getCompactSeatMap(date, "rle");
+        CompactSeatMapResponse second = compactSeatMapService.getCompactSeatMap(date, "rle");
+
+        // then
+        assertThat(first.getData()).isEqualTo("A1");
+        assertThat(second.getData()).isEqualTo("R1");
+        assertThat(second.getVersion()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("좌석 조회 저장소가 켜져 있으면 DB 대신 저장소의 구역 좌석으로 인코딩")
+    void getCompactSeatMap_FromReadStore() {
+        // given
+        String date = "2026-02-01";
+        when(seatChangeLogRepository.getCurrentVersion(date)).thenReturn(3L);
+        when(seatReadStore.isEnabled()).thenReturn(true);
+        when(seatReadStore.findStatuses(date, "B")).thenReturn(List.of(
+                new SeatStatusView(11, SeatStatus.RESERVED),
+                new SeatStatusView(12, SeatStatus.AVAILABLE)
+        ));
+
+        // when
+        CompactSeatMapResponse response = compactSeatMapService.getCompactSeatMap(date, "B", "rle");
+
+        // then
+        assertThat(response.getData()).isEqualTo("R1A1");
+        assertThat(response.getFirstSeatNumber()).isEqualTo(11);
+        verifyNoInteractions(seatRepository);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식이면 400 예외")
+    void getCompactSeatMap_InvalidFormat() {
+        assertThatThrownBy(() -> compactSeatMapService.getCompactSeatMap("2026-02-01", "xml"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("지원하지 않는 좌석 맵 형식");
+    }
+}
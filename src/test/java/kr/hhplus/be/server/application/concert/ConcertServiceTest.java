@@ -1,12 +1,19 @@
 package kr.hhplus.be.server.application.concert;
 
 import kr.hhplus.be.server.concert.application.service.ConcertService;
+import kr.hhplus.be.server.concert.application.service.SeatAvailabilityService;
+import kr.hhplus.be.server.concert.application.service.SeatReadStore;
 import kr.hhplus.be.server.concert.domain.model.ConcertSchedule;
 import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
 import kr.hhplus.be.server.concert.domain.repository.ConcertScheduleRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository.SeatChange;
 import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
 import kr.hhplus.be.server.concert.interfaces.api.dto.AvailableDatesResponse;
 import kr.hhplus.be.server.concert.interfaces.api.dto.SeatListResponse;
+import kr.hhplus.be.server.concert.interfaces.api.dto.SeatPageResponse;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,12 +23,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +46,16 @@ class ConcertServiceTest {
     @Mock
     private SeatRepository seatRepository;
 
+    @Mock
+    private SeatChangeLogRepository seatChangeLogRepository;
+
+    @Mock
+    private SeatAvailabilityService seatAvailabilityService;
+
+    // isEnabled() 기본값 false → DB 조회 경로 검증
+    @Mock
+    private SeatReadStore seatReadStore;
+
     @InjectMocks
     private ConcertService concertService;
 
@@ -66,6 +88,22 @@ class ConcertServiceTest {
         verify(scheduleRepository, times(1)).findAvailableSchedules(any(LocalDate.class));
     }
 
+    @Test
+    @DisplayName("잔여 좌석 카운터가 0인 매진 날짜는 예약 가능한 날짜에서 제외된다")
+    void getAvailableDates_ExcludeSoldOut() {
+        // given
+        when(scheduleRepository.findAvailableSchedules(any(LocalDate.class)))
+                .thenReturn(Arrays.asList(schedule1, schedule2));
+        when(seatAvailabilityService.getAvailableCounts(anyList()))
+                .thenReturn(Map.of(schedule1.getConcertDate().toString(), 0L));
+
+        // when
+        AvailableDatesResponse response = concertService.getAvailableDates();
+
+        // then
+        assertThat(response.getDates()).containsExactly(schedule2.getConcertDate().toString());
+    }
+
     @Test
     @DisplayName("특정 날짜의 좌석 목록을 조회할 수 있다")
     void getSeats_Success() {
@@ -84,22 +122,157 @@ class ConcertServiceTest {
     }
 
     @Test
-    @DisplayName("좌석이 없는 날짜 조회 시 좌석을 초기화한다")
-    void getSeats_InitializeWhenEmpty() {
+    @DisplayName("좌석이 없는 날짜 조회 시 좌석을 생성하지 않고 빈 목록을 반환한다")
+    void getSeats_EmptyWithoutProvisioning() {
         // given
         String date = "2026-02-03";
         when(seatRepository.findByConcertDateOrderBySeatNumber(date))
                 .thenReturn(Collections.emptyList());
-        when(seatRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
-        when(scheduleRepository.findByConcertDate(any(LocalDate.class)))
-                .thenReturn(java.util.Optional.empty());
-        when(scheduleRepository.save(any(ConcertSchedule.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
         SeatListResponse response = concertService.getSeats(date);
 
         // then
-        assertThat(response.getSeats()).hasSize(50); // 1~50 좌석 생성
-        verify(seatRepository, times(1)).saveAll(anyList()); // 배치 저장 1회 호출
+        assertThat(response.getSeats()).isEmpty();
+        verify(seatRepository, never()).saveAll(anyList());
+        verify(scheduleRepository, never()).save(any(ConcertSchedule.class));
+    }
+
+    @Test
+    @DisplayName("전체 좌석 조회 시 현재 버전을 함께 반환한다")
+    void getSeats_ReturnsVersion() {
+        // given
+        String date = "2026-02-01";
+        when(seatChangeLogRepository.getCurrentVersion(date)).thenReturn(7L);
+        when(seatRepository.findByConcertDateOrderBySeatNumber(date))
+                .thenReturn(Arrays.asList(seat1, seat2));
+
+        // when
+        SeatListResponse response = concertService.getSeats(date);
+
+        // then
+        assertThat(response.getVersion()).isEqualTo(7L);
+        assertThat(response.isSnapshot()).isTrue();
+    }
+
+    @Test
+    @DisplayName("sinceVersion 이후 변경된 좌석만 좌석별 최신 상태로 반환한다")
+    void getSeatChanges_ReturnsLatestChangePerSeat() {
+        // given
+        String date = "2026-02-01";
+        LocalDateTime until = LocalDateTime.now().plusMinutes(5);
+        when(seatChangeLogRepository.findChangesSince(date, 10L)).thenReturn(Optional.of(List.of(
+                new SeatChange(11L, 3, SeatStatus.TEMP_HELD, "user-a", until),
+                new SeatChange(12L, 5, SeatStatus.TEMP_HELD, "user-b", until),
+                new SeatChange(13L, 3, SeatStatus.RESERVED, "user-a", until)
+        )));
+
+        // when
+        SeatListResponse response = concertService.getSeatChanges(date, 10L);
+
+        // then
+        assertThat(response.isSnapshot()).isFalse();
+        assertThat(response.getVersion()).isEqualTo(13L);
+        assertThat(response.getSeats()).hasSize(2);
+        assertThat(response.getSeats().get(0).getSeatNumber()).isEqualTo(5);
+        assertThat(response.getSeats().get(1).getSeatNumber()).isEqualTo(3);
+        assertThat(response.getSeats().get(1).getStatus())
+                .isEqualTo(kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus.SeatStatusEnum.RESERVED);
+        verify(seatRepository, never()).findByConcertDateOrderBySeatNumber(any());
+    }
+
+    @Test
+    @DisplayName("변경 이력을 이어받을 수 없으면 전체 스냅샷으로 대체한다")
+    void getSeatChanges_FallsBackToSnapshot() {
+        // given
+        String date = "2026-02-01";
+        when(seatChangeLogRepository.findChangesSince(date, 1L)).thenReturn(Optional.empty());
+        when(seatChangeLogRepository.getCurrentVersion(date)).thenReturn(5000L);
+        when(seatRepository.findByConcertDateOrderBySeatNumber(date))
+                .thenReturn(Arrays.asList(seat1, seat2));
+
+        // when
+        SeatListResponse response = concertService.getSeatChanges(date, 1L);
+
+        // then
+        assertThat(response.isSnapshot()).isTrue();
+        assertThat(response.getVersion()).isEqualTo(5000L);
+        assertThat(response.getSeats()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("페이지가 가득 차면 마지막 좌석으로 다음 커서를 만든다")
+    void getSeatPage_NextCursorWhenFull() {
+        // given
+        String date = "2026-02-01";
+        Seat a1 = new Seat(date, "A", 1, 1);
+        Seat a2 = new Seat(date, "A", 1, 2);
+        when(seatRepository.findPage(date, "A", 0, 2)).thenReturn(Arrays.asList(a1, a2));
+
+        // when
+        SeatPageResponse response = concertService.getSeatPage(date, null, "A:0", 2);
+
+        // then
+        assertThat(response.getSeats()).hasSize(2);
+        assertThat(response.getSeats().get(0).getSection()).isEqualTo("A");
+        assertThat(response.getNextCursor()).isEqualTo("A:2");
+    }
+
+    @Test
+    @DisplayName("구역 마지막 페이지면 다음 커서가 없다")
+    void getSeatPage_LastPageOfSection() {
+        // given
+        String date = "2026-02-01";
+        when(seatRepository.findSectionPage(date, "B", null, 500))
+                .thenReturn(List.of(new Seat(date, "B", 1, 101)));
+
+        // when
+        SeatPageResponse response = concertService.getSeatPage(date, "B", null, null);
+
+        // then
+        assertThat(response.getSection()).isEqualTo("B");
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 400 예외")
+    void getSeatPage_InvalidCursor() {
+        assertThatThrownBy(() -> concertService.getSeatPage("2026-02-01", null, "A:abc", 10))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("잘못된 페이지 커서");
+    }
+
+    @Test
+    @DisplayName("압축 저장소가 켜져 있으면 좌석 목록을 DB 대신 저장소에서 조회한다")
+    void getSeats_FromReadStore() {
+        // given
+        String date = "2026-02-01";
+        when(seatReadStore.isEnabled()).thenReturn(true);
+        when(seatReadStore.findAll(date)).thenReturn(new SeatReadStore.VersionedSeats(4L, List.of(
+                new kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus(1,
+                        kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus.SeatStatusEnum.AVAILABLE, null, null)
+        )));
+
+        // when
+        SeatListResponse response = concertService.getSeats(date);
+
+        // then
+        assertThat(response.getVersion()).isEqualTo(4L);
+        assertThat(response.getSeats()).hasSize(1);
+        verify(seatRepository, never()).findByConcertDateOrderBySeatNumber(any());
+    }
+
+    @Test
+    @DisplayName("압축 저장소에 없는 좌석은 404 예외")
+    void getSeat_FromReadStore_NotFound() {
+        // given
+        when(seatReadStore.isEnabled()).thenReturn(true);
+        when(seatReadStore.findSeat("2026-02-01", 99)).thenReturn(Optional.empty());
+
+        // then
+        assertThatThrownBy(() -> concertService.getSeat("2026-02-01", 99))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("좌석을 찾을 수 없습니다");
+        verify(seatRepository, never()).findByConcertDateAndSeatNumber(any(), any());
     }
 }
@@ -0,0 +1,147 @@
+package kr.hhplus.be.server.application.concert;
+
+import kr.hhplus.be.server.concert.application.service.SeatAvailabilityIndex;
+import kr.hhplus.be.server.concert.domain.model.SeatLayoutView;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository.SeatChange;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("연석 배정 가용성 인덱스 단위 테스트")
+class SeatAvailabilityIndexTest {
+
+    private static final String DATE = "2026-03-01";
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private SeatChangeLogRepository seatChangeLogRepository;
+
+    @InjectMocks
+    private SeatAvailabilityIndex seatAvailabilityIndex;
+
+    @Test
+    @DisplayName("연석은 같은 열 안에서만 배정 - 열 경계를 넘는 구간은 후보가 아님")
+    void acquireContiguous_DoesNotCrossRow() {
+        // given: 1~3번 1열, 4~6번 2열
+        when(seatChangeLogRepository.getCurrentVersion(DATE)).thenReturn(0L);
+        when(seatRepository.findLayoutByConcertDate(DATE)).thenReturn(List.of(
+                seat(1, 1, SeatStatus.AVAILABLE), seat(2, 1, SeatStatus.AVAILABLE), seat(3, 1, SeatStatus.AVAILABLE),
+                seat(4, 2, SeatStatus.AVAILABLE), seat(5, 2, SeatStatus.AVAILABLE), seat(6, 2, SeatStatus.AVAILABLE)
+        ));
+
+        // when & then
+        assertThat(seatAvailabilityIndex.acquireContiguous(DATE, 4)).isEmpty();
+        assertThat(seatAvailabilityIndex.acquireContiguous(DATE, 3))
+                .satisfiesAnyOf(
+                        seats -> assertThat(seats).isEqualTo(List.of(1, 2, 3)),
+                        seats -> assertThat(seats).isEqualTo(List.of(4, 5, 6)));
+    }
+
+    @Test
+    @DisplayName("선점 중인 좌석으로 끊긴 구간은 건너뛰고 충분히 긴 빈 구간을 찾음")
+    void acquireContiguous_SkipsShortRuns() {
+        // given: 3번 선점 → 빈 구간 [1,2], [4,5,6]
+        when(seatChangeLogRepository.getCurrentVersion(DATE)).thenReturn(0L);
+        when(seatRepository.findLayoutByConcertDate(DATE)).thenReturn(List.of(
+                seat(1, 1, SeatStatus.AVAILABLE), seat(2, 1, SeatStatus.AVAILABLE), seat(3, 1, SeatStatus.TEMP_HELD),
+                seat(4, 1, SeatStatus.AVAILABLE), seat(5, 1, SeatStatus.AVAILABLE), seat(6, 1, SeatStatus.AVAILABLE)
+        ));
+
+        // when & then
+        assertThat(seatAvailabilityIndex.acquireContiguous(DATE, 3)).containsExactly(4, 5, 6);
+    }
+
+    @Test
+    @DisplayName("후보로 내준 좌석은 선점 시도가 끝날 때까지 다시 내주지 않고, 실패하면 돌려받음")
+    void acquireContiguous_PendingUntilComplete() {
+        // given
+        when(seatChangeLogRepository.getCurrentVersion(DATE)).thenReturn(0L);
+        when(seatRepository.findLayoutByConcertDate(DATE)).thenReturn(List.of(
+                seat(1, 1, SeatStatus.AVAILABLE), seat(2, 1, SeatStatus.AVAILABLE),
+                seat(3, 2, SeatStatus.AVAILABLE), seat(4, 2, SeatStatus.AVAILABLE)
+        ));
+
+        // when
+        List<Integer> first = seatAvailabilityIndex.acquireContiguous(DATE, 2);
+        List<Integer> second = seatAvailabilityIndex.acquireContiguous(DATE, 2);
+        List<Integer> third = seatAvailabilityIndex.acquireContiguous(DATE, 2);
+
+        // then
+        assertThat(first).doesNotContainAnyElementsOf(second);
+        assertThat(third).isEmpty();
+
+        seatAvailabilityIndex.complete(DATE, first, false);
+        seatAvailabilityIndex.complete(DATE, second, true);
+        assertThat(seatAvailabilityIndex.acquireContiguous(DATE, 2)).isEqualTo(first);
+        verify(seatRepository, times(1)).findLayoutByConcertDate(DATE);
+    }
+
+    @Test
+    @DisplayName("변경 로그 버전이 바뀌면 재조회 없이 변경분만 반영")
+    void acquireContiguous_AppliesChangeLog() {
+        // given: 1~4번 한 열, 이후 다른 노드에서 2번 선점
+        when(seatChangeLogRepository.getCurrentVersion(DATE)).thenReturn(10L, 11L);
+        when(seatRepository.findLayoutByConcertDate(DATE)).thenReturn(rowOf(4));
+        when(seatChangeLogRepository.findChangesSince(DATE, 10L)).thenReturn(Optional.of(List.of(
+                new SeatChange(11L, 2, SeatStatus.TEMP_HELD, "other-user", null)
+        )));
+
+        // when
+        List<Integer> first = seatAvailabilityIndex.acquireContiguous(DATE, 1);
+        seatAvailabilityIndex.complete(DATE, first, false);
+        List<Integer> afterChange = seatAvailabilityIndex.acquireContiguous(DATE, 2);
+
+        // then
+        assertThat(afterChange).containsExactly(3, 4);
+        verify(seatRepository, times(1)).findLayoutByConcertDate(DATE);
+    }
+
+    @Test
+    @DisplayName("변경 로그가 정리되어 이어받을 수 없으면 좌석 배치를 다시 조회")
+    void acquireContiguous_RebuildsWhenLogTrimmed() {
+        // given
+        when(seatChangeLogRepository.getCurrentVersion(DATE)).thenReturn(10L, 500L);
+        when(seatRepository.findLayoutByConcertDate(DATE))
+                .thenReturn(rowOf(4))
+                .thenReturn(List.of(
+                        seat(1, 1, SeatStatus.RESERVED), seat(2, 1, SeatStatus.RESERVED),
+                        seat(3, 1, SeatStatus.RESERVED), seat(4, 1, SeatStatus.AVAILABLE)));
+        when(seatChangeLogRepository.findChangesSince(DATE, 10L)).thenReturn(Optional.empty());
+
+        // when
+        List<Integer> first = seatAvailabilityIndex.acquireContiguous(DATE, 1);
+        seatAvailabilityIndex.complete(DATE, first, false);
+
+        // then
+        assertThat(seatAvailabilityIndex.acquireContiguous(DATE, 1)).containsExactly(4);
+        verify(seatRepository, times(2)).findLayoutByConcertDate(DATE);
+    }
+
+    private static SeatLayoutView seat(int seatNumber, int row, SeatStatus status) {
+        return new SeatLayoutView(seatNumber, "A", row, status);
+    }
+
+    private static List<SeatLayoutView> rowOf(int seats) {
+        List<SeatLayoutView> layout = new ArrayList<>();
+        for (int seatNumber = 1; seatNumber <= seats; seatNumber++) {
+            layout.add(seat(seatNumber, 1, SeatStatus.AVAILABLE));
+        }
+        return layout;
+    }
+}
@@ -0,0 +1,127 @@
+package kr.hhplus.be.server.application.concert;
+
+import kr.hhplus.be.server.concert.application.service.SeatAvailabilityService;
+import kr.hhplus.be.server.concert.domain.model.ConcertSchedule;
+import kr.hhplus.be.server.concert.domain.model.SeatCountView;
+import kr.hhplus.be.server.concert.domain.repository.ConcertScheduleRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatAvailabilityCounter;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import kr.hhplus.be.server.concert.interfaces.api.dto.SeatAvailabilityResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("잔여 좌석 카운터 서비스 단위 테스트")
+class SeatAvailabilityServiceTest {
+
+    @Mock
+    private ConcertScheduleRepository scheduleRepository;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private SeatAvailabilityCounter seatAvailabilityCounter;
+
+    @InjectMocks
+    private SeatAvailabilityService seatAvailabilityService;
+
+    @Test
+    @DisplayName("카운터가 있는 날짜는 DB 집계 없이 카운터 값을 반환한다")
+    void getAvailableCounts_FromCounter() {
+        // given
+        when(seatAvailabilityCounter.getCounts(List.of("2026-02-01")))
+                .thenReturn(Map.of("2026-02-01", 12L));
+
+        // when
+        Map<String, Long> counts = seatAvailabilityService.getAvailableCounts(List.of("2026-02-01"));
+
+        // then
+        assertThat(counts).containsEntry("2026-02-01", 12L);
+        verify(seatRepository, never()).countByConcertDates(anyList());
+    }
+
+    @Test
+    @DisplayName("카운터가 없는 날짜는 DB 집계로 초기값을 적재한다")
+    void getAvailableCounts_InitializeMissing() {
+        // given
+        when(seatAvailabilityCounter.getCounts(List.of("2026-02-01", "2026-02-02")))
+                .thenReturn(Map.of("2026-02-01", 12L));
+        when(seatRepository.countByConcertDates(List.of("2026-02-02")))
+                .thenReturn(List.of(new SeatCountView("2026-02-02", 50L, 0L)));
+
+        // when
+        Map<String, Long> counts = seatAvailabilityService.getAvailableCounts(List.of("2026-02-01", "2026-02-02"));
+
+        // then
+        assertThat(counts).containsEntry("2026-02-01", 12L).containsEntry("2026-02-02", 0L);
+        verify(seatAvailabilityCounter).initializeIfAbsent("2026-02-02", 0L);
+    }
+
+    @Test
+    @DisplayName("카운터 조회에 실패하면 빈 결과를 반환한다")
+    void getAvailableCounts_CounterFailure() {
+        // given
+        when(seatAvailabilityCounter.getCounts(anyList())).thenThrow(new RuntimeException("redis down"));
+
+        // when
+        Map<String, Long> counts = seatAvailabilityService.getAvailableCounts(List.of("2026-02-01"));
+
+        // then
+        assertThat(counts).isEmpty();
+    }
+
+    @Test
+    @DisplayName("잔여 좌석이 0인 날짜는 매진으로 표시된다")
+    void getAvailability_FlagSoldOut() {
+        // given
+        LocalDate soldOutDate = LocalDate.now().plusDays(1);
+        LocalDate openDate = LocalDate.now().plusDays(2);
+        when(scheduleRepository.findSchedulesFrom(any(LocalDate.class)))
+                .thenReturn(List.of(new ConcertSchedule(soldOutDate), new ConcertSchedule(openDate)));
+        when(seatAvailabilityCounter.getCounts(anyList()))
+                .thenReturn(Map.of(soldOutDate.toString(), 0L, openDate.toString(), 7L));
+
+        // when
+        SeatAvailabilityResponse response = seatAvailabilityService.getAvailability();
+
+        // then
+        assertThat(response.getDates()).hasSize(2);
+        assertThat(response.getDates().get(0).isSoldOut()).isTrue();
+        assertThat(response.getDates().get(1).isSoldOut()).isFalse();
+        assertThat(response.getDates().get(1).getAvailableSeats()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("보정 시 DB 집계로 일정의 좌석 수와 카운터를 덮어쓴다")
+    void reconcile_SyncScheduleAndCounter() {
+        // given
+        LocalDate date = LocalDate.now().plusDays(1);
+        ConcertSchedule schedule = new ConcertSchedule(date);
+        when(scheduleRepository.findSchedulesFrom(any(LocalDate.class))).thenReturn(List.of(schedule));
+        when(seatRepository.countByConcertDates(List.of(date.toString())))
+                .thenReturn(List.of(new SeatCountView(date.toString(), 100L, 3L)));
+
+        // when
+        int reconciled = seatAvailabilityService.reconcile();
+
+        // then
+        assertThat(reconciled).isEqualTo(1);
+        assertThat(schedule.getTotalSeats()).isEqualTo(100);
+        assertThat(schedule.getAvailableSeats()).isEqualTo(3);
+        verify(seatAvailabilityCounter).set(date.toString(), 3L);
+    }
+}
@@ -0,0 +1,87 @@
+package kr.hhplus.be.server.application.concert;
+
+import kr.hhplus.be.server.concert.application.event.SeatChangeEventListener;
+import kr.hhplus.be.server.concert.application.event.SeatProjectionPublisher;
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 좌석 상태 변경 이벤트 리스너 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("좌석 변경 로그 기록 리스너 단위 테스트")
+class SeatChangeEventListenerTest {
+
+    private static final String DATE = "2026-04-01";
+
+    @Mock
+    private SeatChangeLogRepository seatChangeLogRepository;
+
+    @Mock
+    private SeatProjectionPublisher seatProjectionPublisher;
+
+    private SeatChangeEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new SeatChangeEventListener(seatChangeLogRepository, seatProjectionPublisher);
+    }
+
+    @Test
+    @DisplayName("기록에 실패하면 로그 없이 버전만 증가시켜 증분 조회가 전체 스냅샷을 받게 한다")
+    void appendFails_ReservesGapVersion() {
+        // given
+        SeatStateChangedEvent event = held(1);
+        when(seatChangeLogRepository.append(event)).thenThrow(new IllegalStateException("redis timeout"));
+
+        // when
+        listener.handleSeatStateChanged(event);
+
+        // then
+        verify(seatChangeLogRepository).reserveVersion(DATE);
+        verify(seatProjectionPublisher, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("버전 증가도 실패하면 다음 변경을 기록하기 전에 빈 버전을 만든다")
+    void gapFails_ReservedBeforeNextAppend() {
+        // given
+        SeatStateChangedEvent lost = held(1);
+        SeatStateChangedEvent next = held(2);
+        when(seatChangeLogRepository.append(lost)).thenThrow(new IllegalStateException("redis down"));
+        when(seatChangeLogRepository.reserveVersion(DATE))
+                .thenThrow(new IllegalStateException("redis down"))
+                .thenReturn(8L);
+        when(seatChangeLogRepository.append(next)).thenReturn(9L);
+        listener.handleSeatStateChanged(lost);
+
+        // when
+        listener.handleSeatStateChanged(next);
+        listener.handleSeatStateChanged(next);
+
+        // then: 빈 버전은 한 번만 만들고 그 뒤에 기록
+        InOrder order = inOrder(seatChangeLogRepository);
+        order.verify(seatChangeLogRepository).append(lost);
+        order.verify(seatChangeLogRepository, times(2)).reserveVersion(DATE);
+        order.verify(seatChangeLogRepository, times(2)).append(next);
+        verifyNoMoreInteractions(seatChangeLogRepository);
+    }
+
+    private static SeatStateChangedEvent held(int seatNumber) {
+        return new SeatStateChangedEvent(DATE, seatNumber, SeatStatus.AVAILABLE, SeatStatus.TEMP_HELD,
+                "user-1", LocalDateTime.now().plusMinutes(5));
+    }
+}
@@ -0,0 +1,84 @@
+package kr.hhplus.be.server.application.concert;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.concert.application.service.SeatExportService;
+import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("좌석 스트리밍 내보내기 단위 테스트")
+class SeatExportServiceTest {
+
+    private static final String DATE = "2026-02-01";
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private SeatExportService seatExportService;
+
+    @BeforeEach
+    void setUp() {
+        seatExportService = new SeatExportService(seatRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("키셋 페이지를 끝까지 순회하며 전체 좌석을 하나의 JSON 배열로 출력")
+    void exportSeats_WalksAllPages() throws Exception {
+        // given - 첫 페이지 1,000석(A구역), 두 번째 페이지 2석(B구역)
+        List<Seat> firstPage = new ArrayList<>();
+        for (int i = 1; i <= 1000; i++) {
+            firstPage.add(new Seat(DATE, "A", (i - 1) / 100 + 1, i));
+        }
+        List<Seat> secondPage = List.of(new Seat(DATE, "B", 1, 1001), new Seat(DATE, "B", 1, 1002));
+
+        when(seatRepository.findPage(eq(DATE), isNull(), isNull(), anyInt())).thenReturn(firstPage);
+        when(seatRepository.findPage(eq(DATE), eq("A"), eq(1000), anyInt())).thenReturn(secondPage);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = seatExportService.exportSeats(DATE, out);
+
+        // then
+        JsonNode root = objectMapper.readTree(out.toByteArray());
+        assertThat(count).isEqualTo(1002);
+        assertThat(root.get("date").asText()).isEqualTo(DATE);
+        assertThat(root.get("seats")).hasSize(1002);
+        assertThat(root.get("seats").get(1001).get("section").asText()).isEqualTo("B");
+        verify(seatRepository, times(2)).findPage(eq(DATE), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("좌석이 없으면 빈 배열 출력")
+    void exportSeats_Empty() throws Exception {
+        // given
+        when(seatRepository.findPage(eq(DATE), isNull(), isNull(), anyInt())).thenReturn(List.of());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = seatExportService.exportSeats(DATE, out);
+
+        // then
+        assertThat(count).isZero();
+        assertThat(objectMapper.readTree(out.toByteArray()).get("seats")).isEmpty();
+    }
+}
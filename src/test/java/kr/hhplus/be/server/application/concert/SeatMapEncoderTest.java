@@ -0,0 +1,87 @@
+package kr.hhplus.be.server.application.concert;
+
+import kr.hhplus.be.server.concert.application.service.SeatMapEncoder;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.model.SeatStatusView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("좌석 맵 압축 인코더 단위 테스트")
+class SeatMapEncoderTest {
+
+    @Test
+    @DisplayName("RLE 인코딩 - 연속 상태를 구간으로 압축하고 디코딩 시 원래 상태 복원")
+    void rle_RoundTrip() {
+        // given
+        List<SeatStatusView> seats = List.of(
+                new SeatStatusView(1, SeatStatus.AVAILABLE),
+                new SeatStatusView(2, SeatStatus.AVAILABLE),
+                new SeatStatusView(3, SeatStatus.AVAILABLE),
+                new SeatStatusView(4, SeatStatus.TEMP_HELD),
+                new SeatStatusView(5, SeatStatus.RESERVED),
+                new SeatStatusView(6, SeatStatus.RESERVED)
+        );
+
+        // when
+        byte[] codes = SeatMapEncoder.toCodes(seats);
+        String rle = SeatMapEncoder.encodeRle(codes);
+
+        // then
+        assertThat(rle).isEqualTo("A3T1R2");
+        assertThat(SeatMapEncoder.decodeRle(rle, codes.length)).containsExactly(codes);
+    }
+
+    @Test
+    @DisplayName("좌석번호 공백은 MISSING(X)으로 채움")
+    void toCodes_FillsGapWithMissing() {
+        // given
+        List<SeatStatusView> seats = List.of(
+                new SeatStatusView(10, SeatStatus.AVAILABLE),
+                new SeatStatusView(13, SeatStatus.RESERVED)
+        );
+
+        // when
+        byte[] codes = SeatMapEncoder.toCodes(seats);
+
+        // then
+        assertThat(codes).containsExactly(
+                SeatMapEncoder.AVAILABLE, SeatMapEncoder.MISSING, SeatMapEncoder.MISSING, SeatMapEncoder.RESERVED);
+        assertThat(SeatMapEncoder.encodeRle(codes)).isEqualTo("A1X2R1");
+    }
+
+    @Test
+    @DisplayName("비트맵 인코딩 - 좌석당 2비트로 압축하고 디코딩 시 원래 상태 복원")
+    void bitmap_RoundTrip() {
+        // given
+        byte[] codes = {0, 1, 2, 0, 0, 2, 1};
+
+        // when
+        String bitmap = SeatMapEncoder.encodeBitmap(codes);
+
+        // then
+        assertThat(SeatMapEncoder.decodeBitmap(bitmap, codes.length)).containsExactly(codes);
+    }
+
+    @Test
+    @DisplayName("50,000석 좌석 맵도 비트맵 기준 수십 KB 이하로 압축")
+    void bitmap_LargeVenueSize() {
+        // given - 5석마다 1석씩 예약된 최악에 가까운 분포
+        List<SeatStatusView> seats = new ArrayList<>();
+        for (int i = 1; i <= 50_000; i++) {
+            seats.add(new SeatStatusView(i, i % 5 == 0 ? SeatStatus.RESERVED : SeatStatus.AVAILABLE));
+        }
+
+        // when
+        byte[] codes = SeatMapEncoder.toCodes(seats);
+        String bitmap = SeatMapEncoder.encodeBitmap(codes);
+
+        // then - 50,000석 * 2bit = 12,500 bytes → Base64 약 16.7KB
+        assertThat(bitmap.length()).isLessThanOrEqualTo(16_668);
+        assertThat(SeatMapEncoder.decodeBitmap(bitmap, codes.length)).containsExactly(codes);
+    }
+}
@@ -0,0 +1,109 @@
+package kr.hhplus.be.server.application.concert;
+
+import kr.hhplus.be.server.concert.application.service.SeatMapStreamService;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeChannel;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository.SeatChange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("좌석 맵 실시간 푸시 서비스 단위 테스트")
+class SeatMapStreamServiceTest {
+
+    @Mock
+    private SeatChangeChannel seatChangeChannel;
+
+    @Mock
+    private SeatChangeLogRepository seatChangeLogRepository;
+
+    @Mock
+    private SeatChangeChannel.Subscription subscription;
+
+    private SeatMapStreamService seatMapStreamService;
+
+    @BeforeEach
+    void setUp() {
+        seatMapStreamService = new SeatMapStreamService(seatChangeChannel, seatChangeLogRepository);
+        when(seatChangeLogRepository.getCurrentVersion(anyString())).thenReturn(10L);
+        when(seatChangeChannel.subscribe(anyString(), any())).thenReturn(subscription);
+    }
+
+    @AfterEach
+    void tearDown() {
+        seatMapStreamService.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 날짜 구독자가 여러 명이어도 Redis 채널 구독은 날짜당 1개")
+    void subscribe_SingleUpstreamPerDate() {
+        // when
+        seatMapStreamService.subscribe("2026-02-01");
+        seatMapStreamService.subscribe("2026-02-01");
+        seatMapStreamService.subscribe("2026-02-01");
+        seatMapStreamService.subscribe("2026-02-02");
+
+        // then
+        assertThat(seatMapStreamService.countSubscribers("2026-02-01")).isEqualTo(3);
+        assertThat(seatMapStreamService.countSubscribers("2026-02-02")).isEqualTo(1);
+        verify(seatChangeChannel, times(1)).subscribe(eq("2026-02-01"), any());
+        verify(seatChangeChannel, times(1)).subscribe(eq("2026-02-02"), any());
+    }
+
+    @Test
+    @DisplayName("Redis 구독은 팬아웃이 맵에 등록된 뒤 맵 연산 밖에서 수행하고, 실패하면 구독자를 되돌린다")
+    void subscribe_UpstreamOutsideMapOperation() {
+        // given: 구독 시점에 이미 맵에서 구독자가 보이는지 기록 (compute 안이면 아직 보이지 않음)
+        AtomicInteger visibleDuringSubscribe = new AtomicInteger(-1);
+        when(seatChangeChannel.subscribe(eq("2026-02-03"), any())).thenAnswer(invocation -> {
+            visibleDuringSubscribe.set(seatMapStreamService.countSubscribers("2026-02-03"));
+            throw new IllegalStateException("redis down");
+        });
+
+        // when & then
+        assertThatThrownBy(() -> seatMapStreamService.subscribe("2026-02-03"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(visibleDuringSubscribe.get()).isEqualTo(1);
+        assertThat(seatMapStreamService.countSubscribers("2026-02-03")).isZero();
+    }
+
+    @Test
+    @DisplayName("느린 구독자에게 대기 큐 한도를 넘는 변경이 들어와도 수신 스레드는 블로킹되지 않음")
+    void dispatch_BoundedQueueDoesNotBlock() {
+        // given
+        seatMapStreamService.subscribe("2026-02-01");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<SeatChange>> listenerCaptor = ArgumentCaptor.forClass(Consumer.class);
+        verify(seatChangeChannel).subscribe(eq("2026-02-01"), listenerCaptor.capture());
+        Consumer<SeatChange> listener = listenerCaptor.getValue();
+
+        // when & then
+        assertThatCode(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                listener.accept(new SeatChange(11L + i, i % 50 + 1, SeatStatus.TEMP_HELD,
+                        "user-1", LocalDateTime.now().plusMinutes(5)));
+            }
+        }).doesNotThrowAnyException();
+        assertThat(seatMapStreamService.countSubscribers("2026-02-01")).isEqualTo(1);
+    }
+}
@@ -0,0 +1,134 @@
+package kr.hhplus.be.server.application.concert;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.concert.application.event.SeatProjectionPublisher;
+import kr.hhplus.be.server.concert.application.service.SeatProjectionReconcileService;
+import kr.hhplus.be.server.concert.domain.model.ConcertSchedule;
+import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatStateRecord;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.ConcertScheduleRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatProjectionRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 좌석 상태 읽기 모델 보정 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("좌석 상태 읽기 모델 보정 단위 테스트")
+class SeatProjectionReconcileServiceTest {
+
+    private static final LocalDate DATE = LocalDate.now().plusDays(1);
+
+    @Mock
+    private SeatProjectionRepository seatProjectionRepository;
+
+    @Mock
+    private SeatProjectionPublisher seatProjectionPublisher;
+
+    @Mock
+    private ConcertScheduleRepository scheduleRepository;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private SeatChangeLogRepository seatChangeLogRepository;
+
+    private SeatProjectionReconcileService seatProjectionReconcileService;
+
+    @BeforeEach
+    void setUp() {
+        seatProjectionReconcileService = new SeatProjectionReconcileService(seatProjectionRepository, seatProjectionPublisher,
+                scheduleRepository, seatRepository, seatChangeLogRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("배치가 없거나 상태가 DB와 다른 좌석만 조회 전에 새로 부여받은 버전으로 다시 발행한다")
+    void reconcile_RepublishesDivergedSeats() {
+        // given
+        String date = DATE.toString();
+        Seat held = new Seat(date, "A", 1, 2);
+        held.reserve("user-a", LocalDateTime.now().plusMinutes(5));
+        when(seatProjectionPublisher.isEnabled()).thenReturn(true);
+        when(scheduleRepository.findSchedulesFrom(any())).thenReturn(List.of(new ConcertSchedule(DATE)));
+        when(seatChangeLogRepository.reserveVersion(date)).thenReturn(8L);
+        when(seatRepository.findByConcertDateOrderBySeatNumber(date)).thenReturn(List.of(
+                new Seat(date, "A", 1, 1), held, new Seat(date, "A", 1, 3)));
+        // 1번은 일치, 2번은 선점 발행 유실 (읽기 모델은 직전 버전 7의 해제 상태), 3번은 배치 발행 유실
+        when(seatProjectionRepository.findByConcertDate(date)).thenReturn(List.of(
+                record(date, 1, SeatStatus.AVAILABLE, 3),
+                record(date, 2, SeatStatus.AVAILABLE, 7)));
+
+        // when
+        int republished = seatProjectionReconcileService.reconcile();
+
+        // then
+        assertThat(republished).isEqualTo(2);
+        ArgumentCaptor<SeatStateRecord> captor = ArgumentCaptor.forClass(SeatStateRecord.class);
+        verify(seatProjectionPublisher, times(2)).publish(captor.capture());
+        assertThat(captor.getAllValues()).extracting(SeatStateRecord::seatNumber).containsExactly(2, 3);
+        assertThat(captor.getAllValues()).extracting(SeatStateRecord::version).containsOnly(8L);
+        InOrder order = inOrder(seatChangeLogRepository, seatRepository);
+        order.verify(seatChangeLogRepository).reserveVersion(date);
+        order.verify(seatRepository).findByConcertDateOrderBySeatNumber(date);
+        assertThat(captor.getAllValues().get(0).status()).isEqualTo(SeatStatus.TEMP_HELD);
+        assertThat(captor.getAllValues().get(0).hasLayout()).isTrue();
+    }
+
+    @Test
+    @DisplayName("DB 조회 후 커밋된 변경이 이미 반영된 좌석은 다시 발행하지 않는다")
+    void reconcile_ProjectionNewer_Skips() {
+        // given
+        String date = DATE.toString();
+        when(seatProjectionPublisher.isEnabled()).thenReturn(true);
+        when(scheduleRepository.findSchedulesFrom(any())).thenReturn(List.of(new ConcertSchedule(DATE)));
+        when(seatChangeLogRepository.reserveVersion(date)).thenReturn(8L);
+        when(seatRepository.findByConcertDateOrderBySeatNumber(date)).thenReturn(List.of(new Seat(date, "A", 1, 1)));
+        when(seatProjectionRepository.findByConcertDate(date)).thenReturn(List.of(
+                record(date, 1, SeatStatus.RESERVED, 9)));
+
+        // when
+        int republished = seatProjectionReconcileService.reconcile();
+
+        // then
+        assertThat(republished).isZero();
+        verify(seatProjectionPublisher, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("읽기 모델이 비활성이면 보정하지 않는다")
+    void reconcile_Disabled_Skips() {
+        // given
+        when(seatProjectionPublisher.isEnabled()).thenReturn(false);
+
+        // when
+        int republished = seatProjectionReconcileService.reconcile();
+
+        // then
+        assertThat(republished).isZero();
+        verifyNoInteractions(scheduleRepository, seatRepository, seatProjectionRepository);
+    }
+
+    private SeatStateRecord record(String date, int seatNumber, SeatStatus status, long version) {
+        String userId = status == SeatStatus.AVAILABLE ? null : "user-x";
+        return new SeatStateRecord(date, seatNumber, "A", 1, status, userId, null, version, 0);
+    }
+}
@@ -0,0 +1,130 @@
+package kr.hhplus.be.server.application.concert;
+
+import kr.hhplus.be.server.concert.application.event.SeatProjectionPublisher;
+import kr.hhplus.be.server.concert.application.service.SeatProvisioningService;
+import kr.hhplus.be.server.concert.domain.model.ConcertSchedule;
+import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatCountView;
+import kr.hhplus.be.server.concert.domain.repository.ConcertScheduleRepository;
+import kr.hhplus.be.server.concert.domain.repository.ScheduleChangeChannel;
+import kr.hhplus.be.server.concert.domain.repository.SeatAvailabilityCounter;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import kr.hhplus.be.server.concert.interfaces.api.dto.ScheduleProvisionRequest;
+import kr.hhplus.be.server.concert.interfaces.api.dto.ScheduleProvisionRequest.SectionLayout;
+import kr.hhplus.be.server.concert.interfaces.api.dto.ScheduleProvisionResponse;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("좌석 일괄 생성 서비스 단위 테스트")
+class SeatProvisioningServiceTest {
+
+    @Mock
+    private ConcertScheduleRepository scheduleRepository;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private SeatAvailabilityCounter seatAvailabilityCounter;
+
+    @Mock
+    private ScheduleChangeChannel scheduleChangeChannel;
+
+    @Mock
+    private SeatProjectionPublisher seatProjectionPublisher;
+
+    @InjectMocks
+    private SeatProvisioningService seatProvisioningService;
+
+    @Test
+    @DisplayName("좌석을 1000석 단위 청크로 나눠 삽입하고 구역을 이어 좌석번호를 부여한다")
+    void provision_ChunkedInsert() {
+        // given
+        String date = "2026-03-01";
+        List<List<Seat>> chunks = new ArrayList<>();
+        doAnswer(invocation -> chunks.add(List.copyOf(invocation.getArgument(0))))
+                .when(seatRepository).insertIgnoringDuplicates(anyList());
+        when(seatRepository.countByConcertDates(List.of(date)))
+                .thenReturn(List.of())
+                .thenReturn(List.of(new SeatCountView(date, 2500L, 2500L)));
+        when(scheduleRepository.findByConcertDate(LocalDate.of(2026, 3, 1))).thenReturn(Optional.empty());
+
+        ScheduleProvisionRequest request = new ScheduleProvisionRequest(date, List.of(
+                new SectionLayout("A", 30, 50),
+                new SectionLayout("B", 20, 50)
+        ));
+
+        // when
+        ScheduleProvisionResponse response = seatProvisioningService.provision(request);
+
+        // then
+        assertThat(chunks).extracting(List::size).containsExactly(1000, 1000, 500);
+        Seat firstOfB = chunks.get(1).get(500);
+        assertThat(firstOfB.getSection()).isEqualTo("B");
+        assertThat(firstOfB.getSeatRow()).isEqualTo(1);
+        assertThat(firstOfB.getSeatNumber()).isEqualTo(1501);
+        assertThat(response.getTotalSeats()).isEqualTo(2500L);
+        assertThat(response.getCreatedSeats()).isEqualTo(2500L);
+        verify(seatProjectionPublisher, times(3)).publishLayout(anyList());
+    }
+
+    @Test
+    @DisplayName("좌석 삽입 후 집계 좌석 수로 일정을 생성하고 카운터와 날짜 캐시를 갱신한다")
+    void provision_CreatesScheduleAfterSeats() {
+        // given
+        String date = "2026-03-01";
+        when(seatRepository.countByConcertDates(List.of(date)))
+                .thenReturn(List.of(new SeatCountView(date, 40L, 38L)))
+                .thenReturn(List.of(new SeatCountView(date, 50L, 48L)));
+        when(scheduleRepository.findByConcertDate(any(LocalDate.class))).thenReturn(Optional.empty());
+
+        // when
+        ScheduleProvisionResponse response = seatProvisioningService.provision(
+                new ScheduleProvisionRequest(date, List.of(new SectionLayout("A", 5, 10))));
+
+        // then
+        ArgumentCaptor<ConcertSchedule> schedule = ArgumentCaptor.forClass(ConcertSchedule.class);
+        verify(scheduleRepository).save(schedule.capture());
+        assertThat(schedule.getValue().getTotalSeats()).isEqualTo(50);
+        assertThat(schedule.getValue().getAvailableSeats()).isEqualTo(48);
+        assertThat(response.getCreatedSeats()).isEqualTo(10L);
+        verify(seatAvailabilityCounter).set(date, 48L);
+        verify(scheduleChangeChannel).publishSeatLayout(date);
+    }
+
+    @Test
+    @DisplayName("좌석 배치가 비어 있으면 예외가 발생한다")
+    void provision_EmptyLayout() {
+        assertThatThrownBy(() -> seatProvisioningService.provision(
+                new ScheduleProvisionRequest("2026-03-01", List.of())))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("좌석 배치");
+        verify(seatRepository, never()).insertIgnoringDuplicates(anyList());
+    }
+
+    @Test
+    @DisplayName("잘못된 날짜 형식이면 예외가 발생한다")
+    void provision_InvalidDate() {
+        assertThatThrownBy(() -> seatProvisioningService.provision(
+                new ScheduleProvisionRequest("2026/03/01", List.of(new SectionLayout("A", 1, 1)))))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("날짜");
+    }
+}
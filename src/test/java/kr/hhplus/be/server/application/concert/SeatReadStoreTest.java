@@ -0,0 +1,332 @@
+package kr.hhplus.be.server.application.concert;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.concert.application.service.SeatReadStore;
+import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatStateRecord;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.model.SeatStatusView;
+import kr.hhplus.be.server.concert.domain.repository.ScheduleChangeChannel;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository.SeatChange;
+import kr.hhplus.be.server.concert.domain.repository.SeatProjectionRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("좌석 조회 압축 저장소 단위 테스트")
+class SeatReadStoreTest {
+
+    private static final String DATE = "2026-03-01";
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private SeatChangeLogRepository seatChangeLogRepository;
+
+    @Mock
+    private ScheduleChangeChannel scheduleChangeChannel;
+
+    @Mock
+    private SeatProjectionRepository seatProjectionRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SeatReadStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new SeatReadStore(seatRepository, seatChangeLogRepository, scheduleChangeChannel,
+                seatProjectionRepository, meterRegistry, true, 300_000, false, 500);
+        // 구역 B(1~3) → A(4~6) 순으로 좌석번호가 부여된 배치
+        when(seatRepository.findByConcertDateOrderBySeatNumber(DATE)).thenAnswer(invocation -> List.of(
+                new Seat(DATE, "B", 1, 1), new Seat(DATE, "B", 1, 2), new Seat(DATE, "B", 2, 3),
+                new Seat(DATE, "A", 1, 4), new Seat(DATE, "A", 1, 5), new Seat(DATE, "A", 1, 6)
+        ));
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때만 DB에서 적재하고 버전이 같으면 저장소에서 반환한다")
+    void findAll_LoadsOnce() {
+        // given
+        when(seatChangeLogRepository.getCurrentVersion(DATE)).thenReturn(3L);
+
+        // when
+        store.findAll(DATE);
+        SeatReadStore.VersionedSeats result = store.findAll(DATE);
+
+        // then
+        assertThat(result.version()).isEqualTo(3L);
+        assertThat(result.seats()).extracting(seat -> seat.getSeatNumber()).containsExactly(1, 2, 3, 4, 5, 6);
+        assertThat(result.seats().get(2).getSection()).isEqualTo("B");
+        assertThat(result.seats().get(2).getRow()).isEqualTo(2);
+        verify(seatRepository, times(1)).findByConcertDateOrderBySeatNumber(DATE);
+    }
+
+    @Test
+    @DisplayName("같은 일자를 동시에 처음 조회해도 DB 적재는 한 번만 한다")
+    void findAll_ConcurrentFirstLoad_LoadsOnce() throws Exception {
+        // given
+        when(seatChangeLogRepository.getCurrentVersion(DATE)).thenReturn(3L);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(seatRepository.findByConcertDateOrderBySeatNumber(DATE)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(new Seat(DATE, "A", 1, 1), new Seat(DATE, "A", 1, 2));
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<SeatReadStore.VersionedSeats>> results = new ArrayList<>();
+
+        try {
+            // when - 첫 조회가 DB를 읽는 동안 나머지 조회가 도착
+            results.add(executor.submit(() -> store.findAll(DATE)));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> store.findAll(DATE)));
+            }
+            release.countDown();
+
+            // then
+            for (Future<SeatReadStore.VersionedSeats> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).seats()).hasSize(2);
+            }
+            verify(seatRepository, times(1)).findByConcertDateOrderBySeatNumber(DATE);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌면 변경 로그의 변경분만 반영한다")
+    void findAll_AppliesChangeLog() {
+        // given
+        when(seatChangeLogRepository.getCurrentVersion(DATE)).thenReturn(1L);
+        store.findAll(DATE);
+
+        LocalDateTime until = LocalDateTime.now().plusMinutes(5).withNano(0);
+        when(seatChangeLogRepository.getCurrentVersion(DATE)).thenReturn(3L);
+        when(seatChangeLogRepository.findChangesSince(DATE, 1L)).thenReturn(Optional.of(List.of(
+                new SeatChange(2L, 5, SeatStatus.TEMP_HELD, "user-a", until),
+                new SeatChange(3L, 6, SeatStatus.RESERVED, "user-b", null)
+        )));
+
+        // when
+        SeatReadStore.VersionedSeats result = store.findAll(DATE);
+
+        // then
+        assertThat(result.version()).isEqualTo(3L);
+        assertThat(result.seats().get(4).getStatus())
+                .isEqualTo(kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus.SeatStatusEnum.TEMP_HELD);
+        assertThat(result.seats().get(4).getReservedBy()).isEqualTo("user-a");
+        assertThat(result.seats().get(4).getTempHoldExpires()).isEqualTo(until);
+        assertThat(result.seats().get(5).getStatus())
+                .isEqualTo(kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus.SeatStatusEnum.RESERVED);
+        verify(seatRepository, times(1)).findByConcertDateOrderBySeatNumber(DATE);
+    }
+
+    @Test
+    @DisplayName("변경 로그를 이어받을 수 없거나 좌석 배치 변경 알림을 받으면 DB에서 다시 적재한다")
+    void findAll_ReloadsWhenLogTrimmedOrLayoutChanged() {
+        // given
+        ArgumentCaptor<Consumer<String>> listener = layoutListener();
+
+        when(seatChangeLogRepository.getCurrentVersion(DATE)).thenReturn(1L);
+        store.findAll(DATE);
+
+        // when - 로그 정리
+        when(seatChangeLogRepository.getCurrentVersion(DATE)).thenReturn(9000L);
+        when(seatChangeLogRepository.findChangesSince(DATE, 1L)).thenReturn(Optional.empty());
+        store.findAll(DATE);
+
+        // when - 좌석 배치 변경 (좌석 추가 생성)
+        listener.getValue().accept(DATE);
+        store.findAll(DATE);
+
+        // then
+        verify(seatRepository, times(3)).findByConcertDateOrderBySeatNumber(DATE);
+    }
+
+    @Test
+    @DisplayName("좌석 배치 변경 알림은 해당 날짜만 다시 적재하고 날짜가 없는 알림은 모든 날짜를 다시 적재한다")
+    void findAll_LayoutChangeInvalidatesOnlyThatDate() {
+        // given
+        String otherDate = "2026-03-02";
+        when(seatRepository.findByConcertDateOrderBySeatNumber(otherDate))
+                .thenAnswer(invocation -> List.of(new Seat(otherDate, "A", 1, 1)));
+        ArgumentCaptor<Consumer<String>> listener = layoutListener();
+        store.findAll(DATE);
+        store.findAll(otherDate);
+
+        // when - 다른 날짜 변경
+        listener.getValue().accept(otherDate);
+        store.findAll(DATE);
+        store.findAll(otherDate);
+
+        // then
+        verify(seatRepository, times(1)).findByConcertDateOrderBySeatNumber(DATE);
+        verify(seatRepository, times(2)).findByConcertDateOrderBySeatNumber(otherDate);
+
+        // when - 전체 변경
+        listener.getValue().accept(null);
+        store.findAll(DATE);
+        store.findAll(otherDate);
+
+        // then
+        verify(seatRepository, times(2)).findByConcertDateOrderBySeatNumber(DATE);
+        verify(seatRepository, times(3)).findByConcertDateOrderBySeatNumber(otherDate);
+        verify(scheduleChangeChannel, never()).subscribe(any());
+    }
+
+    @Test
+    @DisplayName("전체 페이지는 (구역, 좌석번호) 순으로 커서 다음부터 반환한다")
+    void findPage_OrderedBySectionThenSeat() {
+        // when
+        List<kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus> first = store.findPage(DATE, null, null, null, 4);
+        List<kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus> next = store.findPage(DATE, null, "B", 1, 4);
+        List<kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus> unknown = store.findPage(DATE, null, "AA", 0, 4);
+
+        // then
+        assertThat(first).extracting(seat -> seat.getSeatNumber()).containsExactly(4, 5, 6, 1);
+        assertThat(next).extracting(seat -> seat.getSeatNumber()).containsExactly(2, 3);
+        assertThat(unknown).extracting(seat -> seat.getSeatNumber()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("구역 페이지는 해당 구역 안에서만 커서 다음부터 반환한다")
+    void findPage_Section() {
+        // when
+        List<kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus> page = store.findPage(DATE, "A", null, 4, 10);
+
+        // then
+        assertThat(page).extracting(seat -> seat.getSeatNumber()).containsExactly(5, 6);
+        assertThat(store.findPage(DATE, "C", null, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("없는 좌석번호와 좌석이 없는 날짜는 빈 결과이며 빈 날짜는 저장하지 않는다")
+    void findSeat_Absent() {
+        // given
+        when(seatRepository.findByConcertDateOrderBySeatNumber("2026-03-02")).thenReturn(List.of());
+
+        // then
+        assertThat(store.findSeat(DATE, 3)).isPresent();
+        assertThat(store.findSeat(DATE, 7)).isEmpty();
+        assertThat(store.findAll("2026-03-02").seats()).isEmpty();
+        store.findAll("2026-03-02");
+        verify(seatRepository, times(2)).findByConcertDateOrderBySeatNumber("2026-03-02");
+    }
+
+    @Test
+    @DisplayName("100만 석(10일 × 10만 석)을 보관하는 데 GC 후 힙 사용량이 좌석당 32바이트 미만으로 늘어난다")
+    void footprint_MillionSeats() {
+        // given
+        int dates = 10;
+        int seatsPerDate = 100_000;
+        when(seatRepository.findByConcertDateOrderBySeatNumber(anyString())).thenAnswer(invocation -> {
+            String date = invocation.getArgument(0);
+            List<Seat> seats = new ArrayList<>(seatsPerDate);
+            for (int seatNumber = 1; seatNumber <= seatsPerDate; seatNumber++) {
+                String section = String.valueOf((char) ('A' + (seatNumber - 1) / 10_000));
+                seats.add(new Seat(date, section, (seatNumber - 1) / 50 + 1, seatNumber));
+            }
+            return seats;
+        });
+        long before = usedHeapAfterGc();
+
+        // when
+        for (int day = 1; day <= dates; day++) {
+            store.findSeat(String.format("2026-04-%02d", day), 1);
+        }
+
+        // then - 적재에 쓴 엔티티 목록은 GC로 회수되고 저장소 배열만 남음
+        long retained = usedHeapAfterGc() - before;
+        assertThat(meterRegistry.get("seat.read.store.seats").gauge().value()).isEqualTo(1_000_000d);
+        assertThat((double) retained / 1_000_000).isLessThan(32d);
+        verify(seatChangeLogRepository, never()).findChangesSince(anyString(), any(Long.class));
+    }
+
+    @Test
+    @DisplayName("구역 상태 목록은 해당 구역 좌석만 좌석번호 순으로 반환한다")
+    void findStatuses_Section() {
+        // when
+        List<SeatStatusView> section = store.findStatuses(DATE, "A");
+        List<SeatStatusView> all = store.findStatuses(DATE, null);
+
+        // then
+        assertThat(section).extracting(SeatStatusView::seatNumber).containsExactly(4, 5, 6);
+        assertThat(all).extracting(SeatStatusView::seatNumber).containsExactly(1, 2, 3, 4, 5, 6);
+        assertThat(all).extracting(SeatStatusView::status).containsOnly(SeatStatus.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("읽기 모델이 원본이면 DB 없이 적재하고 아직 반영되지 않은 최근 변경 로그를 다시 적용한다")
+    void projection_LoadsWithoutDbAndReplaysRecentChanges() {
+        // given
+        SeatReadStore projected = new SeatReadStore(seatRepository, seatChangeLogRepository, scheduleChangeChannel,
+                seatProjectionRepository, meterRegistry, true, 300_000, true, 500);
+        when(seatProjectionRepository.findByConcertDate(DATE)).thenReturn(List.of(
+                projection(1, "A", SeatStatus.AVAILABLE), projection(2, "A", SeatStatus.AVAILABLE)));
+        when(seatProjectionRepository.countSeats(DATE)).thenReturn(2L);
+        when(seatChangeLogRepository.getCurrentVersion(DATE)).thenReturn(700L);
+        when(seatChangeLogRepository.findRetainedChangesSince(DATE, 200L)).thenReturn(List.of(
+                new SeatChange(700L, 2, SeatStatus.RESERVED, "user-a", null)));
+
+        // when
+        SeatReadStore.VersionedSeats result = projected.findAll(DATE);
+
+        // then
+        assertThat(result.version()).isEqualTo(700L);
+        assertThat(result.seats().get(1).getStatus())
+                .isEqualTo(kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus.SeatStatusEnum.RESERVED);
+        verifyNoInteractions(seatRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<Consumer<String>> layoutListener() {
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+        store.subscribe();
+        verify(scheduleChangeChannel).subscribeSeatLayout(listener.capture());
+        return listener;
+    }
+
+    private SeatStateRecord projection(int seatNumber, String section, SeatStatus status) {
+        return new SeatStateRecord(DATE, seatNumber, section, 1, status, null, null, 0, 0);
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.application.payment;
 
 import kr.hhplus.be.server.payment.application.event.PaymentEventPublisher;
+import kr.hhplus.be.server.concert.application.event.SeatEventPublisher;
 import kr.hhplus.be.server.payment.application.service.PaymentService;
 import kr.hhplus.be.server.payment.domain.event.PaymentSuccessEvent;
 import kr.hhplus.be.server.point.application.service.PointService;
@@ -16,7 +17,6 @@ import kr.hhplus.be.server.reservation.domain.repository.ReservationRepository;
 import kr.hhplus.be.server.reservation.domain.model.ReservationStatus;
 import kr.hhplus.be.server.payment.interfaces.api.dto.PaymentRequest;
 import kr.hhplus.be.server.payment.interfaces.api.dto.PaymentResponse;
-import kr.hhplus.be.server.point.interfaces.api.dto.PointBalanceResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -57,6 +57,9 @@ class ProcessPaymentUseCaseTest {
     @Mock
     private PaymentEventPublisher paymentEventPublisher;
 
+    @Mock
+    private SeatEventPublisher seatEventPublisher;
+
     @InjectMocks
     private PaymentService processPaymentUseCase;
 
@@ -106,9 +109,8 @@ class ProcessPaymentUseCaseTest {
             setFieldValue(payment, "id", 201L);
             return payment;
         });
-        doNothing().when(pointService).usePoint("user123", 150000L);
+        when(pointService.usePoint("user123", 150000L)).thenReturn(350000L);
         doNothing().when(queueService).expireToken(queueToken);
-        when(pointService.getBalance("user123")).thenReturn(new PointBalanceResponse("user123", 350000));
 
         // When
         PaymentResponse response = processPaymentUseCase.processPayment(request, queueToken);
@@ -154,6 +156,34 @@ class ProcessPaymentUseCaseTest {
         verify(pointService, never()).usePoint(any(), anyLong());
     }
 
+    @Test
+    @DisplayName("결제 실패 - 엔진 선점이 DB 반영 단계에서 충돌하여 실패한 예약은 409")
+    void execute_HoldLost() {
+        // Given
+        doNothing().when(queueService).validateToken(queueToken);
+        when(reservationRepository.findByUserIdAndConcertDateAndSeatNumberAndStatus(
+                request.getUserId(),
+                request.getDate(),
+                request.getSeatNumber(),
+                ReservationStatus.TEMP_HELD
+        )).thenReturn(Optional.empty());
+        when(reservationRepository.findByUserIdAndConcertDateAndSeatNumberAndStatus(
+                request.getUserId(),
+                request.getDate(),
+                request.getSeatNumber(),
+                ReservationStatus.HOLD_LOST
+        )).thenReturn(Optional.of(reservation));
+
+        // When & Then
+        assertThatThrownBy(() -> processPaymentUseCase.processPayment(request, queueToken))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "reservation-hold-lost")
+                .hasFieldOrPropertyWithValue("httpStatus", 409);
+
+        verify(paymentRepository, never()).save(any());
+        verify(pointService, never()).usePoint(any(), anyLong());
+    }
+
     @Test
     @DisplayName("결제 실패 - 예약 시간 만료")
     void execute_ReservationExpired() throws Exception {
@@ -228,7 +258,7 @@ class ProcessPaymentUseCaseTest {
                 request.getSeatNumber(),
                 ReservationStatus.TEMP_HELD
         )).thenReturn(Optional.of(reservation));
-        doNothing().when(pointService).usePoint("user123", 150000L);
+        when(pointService.usePoint("user123", 150000L)).thenReturn(350000L);
         when(seatRepository.findById(reservation.getSeatId())).thenReturn(Optional.empty());
 
         // When & Then
@@ -0,0 +1,140 @@
+package kr.hhplus.be.server.application.point;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.point.application.service.PointBalanceCache;
+import kr.hhplus.be.server.point.domain.model.PointBalanceSnapshot;
+import kr.hhplus.be.server.point.domain.repository.PointBalanceChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 노드 로컬 포인트 잔액 캐시 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("포인트 잔액 캐시 단위 테스트")
+class PointBalanceCacheTest {
+
+    @Mock
+    private PointBalanceChannel pointBalanceChannel;
+
+    private PointBalanceCache cache;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new PointBalanceCache(pointBalanceChannel, new SimpleMeterRegistry(), 30000L, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경 알림을 받으면 해당 사용자를 제거하고 다음 조회에서 다시 읽는다")
+    @SuppressWarnings("unchecked")
+    void remoteChange_Evicts() {
+        // given
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+        when(pointBalanceChannel.subscribe(listener.capture())).thenReturn(() -> { });
+        cache.subscribe();
+        cache.get("user1", this::load);
+
+        // when
+        listener.getValue().accept("user1");
+        cache.get("user1", this::load);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 이전 version의 결과는 최신 version을 덮어쓰지 않는다")
+    void onChanged_OlderVersionIgnored() {
+        // given
+        cache.onChanged(new PointBalanceSnapshot("user1", 40000L, 6L), true);
+
+        // when
+        cache.onChanged(new PointBalanceSnapshot("user1", 50000L, 5L), true);
+
+        // then
+        assertThat(cache.get("user1", this::load)).isEqualTo(40000L);
+        assertThat(loads.get()).isZero();
+        verify(pointBalanceChannel, times(2)).publish("user1");
+    }
+
+    @Test
+    @DisplayName("DB를 읽는 사이 변경이 기록되면 읽은 값을 캐시에 남기지 않는다")
+    void get_ChangedDuringLoad_DiscardsLoadedValue() {
+        // when - 조회가 DB를 읽는 도중 사용 결과가 기록됨
+        long loaded = cache.get("user1", userId -> {
+            cache.onChanged(new PointBalanceSnapshot(userId, 70000L, 2L), true);
+            return 100000L;
+        });
+
+        // then
+        assertThat(loaded).isEqualTo(100000L);
+        assertThat(cache.get("user1", this::load)).isEqualTo(70000L);
+    }
+
+    @Test
+    @DisplayName("DB를 읽는 사이 다른 사용자의 변경이 기록되어도 읽은 값은 캐시에 남긴다")
+    void get_OtherUserChangedDuringLoad_KeepsLoadedValue() {
+        // given
+        cache.get("user1", userId -> {
+            cache.onChanged(new PointBalanceSnapshot("user2", 70000L, 2L), true);
+            return load(userId);
+        });
+
+        // when
+        long cached = cache.get("user1", this::load);
+
+        // then
+        assertThat(cached).isEqualTo(100000L);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 변경은 커밋 후에 기록하고, 롤백되면 제거만 한다")
+    void onChanged_InTransaction_AppliedAfterCompletion() {
+        // given
+        cache.get("user1", this::load);
+        TransactionSynchronizationManager.initSynchronization();
+        cache.onChanged(new PointBalanceSnapshot("user1", 70000L, 2L), true);
+
+        // when - 커밋 전에는 기존 값
+        assertThat(cache.get("user1", this::load)).isEqualTo(100000L);
+        verify(pointBalanceChannel, never()).publish(any());
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // then - 롤백이면 제거 후 다시 읽음
+        assertThat(cache.get("user1", this::load)).isEqualTo(100000L);
+        assertThat(loads.get()).isEqualTo(2);
+        verify(pointBalanceChannel).publish("user1");
+    }
+
+    private long load(String userId) {
+        loads.incrementAndGet();
+        return 100000L;
+    }
+}
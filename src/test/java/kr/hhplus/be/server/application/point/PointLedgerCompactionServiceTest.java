@@ -0,0 +1,105 @@
+package kr.hhplus.be.server.application.point;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.point.application.service.PointLedgerCompactionService;
+import kr.hhplus.be.server.point.domain.model.PointTransaction;
+import kr.hhplus.be.server.point.domain.repository.PointBalanceRepository;
+import kr.hhplus.be.server.point.domain.repository.PointTransactionRepository;
+import kr.hhplus.be.server.shared.infrastructure.scheduler.SchedulerFenceGuard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 포인트 원장 컴팩션 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("포인트 원장 컴팩션 단위 테스트")
+class PointLedgerCompactionServiceTest {
+
+    @Mock
+    private PointBalanceRepository pointBalanceRepository;
+
+    @Mock
+    private PointTransactionRepository pointTransactionRepository;
+
+    @Mock
+    private SchedulerFenceGuard schedulerFenceGuard;
+
+    private PointLedgerCompactionService compactionService;
+
+    @BeforeEach
+    void setUp() {
+        compactionService = new PointLedgerCompactionService(
+                pointBalanceRepository, pointTransactionRepository, schedulerFenceGuard, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("스냅샷 행을 먼저 잠그고, 미반영 거래 합을 더한 뒤 반영 완료로 표시한다")
+    void compact_AppliesPendingDelta() {
+        // given
+        List<PointTransaction> pending = List.of(
+                PointTransaction.charge("user1", 50000L),
+                PointTransaction.use("user1", 20000L));
+        when(pointBalanceRepository.findBalanceForUpdate("user1")).thenReturn(Optional.of(10000L));
+        when(pointTransactionRepository.findPendingForUpdate("user1")).thenReturn(pending);
+        when(pointTransactionRepository.markApplied(any())).thenReturn(2);
+
+        // when
+        int applied = compactionService.compact("user1");
+
+        // then
+        assertThat(applied).isEqualTo(2);
+        InOrder inOrder = inOrder(pointBalanceRepository, pointTransactionRepository);
+        inOrder.verify(pointBalanceRepository).findBalanceForUpdate("user1");
+        inOrder.verify(pointTransactionRepository).findPendingForUpdate("user1");
+        inOrder.verify(pointBalanceRepository).addBalance("user1", 30000L);
+        inOrder.verify(pointTransactionRepository).markApplied(any());
+        verify(pointBalanceRepository, never()).chargePoint(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("충전만 있어 스냅샷 행이 없으면 0원 행을 만든 뒤 반영한다")
+    void compact_CreatesSnapshotRow() {
+        // given
+        when(pointBalanceRepository.findBalanceForUpdate("user2")).thenReturn(Optional.empty());
+        when(pointTransactionRepository.findPendingForUpdate("user2"))
+                .thenReturn(List.of(PointTransaction.charge("user2", 5000L)));
+        when(pointTransactionRepository.markApplied(any())).thenReturn(1);
+
+        // when
+        compactionService.compact("user2");
+
+        // then
+        verify(pointBalanceRepository).chargePoint("user2", 0L);
+        verify(pointBalanceRepository).addBalance("user2", 5000L);
+    }
+
+    @Test
+    @DisplayName("다른 컴팩터가 먼저 반영해 미반영 거래가 없으면 아무것도 하지 않는다")
+    void compact_NothingPending() {
+        // given
+        when(pointBalanceRepository.findBalanceForUpdate("user1")).thenReturn(Optional.of(10000L));
+        when(pointTransactionRepository.findPendingForUpdate("user1")).thenReturn(List.of());
+
+        // when
+        int applied = compactionService.compact("user1");
+
+        // then
+        assertThat(applied).isZero();
+        verify(pointBalanceRepository, never()).addBalance(any(), anyLong());
+        verify(pointTransactionRepository, never()).markApplied(any());
+    }
+}
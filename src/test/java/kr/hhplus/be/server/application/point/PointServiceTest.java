@@ -1,9 +1,21 @@
 package kr.hhplus.be.server.application.point;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.point.application.service.AtomicPointBalanceManager;
+import kr.hhplus.be.server.point.application.service.LedgerPointBalanceManager;
+import kr.hhplus.be.server.point.application.service.LockingPointBalanceManager;
+import kr.hhplus.be.server.point.application.service.PointBalanceCache;
 import kr.hhplus.be.server.point.application.service.PointService;
+import kr.hhplus.be.server.point.application.service.RedisPointBalanceManager;
 import kr.hhplus.be.server.shared.common.exception.BusinessException;
 import kr.hhplus.be.server.point.domain.model.PointBalance;
+import kr.hhplus.be.server.point.domain.model.PointBalanceSnapshot;
+import kr.hhplus.be.server.point.domain.model.PointTransaction;
+import kr.hhplus.be.server.point.domain.model.PointTransactionType;
+import kr.hhplus.be.server.point.domain.repository.PointBalanceChannel;
 import kr.hhplus.be.server.point.domain.repository.PointBalanceRepository;
+import kr.hhplus.be.server.point.domain.repository.PointBalanceStore;
+import kr.hhplus.be.server.point.domain.repository.PointTransactionRepository;
 import kr.hhplus.be.server.point.interfaces.api.dto.PointBalanceResponse;
 import kr.hhplus.be.server.point.interfaces.api.dto.PointChargeRequest;
 import kr.hhplus.be.server.point.interfaces.api.dto.PointChargeResponse;
@@ -11,15 +23,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,13 +44,22 @@ class PointServiceTest {
     @Mock
     private PointBalanceRepository pointBalanceRepository;
 
-    @InjectMocks
+    @Mock
+    private PointTransactionRepository pointTransactionRepository;
+
+    @Mock
+    private PointBalanceStore pointBalanceStore;
+
+    @Mock
+    private PointBalanceChannel pointBalanceChannel;
+
     private PointService pointService;
 
     private PointBalance existingBalance;
 
     @BeforeEach
     void setUp() {
+        pointService = pointService(LockingPointBalanceManager.STRATEGY);
         existingBalance = new PointBalance("user1");
         existingBalance.charge(100000L);
     }
@@ -121,4 +145,261 @@ class PointServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("잔액이 부족");
     }
+
+    @Test
+    @DisplayName("atomic 전략 - 조건부 UPDATE 한 번으로 차감하고 엔티티를 조회하지 않는다")
+    void usePoint_Atomic_SingleConditionalUpdate() {
+        // given
+        PointService atomicPointService = atomicPointService();
+        when(pointBalanceRepository.deductPointIfSufficient("user1", 50000L)).thenReturn(1);
+        when(pointBalanceRepository.findSnapshot("user1"))
+                .thenReturn(Optional.of(new PointBalanceSnapshot("user1", 50000L, 1L)));
+
+        // when
+        long remaining = atomicPointService.usePoint("user1", 50000L);
+
+        // then
+        assertThat(remaining).isEqualTo(50000L);
+        verify(pointBalanceRepository, never()).findById(any());
+        verify(pointBalanceRepository, never()).save(any(PointBalance.class));
+    }
+
+    @Test
+    @DisplayName("atomic 전략 - 갱신된 행이 없으면 잔액 행 존재 여부로 잔액 부족과 사용자 없음을 구분한다")
+    void usePoint_Atomic_NoRowUpdated() {
+        // given
+        PointService atomicPointService = atomicPointService();
+        when(pointBalanceRepository.deductPointIfSufficient(any(), any())).thenReturn(0);
+        when(pointBalanceRepository.findById("user1")).thenReturn(Optional.of(existingBalance));
+        when(pointBalanceRepository.findById("ghost")).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> atomicPointService.usePoint("user1", 200000L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "insufficient-balance");
+        assertThatThrownBy(() -> atomicPointService.usePoint("ghost", 1000L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "user-not-found");
+    }
+
+    @Test
+    @DisplayName("atomic 전략 - UPSERT로 충전하고 반영된 잔액을 응답한다")
+    void charge_Atomic_Upsert() {
+        // given
+        PointService atomicPointService = atomicPointService();
+        when(pointBalanceRepository.findById("user1")).thenReturn(Optional.of(existingBalance));
+
+        // when
+        PointChargeResponse response = atomicPointService.charge(new PointChargeRequest("user1", 50000));
+
+        // then
+        verify(pointBalanceRepository).chargePoint("user1", 50000L);
+        verify(pointBalanceRepository, never()).save(any(PointBalance.class));
+        assertThat(response.getTotalPoints()).isEqualTo(100000);
+    }
+
+    @Test
+    @DisplayName("ledger 전략 - 충전은 원장 INSERT만 하고 잔액 행을 건드리지 않는다")
+    void charge_Ledger_InsertOnly() {
+        // given
+        PointService ledgerPointService = pointService(LedgerPointBalanceManager.STRATEGY);
+        when(pointBalanceRepository.findById("user1")).thenReturn(Optional.of(existingBalance));
+        when(pointTransactionRepository.sumPendingAmount("user1")).thenReturn(50000L);
+
+        // when
+        PointChargeResponse response = ledgerPointService.charge(new PointChargeRequest("user1", 50000));
+
+        // then
+        ArgumentCaptor<PointTransaction> captor = ArgumentCaptor.forClass(PointTransaction.class);
+        verify(pointTransactionRepository).save(captor.capture());
+        assertThat(captor.getValue().getType()).isEqualTo(PointTransactionType.CHARGE);
+        assertThat(captor.getValue().getAmount()).isEqualTo(50000L);
+        verify(pointBalanceRepository, never()).save(any(PointBalance.class));
+        verify(pointBalanceRepository, never()).chargePoint(any(), any());
+        assertThat(response.getTotalPoints()).isEqualTo(150000);
+    }
+
+    @Test
+    @DisplayName("ledger 전략 - 잔액 조회는 스냅샷과 미반영 거래 합을 더한다")
+    void getBalance_Ledger_SnapshotPlusPending() {
+        // given
+        PointService ledgerPointService = pointService(LedgerPointBalanceManager.STRATEGY);
+        when(pointBalanceRepository.findById("user1")).thenReturn(Optional.of(existingBalance));
+        when(pointTransactionRepository.sumPendingAmount("user1")).thenReturn(-30000L);
+
+        // when
+        PointBalanceResponse response = ledgerPointService.getBalance("user1");
+
+        // then
+        assertThat(response.getBalance()).isEqualTo(70000);
+    }
+
+    @Test
+    @DisplayName("ledger 전략 - 사용은 스냅샷 행을 잠근 뒤 미반영 거래까지 합쳐 잔액을 확인한다")
+    void usePoint_Ledger_ChecksSnapshotPlusPending() {
+        // given - 스냅샷 100,000원 + 미반영 사용 -80,000원 = 20,000원
+        PointService ledgerPointService = pointService(LedgerPointBalanceManager.STRATEGY);
+        when(pointBalanceRepository.findBalanceForUpdate("user1")).thenReturn(Optional.of(100000L));
+        when(pointTransactionRepository.findPendingForUpdate("user1"))
+                .thenReturn(List.of(PointTransaction.use("user1", 80000L)));
+
+        // when & then
+        assertThatThrownBy(() -> ledgerPointService.usePoint("user1", 30000L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "insufficient-balance");
+        ledgerPointService.usePoint("user1", 20000L);
+
+        ArgumentCaptor<PointTransaction> captor = ArgumentCaptor.forClass(PointTransaction.class);
+        verify(pointTransactionRepository, times(1)).save(captor.capture());
+        assertThat(captor.getValue().getAmount()).isEqualTo(-20000L);
+    }
+
+    @Test
+    @DisplayName("ledger 전략 - 잔액 행도 거래 이력도 없는 사용자는 404")
+    void usePoint_Ledger_UnknownUser() {
+        // given
+        PointService ledgerPointService = pointService(LedgerPointBalanceManager.STRATEGY);
+        when(pointBalanceRepository.findBalanceForUpdate("ghost")).thenReturn(Optional.empty());
+        when(pointTransactionRepository.existsByUserId("ghost")).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> ledgerPointService.usePoint("ghost", 1000L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "user-not-found");
+        verify(pointTransactionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("redis 전략 - Redis 스크립트가 잔액 부족으로 거절하면 400이고 MySQL을 건드리지 않는다")
+    void usePoint_Redis_Insufficient() {
+        // given
+        PointService redisPointService = pointService(RedisPointBalanceManager.STRATEGY);
+        when(pointBalanceStore.apply("user1", -200000L)).thenReturn(PointBalanceStore.INSUFFICIENT);
+
+        // when & then
+        assertThatThrownBy(() -> redisPointService.usePoint("user1", 200000L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "insufficient-balance");
+        verifyNoInteractions(pointBalanceRepository);
+    }
+
+    @Test
+    @DisplayName("redis 전략 - Redis에 잔액이 없으면 MySQL 행(잔액, version)으로 적재한 뒤 다시 차감한다")
+    void usePoint_Redis_LoadsFromMySqlOnMiss() {
+        // given
+        PointService redisPointService = pointService(RedisPointBalanceManager.STRATEGY);
+        when(pointBalanceStore.apply("user1", -50000L))
+                .thenReturn(PointBalanceStore.NOT_LOADED)
+                .thenReturn(50000L);
+        when(pointBalanceRepository.findById("user1")).thenReturn(Optional.of(existingBalance));
+
+        // when
+        redisPointService.usePoint("user1", 50000L);
+
+        // then
+        verify(pointBalanceStore).loadIfAbsent(new PointBalanceSnapshot("user1", 100000L, 0L));
+        verify(pointBalanceStore, times(2)).apply("user1", -50000L);
+        verify(pointBalanceRepository, never()).save(any(PointBalance.class));
+    }
+
+    @Test
+    @DisplayName("redis 전략 - Redis에도 MySQL에도 잔액이 없으면 사용은 404, 충전은 0원으로 적재 후 충전한다")
+    void redis_UnknownUser() {
+        // given
+        PointService redisPointService = pointService(RedisPointBalanceManager.STRATEGY);
+        when(pointBalanceStore.apply(eq("newUser"), anyLong()))
+                .thenReturn(PointBalanceStore.NOT_LOADED, PointBalanceStore.NOT_LOADED, 30000L);
+        when(pointBalanceRepository.findById("newUser")).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> redisPointService.usePoint("newUser", 1000L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "user-not-found");
+
+        PointChargeResponse response = redisPointService.charge(new PointChargeRequest("newUser", 30000));
+        assertThat(response.getTotalPoints()).isEqualTo(30000);
+        verify(pointBalanceStore).loadIfAbsent(new PointBalanceSnapshot("newUser", 0L, 0L));
+    }
+
+    @Test
+    @DisplayName("잔액 캐시 - 두 번째 조회부터는 DB를 조회하지 않는다")
+    void getBalance_CachedAfterFirstRead() {
+        // given
+        when(pointBalanceRepository.findById("user1")).thenReturn(Optional.of(existingBalance));
+
+        // when
+        pointService.getBalance("user1");
+        PointBalanceResponse response = pointService.getBalance("user1");
+
+        // then
+        assertThat(response.getBalance()).isEqualTo(100000);
+        verify(pointBalanceRepository, times(1)).findById("user1");
+    }
+
+    @Test
+    @DisplayName("잔액 캐시 - 사용 결과를 write-through로 기록하고 다른 노드에 변경을 알린다")
+    void usePoint_WritesThroughCache() {
+        // given
+        when(pointBalanceRepository.findById("user1")).thenReturn(Optional.of(existingBalance));
+
+        // when
+        long remaining = pointService.usePoint("user1", 30000L);
+        PointBalanceResponse response = pointService.getBalance("user1");
+
+        // then
+        assertThat(remaining).isEqualTo(70000L);
+        assertThat(response.getBalance()).isEqualTo(70000);
+        verify(pointBalanceRepository, times(1)).findById("user1");
+        verify(pointBalanceChannel).publish("user1");
+    }
+
+    @Test
+    @DisplayName("잔액 캐시 - ledger 전략은 충전 후 캐시를 제거만 하고 다음 조회에서 다시 읽는다")
+    void charge_Ledger_InvalidatesCache() {
+        // given
+        PointService ledgerPointService = pointService(LedgerPointBalanceManager.STRATEGY);
+        when(pointBalanceRepository.findById("user1")).thenReturn(Optional.of(existingBalance));
+        when(pointTransactionRepository.sumPendingAmount("user1")).thenReturn(0L, 50000L, 50000L);
+        ledgerPointService.getBalance("user1");
+
+        // when
+        ledgerPointService.charge(new PointChargeRequest("user1", 50000));
+        PointBalanceResponse response = ledgerPointService.getBalance("user1");
+
+        // then
+        assertThat(response.getBalance()).isEqualTo(150000);
+        verify(pointTransactionRepository, times(3)).sumPendingAmount("user1");
+        verify(pointBalanceChannel).publish("user1");
+    }
+
+    @Test
+    @DisplayName("잔액 캐시 - redis 전략은 캐시를 거치지 않고 매번 Redis를 조회한다")
+    void getBalance_Redis_BypassesCache() {
+        // given
+        PointService redisPointService = pointService(RedisPointBalanceManager.STRATEGY);
+        when(pointBalanceStore.find("user1"))
+                .thenReturn(Optional.of(new PointBalanceSnapshot("user1", 100000L, 3L)));
+
+        // when
+        redisPointService.getBalance("user1");
+        redisPointService.getBalance("user1");
+
+        // then
+        verify(pointBalanceStore, times(2)).find("user1");
+        verifyNoInteractions(pointBalanceChannel);
+    }
+
+    private PointService atomicPointService() {
+        return pointService(AtomicPointBalanceManager.STRATEGY);
+    }
+
+    private PointService pointService(String strategy) {
+        return new PointService(
+                List.of(new LockingPointBalanceManager(pointBalanceRepository),
+                        new AtomicPointBalanceManager(pointBalanceRepository),
+                        new LedgerPointBalanceManager(pointBalanceRepository, pointTransactionRepository),
+                        new RedisPointBalanceManager(pointBalanceStore, pointBalanceRepository)),
+                new PointBalanceCache(pointBalanceChannel, new SimpleMeterRegistry(), 30000L, 1000),
+                strategy);
+    }
 }
@@ -0,0 +1,127 @@
+package kr.hhplus.be.server.application.point;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.point.application.service.PointWriteBehindService;
+import kr.hhplus.be.server.point.domain.model.PointBalance;
+import kr.hhplus.be.server.point.domain.model.PointBalanceChange;
+import kr.hhplus.be.server.point.domain.model.PointBalanceSnapshot;
+import kr.hhplus.be.server.point.domain.repository.PointBalanceRepository;
+import kr.hhplus.be.server.point.domain.repository.PointBalanceStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Redis 원본 포인트 잔액 write-behind / 대사 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("포인트 write-behind 단위 테스트")
+class PointWriteBehindServiceTest {
+
+    @Mock
+    private PointBalanceStore pointBalanceStore;
+
+    @Mock
+    private PointBalanceRepository pointBalanceRepository;
+
+    private PointWriteBehindService writeBehindService;
+
+    @BeforeEach
+    void setUp() {
+        writeBehindService = new PointWriteBehindService(pointBalanceStore, pointBalanceRepository,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("flush - 같은 사용자의 변경은 최신 순번만 UPSERT하고 읽은 기록을 모두 ACK한다")
+    void flush_CollapsesPerUserAndAcknowledges() {
+        // given
+        when(pointBalanceStore.readChanges(100)).thenReturn(List.of(
+                new PointBalanceChange("1-0", "user1", -1000L, 9000L, 11L),
+                new PointBalanceChange("2-0", "user2", 5000L, 5000L, 1L),
+                new PointBalanceChange("3-0", "user1", -2000L, 7000L, 12L)
+        ));
+
+        // when
+        int read = writeBehindService.flush(100);
+
+        // then
+        assertThat(read).isEqualTo(3);
+        verify(pointBalanceRepository).upsertIfNewer(List.of(
+                new PointBalanceSnapshot("user1", 7000L, 12L),
+                new PointBalanceSnapshot("user2", 5000L, 1L)
+        ));
+        verify(pointBalanceStore).acknowledge(List.of("1-0", "2-0", "3-0"));
+    }
+
+    @Test
+    @DisplayName("flush - MySQL 반영이 실패하면 ACK하지 않아 다음 주기에 같은 기록을 다시 읽는다")
+    void flush_FailureLeavesChangesPending() {
+        // given
+        when(pointBalanceStore.readChanges(100)).thenReturn(List.of(
+                new PointBalanceChange("1-0", "user1", -1000L, 9000L, 11L)));
+        doThrow(new IllegalStateException("db down")).when(pointBalanceRepository).upsertIfNewer(any());
+
+        // when & then
+        assertThatThrownBy(() -> writeBehindService.flush(100))
+                .isInstanceOf(IllegalStateException.class);
+        verify(pointBalanceStore, never()).acknowledge(any());
+    }
+
+    @Test
+    @DisplayName("reconcile - MySQL이 뒤처지거나 잔액이 다르면 Redis 값으로 보정하고, MySQL이 앞서면 Redis 잔액을 제거한다")
+    void reconcile_ClassifiesDifferences() throws Exception {
+        // given
+        List<PointBalanceSnapshot> snapshots = List.of(
+                new PointBalanceSnapshot("behind", 7000L, 12L),
+                new PointBalanceSnapshot("mismatch", 3000L, 5L),
+                new PointBalanceSnapshot("stale", 1000L, 2L),
+                new PointBalanceSnapshot("same", 4000L, 8L)
+        );
+        doAnswer(invocation -> {
+            Consumer<List<PointBalanceSnapshot>> action = invocation.getArgument(1);
+            action.accept(snapshots);
+            return null;
+        }).when(pointBalanceStore).forEachSnapshot(anyInt(), any());
+        when(pointBalanceRepository.findAllByUserIds(any())).thenReturn(List.of(
+                row("behind", 9000L, 11L),
+                row("mismatch", 2500L, 5L),
+                row("stale", 8000L, 4L),
+                row("same", 4000L, 8L)
+        ));
+        when(pointBalanceStore.evictIfUnchanged("stale", 2L)).thenReturn(true);
+
+        // when
+        int corrected = writeBehindService.reconcile(100);
+
+        // then
+        assertThat(corrected).isEqualTo(2);
+        verify(pointBalanceRepository).upsertIfNewer(List.of(snapshots.get(0), snapshots.get(1)));
+        verify(pointBalanceStore).evictIfUnchanged("stale", 2L);
+        verify(pointBalanceStore, never()).evictIfUnchanged(eq("same"), anyLong());
+    }
+
+    private PointBalance row(String userId, long balance, long version) throws Exception {
+        PointBalance row = new PointBalance(userId);
+        row.charge(balance);
+        Field field = PointBalance.class.getDeclaredField("version");
+        field.setAccessible(true);
+        field.set(row, version);
+        return row;
+    }
+}
@@ -0,0 +1,104 @@
+package kr.hhplus.be.server.application.reservation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.reservation.application.service.ReservationExpiryService;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.reservation.domain.repository.ReservationRepository;
+import kr.hhplus.be.server.shared.infrastructure.scheduler.ExpirationScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 만료 스윕 스케줄러 단위 테스트 (청크/키셋 처리)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("만료 스윕 스케줄러 단위 테스트")
+class ExpirationSchedulerTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ReservationExpiryService reservationExpiryService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExpirationScheduler expirationScheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        expirationScheduler = new ExpirationScheduler(reservationRepository, reservationExpiryService, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("만료 예약을 500건 청크로 나눠 키셋 커서를 이어가며 처리한다")
+    void releaseExpiredReservations_ProcessesInChunks() throws Exception {
+        // Given - 첫 청크 500건, 두 번째 청크 3건
+        LocalDateTime until = LocalDateTime.now().minusMinutes(1);
+        List<Reservation> firstChunk = reservations(1, 500, until);
+        List<Reservation> secondChunk = reservations(501, 3, until);
+
+        when(reservationRepository.findExpiredHoldPage(any(), isNull(), isNull(), eq(500))).thenReturn(firstChunk);
+        when(reservationRepository.findExpiredHoldPage(any(), eq(until), eq(500L), eq(500))).thenReturn(secondChunk);
+        when(reservationExpiryService.expire(anyList(), any())).thenReturn(500, 3);
+
+        // When
+        expirationScheduler.releaseExpiredReservations();
+
+        // Then
+        verify(reservationExpiryService, times(2)).expire(anyList(), any());
+        assertThat(meterRegistry.counter("reservation.expiry.sweep.expired").count()).isEqualTo(503);
+        assertThat(meterRegistry.counter("reservation.expiry.sweep.chunks", "result", "success").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("청크 처리에 실패해도 다음 청크를 계속 처리한다")
+    void releaseExpiredReservations_ContinuesAfterChunkFailure() throws Exception {
+        // Given
+        LocalDateTime until = LocalDateTime.now().minusMinutes(1);
+        when(reservationRepository.findExpiredHoldPage(any(), isNull(), isNull(), eq(500)))
+                .thenReturn(reservations(1, 500, until));
+        when(reservationRepository.findExpiredHoldPage(any(), eq(until), eq(500L), eq(500)))
+                .thenReturn(reservations(501, 1, until));
+        when(reservationExpiryService.expire(anyList(), any()))
+                .thenThrow(new RuntimeException("lock wait timeout"))
+                .thenReturn(1);
+
+        // When
+        expirationScheduler.releaseExpiredReservations();
+
+        // Then
+        assertThat(meterRegistry.counter("reservation.expiry.sweep.chunks", "result", "failure").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("reservation.expiry.sweep.expired").count()).isEqualTo(1);
+    }
+
+    private List<Reservation> reservations(long firstId, int count, LocalDateTime until) throws Exception {
+        List<Reservation> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Reservation reservation = Reservation.create("user-" + i, (long) i, "2026-02-01", i + 1, 150000L);
+            setFieldValue(reservation, "id", firstId + i);
+            setFieldValue(reservation, "reservedUntil", until);
+            list.add(reservation);
+        }
+        return list;
+    }
+
+    private void setFieldValue(Object target, String fieldName, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
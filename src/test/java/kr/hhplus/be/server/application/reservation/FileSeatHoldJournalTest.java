@@ -0,0 +1,116 @@
+package kr.hhplus.be.server.application.reservation;
+
+import kr.hhplus.be.server.reservation.domain.model.HoldClaim;
+import kr.hhplus.be.server.reservation.domain.model.JournaledHold;
+import kr.hhplus.be.server.reservation.infrastructure.journal.FileSeatHoldJournal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("파일 좌석 선점 저널 테스트")
+class FileSeatHoldJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("재시작 시 DB 반영이 끝나지 않은 선점만 재생")
+    void replay_OnlyUnflushedHolds() throws Exception {
+        // given
+        FileSeatHoldJournal journal = journal();
+        List<JournaledHold> first = journal.append(List.of(claim(1L, "user-1", 1), claim(2L, "user 2\twith tab", 2)));
+        List<JournaledHold> second = journal.append(List.of(claim(3L, "user-3", 3)));
+        journal.markFlushed(first);
+        journal.close();
+
+        // when
+        FileSeatHoldJournal restarted = journal();
+        List<JournaledHold> replayed = restarted.replay();
+
+        // then
+        assertThat(replayed).containsExactlyElementsOf(second);
+        assertThat(restarted.append(List.of(claim(4L, "user-4", 4))).get(0).sequence()).isEqualTo(4L);
+        restarted.close();
+    }
+
+    @Test
+    @DisplayName("앞선 선점이 반영되지 않았으면 체크포인트를 넘기지 않음")
+    void markFlushed_CheckpointStopsAtGap() throws Exception {
+        // given
+        FileSeatHoldJournal journal = journal();
+        List<JournaledHold> first = journal.append(List.of(claim(1L, "user-1", 1)));
+        List<JournaledHold> second = journal.append(List.of(claim(2L, "user-2", 2)));
+
+        // when: 두 번째만 반영
+        journal.markFlushed(second);
+        journal.close();
+
+        // then
+        FileSeatHoldJournal restarted = journal();
+        assertThat(restarted.replay()).extracting(JournaledHold::sequence).containsExactly(1L, 2L);
+        assertThat(first).hasSize(1);
+        restarted.close();
+    }
+
+    @Test
+    @DisplayName("비정상 종료로 잘린 마지막 줄은 잘라내고 이어서 기록")
+    void replay_SkipsTornLine() throws Exception {
+        // given
+        FileSeatHoldJournal journal = journal();
+        journal.append(List.of(claim(1L, "user-1", 1)));
+        journal.close();
+        Files.writeString(directory.resolve("seat-holds.journal"), "2\t99\t2026-05-0",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        // when
+        FileSeatHoldJournal restarted = journal();
+
+        // then
+        assertThat(restarted.replay()).extracting(hold -> hold.claim().userId()).containsExactly("user-1");
+        restarted.append(List.of(claim(2L, "user-2", 2)));
+        restarted.close();
+
+        FileSeatHoldJournal again = journal();
+        assertThat(again.replay()).extracting(hold -> hold.claim().userId()).containsExactly("user-1", "user-2");
+        again.close();
+    }
+
+    @Test
+    @DisplayName("미반영 기록이 계속 남아 있어도 반영이 끝난 앞부분은 압축되어 저널이 자라지 않음")
+    void markFlushed_CompactsFlushedPrefix() throws Exception {
+        // given: 압축 기준 1바이트, 항상 직전 묶음 하나가 미반영인 상태로 계속 기록
+        FileSeatHoldJournal journal = new FileSeatHoldJournal(directory.toString(), 1L);
+        List<JournaledHold> previous = journal.append(List.of(claim(1L, "user-1", 1)));
+        for (long id = 2; id <= 50; id++) {
+            List<JournaledHold> current = journal.append(List.of(claim(id, "user-" + id, (int) id)));
+            journal.markFlushed(previous);
+            previous = current;
+        }
+        journal.close();
+
+        // then: 파일에는 마지막 미반영 기록만 남고, 재시작 후 sequence도 이어짐
+        assertThat(Files.readAllLines(directory.resolve("seat-holds.journal"))).hasSize(1);
+        FileSeatHoldJournal restarted = journal();
+        assertThat(restarted.replay()).containsExactlyElementsOf(previous);
+        assertThat(restarted.append(List.of(claim(51L, "user-51", 51))).get(0).sequence()).isEqualTo(51L);
+        restarted.close();
+    }
+
+    private FileSeatHoldJournal journal() {
+        return new FileSeatHoldJournal(directory.toString(), 64L * 1024 * 1024);
+    }
+
+    private static HoldClaim claim(long reservationId, String userId, int seatNumber) {
+        LocalDateTime now = LocalDateTime.of(2026, 5, 1, 10, 0);
+        return new HoldClaim(reservationId, userId, "2026-05-01", seatNumber, 50000L, now, now.plusMinutes(5));
+    }
+}
@@ -0,0 +1,104 @@
+package kr.hhplus.be.server.application.reservation;
+
+import kr.hhplus.be.server.concert.application.event.SeatEventPublisher;
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
+import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import kr.hhplus.be.server.reservation.application.service.ReservationExpiryService;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.reservation.domain.model.ReservationStatus;
+import kr.hhplus.be.server.reservation.domain.repository.ReservationRepository;
+import kr.hhplus.be.server.shared.infrastructure.scheduler.SchedulerFenceGuard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 임시 예약 만료 처리 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("임시 예약 만료 처리 단위 테스트")
+class ReservationExpiryServiceTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private SeatEventPublisher seatEventPublisher;
+
+    @Mock
+    private SchedulerFenceGuard schedulerFenceGuard;
+
+    @InjectMocks
+    private ReservationExpiryService reservationExpiryService;
+
+    @Test
+    @DisplayName("만료된 임시 예약과 좌석을 해제하고 좌석 상태 변경 이벤트를 발행한다")
+    void expire_ReleasesSeatAndExpiresReservation() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Seat seat = new Seat("2026-02-01", 7);
+        seat.reserve("user-1", now.minusSeconds(1));
+        Reservation reservation = Reservation.create("user-1", 70L, "2026-02-01", 7, 150000L);
+
+        when(reservationRepository.findExpiredHoldsByIds(List.of(1L), now)).thenReturn(List.of(reservation));
+        when(seatRepository.findExpiredHoldsForUpdate(List.of(70L), now)).thenReturn(List.of(seat));
+
+        // When
+        int expired = reservationExpiryService.expire(List.of(1L), now);
+
+        // Then
+        assertThat(expired).isEqualTo(1);
+        assertThat(seat.getStatus()).isEqualTo(SeatStatus.AVAILABLE);
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.EXPIRED);
+        verify(seatEventPublisher).publishSeatStateChanged(any(SeatStateChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("이미 결제되었거나 만료 처리된 예약은 건드리지 않는다")
+    void expire_SkipsAlreadyHandledReservations() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        when(reservationRepository.findExpiredHoldsByIds(List.of(1L, 2L), now)).thenReturn(List.of());
+
+        // When
+        int expired = reservationExpiryService.expire(List.of(1L, 2L), now);
+
+        // Then
+        assertThat(expired).isZero();
+        verify(seatRepository, never()).findExpiredHoldsForUpdate(any(), any());
+        verify(seatEventPublisher, never()).publishSeatStateChanged(any());
+    }
+
+    @Test
+    @DisplayName("다른 사용자가 재예약한 좌석은 해제하지 않고 예약만 만료 처리한다")
+    void expire_DoesNotReleaseReheldSeat() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Reservation reservation = Reservation.create("user-1", 70L, "2026-02-01", 7, 150000L);
+        when(reservationRepository.findExpiredHoldsByIds(List.of(1L), now)).thenReturn(List.of(reservation));
+        when(seatRepository.findExpiredHoldsForUpdate(List.of(70L), now)).thenReturn(List.of());
+
+        // When
+        int expired = reservationExpiryService.expire(List.of(1L), now);
+
+        // Then
+        assertThat(expired).isEqualTo(1);
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.EXPIRED);
+        verify(seatEventPublisher, never()).publishSeatStateChanged(any());
+    }
+}
@@ -0,0 +1,229 @@
+package kr.hhplus.be.server.application.reservation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.concert.application.event.SeatEventPublisher;
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.reservation.application.event.ReservationEventPublisher;
+import kr.hhplus.be.server.reservation.application.service.ReservationGroupCommitWriter;
+import kr.hhplus.be.server.reservation.domain.event.ReservationCompletedEvent;
+import kr.hhplus.be.server.reservation.domain.model.HoldClaim;
+import kr.hhplus.be.server.reservation.domain.repository.HoldBatchRepository;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * 좌석 선점 그룹 커밋 라이터 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("좌석 선점 그룹 커밋 라이터 단위 테스트")
+class ReservationGroupCommitWriterTest {
+
+    private static final int BATCH_SIZE = 3;
+
+    @Mock
+    private HoldBatchRepository holdBatchRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SeatEventPublisher seatEventPublisher;
+
+    @Mock
+    private ReservationEventPublisher reservationEventPublisher;
+
+    private ReservationGroupCommitWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        // 배치 크기로만 플러시되도록 대기 시간을 길게 설정
+        writer = new ReservationGroupCommitWriter(holdBatchRepository, transactionManager,
+                seatEventPublisher, reservationEventPublisher, new SimpleMeterRegistry(),
+                true, BATCH_SIZE, 10_000, 100);
+        writer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.stop();
+    }
+
+    @Test
+    @DisplayName("N건이 모이면 한 트랜잭션에서 선점/INSERT 배치를 실행하고 선점 실패 요청만 예외로 완료한다")
+    void flush_ClaimsInOneBatch() throws Exception {
+        // Given
+        HoldClaim c1 = claim(1L, 1);
+        HoldClaim c2 = claim(2L, 2);
+        HoldClaim c3 = claim(3L, 3);
+        when(holdBatchRepository.claimAvailableSeats(List.of(c1, c2, c3))).thenReturn(new boolean[]{true, false, true});
+        when(holdBatchRepository.claimExpiredSeats(eq(List.of(c2)), any())).thenReturn(new boolean[]{false});
+
+        // When
+        CompletableFuture<HoldClaim> f1 = writer.submit(c1);
+        CompletableFuture<HoldClaim> f2 = writer.submit(c2);
+        CompletableFuture<HoldClaim> f3 = writer.submit(c3);
+
+        // Then
+        assertThat(f1.get(5, TimeUnit.SECONDS)).isEqualTo(c1);
+        assertThat(f3.get(5, TimeUnit.SECONDS)).isEqualTo(c3);
+        assertThatThrownBy(() -> f2.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(BusinessException.class);
+
+        verify(holdBatchRepository).insertReservations(List.of(c1, c3));
+        verify(transactionManager, times(1)).commit(any());
+        verify(seatEventPublisher, times(2)).publishSeatStateChanged(any());
+        verify(reservationEventPublisher, times(2)).publishReservationCompleted(any(ReservationCompletedEvent.class));
+    }
+
+    @Test
+    @DisplayName("만료된 임시 배정 좌석을 재선점하면 이전 상태를 TEMP_HELD로 이벤트 발행한다")
+    void flush_ReclaimsExpiredHold() throws Exception {
+        // Given
+        HoldClaim c1 = claim(1L, 1);
+        HoldClaim c2 = claim(2L, 2);
+        HoldClaim c3 = claim(3L, 3);
+        when(holdBatchRepository.claimAvailableSeats(anyList())).thenReturn(new boolean[]{true, true, false});
+        when(holdBatchRepository.claimExpiredSeats(eq(List.of(c3)), any())).thenReturn(new boolean[]{true});
+
+        // When
+        CompletableFuture<HoldClaim> f1 = writer.submit(c1);
+        CompletableFuture<HoldClaim> f2 = writer.submit(c2);
+        CompletableFuture<HoldClaim> f3 = writer.submit(c3);
+        CompletableFuture.allOf(f1, f2, f3).get(5, TimeUnit.SECONDS);
+
+        // Then
+        ArgumentCaptor<SeatStateChangedEvent> captor = ArgumentCaptor.forClass(SeatStateChangedEvent.class);
+        verify(seatEventPublisher, times(3)).publishSeatStateChanged(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(SeatStateChangedEvent::getPreviousStatus)
+                .containsExactly(SeatStatus.AVAILABLE, SeatStatus.AVAILABLE, SeatStatus.TEMP_HELD);
+        verify(holdBatchRepository).insertReservations(List.of(c1, c2, c3));
+    }
+
+    @Test
+    @DisplayName("도착 순서와 관계없이 (공연 날짜, 좌석 번호) 순으로 선점한다")
+    void flush_ClaimsInSeatOrder() throws Exception {
+        // Given
+        HoldClaim c1 = claim(1L, 1);
+        HoldClaim c2 = claim(2L, 2);
+        HoldClaim c3 = claim(3L, 3);
+        when(holdBatchRepository.claimAvailableSeats(anyList())).thenReturn(new boolean[]{true, true, true});
+
+        // When
+        CompletableFuture<HoldClaim> f3 = writer.submit(c3);
+        CompletableFuture<HoldClaim> f1 = writer.submit(c1);
+        CompletableFuture<HoldClaim> f2 = writer.submit(c2);
+        CompletableFuture.allOf(f1, f2, f3).get(5, TimeUnit.SECONDS);
+
+        // Then
+        verify(holdBatchRepository).claimAvailableSeats(List.of(c1, c2, c3));
+        verify(holdBatchRepository).insertReservations(List.of(c1, c2, c3));
+        assertThat(f3.get()).isEqualTo(c3);
+    }
+
+    @Test
+    @DisplayName("교착 상태로 롤백되면 배치를 한 번 더 실행한다")
+    void flush_DeadlockRetriedOnce() throws Exception {
+        // Given
+        when(holdBatchRepository.claimAvailableSeats(anyList()))
+                .thenThrow(new CannotAcquireLockException("Deadlock found when trying to get lock"))
+                .thenReturn(new boolean[]{true, true, true});
+
+        // When
+        CompletableFuture<HoldClaim> f1 = writer.submit(claim(1L, 1));
+        CompletableFuture<HoldClaim> f2 = writer.submit(claim(2L, 2));
+        CompletableFuture<HoldClaim> f3 = writer.submit(claim(3L, 3));
+        CompletableFuture.allOf(f1, f2, f3).get(5, TimeUnit.SECONDS);
+
+        // Then
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+        verify(holdBatchRepository, times(1)).insertReservations(anyList());
+    }
+
+    @Test
+    @DisplayName("배치가 실패하면 요청별로 나눠 다시 처리하고 실패한 요청만 503으로 완료한다")
+    void flush_FailureIsolatesFailingClaim() throws Exception {
+        // Given - 2번 좌석 요청이 포함되면 실패
+        HoldClaim c1 = claim(1L, 1);
+        HoldClaim c2 = claim(2L, 2);
+        HoldClaim c3 = claim(3L, 3);
+        when(holdBatchRepository.claimAvailableSeats(anyList())).thenAnswer(invocation -> {
+            List<HoldClaim> claims = invocation.getArgument(0);
+            if (claims.contains(c2)) {
+                throw new IllegalStateException("db error");
+            }
+            return new boolean[]{true};
+        });
+
+        // When
+        CompletableFuture<HoldClaim> f1 = writer.submit(c1);
+        CompletableFuture<HoldClaim> f2 = writer.submit(c2);
+        CompletableFuture<HoldClaim> f3 = writer.submit(c3);
+
+        // Then
+        assertThat(f1.get(5, TimeUnit.SECONDS)).isEqualTo(c1);
+        assertThat(f3.get(5, TimeUnit.SECONDS)).isEqualTo(c3);
+        assertThatThrownBy(() -> f2.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getHttpStatus()).isEqualTo(503));
+        verify(transactionManager, times(2)).rollback(any());
+        verify(holdBatchRepository).insertReservations(List.of(c1));
+        verify(holdBatchRepository).insertReservations(List.of(c3));
+    }
+
+    @Test
+    @DisplayName("DB 오류가 계속되면 롤백하고 배치의 모든 요청을 503 예외로 완료한다")
+    void flush_FailureCompletesAllExceptionally() {
+        // Given
+        when(holdBatchRepository.claimAvailableSeats(anyList())).thenThrow(new IllegalStateException("db down"));
+
+        // When
+        CompletableFuture<HoldClaim> f1 = writer.submit(claim(1L, 1));
+        CompletableFuture<HoldClaim> f2 = writer.submit(claim(2L, 2));
+        CompletableFuture<HoldClaim> f3 = writer.submit(claim(3L, 3));
+
+        // Then
+        for (CompletableFuture<HoldClaim> future : List.of(f1, f2, f3)) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause()
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("다시 시도");
+        }
+        verify(transactionManager, times(4)).rollback(any());
+        verify(holdBatchRepository, never()).insertReservations(anyList());
+        verifyNoInteractions(seatEventPublisher, reservationEventPublisher);
+    }
+
+    private HoldClaim claim(Long reservationId, int seatNumber) {
+        LocalDateTime now = LocalDateTime.now();
+        return new HoldClaim(reservationId, "user-" + seatNumber, "2026-03-01", seatNumber,
+                150000L, now, now.plusMinutes(5));
+    }
+}
@@ -0,0 +1,204 @@
+package kr.hhplus.be.server.application.reservation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.concert.application.event.SeatEventPublisher;
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
+import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import kr.hhplus.be.server.queue.application.service.QueueService;
+import kr.hhplus.be.server.reservation.application.event.ReservationEventPublisher;
+import kr.hhplus.be.server.reservation.application.service.ReservationHoldService;
+import kr.hhplus.be.server.reservation.domain.event.ReservationHoldChangedEvent;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.reservation.domain.model.ReservationStatus;
+import kr.hhplus.be.server.reservation.domain.repository.ReservationRepository;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatReserveRequest;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatReserveResponse;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 임시 예약 연장/직접 해제 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("임시 예약 연장/해제 단위 테스트")
+class ReservationHoldServiceTest {
+
+    private static final String DATE = "2026-06-01";
+    private static final String USER_ID = "user-1";
+    private static final String TOKEN = "queue-token";
+    private static final Long SEAT_ID = 10L;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private QueueService queueService;
+
+    @Mock
+    private ReservationEventPublisher reservationEventPublisher;
+
+    @Mock
+    private SeatEventPublisher seatEventPublisher;
+
+    private ReservationHoldService reservationHoldService;
+    private SeatReserveRequest request;
+    private Seat seat;
+    private Reservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        reservationHoldService = new ReservationHoldService(seatRepository, reservationRepository, queueService,
+                reservationEventPublisher, seatEventPublisher, new SimpleMeterRegistry(), 2, 10);
+        request = new SeatReserveRequest(USER_ID, DATE, 7);
+        seat = new Seat(DATE, 7);
+        seat.reserve(USER_ID, LocalDateTime.now().plusMinutes(5));
+        reservation = Reservation.create(USER_ID, SEAT_ID, DATE, 7, 150000L);
+    }
+
+    @Test
+    @DisplayName("해제 - 좌석을 바로 AVAILABLE로 돌리고 예약을 취소하며 해제 이벤트를 발행한다")
+    void release_Success() {
+        // given
+        givenHold();
+
+        // when
+        SeatReserveResponse response = reservationHoldService.release(request, TOKEN);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(SeatReserveResponse.ReservationStatus.RELEASED);
+        assertThat(seat.getStatus()).isEqualTo(SeatStatus.AVAILABLE);
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+
+        ArgumentCaptor<SeatStateChangedEvent> seatEvent = ArgumentCaptor.forClass(SeatStateChangedEvent.class);
+        verify(seatEventPublisher).publishSeatStateChanged(seatEvent.capture());
+        assertThat(seatEvent.getValue().getPreviousStatus()).isEqualTo(SeatStatus.TEMP_HELD);
+        assertThat(seatEvent.getValue().getStatus()).isEqualTo(SeatStatus.AVAILABLE);
+
+        ArgumentCaptor<ReservationHoldChangedEvent> holdEvent = ArgumentCaptor.forClass(ReservationHoldChangedEvent.class);
+        verify(reservationEventPublisher).publishReservationHoldChanged(holdEvent.capture());
+        assertThat(holdEvent.getValue().isReleased()).isTrue();
+    }
+
+    @Test
+    @DisplayName("해제 - 만료 후 다른 사용자가 재배정한 좌석은 건드리지 않고 예약만 취소한다")
+    void release_SeatHeldByOther_OnlyCancelsReservation() throws Exception {
+        // given
+        Seat reassigned = new Seat(DATE, 7);
+        reassigned.reserve("user-2", LocalDateTime.now().plusMinutes(5));
+        setField(reservation, "reservedUntil", LocalDateTime.now().minusMinutes(1));
+        when(reservationRepository.findByUserIdAndConcertDateAndSeatNumberAndStatus(
+                USER_ID, DATE, 7, ReservationStatus.TEMP_HELD)).thenReturn(Optional.of(reservation));
+        when(seatRepository.findById(SEAT_ID)).thenReturn(Optional.of(reassigned));
+
+        // when
+        reservationHoldService.release(request, TOKEN);
+
+        // then
+        assertThat(reassigned.getStatus()).isEqualTo(SeatStatus.TEMP_HELD);
+        assertThat(reassigned.getReservedUserId()).isEqualTo("user-2");
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        verify(seatRepository, never()).save(any());
+        verifyNoInteractions(seatEventPublisher);
+    }
+
+    @Test
+    @DisplayName("연장 - 좌석과 예약의 만료 시각을 함께 2분 늘리고 지연 큐 재등록 이벤트를 발행한다")
+    void extend_Success() {
+        // given
+        givenHold();
+        LocalDateTime before = reservation.getReservedUntil();
+
+        // when
+        SeatReserveResponse response = reservationHoldService.extend(request, TOKEN);
+
+        // then
+        LocalDateTime expected = before.plusMinutes(2);
+        assertThat(response.getTempHoldExpires()).isEqualTo(expected);
+        assertThat(reservation.getReservedUntil()).isEqualTo(expected);
+        assertThat(seat.getReservedUntil()).isEqualTo(expected);
+        assertThat(seat.getStatus()).isEqualTo(SeatStatus.TEMP_HELD);
+
+        ArgumentCaptor<ReservationHoldChangedEvent> holdEvent = ArgumentCaptor.forClass(ReservationHoldChangedEvent.class);
+        verify(reservationEventPublisher).publishReservationHoldChanged(holdEvent.capture());
+        assertThat(holdEvent.getValue().getReservedUntil()).isEqualTo(expected);
+        verify(seatEventPublisher).publishSeatStateChanged(any(SeatStateChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("연장 - 예약 시각으로부터 최대 10분까지만 늘리고, 한도에 도달하면 400")
+    void extend_BoundedByMaxHold() throws Exception {
+        // given - 예약 시각 + 9분까지 연장된 상태
+        givenHold();
+        LocalDateTime reservedAt = reservation.getReservedAt();
+        setField(reservation, "reservedUntil", reservedAt.plusMinutes(9));
+
+        // when
+        SeatReserveResponse response = reservationHoldService.extend(request, TOKEN);
+
+        // then
+        assertThat(response.getTempHoldExpires()).isEqualTo(reservedAt.plusMinutes(10));
+        assertThatThrownBy(() -> reservationHoldService.extend(request, TOKEN))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "hold-extension-limit");
+    }
+
+    @Test
+    @DisplayName("연장 - 이미 만료된 예약은 400")
+    void extend_Expired() throws Exception {
+        // given
+        setField(reservation, "reservedUntil", LocalDateTime.now().minusSeconds(1));
+        when(reservationRepository.findByUserIdAndConcertDateAndSeatNumberAndStatus(
+                USER_ID, DATE, 7, ReservationStatus.TEMP_HELD)).thenReturn(Optional.of(reservation));
+
+        // when & then
+        assertThatThrownBy(() -> reservationHoldService.extend(request, TOKEN))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "reservation-expired");
+        verifyNoInteractions(seatEventPublisher, reservationEventPublisher);
+    }
+
+    @Test
+    @DisplayName("임시 예약이 없으면 404")
+    void release_NotFound() {
+        // given
+        when(reservationRepository.findByUserIdAndConcertDateAndSeatNumberAndStatus(
+                USER_ID, DATE, 7, ReservationStatus.TEMP_HELD)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> reservationHoldService.release(request, TOKEN))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "reservation-not-found");
+    }
+
+    private void givenHold() {
+        when(reservationRepository.findByUserIdAndConcertDateAndSeatNumberAndStatus(
+                USER_ID, DATE, 7, ReservationStatus.TEMP_HELD)).thenReturn(Optional.of(reservation));
+        when(seatRepository.findById(SEAT_ID)).thenReturn(Optional.of(seat));
+    }
+
+    private void setField(Object target, String fieldName, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
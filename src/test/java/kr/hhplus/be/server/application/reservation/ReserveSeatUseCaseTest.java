@@ -2,6 +2,8 @@ package kr.hhplus.be.server.application.reservation;
 
 import kr.hhplus.be.server.queue.application.service.QueueService;
 import kr.hhplus.be.server.reservation.application.event.ReservationEventPublisher;
+import kr.hhplus.be.server.concert.application.event.SeatEventPublisher;
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
 import kr.hhplus.be.server.reservation.application.service.ReservationService;
 import kr.hhplus.be.server.reservation.domain.event.ReservationCompletedEvent;
 import kr.hhplus.be.server.shared.common.exception.BusinessException;
@@ -47,6 +49,9 @@ class ReserveSeatUseCaseTest {
     @Mock
     private ReservationEventPublisher reservationEventPublisher;
 
+    @Mock
+    private SeatEventPublisher seatEventPublisher;
+
     @InjectMocks
     private ReservationService reserveSeatUseCase;
 
@@ -96,6 +101,7 @@ class ReserveSeatUseCaseTest {
         verify(seatRepository, times(1)).save(any(Seat.class));
         verify(reservationRepository, times(1)).save(any(Reservation.class));
         verify(reservationEventPublisher, times(1)).publishReservationCompleted(any(ReservationCompletedEvent.class));
+        verify(seatEventPublisher, times(1)).publishSeatStateChanged(any(SeatStateChangedEvent.class));
     }
 
     @Test
@@ -133,8 +139,9 @@ class ReserveSeatUseCaseTest {
 
         // When & Then
         assertThatThrownBy(() -> reserveSeatUseCase.reserveSeat(request, queueToken))
-                .isInstanceOf(IllegalStateException.class)
-                .hasMessageContaining("예약 가능한 좌석이 아닙니다");
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "seat-already-reserved")
+                .hasFieldOrPropertyWithValue("httpStatus", 400);
 
         verify(reservationRepository, never()).save(any());
     }
@@ -0,0 +1,178 @@
+package kr.hhplus.be.server.application.reservation;
+
+import kr.hhplus.be.server.concert.application.event.SeatEventPublisher;
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
+import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import kr.hhplus.be.server.queue.application.service.QueueService;
+import kr.hhplus.be.server.reservation.application.event.ReservationEventPublisher;
+import kr.hhplus.be.server.reservation.application.service.ReservationService;
+import kr.hhplus.be.server.reservation.domain.event.ReservationBatchCompletedEvent;
+import kr.hhplus.be.server.reservation.domain.event.ReservationCompletedEvent;
+import kr.hhplus.be.server.reservation.domain.repository.ReservationRepository;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatBatchReserveRequest;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatBatchReserveResponse;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatReserveResponse;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * 다중 좌석 예약 유스케이스 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("다중 좌석 예약 유스케이스 단위 테스트")
+class ReserveSeatsBatchUseCaseTest {
+
+    private static final String DATE = "2025-01-15";
+    private static final String TOKEN = "test-queue-token";
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private QueueService queueService;
+
+    @Mock
+    private ReservationEventPublisher reservationEventPublisher;
+
+    @Mock
+    private SeatEventPublisher seatEventPublisher;
+
+    @InjectMocks
+    private ReservationService reservationService;
+
+    @Test
+    @DisplayName("배치 예약 성공 - 모든 좌석을 한 번에 임시 배정하고 이벤트를 1건 발행한다")
+    void reserveSeats_Success() {
+        // Given
+        List<Seat> seats = List.of(new Seat(DATE, 10), new Seat(DATE, 11), new Seat(DATE, 12));
+        when(seatRepository.findByConcertDateAndSeatNumbers(DATE, List.of(10, 11, 12))).thenReturn(seats);
+
+        // When
+        SeatBatchReserveResponse response = reservationService.reserveSeats(
+                new SeatBatchReserveRequest("user123", DATE, List.of(12, 10, 11)), TOKEN);
+
+        // Then
+        assertThat(response.getSeatNumbers()).containsExactly(10, 11, 12);
+        assertThat(response.getStatus()).isEqualTo(SeatReserveResponse.ReservationStatus.TEMP_HELD);
+        assertThat(response.getTempHoldExpires()).isNotNull();
+        assertThat(seats).allSatisfy(seat -> {
+            assertThat(seat.getStatus()).isEqualTo(SeatStatus.TEMP_HELD);
+            assertThat(seat.getReservedUserId()).isEqualTo("user123");
+        });
+
+        verify(queueService).validateToken(TOKEN);
+        verify(seatRepository).saveAll(seats);
+        verify(reservationRepository).saveAll(argThat(reservations -> reservations.size() == 3));
+        verify(seatEventPublisher, times(3)).publishSeatStateChanged(any(SeatStateChangedEvent.class));
+
+        ArgumentCaptor<ReservationBatchCompletedEvent> captor = ArgumentCaptor.forClass(ReservationBatchCompletedEvent.class);
+        verify(reservationEventPublisher, times(1)).publishReservationBatchCompleted(captor.capture());
+        assertThat(captor.getValue().getSeats())
+                .extracting(ReservationBatchCompletedEvent.ReservedSeat::getSeatNumber)
+                .containsExactly(10, 11, 12);
+        verify(reservationEventPublisher, never()).publishReservationCompleted(any(ReservationCompletedEvent.class));
+    }
+
+    @Test
+    @DisplayName("배치 예약 실패 - 한 좌석이라도 선점 중이면 아무 좌석도 바꾸지 않는다")
+    void reserveSeats_OneSeatHeld_NothingChanged() {
+        // Given
+        Seat free = new Seat(DATE, 10);
+        Seat held = new Seat(DATE, 11);
+        held.reserve("other-user", LocalDateTime.now().plusMinutes(5));
+        when(seatRepository.findByConcertDateAndSeatNumbers(DATE, List.of(10, 11))).thenReturn(List.of(free, held));
+
+        // When & Then
+        assertThatThrownBy(() -> reservationService.reserveSeats(
+                new SeatBatchReserveRequest("user123", DATE, List.of(10, 11)), TOKEN))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "seat-already-reserved")
+                .hasMessageContaining("[11]");
+
+        assertThat(free.getStatus()).isEqualTo(SeatStatus.AVAILABLE);
+        verify(seatRepository, never()).saveAll(anyList());
+        verify(reservationRepository, never()).saveAll(anyList());
+        verifyNoInteractions(seatEventPublisher, reservationEventPublisher);
+    }
+
+    @Test
+    @DisplayName("배치 예약 - 만료된 임시 배정 좌석은 다시 배정할 수 있다")
+    void reserveSeats_ExpiredHold_Reassigned() {
+        // Given
+        Seat expired = new Seat(DATE, 10);
+        expired.reserve("other-user", LocalDateTime.now().minusMinutes(1));
+        when(seatRepository.findByConcertDateAndSeatNumbers(DATE, List.of(10))).thenReturn(List.of(expired));
+
+        // When
+        reservationService.reserveSeats(new SeatBatchReserveRequest("user123", DATE, List.of(10)), TOKEN);
+
+        // Then
+        assertThat(expired.getStatus()).isEqualTo(SeatStatus.TEMP_HELD);
+        assertThat(expired.getReservedUserId()).isEqualTo("user123");
+    }
+
+    @Test
+    @DisplayName("배치 예약 실패 - 존재하지 않는 좌석이 있으면 404")
+    void reserveSeats_SeatNotFound() {
+        // Given
+        when(seatRepository.findByConcertDateAndSeatNumbers(DATE, List.of(10, 99)))
+                .thenReturn(List.of(new Seat(DATE, 10)));
+
+        // When & Then
+        assertThatThrownBy(() -> reservationService.reserveSeats(
+                new SeatBatchReserveRequest("user123", DATE, List.of(10, 99)), TOKEN))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "seat-not-found")
+                .hasMessageContaining("[99]");
+        verify(seatRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("배치 예약 실패 - 최대 좌석 수 초과")
+    void reserveSeats_TooManySeats() {
+        assertThatThrownBy(() -> reservationService.reserveSeats(
+                new SeatBatchReserveRequest("user123", DATE, List.of(1, 2, 3, 4, 5)), TOKEN))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "invalid-seat-numbers");
+        verifyNoInteractions(seatRepository);
+    }
+
+    @Test
+    @DisplayName("배치 예약 실패 - 중복된 좌석 번호")
+    void reserveSeats_DuplicateSeats() {
+        assertThatThrownBy(() -> reservationService.reserveSeats(
+                new SeatBatchReserveRequest("user123", DATE, List.of(3, 3)), TOKEN))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "invalid-seat-numbers");
+        verifyNoInteractions(seatRepository);
+    }
+
+    @Test
+    @DisplayName("배치 예약 실패 - 좌석 번호에 null이 있으면 400")
+    void validateSeatNumbers_NullElement() {
+        assertThatThrownBy(() -> reservationService.validateSeatNumbers(Arrays.asList(1, null)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "invalid-seat-numbers");
+        verifyNoInteractions(seatRepository);
+    }
+}
@@ -0,0 +1,110 @@
+package kr.hhplus.be.server.application.reservation;
+
+import kr.hhplus.be.server.concert.application.service.SeatAvailabilityIndex;
+import kr.hhplus.be.server.queue.application.service.QueueService;
+import kr.hhplus.be.server.reservation.application.service.ReservationService;
+import kr.hhplus.be.server.reservation.application.service.SeatAutoAssignService;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatAutoAssignRequest;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatBatchReserveRequest;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatBatchReserveResponse;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatReserveResponse;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 연석 자동 배정 유스케이스 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("연석 자동 배정 유스케이스 단위 테스트")
+class SeatAutoAssignServiceTest {
+
+    private static final String DATE = "2026-03-01";
+    private static final String TOKEN = "test-queue-token";
+
+    @Mock
+    private QueueService queueService;
+
+    @Mock
+    private ReservationService reservationService;
+
+    @Mock
+    private SeatAvailabilityIndex seatAvailabilityIndex;
+
+    @InjectMocks
+    private SeatAutoAssignService seatAutoAssignService;
+
+    @Test
+    @DisplayName("후보가 이미 선점됐으면 다른 후보로 재시도하여 배정")
+    void autoAssign_RetriesOnConflict() {
+        // given
+        when(seatAvailabilityIndex.acquireContiguous(DATE, 2))
+                .thenReturn(List.of(10, 11))
+                .thenReturn(List.of(30, 31));
+        SeatBatchReserveResponse success = new SeatBatchReserveResponse(
+                DATE, List.of(30, 31), LocalDateTime.now().plusMinutes(5), SeatReserveResponse.ReservationStatus.TEMP_HELD);
+        when(reservationService.reserveSeats(any(SeatBatchReserveRequest.class), eq(TOKEN)))
+                .thenThrow(new BusinessException("이미 예약된 좌석", "seat-already-reserved", 400))
+                .thenReturn(success);
+
+        // when
+        SeatBatchReserveResponse response = seatAutoAssignService.autoAssign(
+                new SeatAutoAssignRequest("user123", DATE, 2), TOKEN);
+
+        // then
+        assertThat(response.getSeatNumbers()).containsExactly(30, 31);
+        verify(seatAvailabilityIndex).complete(DATE, List.of(10, 11), false);
+        verify(seatAvailabilityIndex).complete(DATE, List.of(30, 31), true);
+    }
+
+    @Test
+    @DisplayName("연석이 없으면 409")
+    void autoAssign_NoContiguousSeats() {
+        // given
+        when(seatAvailabilityIndex.acquireContiguous(DATE, 4)).thenReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> seatAutoAssignService.autoAssign(new SeatAutoAssignRequest("user123", DATE, 4), TOKEN))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "no-contiguous-seats");
+        verifyNoInteractions(reservationService);
+    }
+
+    @Test
+    @DisplayName("재시도할 수 없는 오류는 그대로 전달하고 후보를 돌려놓음")
+    void autoAssign_NonRetryableErrorPropagates() {
+        // given
+        when(seatAvailabilityIndex.acquireContiguous(DATE, 1)).thenReturn(List.of(5));
+        when(reservationService.reserveSeats(any(SeatBatchReserveRequest.class), eq(TOKEN)))
+                .thenThrow(new BusinessException("좌석을 찾을 수 없습니다", "seat-not-found", 404));
+
+        // when & then
+        assertThatThrownBy(() -> seatAutoAssignService.autoAssign(new SeatAutoAssignRequest("user123", DATE, 1), TOKEN))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "seat-not-found");
+        verify(seatAvailabilityIndex, times(1)).acquireContiguous(DATE, 1);
+        verify(seatAvailabilityIndex).complete(DATE, List.of(5), false);
+    }
+
+    @Test
+    @DisplayName("좌석 수가 범위를 벗어나면 인덱스를 건드리지 않고 400")
+    void autoAssign_InvalidCount() {
+        assertThatThrownBy(() -> seatAutoAssignService.autoAssign(new SeatAutoAssignRequest("user123", DATE, 5), TOKEN))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "invalid-seat-count");
+        verify(seatAvailabilityIndex, never()).acquireContiguous(any(), anyInt());
+    }
+}
@@ -0,0 +1,192 @@
+package kr.hhplus.be.server.application.reservation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.concert.application.event.SeatEventPublisher;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository;
+import kr.hhplus.be.server.concert.domain.repository.SeatChangeLogRepository.SeatChange;
+import kr.hhplus.be.server.reservation.application.command.SeatCommandProcessor;
+import kr.hhplus.be.server.reservation.application.event.ReservationEventPublisher;
+import kr.hhplus.be.server.reservation.domain.model.HoldClaim;
+import kr.hhplus.be.server.reservation.domain.model.SeatCommand;
+import kr.hhplus.be.server.reservation.domain.model.SeatCommandReply;
+import kr.hhplus.be.server.reservation.domain.repository.HoldBatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * 파티션 소유 노드의 좌석 명령 처리 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("좌석 명령 처리 단위 테스트")
+class SeatCommandProcessorTest {
+
+    private static final String DATE = "2026-03-01";
+
+    @Mock
+    private HoldBatchRepository holdBatchRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SeatEventPublisher seatEventPublisher;
+
+    @Mock
+    private ReservationEventPublisher reservationEventPublisher;
+
+    @Mock
+    private SeatChangeLogRepository seatChangeLogRepository;
+
+    private SeatCommandProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new SeatCommandProcessor(holdBatchRepository, transactionManager,
+                seatEventPublisher, reservationEventPublisher, seatChangeLogRepository, new SimpleMeterRegistry());
+        when(holdBatchRepository.findExistingReservationIds(anyList())).thenReturn(Set.of());
+    }
+
+    @Test
+    @DisplayName("같은 배치의 같은 좌석은 첫 명령만 DB에 반영하고 나머지는 DB 없이 거절한다")
+    void process_SameSeatInBatch_OnlyFirstGoesToDb() {
+        // given
+        SeatCommand first = command(1L, 1);
+        SeatCommand duplicate = command(2L, 1);
+        SeatCommand other = command(3L, 2);
+        when(holdBatchRepository.claimAvailableSeats(List.of(first.claim(), other.claim())))
+                .thenReturn(new boolean[]{true, true});
+
+        // when
+        List<SeatCommandReply> replies = processor.process(List.of(first, duplicate, other));
+
+        // then
+        assertThat(replies).hasSize(3);
+        assertThat(reply(replies, 1L).succeeded()).isTrue();
+        assertThat(reply(replies, 2L).errorCode()).isEqualTo("seat-already-reserved");
+        assertThat(reply(replies, 3L).succeeded()).isTrue();
+        verify(holdBatchRepository).insertReservations(List.of(first.claim(), other.claim()));
+        verify(transactionManager, times(1)).commit(any());
+        verify(seatEventPublisher, times(2)).publishSeatStateChanged(any());
+    }
+
+    @Test
+    @DisplayName("이전 배치에서 선점한 좌석은 다음 배치에서 DB 없이 거절한다")
+    void process_HeldInPreviousBatch_RejectedLocally() {
+        // given
+        when(holdBatchRepository.claimAvailableSeats(anyList())).thenReturn(new boolean[]{true});
+        processor.process(List.of(command(1L, 5)));
+
+        // when
+        List<SeatCommandReply> replies = processor.process(List.of(command(2L, 5)));
+
+        // then
+        assertThat(replies).singleElement().extracting(SeatCommandReply::errorCode).isEqualTo("seat-already-reserved");
+        verify(holdBatchRepository, times(1)).claimAvailableSeats(anyList());
+    }
+
+    @Test
+    @DisplayName("좌석 변경 로그의 해제를 반영해 다시 선점을 시도한다")
+    void process_ReleasedByChangeLog_ClaimsAgain() {
+        // given - 1번 좌석 선점 후 다른 경로(만료 해제)에서 AVAILABLE로 변경
+        when(holdBatchRepository.claimAvailableSeats(anyList())).thenReturn(new boolean[]{true});
+        when(seatChangeLogRepository.getCurrentVersion(DATE)).thenReturn(0L);
+        processor.process(List.of(command(1L, 1)));
+
+        when(seatChangeLogRepository.getCurrentVersion(DATE)).thenReturn(2L);
+        when(seatChangeLogRepository.findChangesSince(DATE, 0L)).thenReturn(Optional.of(List.of(
+                new SeatChange(1, 1, SeatStatus.TEMP_HELD, "user-1", LocalDateTime.now().plusMinutes(5)),
+                new SeatChange(2, 1, SeatStatus.AVAILABLE, null, null)
+        )));
+
+        // when
+        List<SeatCommandReply> replies = processor.process(List.of(command(2L, 1)));
+
+        // then
+        assertThat(replies).singleElement().extracting(SeatCommandReply::succeeded).isEqualTo(true);
+        verify(holdBatchRepository, times(2)).claimAvailableSeats(anyList());
+    }
+
+    @Test
+    @DisplayName("대기 한도가 지난 명령은 처리하지도 응답하지도 않는다")
+    void process_ExpiredDeadline_Skipped() {
+        // given
+        HoldClaim claim = claim(1L, 1);
+        SeatCommand expired = new SeatCommand("node-a", System.currentTimeMillis() - 1, claim);
+
+        // when
+        List<SeatCommandReply> replies = processor.process(List.of(expired));
+
+        // then
+        assertThat(replies).isEmpty();
+        verifyNoInteractions(holdBatchRepository);
+    }
+
+    @Test
+    @DisplayName("재전송된 명령은 이미 INSERT된 예약 ID로 성공 응답하고 다시 선점하지 않는다")
+    void process_Redelivered_RepliesHeld() {
+        // given
+        SeatCommand redelivered = command(7L, 3);
+        when(holdBatchRepository.findExistingReservationIds(List.of(7L))).thenReturn(Set.of(7L));
+
+        // when
+        List<SeatCommandReply> replies = processor.process(List.of(redelivered));
+
+        // then
+        assertThat(replies).singleElement().extracting(SeatCommandReply::succeeded).isEqualTo(true);
+        verify(holdBatchRepository, never()).claimAvailableSeats(anyList());
+        verify(holdBatchRepository, never()).insertReservations(anyList());
+    }
+
+    @Test
+    @DisplayName("DB 오류 시 배치의 모든 명령에 503 응답을 보낸다")
+    void process_DbFailure_RepliesUnavailable() {
+        // given
+        when(holdBatchRepository.claimAvailableSeats(anyList())).thenThrow(new IllegalStateException("db down"));
+
+        // when
+        List<SeatCommandReply> replies = processor.process(List.of(command(1L, 1), command(2L, 2)));
+
+        // then
+        assertThat(replies).extracting(SeatCommandReply::status).containsExactly(503, 503);
+        assertThat(replies).extracting(SeatCommandReply::errorCode)
+                .containsOnly("reservation-commit-failed");
+        verify(transactionManager).rollback(any());
+        verifyNoInteractions(seatEventPublisher, reservationEventPublisher);
+    }
+
+    private SeatCommand command(Long reservationId, int seatNumber) {
+        return new SeatCommand("node-a", System.currentTimeMillis() + 60_000, claim(reservationId, seatNumber));
+    }
+
+    private HoldClaim claim(Long reservationId, int seatNumber) {
+        LocalDateTime now = LocalDateTime.now();
+        return new HoldClaim(reservationId, "user-" + reservationId, DATE, seatNumber,
+                150000L, now, now.plusMinutes(5));
+    }
+
+    private SeatCommandReply reply(List<SeatCommandReply> replies, Long reservationId) {
+        return replies.stream()
+                .filter(reply -> reply.reservationId().equals(reservationId))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.application.shared;
+
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import kr.hhplus.be.server.shared.infrastructure.persistence.ConcertDateConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("공연 날짜 컬럼 변환기 단위 테스트")
+class ConcertDateConverterTest {
+
+    private final ConcertDateConverter converter = new ConcertDateConverter();
+
+    @Test
+    @DisplayName("yyyy-MM-dd 문자열은 DATE로 변환되고 다시 같은 문자열로 복원된다")
+    void roundTrip() {
+        LocalDate column = converter.convertToDatabaseColumn("2026-03-01");
+
+        assertThat(column).isEqualTo(LocalDate.of(2026, 3, 1));
+        assertThat(converter.convertToEntityAttribute(column)).isEqualTo("2026-03-01");
+    }
+
+    @Test
+    @DisplayName("형식이 다른 날짜 문자열은 400 invalid-date 예외")
+    void invalidFormat_ThrowsBusinessException() {
+        assertThatThrownBy(() -> converter.convertToDatabaseColumn("2026-3-1"))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> {
+                BusinessException be = (BusinessException) e;
+                assertThat(be.getErrorCode()).isEqualTo("invalid-date");
+                assertThat(be.getHttpStatus()).isEqualTo(400);
+            });
+    }
+
+    @Test
+    @DisplayName("null은 null로 변환된다")
+    void nullPassesThrough() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
@@ -0,0 +1,81 @@
+package kr.hhplus.be.server.application.shared;
+
+import jakarta.persistence.PersistenceException;
+import kr.hhplus.be.server.concert.application.service.ConcertService;
+import kr.hhplus.be.server.concert.interfaces.api.ConcertController;
+import kr.hhplus.be.server.queue.application.service.QueueService;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import kr.hhplus.be.server.shared.common.exception.GlobalExceptionHandler;
+import kr.hhplus.be.server.shared.common.exception.ProblemDetail;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.jpa.JpaSystemException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 잘못된 공연 날짜 요청이 500이 아닌 400으로 응답되는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("공연 날짜 형식 검증 단위 테스트")
+class ConcertDateValidationTest {
+
+    @Mock
+    private ConcertService concertService;
+
+    @Mock
+    private QueueService queueService;
+
+    @InjectMocks
+    private ConcertController concertController;
+
+    private final GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler();
+
+    @Test
+    @DisplayName("좌석 조회 API는 형식이 다른 날짜를 서비스 호출 전에 400 invalid-date로 거부한다")
+    void getSeats_InvalidDate_RejectedAtController() {
+        // when & then
+        assertThatThrownBy(() -> concertController.getSeats("token", "2026-3-1", null))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> {
+                    BusinessException be = (BusinessException) e;
+                    assertThat(be.getErrorCode()).isEqualTo("invalid-date");
+                    assertThat(be.getHttpStatus()).isEqualTo(400);
+                });
+        verifyNoInteractions(concertService);
+    }
+
+    @Test
+    @DisplayName("컬럼 변환기의 예외가 JPA 예외로 감싸져도 원래의 400으로 응답한다")
+    void wrappedBusinessException_RespondsWithOriginalStatus() {
+        // given - Hibernate가 AttributeConverter 예외를 감싸고 Spring이 다시 변환한 형태
+        BusinessException invalidDate = new BusinessException("잘못된 날짜 형식입니다: 2026-3-1", "invalid-date", 400);
+        Exception wrapped = new JpaSystemException(
+                new PersistenceException("Error attempting to apply AttributeConverter", invalidDate));
+
+        // when
+        ResponseEntity<ProblemDetail> response = exceptionHandler.handleException(wrapped);
+
+        // then
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        assertThat(response.getBody().getType()).endsWith("/invalid-date");
+    }
+
+    @Test
+    @DisplayName("감싼 원인에 비즈니스 예외가 없으면 500으로 응답한다")
+    void unrelatedException_Responds500() {
+        // when
+        ResponseEntity<ProblemDetail> response = exceptionHandler.handleException(
+                new JpaSystemException(new PersistenceException("connection reset")));
+
+        // then
+        assertThat(response.getStatusCode().value()).isEqualTo(500);
+    }
+}
@@ -0,0 +1,94 @@
+package kr.hhplus.be.server.application.shared;
+
+import kr.hhplus.be.server.shared.infrastructure.scheduler.SchedulerFenceGuard;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 스케줄러 리스 펜싱 검사 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("스케줄러 리스 펜싱 검사 단위 테스트")
+class SchedulerFenceGuardTest {
+
+    private static final String JOB = "expiration-sweep";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SchedulerFenceGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        guard = new SchedulerFenceGuard(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SchedulerFenceGuard.exit();
+    }
+
+    @Test
+    @DisplayName("리스 작업 밖에서는 검사하지 않는다")
+    void check_OutsideLease_Skips() {
+        // when
+        guard.check();
+
+        // then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("기록된 토큰 이상이면 펜스를 자기 토큰으로 올리고 통과한다")
+    void check_CurrentToken_Passes() {
+        // given
+        SchedulerFenceGuard.enter(JOB, 7L);
+        when(jdbcTemplate.update(anyString(), eq(7L), eq(JOB), eq(7L))).thenReturn(1);
+
+        // when & then
+        assertThatCode(() -> guard.check()).doesNotThrowAnyException();
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(Long.class), any());
+    }
+
+    @Test
+    @DisplayName("작업의 펜스 행이 없으면 자기 토큰으로 만든다")
+    void check_FirstRun_Inserts() {
+        // given
+        SchedulerFenceGuard.enter(JOB, 1L);
+        when(jdbcTemplate.update(anyString(), eq(1L), eq(JOB), eq(1L))).thenReturn(0);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(JOB))).thenReturn(List.of());
+
+        // when
+        guard.check();
+
+        // then
+        verify(jdbcTemplate).update("INSERT INTO scheduler_fence (job, token) VALUES (?, ?)", JOB, 1L);
+    }
+
+    @Test
+    @DisplayName("더 새로운 리스 보유 노드가 이미 썼으면 예외로 쓰기를 막는다")
+    void check_NewerHolderWrote_Throws() {
+        // given
+        SchedulerFenceGuard.enter(JOB, 7L);
+        when(jdbcTemplate.update(anyString(), eq(7L), eq(JOB), eq(7L))).thenReturn(0);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(JOB))).thenReturn(List.of(8L));
+
+        // when & then
+        assertThatThrownBy(() -> guard.check())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("fenced=8");
+    }
+}
@@ -0,0 +1,180 @@
+package kr.hhplus.be.server.application.shared;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import kr.hhplus.be.server.shared.infrastructure.lock.SingleFlight;
+import kr.hhplus.be.server.shared.infrastructure.lock.SingleFlightAop;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("노드 내 요청 코얼레싱(SingleFlight) 단위 테스트")
+class SingleFlightAopTest {
+
+    private static final int FOLLOWERS = 5;
+
+    private SeatTarget target;
+    private SeatTarget proxy;
+
+    @BeforeEach
+    void setUp() {
+        target = new SeatTarget();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new SingleFlightAop(new SimpleMeterRegistry()));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("리더가 성공하면 같은 키의 팔로워는 메서드를 실행하지 않고 409로 실패한다")
+    void leaderSucceeds_FollowersConflict() throws Exception {
+        List<Object> results = runWithFollowers(null);
+
+        assertThat(target.calls.get()).isEqualTo(1);
+        assertThat(results).containsOnlyOnce("ok");
+        assertThat(results).filteredOn(r -> r instanceof BusinessException be
+                        && be.getHttpStatus() == 409 && be.getErrorCode().equals("seat-already-reserved"))
+                .hasSize(FOLLOWERS);
+    }
+
+    @Test
+    @DisplayName("리더가 fail-fast 예외로 실패하면 팔로워도 재시도 없이 409로 실패한다")
+    void leaderFailsFast_FollowersConflict() throws Exception {
+        List<Object> results = runWithFollowers(new IllegalStateException("예약 가능한 좌석이 아닙니다."));
+
+        assertThat(target.calls.get()).isEqualTo(1);
+        assertThat(results).filteredOn(r -> r instanceof IllegalStateException).hasSize(1);
+        assertThat(results).filteredOn(r -> r instanceof BusinessException be && be.getHttpStatus() == 409)
+                .hasSize(FOLLOWERS);
+    }
+
+    @Test
+    @DisplayName("리더가 개인 사유로 실패하면 팔로워 중 하나가 다음 리더로 실행한다")
+    void leaderFailsPrivately_FollowerTakesOver() throws Exception {
+        List<Object> results = runWithFollowers(new BusinessException("유효하지 않은 토큰입니다.", "invalid-token", 401));
+
+        assertThat(target.calls.get()).isEqualTo(2);
+        assertThat(results).containsOnlyOnce("ok");
+        assertThat(results).filteredOn(r -> r instanceof BusinessException be && be.getHttpStatus() == 409)
+                .hasSize(FOLLOWERS - 1);
+    }
+
+    @Test
+    @DisplayName("conflictStatus를 지정하면 팔로워는 그 상태 코드로 실패한다")
+    void conflictStatus_UsedForFollowers() throws Exception {
+        List<Object> results = runWithFollowers(null, () -> proxy.reserveWithStatus(7));
+
+        assertThat(results).filteredOn(r -> r instanceof BusinessException be
+                        && be.getHttpStatus() == 400 && be.getErrorCode().equals("seat-already-reserved"))
+                .hasSize(FOLLOWERS);
+    }
+
+    @Test
+    @DisplayName("키가 다르면 코얼레싱되지 않는다")
+    void differentKeys_NotCoalesced() {
+        target.firstCallEntered.countDown();
+        target.releaseFirstCall.countDown();
+
+        assertThat(proxy.reserve(1)).isEqualTo("ok");
+        assertThat(proxy.reserve(2)).isEqualTo("ok");
+        assertThat(target.calls.get()).isEqualTo(2);
+    }
+
+    /**
+     * 리더가 실행 중인 동안 팔로워를 진입시킨 뒤 리더를 풀어주고 모든 결과(반환값 또는 예외)를 모은다.
+     */
+    private List<Object> runWithFollowers(RuntimeException leaderFailure) throws Exception {
+        return runWithFollowers(leaderFailure, () -> proxy.reserve(7));
+    }
+
+    private List<Object> runWithFollowers(RuntimeException leaderFailure, Supplier<String> request) throws Exception {
+        target.firstCallFailure = leaderFailure;
+        ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> call(request)));
+            assertThat(target.firstCallEntered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 0; i < FOLLOWERS; i++) {
+                futures.add(executor.submit(() -> call(request)));
+            }
+            Thread.sleep(200);
+            target.releaseFirstCall.countDown();
+
+            List<Object> results = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Object call(Supplier<String> request) {
+        try {
+            return request.get();
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    public static class SeatTarget {
+
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch firstCallEntered = new CountDownLatch(1);
+        final CountDownLatch releaseFirstCall = new CountDownLatch(1);
+        volatile RuntimeException firstCallFailure;
+
+        @SingleFlight(key = "'seat:' + #seatNumber",
+                failFastOn = IllegalStateException.class,
+                conflictErrorCode = "seat-already-reserved")
+        public String reserve(Integer seatNumber) {
+            return execute();
+        }
+
+        @SingleFlight(key = "'seat:' + #seatNumber",
+                failFastErrorCodes = "seat-already-reserved",
+                conflictErrorCode = "seat-already-reserved",
+                conflictStatus = 400)
+        public String reserveWithStatus(Integer seatNumber) {
+            return execute();
+        }
+
+        private String execute() {
+            int call = calls.incrementAndGet();
+            if (call == 1) {
+                firstCallEntered.countDown();
+                try {
+                    releaseFirstCall.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (firstCallFailure != null) {
+                    throw firstCallFailure;
+                }
+                return "ok";
+            }
+            // 다음 리더도 실행 시간을 두어 나머지 팔로워가 그 결과를 기다리게 함
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package kr.hhplus.be.server.application.shared;
+
+import kr.hhplus.be.server.shared.infrastructure.id.TsidGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TSID 생성기 단위 테스트")
+class TsidGeneratorTest {
+
+    @Test
+    @DisplayName("연속 생성한 ID는 단조 증가한다")
+    void next_MonotonicallyIncreasing() {
+        long previous = TsidGenerator.next();
+        for (int i = 0; i < 100_000; i++) {
+            long current = TsidGenerator.next();
+            assertThat(current).isGreaterThan(previous);
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 ID가 중복되지 않는다")
+    void next_UniqueAcrossThreads() throws InterruptedException {
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    ids.add(TsidGenerator.next());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(ids).hasSize(160_000);
+    }
+
+    @Test
+    @DisplayName("ID에 생성 시각과 노드 ID가 담긴다")
+    void next_EncodesTimeAndNode() {
+        TsidGenerator.configure(517);
+        long before = System.currentTimeMillis();
+
+        long id = TsidGenerator.next();
+
+        assertThat(id).isPositive();
+        assertThat(TsidGenerator.extractNodeId(id)).isEqualTo(517);
+        assertThat(TsidGenerator.extractMillis(id)).isBetween(before, System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 ID는 설정할 수 없다")
+    void configure_InvalidNodeId() {
+        assertThatThrownBy(() -> TsidGenerator.configure(1024))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
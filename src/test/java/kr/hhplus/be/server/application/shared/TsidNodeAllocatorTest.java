@@ -0,0 +1,100 @@
+package kr.hhplus.be.server.application.shared;
+
+import kr.hhplus.be.server.shared.infrastructure.id.TsidGenerator;
+import kr.hhplus.be.server.shared.infrastructure.id.TsidNodeAllocator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * TSID 노드 ID 할당기 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT) // 종료 시 반납 스크립트는 인자 수가 달라 스텁과 어긋남
+@DisplayName("TSID 노드 ID 할당기 단위 테스트")
+class TsidNodeAllocatorTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private TsidNodeAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        allocator = new TsidNodeAllocator(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        allocator.release();
+    }
+
+    @Test
+    @DisplayName("갱신 시 다른 인스턴스가 노드 ID를 선점했으면 새 노드 ID로 전환한다")
+    @SuppressWarnings("unchecked")
+    void renew_Lost_Reallocates() {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        allocator.allocate();
+        int lostNodeId = allocator.getAllocatedNodeId();
+        when(valueOperations.setIfAbsent(eq("id:tsid:node:" + lostNodeId), anyString(), any(Duration.class)))
+                .thenReturn(false);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(0L);
+
+        // when
+        allocator.renew();
+
+        // then
+        assertThat(allocator.getAllocatedNodeId()).isNotEqualTo(lostNodeId).isNotNegative();
+        assertThat(TsidGenerator.nodeId()).isEqualTo(allocator.getAllocatedNodeId());
+    }
+
+    @Test
+    @DisplayName("비어 있는 노드 ID가 없으면 잃은 노드 ID가 아닌 임의 노드 ID로 전환하고 다음 하트비트에서 다시 할당한다")
+    @SuppressWarnings("unchecked")
+    void renew_LostAndNoneFree_UsesRandomThenRetries() {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        allocator.allocate();
+        int lostNodeId = allocator.getAllocatedNodeId();
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(0L);
+
+        // when
+        allocator.renew();
+
+        // then
+        assertThat(allocator.getAllocatedNodeId()).isEqualTo(-1);
+        assertThat(TsidGenerator.nodeId()).isNotEqualTo(lostNodeId);
+
+        // when - 다음 하트비트에서 빈 노드 ID 발생
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        allocator.renew();
+
+        // then
+        assertThat(allocator.getAllocatedNodeId()).isNotNegative();
+        assertThat(TsidGenerator.nodeId()).isEqualTo(allocator.getAllocatedNodeId());
+    }
+}
@@ -1,12 +1,18 @@
 package kr.hhplus.be.server.integration;
 
+import kr.hhplus.be.server.point.application.service.AtomicPointBalanceManager;
+import kr.hhplus.be.server.point.application.service.LedgerPointBalanceManager;
+import kr.hhplus.be.server.point.application.service.PointLedgerCompactionService;
 import kr.hhplus.be.server.point.application.service.PointService;
+import kr.hhplus.be.server.point.application.service.PointWriteBehindService;
+import kr.hhplus.be.server.point.application.service.RedisPointBalanceManager;
 import kr.hhplus.be.server.point.domain.model.PointBalance;
 import kr.hhplus.be.server.point.domain.repository.PointBalanceRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 
 import java.util.concurrent.CountDownLatch;
@@ -17,7 +23,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
- * 포인트 차감 동시성 통합 테스트 (Redis 분산락 기반)
+ * 포인트 차감 동시성 통합 테스트 (Redis 분산락 기반 / 조건부 UPDATE 기반 / 원장 기반 / Redis 원본 기반)
  * 같은 유저가 동시에 여러 결제를 시도할 때,
  * 잔액이 음수가 되지 않고 정확히 처리되는지 검증한다.
  */
@@ -28,6 +34,24 @@ class ConcurrentPointDeductionTest extends BaseRedisIntegrationTest {
     @Autowired
     private PointService pointService;
 
+    @Autowired
+    private AtomicPointBalanceManager atomicPointBalanceManager;
+
+    @Autowired
+    private LedgerPointBalanceManager ledgerPointBalanceManager;
+
+    @Autowired
+    private PointLedgerCompactionService pointLedgerCompactionService;
+
+    @Autowired
+    private RedisPointBalanceManager redisPointBalanceManager;
+
+    @Autowired
+    private PointWriteBehindService pointWriteBehindService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
     @Autowired
     private PointBalanceRepository pointBalanceRepository;
 
@@ -35,6 +59,8 @@ class ConcurrentPointDeductionTest extends BaseRedisIntegrationTest {
     private static final long INITIAL_BALANCE = 50000L;
     private static final long DEDUCTION_AMOUNT = 10000L;
     private static final int CONCURRENT_REQUESTS = 10;
+    private static final int ATOMIC_CONCURRENT_REQUESTS = 100;
+    private static final long ATOMIC_DEDUCTION_AMOUNT = 1000L;
 
     @BeforeEach
     void setUp() {
@@ -185,4 +211,162 @@ class ConcurrentPointDeductionTest extends BaseRedisIntegrationTest {
         PointBalance finalBalance = pointBalanceRepository.findById(TEST_USER_ID).orElseThrow();
         assertThat(finalBalance.getBalance()).isEqualTo(5000L);
     }
+
+    @Test
+    @DisplayName("[조건부 UPDATE] 동시에 100건의 차감 요청 시, 잔액만큼인 50건만 성공하고 잔액은 0원이 된다")
+    void atomicPointDeduction_PreventNegativeBalance() throws InterruptedException {
+        // ========== Given: 초기 잔액 50,000원, 요청당 1,000원 ==========
+        int expectedSuccess = (int) (INITIAL_BALANCE / ATOMIC_DEDUCTION_AMOUNT);
+
+        // ========== When: 분산락 없이 동시에 100건의 차감 요청 ==========
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+        runConcurrently(ATOMIC_CONCURRENT_REQUESTS, index -> {
+            atomicPointBalanceManager.use(TEST_USER_ID, ATOMIC_DEDUCTION_AMOUNT);
+            successCount.incrementAndGet();
+        }, failCount);
+
+        // ========== Then: 50건만 성공, 잔액 0원 ==========
+        assertThat(successCount.get()).isEqualTo(expectedSuccess);
+        assertThat(failCount.get()).isEqualTo(ATOMIC_CONCURRENT_REQUESTS - expectedSuccess);
+
+        PointBalance finalBalance = pointBalanceRepository.findById(TEST_USER_ID).orElseThrow();
+        assertThat(finalBalance.getBalance()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("[조건부 UPDATE] 충전과 차감이 동시에 섞여도 갱신 손실 없이 잔액이 맞는다")
+    void atomicChargeAndDeduction_NoLostUpdate() throws InterruptedException {
+        // ========== Given: 초기 잔액 50,000원 ==========
+        int chargeCount = ATOMIC_CONCURRENT_REQUESTS / 2;
+
+        // ========== When: 짝수 요청은 1,000원 충전, 홀수 요청은 1,000원 차감 ==========
+        AtomicInteger deductedCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+        runConcurrently(ATOMIC_CONCURRENT_REQUESTS, index -> {
+            if (index % 2 == 0) {
+                atomicPointBalanceManager.charge(TEST_USER_ID, ATOMIC_DEDUCTION_AMOUNT);
+            } else {
+                atomicPointBalanceManager.use(TEST_USER_ID, ATOMIC_DEDUCTION_AMOUNT);
+                deductedCount.incrementAndGet();
+            }
+        }, failCount);
+
+        // ========== Then: 잔액 = 초기 + 충전 합계 - 성공한 차감 합계 ==========
+        assertThat(failCount.get()).isEqualTo(0);
+        PointBalance finalBalance = pointBalanceRepository.findById(TEST_USER_ID).orElseThrow();
+        assertThat(finalBalance.getBalance()).isEqualTo(
+                INITIAL_BALANCE + chargeCount * ATOMIC_DEDUCTION_AMOUNT - deductedCount.get() * ATOMIC_DEDUCTION_AMOUNT);
+    }
+
+    @Test
+    @DisplayName("[원장] 컴팩션과 동시에 100건의 차감 요청 시, 50건만 성공하고 컴팩션 후 스냅샷은 0원이 된다")
+    void ledgerPointDeduction_PreventNegativeBalance() throws InterruptedException {
+        // ========== Given: 스냅샷 50,000원, 요청당 1,000원 ==========
+        int expectedSuccess = (int) (INITIAL_BALANCE / ATOMIC_DEDUCTION_AMOUNT);
+
+        // ========== When: 10건마다 1건은 컴팩션, 나머지는 차감 ==========
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+        runConcurrently(ATOMIC_CONCURRENT_REQUESTS + ATOMIC_CONCURRENT_REQUESTS / 10, index -> {
+            if (index % 11 == 10) {
+                pointLedgerCompactionService.compact(TEST_USER_ID);
+                return;
+            }
+            ledgerPointBalanceManager.use(TEST_USER_ID, ATOMIC_DEDUCTION_AMOUNT);
+            successCount.incrementAndGet();
+        }, failCount);
+        pointLedgerCompactionService.compact(TEST_USER_ID);
+
+        // ========== Then: 50건만 성공, 원장 잔액과 스냅샷 모두 0원 ==========
+        assertThat(successCount.get()).isEqualTo(expectedSuccess);
+        assertThat(failCount.get()).isEqualTo(ATOMIC_CONCURRENT_REQUESTS - expectedSuccess);
+        assertThat(ledgerPointBalanceManager.balance(TEST_USER_ID)).isEqualTo(0L);
+
+        PointBalance finalBalance = pointBalanceRepository.findById(TEST_USER_ID).orElseThrow();
+        assertThat(finalBalance.getBalance()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("[원장] 동시에 100건의 충전 요청은 잔액 행 경합 없이 모두 성공하고 컴팩션 후 스냅샷에 합쳐진다")
+    void ledgerCharge_AllSucceed() throws InterruptedException {
+        // ========== Given: 스냅샷 50,000원 ==========
+        long expectedBalance = INITIAL_BALANCE + ATOMIC_CONCURRENT_REQUESTS * ATOMIC_DEDUCTION_AMOUNT;
+
+        // ========== When: 동시에 100건의 1,000원 충전 ==========
+        AtomicInteger failCount = new AtomicInteger(0);
+        runConcurrently(ATOMIC_CONCURRENT_REQUESTS,
+                index -> ledgerPointBalanceManager.charge(TEST_USER_ID, ATOMIC_DEDUCTION_AMOUNT), failCount);
+
+        // ========== Then: 컴팩션 전에도 잔액 조회는 스냅샷 + 원장 합 ==========
+        assertThat(failCount.get()).isEqualTo(0);
+        assertThat(ledgerPointBalanceManager.balance(TEST_USER_ID)).isEqualTo(expectedBalance);
+
+        pointLedgerCompactionService.compact(TEST_USER_ID);
+        PointBalance finalBalance = pointBalanceRepository.findById(TEST_USER_ID).orElseThrow();
+        assertThat(finalBalance.getBalance()).isEqualTo(expectedBalance);
+        assertThat(ledgerPointBalanceManager.balance(TEST_USER_ID)).isEqualTo(expectedBalance);
+    }
+
+    @Test
+    @DisplayName("[Redis 원본] 동시에 100건의 차감 요청 시, 50건만 성공하고 write-behind 후 MySQL 잔액은 0원이 된다")
+    void redisPointDeduction_PreventNegativeBalance() throws InterruptedException {
+        // ========== Given: MySQL 잔액 50,000원, Redis는 비어 있음 (첫 요청이 적재) ==========
+        redisTemplate.delete("point:redis:balance:" + TEST_USER_ID);
+        int expectedSuccess = (int) (INITIAL_BALANCE / ATOMIC_DEDUCTION_AMOUNT);
+
+        // ========== When: 동시에 100건의 차감 요청 ==========
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+        runConcurrently(ATOMIC_CONCURRENT_REQUESTS, index -> {
+            redisPointBalanceManager.use(TEST_USER_ID, ATOMIC_DEDUCTION_AMOUNT);
+            successCount.incrementAndGet();
+        }, failCount);
+
+        // ========== Then: 50건만 성공, Redis 0원, write-behind 후 MySQL도 0원 ==========
+        assertThat(successCount.get()).isEqualTo(expectedSuccess);
+        assertThat(failCount.get()).isEqualTo(ATOMIC_CONCURRENT_REQUESTS - expectedSuccess);
+        assertThat(redisPointBalanceManager.balance(TEST_USER_ID)).isEqualTo(0L);
+
+        while (pointWriteBehindService.flush(100) > 0) {
+            // 밀린 변경 기록을 모두 반영
+        }
+        PointBalance finalBalance = pointBalanceRepository.findById(TEST_USER_ID).orElseThrow();
+        assertThat(finalBalance.getBalance()).isEqualTo(0L);
+        assertThat(pointWriteBehindService.reconcile(100)).isZero();
+        redisTemplate.delete("point:redis:balance:" + TEST_USER_ID);
+    }
+
+    private void runConcurrently(int requestCount, IndexedTask task, AtomicInteger failCount)
+            throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(requestCount);
+        CountDownLatch readyLatch = new CountDownLatch(requestCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(requestCount);
+
+        for (int i = 0; i < requestCount; i++) {
+            final int index = i;
+            executorService.submit(() -> {
+                try {
+                    readyLatch.countDown();
+                    startLatch.await();
+                    task.run(index);
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        readyLatch.await();
+        startLatch.countDown();
+        doneLatch.await();
+        executorService.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index) throws Exception;
+    }
 }
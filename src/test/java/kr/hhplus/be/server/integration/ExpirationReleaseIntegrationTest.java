@@ -64,7 +64,7 @@ class ExpirationReleaseIntegrationTest extends BaseRedisIntegrationTest {
 
         // ========== Then: 좌석이 다시 AVAILABLE 상태가 되었는지 확인 ==========
 
-        // 좌석 상태 확인 - bulkRelease로 일괄 해제되었으므로 DB에서 다시 조회
+        // 좌석 상태 확인 - 청크 트랜잭션에서 해제되었으므로 DB에서 다시 조회
         Seat releasedSeat = seatRepository.findByConcertDateAndSeatNumber(concertDate, seatNumber).orElseThrow();
         assertThat(releasedSeat.getStatus()).isEqualTo(SeatStatus.AVAILABLE);
         assertThat(releasedSeat.getReservedUserId()).isNull();
@@ -0,0 +1,88 @@
+package kr.hhplus.be.server.integration;
+
+import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.reservation.domain.model.ReservationStatus;
+import kr.hhplus.be.server.reservation.domain.repository.ReservationHoldQueue;
+import kr.hhplus.be.server.reservation.domain.repository.ReservationRepository;
+import kr.hhplus.be.server.reservation.infrastructure.scheduler.HoldExpiryWorker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지연 큐 기반 임시 예약 만료 통합 테스트
+ * 만료 시각이 지난 예약은 지연 큐 워커에 의해 즉시 해제되고,
+ * 아직 만료되지 않은 예약은 큐에 남아 있는지 검증한다.
+ */
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("[통합] 지연 큐 기반 임시 예약 만료")
+class HoldExpiryIntegrationTest extends BaseRedisIntegrationTest {
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationHoldQueue reservationHoldQueue;
+
+    @Autowired
+    private HoldExpiryWorker holdExpiryWorker;
+
+    @Test
+    @DisplayName("만료 시각이 지난 예약은 워커가 좌석을 AVAILABLE로, 예약을 EXPIRED로 바꾼다")
+    void dueHold_ReleasedByWorker() throws Exception {
+        // Given
+        String concertDate = "2026-08-10";
+        LocalDateTime pastExpiry = LocalDateTime.now().minusSeconds(2);
+
+        Seat seat = new Seat(concertDate, 12);
+        seat.reserve("delay-user-001", pastExpiry);
+        seat = seatRepository.save(seat);
+
+        Reservation reservation = Reservation.create("delay-user-001", seat.getId(), concertDate, 12, 150000L);
+        setFieldValue(reservation, "reservedUntil", pastExpiry);
+        reservation = reservationRepository.save(reservation);
+        reservationHoldQueue.register(reservation.getId(), pastExpiry);
+
+        // When
+        holdExpiryWorker.expireDueHolds();
+
+        // Then
+        Seat releasedSeat = seatRepository.findByConcertDateAndSeatNumber(concertDate, 12).orElseThrow();
+        assertThat(releasedSeat.getStatus()).isEqualTo(SeatStatus.AVAILABLE);
+        Reservation expiredReservation = reservationRepository.findById(reservation.getId()).orElseThrow();
+        assertThat(expiredReservation.getStatus()).isEqualTo(ReservationStatus.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 도래하지 않은 예약은 지연 큐에서 꺼내지지 않는다")
+    void futureHold_NotPolled() {
+        // Given
+        reservationHoldQueue.register(900_001L, LocalDateTime.now().plusMinutes(5));
+
+        // When
+        List<Long> due = reservationHoldQueue.pollDue(LocalDateTime.now(), 100);
+
+        // Then
+        assertThat(due).doesNotContain(900_001L);
+        assertThat(reservationHoldQueue.pollDue(LocalDateTime.now().plusMinutes(6), 100)).contains(900_001L);
+    }
+
+    private void setFieldValue(Object target, String fieldName, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -39,7 +39,8 @@ import static org.mockito.Mockito.*;
 @ActiveProfiles("test")
 @EmbeddedKafka(
         partitions = 3,
-        topics = {KafkaTopicConfig.TOPIC_PAYMENT_SUCCESS, KafkaTopicConfig.TOPIC_RESERVATION_COMPLETED},
+        topics = {KafkaTopicConfig.TOPIC_PAYMENT_SUCCESS, KafkaTopicConfig.TOPIC_RESERVATION_COMPLETED,
+                KafkaTopicConfig.TOPIC_RESERVATION_BATCH_COMPLETED},
         brokerProperties = {
                 "listeners=PLAINTEXT://localhost:0",
                 "port=0"
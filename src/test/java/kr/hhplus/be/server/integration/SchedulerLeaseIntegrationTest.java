@@ -0,0 +1,86 @@
+package kr.hhplus.be.server.integration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.shared.infrastructure.scheduler.SchedulerLeaseManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스케줄러 리스 통합 테스트
+ * 두 노드(리스 관리자 인스턴스 2개)를 시뮬레이션하여
+ * 한 노드만 리스를 보유하고, 반납/만료 시 다른 노드가 더 큰 펜싱 토큰으로 인계하는지 검증한다.
+ */
+@DisplayName("[통합] Redis 리스 기반 스케줄러 단일 실행")
+class SchedulerLeaseIntegrationTest extends BaseRedisIntegrationTest {
+
+    private static final String JOB = "lease-test-job";
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private SchedulerLeaseManager nodeA;
+    private SchedulerLeaseManager nodeB;
+
+    @AfterEach
+    void tearDown() {
+        if (nodeA != null) {
+            nodeA.shutdown();
+        }
+        if (nodeB != null) {
+            nodeB.shutdown();
+        }
+        redisTemplate.delete("scheduler:lease:" + JOB);
+    }
+
+    @Test
+    @DisplayName("한 노드만 리스를 보유하고, 보유 노드는 갱신 시 같은 토큰을 유지한다")
+    void onlyOneNodeHoldsLease() {
+        nodeA = new SchedulerLeaseManager(redisTemplate, new SimpleMeterRegistry());
+        nodeB = new SchedulerLeaseManager(redisTemplate, new SimpleMeterRegistry());
+
+        assertThat(nodeA.tryAcquire(JOB, 10_000L)).isTrue();
+        long token = nodeA.currentToken(JOB).getAsLong();
+
+        assertThat(nodeB.tryAcquire(JOB, 10_000L)).isFalse();
+        assertThat(nodeB.currentToken(JOB)).isEmpty();
+
+        assertThat(nodeA.tryAcquire(JOB, 10_000L)).isTrue();
+        assertThat(nodeA.currentToken(JOB).getAsLong()).isEqualTo(token);
+    }
+
+    @Test
+    @DisplayName("보유 노드가 종료되면 다른 노드가 더 큰 펜싱 토큰으로 인계한다")
+    void takeoverAfterShutdown() {
+        nodeA = new SchedulerLeaseManager(redisTemplate, new SimpleMeterRegistry());
+        nodeB = new SchedulerLeaseManager(redisTemplate, new SimpleMeterRegistry());
+
+        assertThat(nodeA.tryAcquire(JOB, 10_000L)).isTrue();
+        long tokenA = nodeA.currentToken(JOB).getAsLong();
+
+        nodeA.shutdown();
+
+        assertThat(nodeB.tryAcquire(JOB, 10_000L)).isTrue();
+        assertThat(nodeB.currentToken(JOB).getAsLong()).isGreaterThan(tokenA);
+    }
+
+    @Test
+    @DisplayName("보유 노드가 갱신하지 못하면 리스 만료 후 다른 노드가 인계한다")
+    void takeoverAfterExpiry() throws InterruptedException {
+        // 장애 노드가 남긴 리스 (하트비트 없음)
+        redisTemplate.opsForValue().set("scheduler:lease:" + JOB, "dead-node|1", Duration.ofMillis(300));
+        nodeB = new SchedulerLeaseManager(redisTemplate, new SimpleMeterRegistry());
+
+        assertThat(nodeB.tryAcquire(JOB, 10_000L)).isFalse();
+
+        Thread.sleep(500);
+
+        assertThat(nodeB.tryAcquire(JOB, 10_000L)).isTrue();
+    }
+}
@@ -0,0 +1,183 @@
+package kr.hhplus.be.server.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import kr.hhplus.be.server.config.kafka.KafkaTopicConfig;
+import kr.hhplus.be.server.queue.application.service.QueueService;
+import kr.hhplus.be.server.queue.interfaces.api.dto.QueueTokenRequest;
+import kr.hhplus.be.server.reservation.application.service.KafkaCommandReservationService;
+import kr.hhplus.be.server.reservation.interfaces.api.dto.SeatReserveRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Kafka 파티션 소유 좌석 명령 통합 테스트
+ *
+ * Embedded Kafka에서 요청 → seat-commands → 파티션 소유 컨슈머 → DB 커밋 → seat-command-replies → 요청 스레드
+ * 전체 왕복을 실행하고, 좌석별 경쟁에서 한 명만 성공하는지와 왕복 지연(p50/p95/p99)을 측정합니다.
+ */
+@SpringBootTest(properties = {
+        "reservation.kafka-commands.enabled=true",
+        "reservation.kafka-commands.await-timeout-ms=10000"
+})
+@ActiveProfiles("test")
+@EmbeddedKafka(
+        partitions = 3,
+        topics = {KafkaTopicConfig.TOPIC_PAYMENT_SUCCESS, KafkaTopicConfig.TOPIC_RESERVATION_COMPLETED,
+                KafkaTopicConfig.TOPIC_RESERVATION_BATCH_COMPLETED, KafkaTopicConfig.TOPIC_SEAT_COMMANDS,
+                KafkaTopicConfig.TOPIC_SEAT_COMMAND_REPLIES},
+        brokerProperties = {
+                "listeners=PLAINTEXT://localhost:0",
+                "port=0"
+        }
+)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("[통합] Kafka 파티션 소유 좌석 명령 왕복 검증")
+class SeatCommandKafkaIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatCommandKafkaIntegrationTest.class);
+
+    private static final GenericContainer<?> REDIS_CONTAINER =
+            new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+                    .withExposedPorts(6379);
+
+    static {
+        REDIS_CONTAINER.start();
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", REDIS_CONTAINER::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS_CONTAINER.getMappedPort(6379));
+    }
+
+    private static final String CONCERT_DATE = "2026-09-01";
+    private static final int SEAT_COUNT = 20;
+    private static final int USERS_PER_SEAT = 10;
+    private static final int THREADS = 50;
+
+    @Autowired
+    private KafkaCommandReservationService kafkaCommandReservationService;
+
+    @Autowired
+    private QueueService queueService;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry registry;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void waitForAssignment() {
+        // 응답 컨슈머는 latest부터 읽으므로 파티션 할당 전에 보낸 요청의 응답은 받지 못함
+        for (String id : List.of("seat-command-consumer", "seat-command-reply-consumer")) {
+            MessageListenerContainer container = registry.getListenerContainer(id);
+            ContainerTestUtils.waitForAssignment(container, embeddedKafka.getPartitionsPerTopic());
+        }
+    }
+
+    @Test
+    @DisplayName("좌석마다 10명이 동시에 요청하면 좌석당 1명만 성공하고 왕복 지연을 측정한다")
+    void concurrentCommands_OneWinnerPerSeat() throws InterruptedException {
+        // Given
+        List<Seat> seats = new ArrayList<>();
+        for (int seatNumber = 1; seatNumber <= SEAT_COUNT; seatNumber++) {
+            seats.add(new Seat(CONCERT_DATE, seatNumber));
+        }
+        seatRepository.saveAll(seats);
+
+        int requestCount = SEAT_COUNT * USERS_PER_SEAT;
+        List<String> userIds = new ArrayList<>(requestCount);
+        List<String> tokens = new ArrayList<>(requestCount);
+        for (int i = 0; i < requestCount; i++) {
+            String userId = "command-user-" + String.format("%03d", i);
+            userIds.add(userId);
+            tokens.add(queueService.issueToken(new QueueTokenRequest(userId)).getToken());
+        }
+
+        Timer roundTrip = meterRegistry.get("seat.command.round.trip").timer();
+        long recordedBefore = roundTrip.count();
+
+        // When
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(requestCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+
+        for (int i = 0; i < requestCount; i++) {
+            final int seatNumber = i % SEAT_COUNT + 1;
+            final String userId = userIds.get(i);
+            final String token = tokens.get(i);
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    kafkaCommandReservationService.reserveSeat(
+                            new SeatReserveRequest(userId, CONCERT_DATE, seatNumber), token);
+                    successCount.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        assertThat(doneLatch.await(60, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+
+        // Then
+        assertThat(successCount.get()).isEqualTo(SEAT_COUNT);
+        assertThat(failCount.get()).isEqualTo(requestCount - SEAT_COUNT);
+        assertThat(seatRepository.findByConcertDateOrderBySeatNumber(CONCERT_DATE))
+                .allMatch(seat -> seat.getStatus() == SeatStatus.TEMP_HELD);
+
+        // 모든 요청의 왕복이 기록되었는지 확인 후 지연 분포 기록
+        assertThat(roundTrip.count() - recordedBefore).isEqualTo(requestCount);
+        StringBuilder percentiles = new StringBuilder();
+        for (ValueAtPercentile value : roundTrip.takeSnapshot().percentileValues()) {
+            percentiles.append(String.format(" p%.0f=%.1fms", value.percentile() * 100, value.value(TimeUnit.MILLISECONDS)));
+        }
+        log.info("[SeatCommandKafka] 왕복 지연 - requests={},{}", requestCount, percentiles);
+    }
+}
@@ -0,0 +1,157 @@
+package kr.hhplus.be.server.integration;
+
+import kr.hhplus.be.server.concert.application.event.SeatProjectionPublisher;
+import kr.hhplus.be.server.concert.application.service.SeatProvisioningService;
+import kr.hhplus.be.server.concert.application.service.SeatReadStore;
+import kr.hhplus.be.server.concert.domain.model.SeatStateRecord;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.SeatProjectionRepository;
+import kr.hhplus.be.server.concert.interfaces.api.dto.ScheduleProvisionRequest;
+import kr.hhplus.be.server.concert.interfaces.api.dto.ScheduleProvisionRequest.SectionLayout;
+import kr.hhplus.be.server.config.kafka.KafkaTopicConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 좌석 상태 읽기 모델 통합 테스트
+ *
+ * Embedded Kafka에서 좌석 생성(배치 레코드) / 상태 전이(상태 레코드) → seat-state → 읽기 모델 컨슈머 → Redis Hash
+ * 흐름을 실행하고, 좌석 조회 저장소가 DB 대신 읽기 모델에서 적재하는지 검증합니다.
+ */
+@SpringBootTest(properties = "concert.projection.enabled=true")
+@ActiveProfiles("test")
+@EmbeddedKafka(
+        partitions = 3,
+        topics = {KafkaTopicConfig.TOPIC_PAYMENT_SUCCESS, KafkaTopicConfig.TOPIC_RESERVATION_COMPLETED,
+                KafkaTopicConfig.TOPIC_RESERVATION_BATCH_COMPLETED, KafkaTopicConfig.TOPIC_SEAT_STATE},
+        brokerProperties = {
+                "listeners=PLAINTEXT://localhost:0",
+                "port=0"
+        }
+)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("[통합] Kafka 좌석 상태 읽기 모델 검증")
+class SeatProjectionKafkaIntegrationTest {
+
+    private static final GenericContainer<?> REDIS_CONTAINER =
+            new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+                    .withExposedPorts(6379);
+
+    static {
+        REDIS_CONTAINER.start();
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", REDIS_CONTAINER::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS_CONTAINER.getMappedPort(6379));
+    }
+
+    private static final String CONCERT_DATE = "2026-10-01";
+
+    @Autowired
+    private SeatProvisioningService seatProvisioningService;
+
+    @Autowired
+    private SeatProjectionPublisher seatProjectionPublisher;
+
+    @Autowired
+    private SeatProjectionRepository seatProjectionRepository;
+
+    @Autowired
+    private SeatReadStore seatReadStore;
+
+    @Test
+    @DisplayName("좌석 생성과 상태 전이가 읽기 모델에 반영되고 좌석 조회 저장소가 읽기 모델에서 적재한다")
+    void provisionAndTransition_ProjectedToRedis() {
+        // Given - 2개 구역 × 2열 × 5석 = 20석
+        seatProvisioningService.provision(new ScheduleProvisionRequest(CONCERT_DATE, List.of(
+                new SectionLayout("A", 2, 5),
+                new SectionLayout("B", 2, 5)
+        )));
+
+        // When - 선점 후 확정, 다른 좌석은 선점만
+        LocalDateTime until = LocalDateTime.now().plusMinutes(5).withNano(0);
+        seatProjectionPublisher.publish(transition(3, SeatStatus.TEMP_HELD, "user-a", until, 1));
+        seatProjectionPublisher.publish(transition(3, SeatStatus.RESERVED, "user-a", null, 2));
+        seatProjectionPublisher.publish(transition(15, SeatStatus.TEMP_HELD, "user-b", until, 3));
+
+        // Then
+        await().atMost(20, TimeUnit.SECONDS).untilAsserted(() -> {
+            List<SeatStateRecord> seats = seatProjectionRepository.findByConcertDate(CONCERT_DATE);
+            assertThat(seats).hasSize(20);
+            assertThat(seats.get(2).status()).isEqualTo(SeatStatus.RESERVED);
+            assertThat(seats.get(14).status()).isEqualTo(SeatStatus.TEMP_HELD);
+            assertThat(seats.get(14).reservedUserId()).isEqualTo("user-b");
+            assertThat(seats.get(14).reservedUntil()).isEqualTo(until);
+            assertThat(seats.get(14).section()).isEqualTo("B");
+        });
+
+        List<kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus> loaded =
+                seatReadStore.findAll(CONCERT_DATE).seats();
+        assertThat(loaded).hasSize(20);
+        assertThat(loaded.get(2).getStatus())
+                .isEqualTo(kr.hhplus.be.server.concert.interfaces.api.dto.SeatStatus.SeatStatusEnum.RESERVED);
+    }
+
+    @Test
+    @DisplayName("상태 레코드가 배치보다 먼저 반영되어도 배치 반영이 상태를 덮지 않는다")
+    void stateBeforeLayout_KeepsState() {
+        // Given
+        String date = "2026-10-02";
+        seatProjectionRepository.apply(List.of(
+                new SeatStateRecord(date, 1, null, null, SeatStatus.RESERVED, "user-c", null, 1, 0)));
+
+        // When
+        seatProjectionRepository.apply(List.of(
+                new SeatStateRecord(date, 1, "A", 1, SeatStatus.AVAILABLE, null, null, 0, 0),
+                new SeatStateRecord(date, 2, "A", 1, SeatStatus.AVAILABLE, null, null, 0, 0)));
+
+        // Then
+        List<SeatStateRecord> seats = seatProjectionRepository.findByConcertDate(date);
+        assertThat(seats).extracting(SeatStateRecord::status)
+                .containsExactly(SeatStatus.RESERVED, SeatStatus.AVAILABLE);
+        assertThat(seatProjectionRepository.countSeats(date)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 이전 버전의 상태 레코드는 최신 상태를 덮지 않는다")
+    void olderVersion_Ignored() {
+        // Given
+        String date = "2026-10-03";
+        seatProjectionRepository.apply(List.of(
+                new SeatStateRecord(date, 1, "A", 1, SeatStatus.AVAILABLE, null, null, 0, 0),
+                new SeatStateRecord(date, 1, null, null, SeatStatus.RESERVED, "user-d", null, 5, 0)));
+
+        // When - 버전 4의 선점 레코드가 늦게 도착
+        seatProjectionRepository.apply(List.of(
+                new SeatStateRecord(date, 1, null, null, SeatStatus.TEMP_HELD, "user-d", null, 4, 0)));
+
+        // Then
+        SeatStateRecord seat = seatProjectionRepository.findByConcertDate(date).get(0);
+        assertThat(seat.status()).isEqualTo(SeatStatus.RESERVED);
+        assertThat(seat.version()).isEqualTo(5L);
+    }
+
+    private SeatStateRecord transition(int seatNumber, SeatStatus status, String userId, LocalDateTime until,
+                                       long version) {
+        return new SeatStateRecord(CONCERT_DATE, seatNumber, null, null, status, userId, until, version,
+                System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,222 @@
+package kr.hhplus.be.server.reservation.application.engine;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.concert.domain.event.SeatStateChangedEvent;
+import kr.hhplus.be.server.concert.domain.model.Seat;
+import kr.hhplus.be.server.concert.domain.model.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.SeatRepository;
+import kr.hhplus.be.server.reservation.domain.model.HoldClaim;
+import kr.hhplus.be.server.reservation.domain.model.JournaledHold;
+import kr.hhplus.be.server.reservation.domain.repository.SeatHoldJournal;
+import kr.hhplus.be.server.shared.common.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 인메모리 좌석 엔진 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("인메모리 좌석 엔진 단위 테스트")
+class SeatInventoryEngineTest {
+
+    private static final String DATE = "2026-05-01";
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private SeatHoldJournal journal;
+
+    @Mock
+    private SeatInventoryWriteBehind writeBehind;
+
+    private SeatInventoryEngine engine;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        List<Seat> seats = new ArrayList<>();
+        for (int seatNumber = 1; seatNumber <= 10; seatNumber++) {
+            seats.add(new Seat(DATE, seatNumber));
+        }
+        when(seatRepository.findByConcertDateOrderBySeatNumber(DATE)).thenReturn(seats);
+        when(writeBehind.pending(anyString())).thenReturn(List.of());
+        when(journal.replay()).thenReturn(List.of());
+        when(journal.append(anyList())).thenAnswer(invocation -> {
+            List<HoldClaim> claims = invocation.getArgument(0);
+            return claims.stream().map(claim -> new JournaledHold(sequence.incrementAndGet(), claim)).toList();
+        });
+
+        engine = new SeatInventoryEngine(seatRepository, journal, writeBehind, new SimpleMeterRegistry(),
+                true, 2, 64, 1024);
+        engine.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        engine.stop();
+    }
+
+    @Test
+    @DisplayName("빈 좌석은 선점되고 저널 기록 후 DB 반영 큐로 넘어감")
+    void hold_Success() throws Exception {
+        // when
+        HoldClaim result = await(engine.hold(claim("user-1", 3)));
+
+        // then
+        assertThat(result.seatNumber()).isEqualTo(3);
+        verify(journal).append(anyList());
+        verify(writeBehind).enqueue(argThat(holds -> holds.size() == 1)); // 시작 시 재생분(빈 목록) 외에 한 번
+    }
+
+    @Test
+    @DisplayName("같은 좌석 동시 선점 - 한 명만 성공")
+    void hold_SameSeatConcurrently() {
+        // when
+        List<CompletableFuture<HoldClaim>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(engine.hold(claim("user-" + i, 5)));
+        }
+
+        // then
+        long succeeded = futures.stream().filter(future -> {
+            try {
+                await(future);
+                return true;
+            } catch (Exception e) {
+                assertThat(e).isInstanceOf(BusinessException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", "seat-already-reserved");
+                return false;
+            }
+        }).count();
+        assertThat(succeeded).isEqualTo(1);
+        verify(seatRepository, times(1)).findByConcertDateOrderBySeatNumber(DATE);
+    }
+
+    @Test
+    @DisplayName("없는 좌석 - 404")
+    void hold_SeatNotFound() {
+        assertThatThrownBy(() -> await(engine.hold(claim("user-1", 99))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "seat-not-found");
+    }
+
+    @Test
+    @DisplayName("저널 기록 실패 - 503 응답 후 선점을 되돌려 다음 요청이 선점 가능")
+    void hold_JournalFailure_Undo() throws Exception {
+        // given
+        when(journal.append(anyList()))
+                .thenThrow(new IllegalStateException("disk full"))
+                .thenAnswer(invocation -> {
+                    List<HoldClaim> claims = invocation.getArgument(0);
+                    return claims.stream().map(claim -> new JournaledHold(sequence.incrementAndGet(), claim)).toList();
+                });
+
+        // when & then
+        assertThatThrownBy(() -> await(engine.hold(claim("user-1", 7))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "reservation-engine-unavailable");
+        assertThat(await(engine.hold(claim("user-2", 7))).userId()).isEqualTo("user-2");
+    }
+
+    @Test
+    @DisplayName("DB 경로의 확정 이벤트를 반영 - 확정된 좌석은 선점 불가, 해제 이벤트 후 다시 선점 가능")
+    void apply_ConfirmAndRelease() throws Exception {
+        // given: 날짜 로딩
+        await(engine.hold(claim("user-1", 1)));
+
+        // when
+        engine.apply(new SeatStateChangedEvent(DATE, 2, SeatStatus.TEMP_HELD, SeatStatus.RESERVED, "other", null));
+
+        // then
+        assertThatThrownBy(() -> await(engine.hold(claim("user-2", 2))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "seat-already-reserved");
+
+        engine.apply(SeatStateChangedEvent.released(DATE, 2, SeatStatus.RESERVED));
+        assertThat(await(engine.hold(claim("user-2", 2))).seatNumber()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("직접 해제 - 유효한 엔진 선점도 선점자가 해제하면 바로 다시 선점 가능, 다른 사용자의 해제는 무시")
+    void release_ByHolderOnly() throws Exception {
+        // given
+        await(engine.hold(claim("user-1", 4)));
+
+        // when: 다른 사용자의 해제, 만료 전 해제 이벤트는 무시됨
+        engine.release(DATE, 4, "user-9");
+        engine.apply(SeatStateChangedEvent.released(DATE, 4, SeatStatus.TEMP_HELD));
+
+        // then
+        assertThatThrownBy(() -> await(engine.hold(claim("user-2", 4))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "seat-already-reserved");
+
+        engine.release(DATE, 4, "user-1");
+        assertThat(await(engine.hold(claim("user-2", 4))).userId()).isEqualTo("user-2");
+    }
+
+    @Test
+    @DisplayName("날짜 로딩 - DB 반영 대기 선점을 DB보다 먼저 읽어, 그 사이 반영이 끝난 선점도 빠지지 않음")
+    void load_PendingBeforeDb() throws Exception {
+        // given: 두 조회 중 먼저 호출된 쪽이 끝난 직후 DB 반영이 완료됨
+        String date = "2026-05-02";
+        LocalDateTime until = LocalDateTime.now().plusMinutes(5);
+        HoldClaim pending = new HoldClaim(1L, "user-1", date, 3, 50000L, LocalDateTime.now(), until);
+        AtomicBoolean flushed = new AtomicBoolean();
+        when(writeBehind.pending(date)).thenAnswer(invocation ->
+                flushed.getAndSet(true) ? List.of() : List.of(pending));
+        when(seatRepository.findByConcertDateOrderBySeatNumber(date)).thenAnswer(invocation -> {
+            Seat seat = new Seat(date, 3);
+            if (flushed.getAndSet(true)) {
+                seat.reserve("user-1", until);
+            }
+            return List.of(seat);
+        });
+
+        // when & then
+        HoldClaim other = new HoldClaim(2L, "user-2", date, 3, 50000L, LocalDateTime.now(), until);
+        assertThatThrownBy(() -> await(engine.hold(other)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "seat-already-reserved");
+        InOrder order = inOrder(writeBehind, seatRepository);
+        order.verify(writeBehind).pending(date);
+        order.verify(seatRepository).findByConcertDateOrderBySeatNumber(date);
+    }
+
+    private static HoldClaim claim(String userId, int seatNumber) {
+        LocalDateTime now = LocalDateTime.now();
+        return new HoldClaim(System.nanoTime(), userId, DATE, seatNumber, 50000L, now, now.plusMinutes(5));
+    }
+
+    private static HoldClaim await(CompletableFuture<HoldClaim> future) throws Exception {
+        try {
+            return future.get(2, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+}